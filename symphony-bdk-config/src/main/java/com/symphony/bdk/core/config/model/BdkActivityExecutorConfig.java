@@ -0,0 +1,58 @@
+package com.symphony.bdk.core.config.model;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.apiguardian.api.API;
+
+/**
+ * Configuration of the executor shared by all the asynchronous activities.
+ */
+@Getter
+@Setter
+@API(status = API.Status.EXPERIMENTAL)
+public class BdkActivityExecutorConfig {
+
+  public static final int DEFAULT_MAX_CONCURRENCY = 100;
+  public static final int DEFAULT_QUEUE_CAPACITY = 1000;
+
+  /**
+   * Type of the threads executing the activities. Virtual threads require a Java 21+ runtime, platform threads are
+   * used otherwise.
+   */
+  private ThreadType threadType = ThreadType.PLATFORM;
+
+  /**
+   * Maximum number of activities executed concurrently.
+   */
+  private int maxConcurrency = DEFAULT_MAX_CONCURRENCY;
+
+  /**
+   * Maximum number of activities waiting for a thread, once reached the rejection policy applies.
+   */
+  private int queueCapacity = DEFAULT_QUEUE_CAPACITY;
+
+  /**
+   * What to do with an activity when both the threads and the queue are busy.
+   */
+  private RejectionPolicy rejectionPolicy = RejectionPolicy.CALLER_RUNS;
+
+  public enum ThreadType {
+    PLATFORM,
+    VIRTUAL
+  }
+
+  public enum RejectionPolicy {
+    /**
+     * The activity is executed by the datafeed loop thread, slowing down the reading of new events.
+     */
+    CALLER_RUNS,
+    /**
+     * The activity is not executed and a warning is logged.
+     */
+    DISCARD,
+    /**
+     * The activity is not executed and the event is re-queued in the datafeed (DFv2 and datahose only).
+     */
+    ABORT
+  }
+}
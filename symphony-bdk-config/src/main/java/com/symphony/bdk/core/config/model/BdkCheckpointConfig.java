@@ -0,0 +1,33 @@
+package com.symphony.bdk.core.config.model;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.apiguardian.api.API;
+
+/**
+ * Configuration of the checkpoint of the feed ID and ack ID, saved periodically so that a restarted loop resumes
+ * reading where it stopped.
+ */
+@Getter
+@Setter
+@API(status = API.Status.EXPERIMENTAL)
+public class BdkCheckpointConfig {
+
+  public static final String DEFAULT_DIRECTORY = "checkpoint";
+  public static final long DEFAULT_INTERVAL_MILLIS = 5000L;
+
+  /**
+   * If true, the ack ID is checkpointed and the loop resumes from it on start.
+   */
+  private boolean enabled = false;
+
+  /**
+   * Directory of the checkpoint files, each loop using its own file.
+   */
+  private String directory = DEFAULT_DIRECTORY;
+
+  /**
+   * Minimum delay between two checkpoints, the last ack ID being always checkpointed when the loop is stopped.
+   */
+  private long intervalMillis = DEFAULT_INTERVAL_MILLIS;
+}
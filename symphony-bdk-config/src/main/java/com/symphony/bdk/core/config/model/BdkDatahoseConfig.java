@@ -14,4 +14,11 @@ public class BdkDatahoseConfig {
   private BdkRetryConfig retry = new BdkRetryConfig(BdkRetryConfig.INFINITE_MAX_ATTEMPTS);
   private String tag = "";
   private List<String> eventTypes = null;
+  private BdkDispatchConfig dispatch = new BdkDispatchConfig();
+
+  /**
+   * Number of concurrent reads of the datahose tag, each reader acknowledging its own batches. The events received by
+   * all the readers go through the same dispatch, see {@link BdkDispatchConfig#getParallelism()}.
+   */
+  private int readers = 1;
 }
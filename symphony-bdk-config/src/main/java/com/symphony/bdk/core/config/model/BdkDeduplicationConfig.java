@@ -0,0 +1,33 @@
+package com.symphony.bdk.core.config.model;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.apiguardian.api.API;
+
+/**
+ * Configuration of the deduplication of the events re-delivered by the datafeed, e.g. after a listener raised an
+ * {@code EventException}.
+ */
+@Getter
+@Setter
+@API(status = API.Status.EXPERIMENTAL)
+public class BdkDeduplicationConfig {
+
+  public static final long DEFAULT_WINDOW_MILLIS = 5 * 60 * 1000L;
+  public static final int DEFAULT_MAX_EVENTS = 10_000;
+
+  /**
+   * If true, a re-delivered event is not dispatched again to the listeners that already handled it.
+   */
+  private boolean enabled = false;
+
+  /**
+   * How long a dispatched event is remembered.
+   */
+  private long windowMillis = DEFAULT_WINDOW_MILLIS;
+
+  /**
+   * Maximum number of remembered events, the oldest ones are forgotten first.
+   */
+  private int maxEvents = DEFAULT_MAX_EVENTS;
+}
@@ -0,0 +1,72 @@
+package com.symphony.bdk.core.config.model;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.apiguardian.api.API;
+
+/**
+ * Configuration of the dispatch of the received real-time events to the subscribed listeners.
+ */
+@Getter
+@Setter
+@API(status = API.Status.EXPERIMENTAL)
+public class BdkDispatchConfig {
+
+  public static final int SEQUENTIAL_PARALLELISM = 1;
+  public static final long DEFAULT_STOP_TIMEOUT_MILLIS = 10_000L;
+
+  /**
+   * Number of worker threads events are dispatched on. Events sharing the same partition key (the stream ID by
+   * default) are always dispatched on the same worker, in the order they were received.
+   * With the default value (1) events are dispatched sequentially by the loop thread.
+   */
+  private int parallelism = SEQUENTIAL_PARALLELISM;
+
+  /**
+   * If true, the next batch of events is already being read while the current one is dispatched (datafeed v2 and
+   * datahose only). Disabled by default.
+   */
+  private boolean pipelined = false;
+
+  /**
+   * If true, each event is dispatched as soon as it is decoded from the read response, instead of once the whole batch
+   * is received (datafeed v2 and datahose only). Requires a single reader and a sequential dispatch. Disabled by default.
+   */
+  private boolean streaming = false;
+
+  /**
+   * Deduplication of the re-delivered events, disabled by default.
+   */
+  private BdkDeduplicationConfig deduplication = new BdkDeduplicationConfig();
+
+  /**
+   * Local retries of the events failed by a listener, disabled by default: the whole batch is then re-delivered by the
+   * datafeed (v2) or datahose.
+   */
+  private BdkEventRetryConfig eventRetry = new BdkEventRetryConfig();
+
+  /**
+   * Local journal of the received events (datafeed v2 and datahose only), disabled by default.
+   */
+  private BdkJournalConfig journal = new BdkJournalConfig();
+
+  /**
+   * Checkpoint of the ack ID to resume from on restart (datafeed v2 and datahose only), disabled by default.
+   */
+  private BdkCheckpointConfig checkpoint = new BdkCheckpointConfig();
+
+  /**
+   * Time budget of the listeners, over which they are quarantined, disabled by default.
+   */
+  private BdkListenerBudgetConfig listenerBudget = new BdkListenerBudgetConfig();
+
+  /**
+   * Maximum time, in milliseconds, the loop {@code stop()} waits for the in-flight read to be cancelled and the events
+   * being dispatched to be handled. 10 seconds by default.
+   */
+  private long stopTimeoutMillis = DEFAULT_STOP_TIMEOUT_MILLIS;
+
+  public boolean isParallel() {
+    return this.parallelism > SEQUENTIAL_PARALLELISM;
+  }
+}
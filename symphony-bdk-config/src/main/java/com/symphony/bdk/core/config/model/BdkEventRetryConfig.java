@@ -0,0 +1,39 @@
+package com.symphony.bdk.core.config.model;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.apiguardian.api.API;
+
+/**
+ * Configuration of the local retries of the events a listener failed to handle by raising an {@code EventException},
+ * instead of having the whole batch re-delivered by the datafeed.
+ */
+@Getter
+@Setter
+@API(status = API.Status.EXPERIMENTAL)
+public class BdkEventRetryConfig {
+
+  public static final int DEFAULT_MAX_QUEUE_SIZE = 10_000;
+
+  /**
+   * If true, the batch is acknowledged and only the failed event is dispatched again, to the failed listener only.
+   */
+  private boolean enabled = false;
+
+  /**
+   * Number of attempts, including the initial dispatch, and backoff between the attempts.
+   */
+  private BdkRetryConfig retry = new BdkRetryConfig();
+
+  /**
+   * Maximum number of pending retries, the events failing beyond it are dead-lettered right away.
+   */
+  private int maxQueueSize = DEFAULT_MAX_QUEUE_SIZE;
+
+  /**
+   * If true, the retries run on a dedicated thread as soon as their backoff is elapsed, a listener being then possibly
+   * called by a retry while it handles the received events. By default, the retries are run by the loop, between two
+   * batches.
+   */
+  private boolean concurrent = false;
+}
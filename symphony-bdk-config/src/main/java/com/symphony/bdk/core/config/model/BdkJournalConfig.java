@@ -0,0 +1,52 @@
+package com.symphony.bdk.core.config.model;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.apiguardian.api.API;
+
+/**
+ * Configuration of the local journal the received events are appended to before being acknowledged, so that they are
+ * dispatched at the bot's own pace and survive a restart.
+ */
+@Getter
+@Setter
+@API(status = API.Status.EXPERIMENTAL)
+public class BdkJournalConfig {
+
+  public static final String DEFAULT_DIRECTORY = "journal";
+  public static final int DEFAULT_SEGMENT_SIZE = 16 * 1024 * 1024;
+  public static final int DEFAULT_BATCH_SIZE = 100;
+  public static final long DEFAULT_REDELIVERY_DELAY_MILLIS = 1000L;
+  public static final int DEFAULT_MAX_REDELIVERIES = 10;
+
+  /**
+   * If true, the received events are journaled and acknowledged immediately, then dispatched from the journal.
+   */
+  private boolean enabled = false;
+
+  /**
+   * Directory of the journal files, each loop using its own sub-directory.
+   */
+  private String directory = DEFAULT_DIRECTORY;
+
+  /**
+   * Size in bytes of the journal segment files, a segment being deleted once all its events are dispatched.
+   */
+  private int segmentSize = DEFAULT_SEGMENT_SIZE;
+
+  /**
+   * Maximum number of journaled events dispatched at once.
+   */
+  private int batchSize = DEFAULT_BATCH_SIZE;
+
+  /**
+   * Delay before journaled events are dispatched again after a listener raised an {@code EventException}.
+   */
+  private long redeliveryDelayMillis = DEFAULT_REDELIVERY_DELAY_MILLIS;
+
+  /**
+   * Maximum number of times journaled events are dispatched again, the events a listener still fails to handle are then
+   * sent to the dead letter handler.
+   */
+  private int maxRedeliveries = DEFAULT_MAX_REDELIVERIES;
+}
@@ -0,0 +1,47 @@
+package com.symphony.bdk.core.config.model;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.apiguardian.api.API;
+
+/**
+ * Configuration of the time budget of the listeners: a listener repeatedly taking longer than its budget to handle an
+ * event is quarantined, its events being then dispatched on its own thread so that it does not delay the other
+ * listeners.
+ */
+@Getter
+@Setter
+@API(status = API.Status.EXPERIMENTAL)
+public class BdkListenerBudgetConfig {
+
+  public static final long DEFAULT_BUDGET_MILLIS = 5000L;
+  public static final int DEFAULT_MAX_OVERRUNS = 3;
+  public static final long DEFAULT_QUARANTINE_MILLIS = 300_000L;
+  public static final int DEFAULT_QUEUE_CAPACITY = 1000;
+
+  /**
+   * If true, the time each listener takes to handle an event is tracked.
+   */
+  private boolean enabled = false;
+
+  /**
+   * Maximum time, in milliseconds, a listener should take to handle an event.
+   */
+  private long budgetMillis = DEFAULT_BUDGET_MILLIS;
+
+  /**
+   * Number of consecutive events handled over the budget before the listener is quarantined.
+   */
+  private int maxOverruns = DEFAULT_MAX_OVERRUNS;
+
+  /**
+   * Minimum time, in milliseconds, a listener stays quarantined. It is then dispatched on the loop again once its
+   * pending events are handled.
+   */
+  private long quarantineMillis = DEFAULT_QUARANTINE_MILLIS;
+
+  /**
+   * Maximum number of events waiting for a quarantined listener, the events beyond it being dead-lettered.
+   */
+  private int queueCapacity = DEFAULT_QUEUE_CAPACITY;
+}
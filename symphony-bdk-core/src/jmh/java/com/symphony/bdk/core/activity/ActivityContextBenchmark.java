@@ -0,0 +1,68 @@
+package com.symphony.bdk.core.activity;
+
+import com.symphony.bdk.core.activity.form.FormReplyActivity;
+import com.symphony.bdk.core.activity.form.FormReplyContext;
+import com.symphony.bdk.core.activity.model.ActivityInfo;
+import com.symphony.bdk.gen.api.model.V4Initiator;
+import com.symphony.bdk.gen.api.model.V4SymphonyElementsAction;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.reflect.ParameterizedType;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of creating the context of an activity for an incoming event.
+ * <ul>
+ *   <li>{@link #factory()} uses {@link AbstractActivity#createContextInstance(V4Initiator, Object)}</li>
+ *   <li>{@link #reflection()} reproduces the former behaviour: the context constructor is looked up for each event</li>
+ * </ul>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ActivityContextBenchmark {
+
+  private final FormActivity activity = new FormActivity();
+  private final V4Initiator initiator = new V4Initiator();
+  private final V4SymphonyElementsAction event = new V4SymphonyElementsAction();
+
+  @Benchmark
+  public FormReplyContext factory() {
+    return this.activity.createContextInstance(this.initiator, this.event);
+  }
+
+  @Benchmark
+  public FormReplyContext reflection() throws Exception {
+    final Class<?> clz =
+        (Class<?>) ((ParameterizedType) FormActivity.class.getGenericSuperclass()).getActualTypeArguments()[0];
+    return (FormReplyContext) clz.getConstructor(V4Initiator.class, this.event.getClass())
+        .newInstance(this.initiator, this.event);
+  }
+
+  /**
+   * Activity whose context is created, its callbacks are not called.
+   */
+  public static class FormActivity extends FormReplyActivity<FormReplyContext> {
+
+    @Override
+    protected ActivityMatcher<FormReplyContext> matcher() {
+      return c -> false;
+    }
+
+    @Override
+    protected void onActivity(FormReplyContext context) {
+      // not called
+    }
+
+    @Override
+    protected ActivityInfo info() {
+      return new ActivityInfo();
+    }
+  }
+}
@@ -0,0 +1,95 @@
+package com.symphony.bdk.core.activity.parsing;
+
+import com.symphony.bdk.gen.api.model.V4Message;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+import org.w3c.dom.Document;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+
+/**
+ * Measures the throughput of tokenizing a slash command message, from 4 threads as when asynchronous activities are
+ * executed.
+ * <ul>
+ *   <li>{@link #tokenize()} uses {@link InputTokenizer}, reading the message in a single pass</li>
+ *   <li>{@link #parseDocument(DocumentBuilderHolder, Blackhole)} only parses the message into a DOM and reads its
+ *   data, which is what the former implementation did before walking the DOM to build the tokens</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(4)
+public class InputTokenizerBenchmark {
+
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+  private static final String MENTION_DATA = "{\"0\":{\"id\":[{\"type\":\"com.symphony.user.userId\","
+      + "\"value\":\"12345678\"}],\"type\":\"com.symphony.user.mention\"},\"1\":{\"id\":[{\"type\":"
+      + "\"org.symphonyoss.fin.security.id.ticker\",\"value\":\"AAPL\"}],\"type\":\"org.symphonyoss.fin.security\"}}";
+
+  @Param({"text", "entities"})
+  private String content;
+
+  private V4Message message;
+
+  @Setup
+  public void setUp() {
+    if ("text".equals(this.content)) {
+      this.message = new V4Message()
+          .message("<div data-format=\"PresentationML\" data-version=\"2.0\" class=\"wysiwyg\">"
+              + "<p>/quote AAPL daily with   some <b>bold</b> words</p></div>");
+    } else {
+      this.message = new V4Message()
+          .message("<div data-format=\"PresentationML\" data-version=\"2.0\" class=\"wysiwyg\"><p>"
+              + "<span class=\"entity\" data-entity-id=\"0\">@bot</span> /quote "
+              + "<span class=\"entity\" data-entity-id=\"1\">$AAPL</span> daily</p></div>")
+          .data(MENTION_DATA);
+    }
+  }
+
+  @Benchmark
+  public List<Object> tokenize() {
+    return new InputTokenizer(this.message).getTokens();
+  }
+
+  @Benchmark
+  public void parseDocument(DocumentBuilderHolder holder, Blackhole blackhole) throws Exception {
+    final Document document = holder.documentBuilder.parse(
+        new ByteArrayInputStream(this.message.getMessage().getBytes(StandardCharsets.UTF_8)));
+    blackhole.consume(document);
+    blackhole.consume(MAPPER.readTree(this.message.getData() == null ? "{}" : this.message.getData()));
+  }
+
+  /**
+   * A {@link DocumentBuilder} per thread, not being thread-safe.
+   */
+  @State(Scope.Thread)
+  public static class DocumentBuilderHolder {
+
+    private DocumentBuilder documentBuilder;
+
+    @Setup
+    public void setUp() throws Exception {
+      final DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+      factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+      this.documentBuilder = factory.newDocumentBuilder();
+    }
+  }
+}
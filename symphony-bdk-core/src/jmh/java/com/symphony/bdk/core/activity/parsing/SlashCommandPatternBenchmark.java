@@ -0,0 +1,69 @@
+package com.symphony.bdk.core.activity.parsing;
+
+import com.symphony.bdk.gen.api.model.V4Message;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of matching a message against a slash command pattern.
+ * <ul>
+ *   <li>{@link #match()} uses {@link SlashCommandPattern#getMatchResult(V4Message)}, which stops reading the message
+ *   at the first mismatch</li>
+ *   <li>{@link #tokenizeAll()} reproduces the former behaviour: the whole message is tokenized before being compared
+ *   </li>
+ * </ul>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SlashCommandPatternBenchmark {
+
+  private static final String MENTION_DATA = "{\"0\":{\"id\":[{\"type\":\"com.symphony.user.userId\","
+      + "\"value\":\"12345678\"}],\"type\":\"com.symphony.user.mention\"}}";
+
+  @Param({"/quote", "/other"})
+  private String command;
+
+  private SlashCommandPattern pattern;
+  private V4Message message;
+
+  @Setup
+  public void setUp() {
+    this.pattern = new SlashCommandPattern("/quote {ticker} {period}");
+    this.message = new V4Message()
+        .message("<div data-format=\"PresentationML\" data-version=\"2.0\" class=\"wysiwyg\"><p>" + this.command
+            + " AAPL daily</p><p>as discussed with <span class=\"entity\" data-entity-id=\"0\">@john</span>, "
+            + "could you share the <b>weekly</b> figures as well?</p></div>")
+        .data(MENTION_DATA);
+  }
+
+  @Benchmark
+  public MatchResult match() {
+    return this.pattern.getMatchResult(this.message);
+  }
+
+  @Benchmark
+  public boolean tokenizeAll() {
+    final List<Object> tokens = new InputTokenizer(this.message).getTokens();
+    final List<CommandToken> commandTokens = this.pattern.getTokens();
+    if (tokens.size() != commandTokens.size()) {
+      return false;
+    }
+    for (int i = 0; i < tokens.size(); i++) {
+      if (!commandTokens.get(i).matches(tokens.get(i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
@@ -0,0 +1,106 @@
+package com.symphony.bdk.core.service.datafeed.impl;
+
+import static net.bytebuddy.matcher.ElementMatchers.isPublic;
+
+import com.symphony.bdk.core.service.datafeed.EventPayload;
+import com.symphony.bdk.core.service.datafeed.RealTimeEventListener;
+import com.symphony.bdk.gen.api.model.V4Event;
+import com.symphony.bdk.gen.api.model.V4Initiator;
+import com.symphony.bdk.gen.api.model.V4Message;
+import com.symphony.bdk.gen.api.model.V4MessageSent;
+import com.symphony.bdk.gen.api.model.V4Payload;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.ClassFileVersion;
+import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+import net.bytebuddy.implementation.FieldAccessor;
+import net.bytebuddy.implementation.MethodCall;
+import net.bytebuddy.matcher.ElementMatchers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of dispatching one MESSAGESENT event to the subscribed listeners.
+ * <ul>
+ *   <li>{@link #dispatchWithProxyPerListener(Blackhole)} reproduces the former behaviour: a new proxy class is
+ *   generated for every listener call</li>
+ *   <li>{@link #dispatchWithCachedProxy(Blackhole)} uses {@link RealTimeEventType}: the proxy class is generated
+ *   once, and a single proxy instance is shared across the listeners</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RealTimeEventTypeBenchmark {
+
+  @Param({"1", "10"})
+  private int listenerCount;
+
+  private V4Event event;
+  private RealTimeEventListener[] listeners;
+
+  @Setup
+  public void setUp(Blackhole blackhole) {
+    this.event = new V4Event()
+        .id("event-id")
+        .type(RealTimeEventType.MESSAGESENT.name())
+        .timestamp(System.currentTimeMillis())
+        .initiator(new V4Initiator())
+        .payload(new V4Payload().messageSent(new V4MessageSent().message(new V4Message().messageId("msg-id"))));
+
+    this.listeners = new RealTimeEventListener[this.listenerCount];
+    for (int i = 0; i < this.listenerCount; i++) {
+      this.listeners[i] = new RealTimeEventListener() {
+        @Override
+        public void onMessageSent(V4Initiator initiator, V4MessageSent event) {
+          blackhole.consume(event.getMessage());
+        }
+      };
+    }
+  }
+
+  @Benchmark
+  public void dispatchWithCachedProxy(Blackhole blackhole) {
+    final Object payload = RealTimeEventType.MESSAGESENT.proxyPayload(this.event);
+    for (RealTimeEventListener listener : this.listeners) {
+      RealTimeEventType.MESSAGESENT.dispatch(listener, this.event, payload);
+    }
+    blackhole.consume(payload);
+  }
+
+  @Benchmark
+  public void dispatchWithProxyPerListener(Blackhole blackhole) throws Exception {
+    for (RealTimeEventListener listener : this.listeners) {
+      final V4MessageSent payload = uncachedProxy(this.event.getPayload().getMessageSent(), this.event);
+      listener.onMessageSent(this.event.getInitiator(), payload);
+      blackhole.consume(payload);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> T uncachedProxy(T event, V4Event realEvent) throws Exception {
+    final T proxyEvent = (T) new ByteBuddy(ClassFileVersion.JAVA_V17)
+        .subclass(event.getClass())
+        .method(ElementMatchers.any().and(isPublic()))
+        .intercept(MethodCall.invokeSelf().on(event).withAllArguments())
+        .defineField("eventTimestamp", Long.class, Visibility.PRIVATE)
+        .implement(EventPayload.class).intercept(FieldAccessor.ofBeanProperty())
+        .make()
+        .load(event.getClass().getClassLoader(), ClassLoadingStrategy.UsingLookup.of(MethodHandles
+            .privateLookupIn(event.getClass(), MethodHandles.lookup())))
+        .getLoaded().getDeclaredConstructor().newInstance();
+    ((EventPayload) proxyEvent).setEventTimestamp(realEvent.getTimestamp());
+    return proxyEvent;
+  }
+}
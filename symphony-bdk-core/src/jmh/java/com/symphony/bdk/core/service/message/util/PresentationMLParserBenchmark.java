@@ -0,0 +1,58 @@
+package com.symphony.bdk.core.service.message.util;
+
+import com.symphony.bdk.core.service.message.exception.PresentationMLParserException;
+
+import org.apache.commons.text.StringEscapeUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+
+/**
+ * Measures the throughput of extracting the text content of a message.
+ * <ul>
+ *   <li>{@link #singlePass()} uses {@link PresentationMLParser#getTextContent(String)}</li>
+ *   <li>{@link #document()} reproduces the former behaviour: the PresentationML is parsed into a DOM</li>
+ * </ul>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PresentationMLParserBenchmark {
+
+  private static final String PRESENTATION_ML = "<div data-format=\"PresentationML\" data-version=\"2.0\" "
+      + "class=\"wysiwyg\"><p><span class=\"entity\" data-entity-id=\"0\">@bot</span> /quote "
+      + "<span class=\"entity\" data-entity-id=\"1\">$AAPL</span> daily &amp; weekly</p><p>Thanks!</p></div>";
+
+  private DocumentBuilder documentBuilder;
+
+  @Setup
+  public void setUp() throws Exception {
+    final DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+    factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+    this.documentBuilder = factory.newDocumentBuilder();
+  }
+
+  @Benchmark
+  public String singlePass() throws PresentationMLParserException {
+    return PresentationMLParser.getTextContent(PRESENTATION_ML);
+  }
+
+  @Benchmark
+  public String document() throws Exception {
+    final String textContent = this.documentBuilder.parse(
+        new ByteArrayInputStream(PRESENTATION_ML.getBytes(StandardCharsets.UTF_8))).getChildNodes().item(0)
+        .getTextContent();
+    return StringEscapeUtils.unescapeHtml4(textContent).trim();
+  }
+}
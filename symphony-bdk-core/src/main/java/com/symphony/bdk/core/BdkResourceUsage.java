@@ -0,0 +1,33 @@
+package com.symphony.bdk.core;
+
+import lombok.Value;
+import org.apiguardian.api.API;
+
+/**
+ * Resources of a {@link BdkRuntime} used by one of its {@link SymphonyBdk} instances.
+ */
+@Value
+@API(status = API.Status.EXPERIMENTAL)
+public class BdkResourceUsage {
+
+  /**
+   * the number of API clients built, their connections being pooled by the runtime
+   */
+  int apiClients;
+  /**
+   * the number of activities being executed on the runtime threads
+   */
+  int activeActivities;
+  /**
+   * the number of activities waiting for a runtime thread
+   */
+  int queuedActivities;
+  /**
+   * the number of activities executed so far
+   */
+  long completedActivities;
+  /**
+   * the number of activities rejected because the runtime threads were saturated
+   */
+  long rejectedActivities;
+}
@@ -0,0 +1,181 @@
+package com.symphony.bdk.core;
+
+import com.symphony.bdk.core.activity.ActivityExecutor;
+import com.symphony.bdk.core.config.model.BdkActivityExecutorConfig;
+import com.symphony.bdk.core.config.model.BdkConfig;
+import com.symphony.bdk.core.util.ServiceLookup;
+import com.symphony.bdk.http.api.ApiClientBuilderProvider;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apiguardian.api.API;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Resources shared by several {@link SymphonyBdk} instances running in the same JVM, e.g. to host many bots in a
+ * single service. The instances built with the runtime (see {@link SymphonyBdkBuilder#runtime(BdkRuntime)}) share:
+ * <ul>
+ *   <li>the HTTP connection pools, per targeted host (see {@link ApiClientBuilderProvider#withSharedConnectionPools()})</li>
+ *   <li>the threads the asynchronous requests are sent on</li>
+ *   <li>the threads and queue the activities are executed on, whose rejection policy is still the one configured
+ *   per bot</li>
+ * </ul>
+ * so that the memory and the number of threads do not grow linearly with the number of bots. The resources used by
+ * each bot are reported by {@link #usage()}.
+ * <p>
+ * The runtime should be closed once its {@link SymphonyBdk} instances are no longer used.
+ */
+@Slf4j
+@API(status = API.Status.EXPERIMENTAL)
+public class BdkRuntime implements AutoCloseable {
+
+  private final ApiClientBuilderProvider apiClientBuilderProvider;
+  private final ActivityExecutor activityExecutor;
+  private final Map<String, Attachment> attachments = new LinkedHashMap<>();
+
+  /**
+   * Runtime with the default activity executor configuration and the {@link ApiClientBuilderProvider} available in the
+   * classpath.
+   */
+  public BdkRuntime() {
+    this(new BdkActivityExecutorConfig());
+  }
+
+  /**
+   * Runtime with the {@link ApiClientBuilderProvider} available in the classpath.
+   *
+   * @param activityExecutorConfig the configuration of the threads the activities of all the bots are executed on.
+   */
+  public BdkRuntime(@Nonnull BdkActivityExecutorConfig activityExecutorConfig) {
+    this(ServiceLookup.lookupSingleService(ApiClientBuilderProvider.class), activityExecutorConfig);
+  }
+
+  /**
+   * @param apiClientBuilderProvider the provider whose connection pools are shared.
+   * @param activityExecutorConfig   the configuration of the threads the activities of all the bots are executed on.
+   */
+  public BdkRuntime(@Nonnull ApiClientBuilderProvider apiClientBuilderProvider,
+      @Nonnull BdkActivityExecutorConfig activityExecutorConfig) {
+    this.apiClientBuilderProvider = apiClientBuilderProvider.withSharedConnectionPools();
+    this.activityExecutor = new ActivityExecutor(activityExecutorConfig);
+  }
+
+  /**
+   * Register a new {@link SymphonyBdk} instance, named after its bot username.
+   *
+   * @param config the configuration of the instance.
+   * @return the resources of the runtime, to be used by the instance.
+   */
+  synchronized Attachment attach(BdkConfig config) {
+    final String username = config.getBot() != null ? config.getBot().getUsername() : null;
+    final String baseName = username != null ? username : "bdk";
+    String name = baseName;
+    for (int i = 2; this.attachments.containsKey(name); i++) {
+      name = baseName + "-" + i;
+    }
+
+    final Attachment attachment = new Attachment(this, name, this.apiClientBuilderProvider.scoped(),
+        this.activityExecutor.share(config.getActivityExecutor().getRejectionPolicy()));
+    this.attachments.put(name, attachment);
+    log.debug("{} attached to the runtime", name);
+    return attachment;
+  }
+
+  /**
+   * Unregister a {@link SymphonyBdk} instance once closed, releasing its share of the connection pools. Has no effect
+   * if it is already detached.
+   *
+   * @param attachment the resources used by the instance.
+   */
+  synchronized void detach(Attachment attachment) {
+    if (!this.attachments.remove(attachment.name, attachment)) {
+      return;
+    }
+    if (attachment.scopedProvider instanceof AutoCloseable) {
+      try {
+        ((AutoCloseable) attachment.scopedProvider).close();
+      } catch (Exception e) {
+        log.warn("Failed to release the connection pools of {}", attachment.name, e);
+      }
+    }
+    log.debug("{} detached from the runtime", attachment.name);
+  }
+
+  /**
+   * The resources used by each {@link SymphonyBdk} instance built with this runtime.
+   *
+   * @return the resource usage, per bot username.
+   */
+  public synchronized Map<String, BdkResourceUsage> usage() {
+    final Map<String, BdkResourceUsage> usage = new LinkedHashMap<>();
+    this.attachments.forEach((name, attachment) -> usage.put(name, attachment.usage()));
+    return Collections.unmodifiableMap(usage);
+  }
+
+  /**
+   * Release the shared resources. The activities already submitted are still executed, but the
+   * {@link SymphonyBdk} instances built with this runtime can no longer send requests.
+   *
+   * @throws Exception if the shared connection pools could not be closed.
+   */
+  @Override
+  public void close() throws Exception {
+    this.activityExecutor.shutdown();
+    if (this.apiClientBuilderProvider instanceof AutoCloseable) {
+      ((AutoCloseable) this.apiClientBuilderProvider).close();
+    }
+  }
+
+  /**
+   * Resources of the runtime used by a single {@link SymphonyBdk} instance.
+   */
+  @API(status = API.Status.INTERNAL)
+  static class Attachment {
+
+    private final AtomicInteger apiClients = new AtomicInteger();
+    private final BdkRuntime runtime;
+    private final String name;
+    private final ApiClientBuilderProvider scopedProvider;
+    private final ApiClientBuilderProvider apiClientBuilderProvider;
+    private final ActivityExecutor activityExecutor;
+
+    private Attachment(BdkRuntime runtime, String name, ApiClientBuilderProvider scopedProvider,
+        ActivityExecutor activityExecutor) {
+      this.runtime = runtime;
+      this.name = name;
+      this.scopedProvider = scopedProvider;
+      // counts the clients built by this instance only
+      this.apiClientBuilderProvider = () -> {
+        this.apiClients.incrementAndGet();
+        return scopedProvider.newInstance();
+      };
+      this.activityExecutor = activityExecutor;
+    }
+
+    /**
+     * Release the resources used by the instance, see {@link BdkRuntime#detach(Attachment)}.
+     */
+    void detach() {
+      this.runtime.detach(this);
+    }
+
+    ApiClientBuilderProvider getApiClientBuilderProvider() {
+      return this.apiClientBuilderProvider;
+    }
+
+    ActivityExecutor getActivityExecutor() {
+      return this.activityExecutor;
+    }
+
+    private BdkResourceUsage usage() {
+      return new BdkResourceUsage(this.apiClients.get(), this.activityExecutor.getActiveCount(),
+          this.activityExecutor.getQueueDepth(), this.activityExecutor.getCompletedCount(),
+          this.activityExecutor.getRejectedCount());
+    }
+  }
+}
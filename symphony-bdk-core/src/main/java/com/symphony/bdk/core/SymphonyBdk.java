@@ -1,5 +1,6 @@
 package com.symphony.bdk.core;
 
+import com.symphony.bdk.core.activity.ActivityExecutor;
 import com.symphony.bdk.core.activity.ActivityRegistry;
 import com.symphony.bdk.core.auth.AuthSession;
 import com.symphony.bdk.core.auth.AuthenticatorFactory;
@@ -15,6 +16,7 @@ import com.symphony.bdk.core.retry.RetryWithRecoveryBuilder;
 import com.symphony.bdk.core.service.application.ApplicationService;
 import com.symphony.bdk.core.service.connection.ConnectionService;
 import com.symphony.bdk.core.service.datafeed.DatafeedLoop;
+import com.symphony.bdk.core.service.datafeed.DatafeedMetrics;
 import com.symphony.bdk.core.service.datafeed.DatahoseLoop;
 import com.symphony.bdk.core.service.disclaimer.DisclaimerService;
 import com.symphony.bdk.core.service.health.HealthService;
@@ -42,7 +44,7 @@ import javax.annotation.Nullable;
  */
 @Slf4j
 @API(status = API.Status.STABLE)
-public class SymphonyBdk {
+public class SymphonyBdk implements AutoCloseable {
 
   private final BdkConfig config;
 
@@ -66,6 +68,8 @@ public class SymphonyBdk {
   private final HealthService healthService;
   private final ExtensionService extensionService;
 
+  private BdkRuntime.Attachment runtimeAttachment;
+
   /**
    * Returns a new {@link SymphonyBdkBuilder} for fluent initialization.
    *
@@ -95,6 +99,16 @@ public class SymphonyBdk {
       @Nullable ApiClientFactory apiClientFactory,
       @Nullable AuthenticatorFactory authenticatorFactory
   ) throws AuthInitializationException, AuthUnauthorizedException {
+    this(config, apiClientFactory, authenticatorFactory, null);
+  }
+
+  @API(status = API.Status.EXPERIMENTAL)
+  protected SymphonyBdk(
+      @Nonnull BdkConfig config,
+      @Nullable ApiClientFactory apiClientFactory,
+      @Nullable AuthenticatorFactory authenticatorFactory,
+      @Nullable ActivityExecutor activityExecutor
+  ) throws AuthInitializationException, AuthUnauthorizedException {
 
     this.config = config;
 
@@ -138,10 +152,17 @@ public class SymphonyBdk {
     this.healthService = serviceFactory != null ? serviceFactory.getHealthService() : null;
     if (healthService != null) {
       this.healthService.setDatafeedLoop(this.datafeedLoop);
+      this.healthService.setDatahoseLoop(this.datahoseLoop);
     }
 
-    // setup activities
-    this.activityRegistry = this.datafeedLoop != null ? new ActivityRegistry(this.botInfo, this.datafeedLoop) : null;
+    // setup activities, on the threads of the runtime if any
+    if (this.datafeedLoop == null) {
+      this.activityRegistry = null;
+    } else if (activityExecutor != null) {
+      this.activityRegistry = new ActivityRegistry(this.botInfo, this.datafeedLoop, activityExecutor);
+    } else {
+      this.activityRegistry = new ActivityRegistry(this.botInfo, this.datafeedLoop, this.config.getActivityExecutor());
+    }
 
     // setup extension service
     this.extensionService = new ExtensionService(
@@ -349,6 +370,52 @@ public class SymphonyBdk {
     return this.extensionService;
   }
 
+  /**
+   * @param runtimeAttachment the resources of the {@link BdkRuntime} used by this instance, released when closed.
+   */
+  void setRuntimeAttachment(@Nonnull BdkRuntime.Attachment runtimeAttachment) {
+    this.runtimeAttachment = runtimeAttachment;
+  }
+
+  /**
+   * Stop the datafeed and datahose loops, then shut down the executor of the asynchronous activities. If built with a
+   * {@link BdkRuntime}, the instance is finally detached from it, releasing its share of the connection pools.
+   */
+  @Override
+  @API(status = API.Status.EXPERIMENTAL)
+  public void close() {
+    if (this.datafeedLoop != null) {
+      this.datafeedLoop.stop();
+    }
+    if (this.datahoseLoop != null) {
+      this.datahoseLoop.stop();
+    }
+    if (this.activityRegistry != null) {
+      this.activityRegistry.shutdown();
+    }
+    if (this.runtimeAttachment != null) {
+      this.runtimeAttachment.detach();
+    }
+  }
+
+  /**
+   * Set the metrics the datafeed and datahose loops, and the activities, report their measurements to.
+   *
+   * @param metrics the metrics implementation.
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  public void setMetrics(@Nonnull DatafeedMetrics metrics) {
+    if (this.datafeedLoop != null) {
+      this.datafeedLoop.setMetrics(metrics);
+    }
+    if (this.datahoseLoop != null) {
+      this.datahoseLoop.setMetrics(metrics);
+    }
+    if (this.activityRegistry != null) {
+      this.activityRegistry.setMetrics(metrics);
+    }
+  }
+
   private <T> T getOrThrowNoBotConfig(T field) {
     return Optional.ofNullable(field).orElseThrow(BotNotConfiguredException::new);
   }
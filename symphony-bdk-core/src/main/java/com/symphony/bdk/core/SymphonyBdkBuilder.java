@@ -5,6 +5,7 @@ import com.symphony.bdk.core.auth.exception.AuthInitializationException;
 import com.symphony.bdk.core.auth.exception.AuthUnauthorizedException;
 import com.symphony.bdk.core.client.ApiClientFactory;
 import com.symphony.bdk.core.config.model.BdkConfig;
+import com.symphony.bdk.core.service.datafeed.DatafeedMetrics;
 import com.symphony.bdk.core.util.ServiceLookup;
 import com.symphony.bdk.extension.BdkExtension;
 import com.symphony.bdk.http.api.ApiClientBuilderProvider;
@@ -32,6 +33,8 @@ public class SymphonyBdkBuilder {
   private ApiClientBuilderProvider apiClientBuilderProvider;
   private AuthenticatorFactory authenticatorFactory;
   private ApiClientFactory apiClientFactory;
+  private DatafeedMetrics metrics;
+  private BdkRuntime runtime;
   private final List<Class<? extends BdkExtension>> extensions = new ArrayList<>();
 
   /**
@@ -93,6 +96,30 @@ public class SymphonyBdkBuilder {
     return this;
   }
 
+  /**
+   * With custom {@link DatafeedMetrics} instance, e.g. {@link com.symphony.bdk.core.service.datafeed.metrics.InMemoryDatafeedMetrics}.
+   *
+   * @param metrics the metrics the datafeed loops and the activities report to.
+   * @return updated builder.
+   */
+  public SymphonyBdkBuilder metrics(@Nullable DatafeedMetrics metrics) {
+    this.metrics = metrics;
+    return this;
+  }
+
+  /**
+   * With a {@link BdkRuntime} shared with other {@link SymphonyBdk} instances, whose connection pools are used unless a
+   * custom {@link ApiClientBuilderProvider} or {@link ApiClientFactory} is set, and whose threads execute the
+   * activities.
+   *
+   * @param runtime the runtime the instance is attached to.
+   * @return updated builder.
+   */
+  public SymphonyBdkBuilder runtime(@Nullable BdkRuntime runtime) {
+    this.runtime = runtime;
+    return this;
+  }
+
   /**
    * Build new {@link SymphonyBdk}.
    *
@@ -106,20 +133,42 @@ public class SymphonyBdkBuilder {
       throw new IllegalStateException("BDK configuration is mandatory.");
     }
 
-    if (this.apiClientBuilderProvider == null) {
-      this.apiClientBuilderProvider = ServiceLookup.lookupSingleService(ApiClientBuilderProvider.class);
+    final BdkRuntime.Attachment attachment = this.runtime != null ? this.runtime.attach(this.config) : null;
+
+    try {
+      // not kept by the builder, the instances of the next builds get their own attachment
+      ApiClientBuilderProvider apiClientBuilderProvider = this.apiClientBuilderProvider;
+      if (apiClientBuilderProvider == null) {
+        apiClientBuilderProvider = attachment != null
+            ? attachment.getApiClientBuilderProvider()
+            : ServiceLookup.lookupSingleService(ApiClientBuilderProvider.class);
+      }
+
+      ApiClientFactory apiClientFactory = this.apiClientFactory;
+      if (apiClientFactory == null) {
+        apiClientFactory = new ApiClientFactory(this.config, apiClientBuilderProvider);
+      }
+
+      AuthenticatorFactory authenticatorFactory = this.authenticatorFactory;
+      if (authenticatorFactory == null) {
+        authenticatorFactory = new AuthenticatorFactory(this.config, apiClientFactory);
+      }
+
+      final SymphonyBdk bdk = new SymphonyBdk(this.config, apiClientFactory, authenticatorFactory,
+          attachment != null ? attachment.getActivityExecutor() : null);
+      if (attachment != null) {
+        bdk.setRuntimeAttachment(attachment);
+      }
+      if (this.metrics != null) {
+        bdk.setMetrics(this.metrics);
+      }
+      this.extensions.forEach(bdk.extensions()::register);
+      return bdk;
+    } catch (AuthUnauthorizedException | AuthInitializationException | RuntimeException e) {
+      if (attachment != null) {
+        attachment.detach();
+      }
+      throw e;
     }
-
-    if (this.apiClientFactory == null) {
-      this.apiClientFactory = new ApiClientFactory(this.config, this.apiClientBuilderProvider);
-    }
-
-    if (this.authenticatorFactory == null) {
-      this.authenticatorFactory = new AuthenticatorFactory(this.config, this.apiClientFactory);
-    }
-
-    final SymphonyBdk bdk = new SymphonyBdk(this.config, this.apiClientFactory, this.authenticatorFactory);
-    this.extensions.forEach(bdk.extensions()::register);
-    return bdk;
   }
 }
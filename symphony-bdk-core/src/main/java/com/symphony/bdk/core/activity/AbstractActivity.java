@@ -1,7 +1,9 @@
 package com.symphony.bdk.core.activity;
 
 import com.symphony.bdk.core.activity.model.ActivityInfo;
+import com.symphony.bdk.core.config.model.BdkActivityExecutorConfig;
 import com.symphony.bdk.core.service.datafeed.DatafeedLoop;
+import com.symphony.bdk.core.service.datafeed.DatafeedMetrics;
 import com.symphony.bdk.core.service.datafeed.EventException;
 import com.symphony.bdk.core.service.datafeed.EventPayload;
 import com.symphony.bdk.core.service.datafeed.RealTimeEventListener;
@@ -11,11 +13,18 @@ import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.apiguardian.api.API;
 
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaConversionException;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.ParameterizedType;
+import java.time.Duration;
+import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
 
 /**
@@ -25,16 +34,27 @@ import java.util.function.Consumer;
 @API(status = API.Status.INTERNAL)
 public abstract class AbstractActivity<E, C extends ActivityContext<E>> {
 
+  /**
+   * Context factories of the activity classes, resolved on the first event received by an activity of the class
+   */
+  private static final ClassValue<ContextFactory> CONTEXT_FACTORIES = new ClassValue<ContextFactory>() {
+    @Override
+    protected ContextFactory computeValue(Class<?> activityClass) {
+      return new ContextFactory(activityClass);
+    }
+  };
+
   private ActivityInfo info;
-  private final ExecutorService executorService;
-
-  public AbstractActivity() {
-    ThreadFactory threadFactory = new ThreadFactoryBuilder()
-        .setName("Activity-Async-Thread")
-        .setPriority(Thread.NORM_PRIORITY)
-        .build();
-    executorService = Executors.newCachedThreadPool(threadFactory);
-  }
+
+  /**
+   * Executor of the asynchronous activities, shared by all the activities of the {@link ActivityRegistry}
+   */
+  private ActivityExecutor executor;
+
+  /**
+   * Metrics the execution times are reported to, shared by all the activities of the {@link ActivityRegistry}
+   */
+  private volatile DatafeedMetrics metrics = DatafeedMetrics.NO_OP;
 
   /**
    * Any kind of activity must provide an {@link ActivityMatcher} in order to detect if it can be applied to a certain
@@ -98,9 +118,16 @@ public abstract class AbstractActivity<E, C extends ActivityContext<E>> {
   }
 
   protected void processEvent(V4Initiator initiator, E event) throws EventException {
+    this.processContext(this.createContextInstance(initiator, event));
+  }
 
-    final C context = this.createContextInstance(initiator, event);
-
+  /**
+   * Process an event whose context is already created, e.g. to prepare it before the matcher is executed.
+   *
+   * @param context the context of the event
+   * @throws EventException if the events processing should fail, to re-queue the events in datafeed
+   */
+  protected void processContext(C context) throws EventException {
     try {
       log.trace("Before beforeMatcher execution");
       this.beforeMatcher(context);
@@ -114,7 +141,13 @@ public abstract class AbstractActivity<E, C extends ActivityContext<E>> {
     final Optional<Boolean> matcherResult = this.executeMatcher(context);
     if (matcherResult.isPresent() && Boolean.TRUE.equals(matcherResult.get())) {
       if (isAsynchronous()) {
-        executorService.submit(() -> executeActivity(context));
+        this.getExecutor().execute(() -> {
+          try {
+            executeActivity(context);
+          } catch (EventException ex) {
+            log.warn("Asynchronous activity execution failed, the event cannot be re-queued.", ex);
+          }
+        });
       } else {
         executeActivity(context);
       }
@@ -122,6 +155,7 @@ public abstract class AbstractActivity<E, C extends ActivityContext<E>> {
   }
 
   private void executeActivity(C context) {
+    final long activityStart = System.nanoTime();
     try {
       log.trace("Before activity execution");
       this.onActivity(context);
@@ -129,9 +163,16 @@ public abstract class AbstractActivity<E, C extends ActivityContext<E>> {
       throw ex; // to allow events to be re-queued in DFv2 loop
     } catch (Exception ex) {
       log.warn("Activity execution failed.", ex);
+    } finally {
+      this.metrics.recordActivity(this.getMetricsName(), Duration.ofNanos(System.nanoTime() - activityStart));
     }
   }
 
+  private String getMetricsName() {
+    final ActivityInfo activityInfo = this.getInfo();
+    return activityInfo != null && activityInfo.name() != null ? activityInfo.name() : this.getClass().getName();
+  }
+
   private Optional<Boolean> executeMatcher(C context) {
     try {
       log.trace("Before matcher execution");
@@ -144,13 +185,75 @@ public abstract class AbstractActivity<E, C extends ActivityContext<E>> {
     }
   }
 
-  @SneakyThrows // assuming that this method can never fail
+  void setExecutor(ActivityExecutor executor) {
+    this.executor = executor;
+  }
+
+  ActivityExecutor getExecutor() {
+    // activity used without being registered
+    return this.executor != null ? this.executor : DefaultExecutorHolder.EXECUTOR;
+  }
+
+  void setMetrics(DatafeedMetrics metrics) {
+    this.metrics = metrics;
+  }
+
   @SuppressWarnings("unchecked")
   protected C createContextInstance(V4Initiator initiator, E event) {
-    final Class<C> clz = (Class<C>) ((ParameterizedType) getClass().getGenericSuperclass()).getActualTypeArguments()[0];
-    if (EventPayload.class.isAssignableFrom(event.getClass())) {
-      return clz.getConstructor(V4Initiator.class, event.getClass().getSuperclass()).newInstance(initiator, event);
+    return (C) CONTEXT_FACTORIES.get(getClass()).create(initiator, event);
+  }
+
+  private static class DefaultExecutorHolder {
+    private static final ActivityExecutor EXECUTOR = new ActivityExecutor(new BdkActivityExecutorConfig());
+  }
+
+  /**
+   * Creates the contexts of an activity class, whose type is the first type argument of its generic superclass, by
+   * calling their (initiator, event) constructor. A factory is generated once per event type.
+   */
+  private static class ContextFactory {
+
+    private final Class<?> contextClass;
+    private final Map<Class<?>, BiFunction<V4Initiator, Object, ActivityContext<?>>> constructors =
+        new ConcurrentHashMap<>();
+
+    private ContextFactory(Class<?> activityClass) {
+      this.contextClass =
+          (Class<?>) ((ParameterizedType) activityClass.getGenericSuperclass()).getActualTypeArguments()[0];
+    }
+
+    private ActivityContext<?> create(V4Initiator initiator, Object event) {
+      // the payload proxies of the datafeed events extend the actual event type
+      final Class<?> eventType = event instanceof EventPayload ? event.getClass().getSuperclass() : event.getClass();
+      BiFunction<V4Initiator, Object, ActivityContext<?>> constructor = this.constructors.get(eventType);
+      if (constructor == null) {
+        constructor = this.constructors.computeIfAbsent(eventType, this::findConstructor);
+      }
+      return constructor.apply(initiator, event);
+    }
+
+    @SneakyThrows
+    @SuppressWarnings("unchecked")
+    private BiFunction<V4Initiator, Object, ActivityContext<?>> findConstructor(Class<?> eventType) {
+      final MethodHandle constructor = MethodHandles.publicLookup()
+          .findConstructor(this.contextClass, MethodType.methodType(void.class, V4Initiator.class, eventType));
+      try {
+        // the factory is defined along with the context class, which may not be visible from the BDK class loader
+        final MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(this.contextClass, MethodHandles.lookup());
+        final CallSite factory = LambdaMetafactory.metafactory(lookup, "apply", MethodType.methodType(BiFunction.class),
+            MethodType.methodType(Object.class, Object.class, Object.class), constructor, constructor.type());
+        return (BiFunction<V4Initiator, Object, ActivityContext<?>>) factory.getTarget().invokeExact();
+      } catch (IllegalAccessException | LambdaConversionException e) {
+        log.debug("Unable to generate the factory of {}, its constructor is called instead", this.contextClass, e);
+        final MethodHandle handle = constructor.asType(
+            MethodType.methodType(ActivityContext.class, V4Initiator.class, Object.class));
+        return (initiator, event) -> invoke(handle, initiator, event);
+      }
+    }
+
+    @SneakyThrows
+    private static ActivityContext<?> invoke(MethodHandle constructor, V4Initiator initiator, Object event) {
+      return (ActivityContext<?>) constructor.invokeExact(initiator, event);
     }
-    return clz.getConstructor(V4Initiator.class, event.getClass()).newInstance(initiator, event);
   }
 }
@@ -0,0 +1,174 @@
+package com.symphony.bdk.core.activity;
+
+import com.symphony.bdk.core.config.model.BdkActivityExecutorConfig;
+import com.symphony.bdk.core.service.datafeed.EventException;
+import com.symphony.bdk.http.api.tracing.MDCUtils;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apiguardian.api.API;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded executor shared by all the asynchronous activities of an {@link ActivityRegistry}.
+ * <p>
+ * At most {@link BdkActivityExecutorConfig#getMaxConcurrency()} activities are executed concurrently, the other ones
+ * wait in a queue of {@link BdkActivityExecutorConfig#getQueueCapacity()} elements. When the queue is full, the
+ * configured {@link BdkActivityExecutorConfig.RejectionPolicy} applies. Virtual threads are not pooled: each activity
+ * is executed by a new virtual thread, the concurrency being bounded the same way.
+ * <p>
+ * The threads of an executor can be shared by several registries, e.g. of bots hosted in the same JVM, see
+ * {@link #share(BdkActivityExecutorConfig.RejectionPolicy)}.
+ */
+@Slf4j
+@API(status = API.Status.EXPERIMENTAL)
+public class ActivityExecutor {
+
+  private static final long KEEP_ALIVE_SECONDS = 60L;
+  private static final String THREAD_NAME = "Activity-Async-Thread";
+
+  private final ExecutorService executor;
+  // false if the threads are owned by another executor, that this one must not shut down
+  private final boolean owner;
+  private final BdkActivityExecutorConfig.RejectionPolicy rejectionPolicy;
+  private final AtomicInteger queueDepth = new AtomicInteger();
+  private final AtomicInteger activeCount = new AtomicInteger();
+  private final AtomicLong completedCount = new AtomicLong();
+  private final AtomicLong rejectedCount = new AtomicLong();
+  private volatile boolean shutdown;
+
+  public ActivityExecutor(BdkActivityExecutorConfig config) {
+    this(newExecutor(config), true, config.getRejectionPolicy());
+  }
+
+  private ActivityExecutor(ExecutorService executor, boolean owner,
+      BdkActivityExecutorConfig.RejectionPolicy rejectionPolicy) {
+    this.executor = executor;
+    this.owner = owner;
+    this.rejectionPolicy = rejectionPolicy;
+  }
+
+  private static ExecutorService newExecutor(BdkActivityExecutorConfig config) {
+    if (config.getThreadType() == BdkActivityExecutorConfig.ThreadType.VIRTUAL
+        && ThreadFactoryBuilder.isVirtualSupported()) {
+      return new VirtualThreadExecutor(config.getMaxConcurrency(), config.getQueueCapacity(),
+          new ThreadFactoryBuilder().setName(THREAD_NAME).setVirtual(true).build());
+    }
+
+    final ThreadPoolExecutor executor = new ThreadPoolExecutor(
+        config.getMaxConcurrency(),
+        config.getMaxConcurrency(),
+        KEEP_ALIVE_SECONDS,
+        TimeUnit.SECONDS,
+        new ArrayBlockingQueue<>(config.getQueueCapacity()),
+        new ThreadFactoryBuilder()
+            .setName(THREAD_NAME)
+            .setPriority(Thread.NORM_PRIORITY)
+            .build(),
+        new ThreadPoolExecutor.AbortPolicy()
+    );
+    // threads are only kept while activities are being executed
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
+  /**
+   * Returns an executor running its activities on the threads, and within the queue, of this one, but reporting its
+   * own metrics and applying its own rejection policy. Shutting it down does not shut this executor down.
+   *
+   * @param rejectionPolicy the policy applied when this executor is saturated
+   * @return a new executor sharing the threads of this one
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  public ActivityExecutor share(BdkActivityExecutorConfig.RejectionPolicy rejectionPolicy) {
+    return new ActivityExecutor(this.executor, false, rejectionPolicy);
+  }
+
+  /**
+   * Execute the activity asynchronously, or apply the rejection policy if the executor is saturated.
+   *
+   * @param activity the activity execution
+   * @throws EventException if the activity is rejected with the {@link BdkActivityExecutorConfig.RejectionPolicy#ABORT}
+   *                        policy, so that the event is re-queued
+   */
+  public void execute(Runnable activity) {
+    this.queueDepth.incrementAndGet();
+    try {
+      if (this.shutdown) {
+        throw new RejectedExecutionException("Activity executor is shut down");
+      }
+      this.executor.execute(MDCUtils.wrap(() -> this.run(activity)));
+    } catch (RejectedExecutionException e) {
+      this.queueDepth.decrementAndGet();
+      this.rejectedCount.incrementAndGet();
+      switch (this.rejectionPolicy) {
+        case CALLER_RUNS:
+          log.debug("Activity executor is saturated, running activity on the calling thread");
+          activity.run();
+          break;
+        case DISCARD:
+          log.warn("Activity executor is saturated, activity is discarded");
+          break;
+        case ABORT:
+        default:
+          throw new EventException("Activity executor is saturated, activity is rejected", e);
+      }
+    }
+  }
+
+  private void run(Runnable activity) {
+    this.queueDepth.decrementAndGet();
+    this.activeCount.incrementAndGet();
+    try {
+      activity.run();
+    } finally {
+      this.activeCount.decrementAndGet();
+      this.completedCount.incrementAndGet();
+    }
+  }
+
+  /**
+   * @return the number of activities waiting for a thread
+   */
+  public int getQueueDepth() {
+    return this.queueDepth.get();
+  }
+
+  /**
+   * @return the number of activities being executed
+   */
+  public int getActiveCount() {
+    return this.activeCount.get();
+  }
+
+  /**
+   * @return the number of activities executed so far
+   */
+  public long getCompletedCount() {
+    return this.completedCount.get();
+  }
+
+  /**
+   * @return the number of activities that could not be submitted because the executor was saturated, whatever the
+   *     rejection policy
+   */
+  public long getRejectedCount() {
+    return this.rejectedCount.get();
+  }
+
+  /**
+   * Stop accepting new activities, already submitted ones are still executed.
+   */
+  public void shutdown() {
+    this.shutdown = true;
+    if (this.owner) {
+      this.executor.shutdown();
+    }
+  }
+}
@@ -3,7 +3,10 @@ package com.symphony.bdk.core.activity;
 import com.symphony.bdk.core.activity.command.CommandActivity;
 import com.symphony.bdk.core.activity.command.SlashCommand;
 import com.symphony.bdk.core.activity.command.HelpCommand;
+import com.symphony.bdk.core.activity.command.SlashCommandRouter;
+import com.symphony.bdk.core.config.model.BdkActivityExecutorConfig;
 import com.symphony.bdk.core.service.datafeed.DatafeedLoop;
+import com.symphony.bdk.core.service.datafeed.DatafeedMetrics;
 import com.symphony.bdk.gen.api.model.UserV2;
 
 import lombok.extern.slf4j.Slf4j;
@@ -11,6 +14,7 @@ import org.apiguardian.api.API;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 
 /**
@@ -20,6 +24,9 @@ import java.util.Optional;
  * If an activity to be registered is already existing in the registry, then the old one will be replaced.
  * In case of an activity of type {@link SlashCommand}, it will replace the old one if this latter has the same name and both require bot mention (or both don't).
  * If the activity has /help as name, then it will replace {@link HelpCommand} if it is already registered.
+ * <p>
+ * The {@link SlashCommand}s keep their own listener but share a {@link SlashCommandRouter}, which matches each message
+ * once for all of them.
  */
 @Slf4j
 @API(status = API.Status.STABLE)
@@ -40,9 +47,34 @@ public class ActivityRegistry {
    */
   private final DatafeedLoop datafeedLoop;
 
+  /**
+   * The executor shared by the asynchronous activities
+   */
+  private final ActivityExecutor executor;
+
+  /**
+   * The router matching the messages for all the registered slash commands
+   */
+  private final SlashCommandRouter slashCommandRouter = new SlashCommandRouter();
+
+  /**
+   * The metrics the activities execution times are reported to
+   */
+  private DatafeedMetrics metrics = DatafeedMetrics.NO_OP;
+
   public ActivityRegistry(UserV2 botSession, DatafeedLoop datafeedLoop) {
+    this(botSession, datafeedLoop, new BdkActivityExecutorConfig());
+  }
+
+  public ActivityRegistry(UserV2 botSession, DatafeedLoop datafeedLoop, BdkActivityExecutorConfig executorConfig) {
+    this(botSession, datafeedLoop, new ActivityExecutor(executorConfig));
+  }
+
+  @API(status = API.Status.EXPERIMENTAL)
+  public ActivityRegistry(UserV2 botSession, DatafeedLoop datafeedLoop, ActivityExecutor executor) {
     this.botSession = botSession;
     this.datafeedLoop = datafeedLoop;
+    this.executor = Objects.requireNonNull(executor);
   }
 
   /**
@@ -59,6 +91,36 @@ public class ActivityRegistry {
     return new ArrayList<>(activityList);
   }
 
+  /**
+   * The executor shared by the asynchronous activities, exposing queue depth and active tasks metrics.
+   *
+   * @return the activity executor
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  public ActivityExecutor getExecutor() {
+    return this.executor;
+  }
+
+  /**
+   * Shut down the executor of the asynchronous activities, to be called once the datafeed loop is stopped. The
+   * activities already submitted are still executed, the new ones are rejected.
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  public void shutdown() {
+    this.executor.shutdown();
+  }
+
+  /**
+   * Set the metrics the execution times of the registered activities are reported to.
+   *
+   * @param metrics the metrics implementation
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  public void setMetrics(DatafeedMetrics metrics) {
+    this.metrics = Objects.requireNonNull(metrics);
+    this.activityList.forEach(activity -> activity.setMetrics(this.metrics));
+  }
+
   private void preProcessActivity(AbstractActivity<?, ?> activity) {
 
     Optional<AbstractActivity<?, ?>> act = this.activityList.stream()
@@ -66,7 +128,7 @@ public class ActivityRegistry {
         .findFirst();
 
     act.ifPresent(abstractActivity -> {
-      abstractActivity.bindToRealTimeEventsSource(this.datafeedLoop::unsubscribe);
+      this.unsubscribe(abstractActivity);
       this.activityList.remove(abstractActivity);
       log.debug("One activity '{}' has been removed/unsubscribed in order to be replaced",
           abstractActivity.getInfo().name());
@@ -79,8 +141,25 @@ public class ActivityRegistry {
       ((CommandActivity<?>) activity).setBotUserId(this.botSession.getId());
     }
 
+    activity.setExecutor(this.executor);
+    activity.setMetrics(this.metrics);
+
     // make the activity to subscribe to its expected real-time event
+    this.subscribe(activity);
+  }
+
+  private void subscribe(AbstractActivity<?, ?> activity) {
+    if (activity instanceof SlashCommand && SlashCommandRouter.isRoutable((SlashCommand) activity)) {
+      this.slashCommandRouter.add((SlashCommand) activity);
+    }
     activity.bindToRealTimeEventsSource(this.datafeedLoop::subscribe);
   }
+
+  private void unsubscribe(AbstractActivity<?, ?> activity) {
+    activity.bindToRealTimeEventsSource(this.datafeedLoop::unsubscribe);
+    if (activity instanceof SlashCommand) {
+      this.slashCommandRouter.remove((SlashCommand) activity);
+    }
+  }
 }
 
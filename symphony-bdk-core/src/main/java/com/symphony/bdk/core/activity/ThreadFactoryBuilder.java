@@ -1,18 +1,20 @@
 package com.symphony.bdk.core.activity;
 
-import com.symphony.bdk.http.api.tracing.MDCUtils;
-
+import lombok.extern.slf4j.Slf4j;
 import org.apiguardian.api.API;
 
+import java.lang.reflect.Method;
 import java.util.Objects;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicLong;
 
+@Slf4j
 @API(status = API.Status.INTERNAL)
 class ThreadFactoryBuilder {
   private String name = null;
   private int priority = Thread.NORM_PRIORITY;
+  private boolean virtual = false;
 
   public ThreadFactoryBuilder setName(String name) {
     Objects.requireNonNull(name);
@@ -35,6 +37,15 @@ class ThreadFactoryBuilder {
     return this;
   }
 
+  /**
+   * Build virtual threads instead of platform ones. Requires a Java 21+ runtime, platform threads are built otherwise.
+   * The priority of virtual threads cannot be changed.
+   */
+  public ThreadFactoryBuilder setVirtual(boolean virtual) {
+    this.virtual = virtual;
+    return this;
+  }
+
   public ThreadFactory build() {
     return build(this);
   }
@@ -42,12 +53,15 @@ class ThreadFactoryBuilder {
   private static ThreadFactory build(ThreadFactoryBuilder builder) {
     final String name = builder.name;
     final int priority = builder.priority;
-    final ThreadFactory factory = Executors.defaultThreadFactory();
+    final ThreadFactory virtualFactory = builder.virtual ? virtualThreadFactory() : null;
+    final ThreadFactory factory = virtualFactory != null ? virtualFactory : Executors.defaultThreadFactory();
 
     final AtomicLong count = new AtomicLong(0);
     return runnable -> {
-      Thread thread = factory.newThread(MDCUtils.wrap(runnable));
-      thread.setPriority(priority);
+      Thread thread = factory.newThread(runnable);
+      if (virtualFactory == null) {
+        thread.setPriority(priority);
+      }
 
       if (name != null) {
         thread.setName(name + "-" + count.getAndIncrement());
@@ -56,4 +70,23 @@ class ThreadFactoryBuilder {
       return thread;
     };
   }
+
+  /**
+   * @return true if the Java runtime supports virtual threads, i.e. if {@link #setVirtual(boolean)} is effective
+   */
+  static boolean isVirtualSupported() {
+    return virtualThreadFactory() != null;
+  }
+
+  private static ThreadFactory virtualThreadFactory() {
+    // Thread.ofVirtual() is only available from Java 21 while the BDK targets Java 17
+    try {
+      final Object virtualBuilder = Thread.class.getMethod("ofVirtual").invoke(null);
+      final Method factory = Class.forName("java.lang.Thread$Builder").getMethod("factory");
+      return (ThreadFactory) factory.invoke(virtualBuilder);
+    } catch (ReflectiveOperationException e) {
+      log.warn("Virtual threads are not supported by the Java runtime, platform threads will be used instead");
+      return null;
+    }
+  }
 }
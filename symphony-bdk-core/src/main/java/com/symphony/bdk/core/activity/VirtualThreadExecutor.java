@@ -0,0 +1,115 @@
+package com.symphony.bdk.core.activity;
+
+import org.apiguardian.api.API;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Executor starting a new thread per task, intended for virtual threads that are not meant to be pooled.
+ * <p>
+ * At most {@code maxConcurrency} tasks are executed concurrently, the other ones waiting in the order they were
+ * submitted, their threads being blocked meanwhile. Tasks are rejected once {@code queueCapacity} of them are waiting.
+ */
+@API(status = API.Status.INTERNAL)
+class VirtualThreadExecutor extends AbstractExecutorService {
+
+  private final ThreadFactory threadFactory;
+  private final int capacity;
+  // tasks submitted and not completed yet, either waiting or running
+  private final Semaphore submitted;
+  private final Semaphore running;
+  // the threads may acquire their permit in any order, each one runs the next submitted task
+  private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+  private final Object monitor = new Object();
+  private volatile boolean shutdown;
+
+  VirtualThreadExecutor(int maxConcurrency, int queueCapacity, ThreadFactory threadFactory) {
+    this.threadFactory = threadFactory;
+    this.capacity = maxConcurrency + queueCapacity;
+    this.submitted = new Semaphore(this.capacity);
+    this.running = new Semaphore(maxConcurrency);
+  }
+
+  @Override
+  public void execute(Runnable task) {
+    if (this.shutdown) {
+      throw new RejectedExecutionException("Executor is shut down");
+    }
+    if (!this.submitted.tryAcquire()) {
+      throw new RejectedExecutionException("Executor is saturated");
+    }
+    this.tasks.add(task);
+    try {
+      this.threadFactory.newThread(this::runNext).start();
+    } catch (RuntimeException | Error e) {
+      this.tasks.remove(task);
+      this.complete();
+      throw new RejectedExecutionException("Failed to start a thread", e);
+    }
+  }
+
+  private void runNext() {
+    try {
+      this.running.acquireUninterruptibly();
+      try {
+        this.tasks.remove().run();
+      } finally {
+        this.running.release();
+      }
+    } finally {
+      this.complete();
+    }
+  }
+
+  private void complete() {
+    this.submitted.release();
+    synchronized (this.monitor) {
+      this.monitor.notifyAll();
+    }
+  }
+
+  @Override
+  public void shutdown() {
+    this.shutdown = true;
+  }
+
+  @Override
+  public List<Runnable> shutdownNow() {
+    // the threads of the waiting tasks are already started, they are not interrupted like the running ones
+    this.shutdown = true;
+    return Collections.emptyList();
+  }
+
+  @Override
+  public boolean isShutdown() {
+    return this.shutdown;
+  }
+
+  @Override
+  public boolean isTerminated() {
+    return this.shutdown && this.submitted.availablePermits() == this.capacity;
+  }
+
+  @Override
+  public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+    final long deadline = System.nanoTime() + unit.toNanos(timeout);
+    synchronized (this.monitor) {
+      while (!this.isTerminated()) {
+        final long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+        if (remainingMillis <= 0) {
+          return false;
+        }
+        this.monitor.wait(remainingMillis);
+      }
+      return true;
+    }
+  }
+}
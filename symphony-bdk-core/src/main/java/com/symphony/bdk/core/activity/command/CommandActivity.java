@@ -6,7 +6,6 @@ import com.symphony.bdk.core.activity.AbstractActivity;
 import com.symphony.bdk.core.activity.exception.FatalActivityExecutionException;
 import com.symphony.bdk.core.service.datafeed.RealTimeEventListener;
 import com.symphony.bdk.core.service.message.exception.PresentationMLParserException;
-import com.symphony.bdk.core.service.message.util.PresentationMLParser;
 import com.symphony.bdk.gen.api.model.V4Initiator;
 import com.symphony.bdk.gen.api.model.V4MessageSent;
 
@@ -60,8 +59,8 @@ public abstract class CommandActivity<C extends CommandContext> extends Abstract
    */
   protected void beforeMatcher(C context) {
     try {
-      context.setTextContent(
-          PresentationMLParser.getTextContent(context.getSourceEvent().getMessage().getMessage()));
+      // parsed once per event for all the slash commands it is routed to
+      context.setTextContent(context.getParsedMessage().getTextContent());
     } catch (PresentationMLParserException e) {
       throw new FatalActivityExecutionException(this.getInfo(), "Unable to parse presentationML", e);
     }
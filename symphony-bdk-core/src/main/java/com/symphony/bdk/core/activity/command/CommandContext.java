@@ -2,9 +2,11 @@ package com.symphony.bdk.core.activity.command;
 
 import com.symphony.bdk.core.activity.ActivityContext;
 import com.symphony.bdk.core.activity.parsing.Arguments;
+import com.symphony.bdk.core.activity.parsing.ParsedMessage;
 import com.symphony.bdk.gen.api.model.V4Initiator;
 import com.symphony.bdk.gen.api.model.V4MessageSent;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import org.apiguardian.api.API;
@@ -31,10 +33,29 @@ public class CommandContext extends ActivityContext<V4MessageSent> {
    */
   private Arguments arguments;
 
+  /**
+   * The parsed content of the command message, set by the {@link SlashCommandRouter} or parsed on first access.
+   */
+  @Setter(AccessLevel.PACKAGE)
+  private ParsedMessage parsedMessage;
+
   public CommandContext(V4Initiator initiator, V4MessageSent eventSource) {
     super(initiator, eventSource);
     this.streamId = eventSource.getMessage().getStream().getStreamId();
     this.messageId = eventSource.getMessage().getMessageId();
     this.arguments = new Arguments();
   }
+
+  /**
+   * The parsed content of the command message, shared with the other commands the same event is routed to.
+   *
+   * @return the parsed message
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  public ParsedMessage getParsedMessage() {
+    if (this.parsedMessage == null) {
+      this.parsedMessage = new ParsedMessage(this.getSourceEvent().getMessage());
+    }
+    return this.parsedMessage;
+  }
 }
@@ -5,6 +5,7 @@ import com.symphony.bdk.core.activity.model.ActivityInfo;
 import com.symphony.bdk.core.activity.model.ActivityType;
 import com.symphony.bdk.core.activity.parsing.MatchResult;
 import com.symphony.bdk.core.activity.parsing.MatchingUserIdMentionToken;
+import com.symphony.bdk.core.activity.parsing.ParsedMessage;
 import com.symphony.bdk.core.activity.parsing.SlashCommandPattern;
 import com.symphony.bdk.gen.api.model.V4Initiator;
 import com.symphony.bdk.gen.api.model.V4MessageSent;
@@ -31,6 +32,11 @@ public class SlashCommand extends CommandActivity<CommandContext> {
   private final Consumer<CommandContext> callback;
   private final String description;
 
+  /**
+   * The router the command is added to, null if its listener has to match the messages by itself
+   */
+  private volatile SlashCommandRouter router;
+
   /**
    * Returns a new {@link SlashCommand} instance.
    *
@@ -117,7 +123,7 @@ public class SlashCommand extends CommandActivity<CommandContext> {
   @Override
   public ActivityMatcher<CommandContext> matcher() {
     return context -> {
-      final MatchResult matchResult = this.commandPattern.getMatchResult(context.getSourceEvent().getMessage());
+      final MatchResult matchResult = this.commandPattern.getMatchResult(context.getParsedMessage());
       if (matchResult.isMatching()) {
         context.setArguments(matchResult.getArguments());
       }
@@ -126,6 +132,38 @@ public class SlashCommand extends CommandActivity<CommandContext> {
     };
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected void processEvent(V4Initiator initiator, V4MessageSent event) {
+    final SlashCommandRouter currentRouter = this.router;
+    if (currentRouter != null) {
+      currentRouter.route(initiator, event, this);
+    } else {
+      super.processEvent(initiator, event);
+    }
+  }
+
+  /**
+   * Process an event the {@link SlashCommandRouter} found to be matching the command.
+   *
+   * @param parsedMessage the message of the event, parsed once by the router for all the commands
+   */
+  void processRoutedEvent(V4Initiator initiator, V4MessageSent event, ParsedMessage parsedMessage) {
+    final CommandContext context = this.createContextInstance(initiator, event);
+    context.setParsedMessage(parsedMessage);
+    this.processContext(context);
+  }
+
+  void setRouter(SlashCommandRouter router) {
+    this.router = router;
+  }
+
+  SlashCommandPattern getCommandPattern() {
+    return this.commandPattern;
+  }
+
   @Override
   public void onActivity(CommandContext context) {
     this.callback.accept(context);
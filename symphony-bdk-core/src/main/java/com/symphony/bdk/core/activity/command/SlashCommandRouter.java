@@ -0,0 +1,261 @@
+package com.symphony.bdk.core.activity.command;
+
+import com.symphony.bdk.core.activity.parsing.CommandToken;
+import com.symphony.bdk.core.activity.parsing.MatchingUserIdMentionToken;
+import com.symphony.bdk.core.activity.parsing.ParsedMessage;
+import com.symphony.bdk.core.activity.parsing.RegexCommandToken;
+import com.symphony.bdk.core.activity.parsing.StaticCommandToken;
+import com.symphony.bdk.core.activity.parsing.TypedArgumentToken;
+import com.symphony.bdk.core.service.datafeed.RealTimeEventListener;
+import com.symphony.bdk.gen.api.model.V4Initiator;
+import com.symphony.bdk.gen.api.model.V4Message;
+import com.symphony.bdk.gen.api.model.V4MessageSent;
+
+import org.apiguardian.api.API;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Finds the {@link SlashCommand}s matching the received messages, so that the cost of matching a message does not grow
+ * with the number of commands.
+ * <p>
+ * The {@link com.symphony.bdk.core.activity.parsing.SlashCommandPattern}s of the commands are compiled into a token
+ * trie: static tokens are looked up by their value while the other ones (bot mention, arguments) are wildcards
+ * matching the input tokens. Each command keeps its own {@link RealTimeEventListener}, so that the datafeed retries,
+ * quarantines and reports the events per command, but the first of them to receive a message tokenizes it and walks
+ * the trie for all the others. The commands the message does not match then skip it without parsing it again.
+ * <p>
+ * The routings of the last {@value #ROUTING_CACHE_SIZE} messages are kept, per message ID, so that the messages
+ * dispatched concurrently, e.g. by the parallel workers of the datafeed, are each parsed once.
+ * <p>
+ * The trie is rebuilt when a command is added or removed, the messages being routed meanwhile with the previous one.
+ */
+@API(status = API.Status.INTERNAL)
+public class SlashCommandRouter {
+
+  private static final String REGEX_SPECIAL_CHARACTERS = "\\.[]{}()<>*+-=!?^$|";
+
+  /**
+   * Number of routed messages kept, well above the number of messages the datafeed dispatches concurrently
+   */
+  private static final int ROUTING_CACHE_SIZE = 256;
+
+  private final List<SlashCommand> commands = new ArrayList<>();
+  private volatile Trie trie = new Trie(Collections.emptyList());
+
+  /**
+   * The routings of the last received messages, which their other listeners reuse, per message ID
+   */
+  private final Map<Object, Routing> routings = Collections.synchronizedMap(new LinkedHashMap<Object, Routing>() {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<Object, Routing> eldest) {
+      return this.size() > ROUTING_CACHE_SIZE;
+    }
+  });
+
+  /**
+   * Whether a command can be routed, that is, whether it matches the messages with its pattern only.
+   *
+   * @param command the command to be routed
+   * @return false if the command defines its own {@link SlashCommand#matcher()}
+   */
+  public static boolean isRoutable(@Nonnull SlashCommand command) {
+    try {
+      return command.getClass().getMethod("matcher").getDeclaringClass() == SlashCommand.class;
+    } catch (NoSuchMethodException e) {
+      return false;
+    }
+  }
+
+  /**
+   * Add a command to the trie, the events received by its own listener being then routed.
+   *
+   * @param command the command to be routed, see {@link #isRoutable(SlashCommand)}
+   */
+  public synchronized void add(@Nonnull SlashCommand command) {
+    this.commands.add(command);
+    this.trie = new Trie(new ArrayList<>(this.commands));
+    command.setRouter(this);
+  }
+
+  /**
+   * Remove a command from the trie.
+   *
+   * @param command the command to be no longer routed
+   * @return true if the command was routed
+   */
+  public synchronized boolean remove(@Nonnull SlashCommand command) {
+    // commands equality being based on their pattern, only the routed instance is removed
+    final boolean removed = this.commands.removeIf(c -> c == command);
+    if (removed) {
+      this.trie = new Trie(new ArrayList<>(this.commands));
+      command.setRouter(null);
+    }
+    return removed;
+  }
+
+  /**
+   * Dispatch a message received by the listener of a command to this command, if the message matches it.
+   *
+   * @param initiator the message initiator
+   * @param event     the message sent event
+   * @param command   the command whose listener received the event
+   */
+  void route(V4Initiator initiator, V4MessageSent event, SlashCommand command) {
+    final Routing routing = this.routingOf(event.getMessage());
+    if (routing.matching == null || routing.matching.contains(command)) {
+      command.processRoutedEvent(initiator, event, routing.parsedMessage);
+    }
+  }
+
+  private Routing routingOf(V4Message message) {
+    final Trie currentTrie = this.trie;
+    // the message itself if it has no ID, e.g. in tests
+    final Object key = message.getMessageId() != null ? message.getMessageId() : message;
+    Routing routing = this.routings.get(key);
+    if (routing == null || routing.message != message || routing.trie != currentTrie) {
+      // parsed once for all the commands
+      final ParsedMessage parsedMessage = new ParsedMessage(message);
+      Set<SlashCommand> matching;
+      try {
+        matching = currentTrie.match(parsedMessage);
+      } catch (Exception e) {
+        // e.g. a malformed message, the commands then report the failure of their own matcher
+        matching = null;
+      }
+      routing = new Routing(message, currentTrie, parsedMessage, matching);
+      this.routings.put(key, routing);
+    }
+    return routing;
+  }
+
+  /**
+   * The commands matching a message, looked up in a given trie, null if the message could not be looked up.
+   */
+  private static class Routing {
+
+    private final V4Message message;
+    private final Trie trie;
+    private final ParsedMessage parsedMessage;
+    private final Set<SlashCommand> matching;
+
+    private Routing(V4Message message, Trie trie, ParsedMessage parsedMessage, Set<SlashCommand> matching) {
+      this.message = message;
+      this.trie = trie;
+      this.parsedMessage = parsedMessage;
+      this.matching = matching;
+    }
+  }
+
+  /**
+   * Immutable token trie of the routed commands.
+   */
+  private static class Trie {
+
+    private final Node root = new Node();
+
+    private Trie(List<SlashCommand> commands) {
+      for (SlashCommand command : commands) {
+        Node node = this.root;
+        for (CommandToken token : command.getCommandPattern().getTokens()) {
+          final Optional<String> value = staticValue(token);
+          if (value.isPresent()) {
+            node = node.statics.computeIfAbsent(value.get(), v -> new Node());
+          } else {
+            node = node.wildcards.computeIfAbsent(wildcardKey(token), k -> new Wildcard(token)).node;
+          }
+        }
+        node.commands.add(command);
+      }
+    }
+
+    private Set<SlashCommand> match(ParsedMessage message) {
+      // commands equality being based on their pattern, the matching instances are told apart by identity
+      final Set<SlashCommand> matching = Collections.newSetFromMap(new IdentityHashMap<>());
+      collect(this.root, message, 0, matching);
+      return matching;
+    }
+
+    /**
+     * The message is only tokenized as far as the trie has matching branches.
+     */
+    private static void collect(Node node, ParsedMessage message, int index, Set<SlashCommand> matching) {
+      final Object token = message.getToken(index);
+      if (token == null) {
+        matching.addAll(node.commands);
+        return;
+      }
+
+      if (token instanceof String) {
+        final Node next = node.statics.get(token);
+        if (next != null) {
+          collect(next, message, index + 1, matching);
+        }
+      }
+      for (Wildcard wildcard : node.wildcards.values()) {
+        if (wildcard.token.matches(token)) {
+          collect(wildcard.node, message, index + 1, matching);
+        }
+      }
+    }
+
+    /**
+     * The value of a static token, unless it is actually a regular expression.
+     */
+    private static Optional<String> staticValue(CommandToken token) {
+      if (token.getClass() != StaticCommandToken.class) {
+        return Optional.empty();
+      }
+      final String pattern = ((StaticCommandToken) token).getRegexPattern().pattern();
+      final String value = pattern.substring(1, pattern.length() - 1); // without the ^ and $ anchors
+      if (value.chars().anyMatch(c -> REGEX_SPECIAL_CHARACTERS.indexOf(c) >= 0)) {
+        return Optional.empty();
+      }
+      return Optional.of(value);
+    }
+
+    /**
+     * The key of the wildcards matching the same input tokens, whatever their argument name.
+     */
+    private static Object wildcardKey(CommandToken token) {
+      if (token instanceof MatchingUserIdMentionToken) {
+        // the commands of a registry all require the mention of the same bot
+        return MatchingUserIdMentionToken.class;
+      }
+      if (token instanceof TypedArgumentToken) {
+        return token.getTokenType();
+      }
+      if (token instanceof RegexCommandToken) {
+        return ((RegexCommandToken) token).getRegexPattern().pattern();
+      }
+      return token;
+    }
+  }
+
+  private static class Node {
+
+    private final Map<String, Node> statics = new HashMap<>();
+    private final Map<Object, Wildcard> wildcards = new LinkedHashMap<>();
+    private final List<SlashCommand> commands = new ArrayList<>();
+  }
+
+  private static class Wildcard {
+
+    private final CommandToken token;
+    private final Node node = new Node();
+
+    private Wildcard(CommandToken token) {
+      this.token = token;
+    }
+  }
+}
@@ -3,36 +3,43 @@ package com.symphony.bdk.core.activity.parsing;
 import static org.apache.commons.lang3.StringUtils.isBlank;
 
 import com.symphony.bdk.core.service.message.util.EntityTypeEnum;
+import com.symphony.bdk.core.util.PresentationMLScanner;
 import com.symphony.bdk.gen.api.model.V4Message;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.lang3.StringUtils;
 import org.apiguardian.api.API;
 import org.w3c.dom.Document;
 import org.w3c.dom.Node;
+import org.xml.sax.SAXException;
 
-import java.io.ByteArrayInputStream;
-import java.nio.charset.StandardCharsets;
+import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-
 /**
  * Class responsible for parsing a {@link V4Message} into a list of tokens separated by at least one whitespace character.
  * Tokens can be of type {@link String}, {@link Mention}, {@link Cashtag} or {@link Hashtag} depending on the message content.
+ * <p>
+ * The PresentationML content is scanned in a single pass by a {@link PresentationMLScanner}, without building a DOM,
+ * the tokens being emitted as the text and entities are read. A tokenizer holding its own state only, messages can be
+ * tokenized concurrently. The message data is only parsed when an entity is found. The message is only parsed into a
+ * DOM when the scanner cannot validate it, so that the same tokens and errors are returned.
+ * <p>
+ * A tokenizer created with {@link #lazy(V4Message)} only reads the message as far as needed to return the requested
+ * tokens, see {@link #getToken(int)}: a message not matching a pattern can be rejected on its first tokens. Such a
+ * message is only rejected as malformed once the malformed part is read.
  */
 @API(status = API.Status.INTERNAL)
 @Slf4j
 public class InputTokenizer {
 
-  private static final DocumentBuilder DOCUMENT_BUILDER = initBuilder();
   private static final ObjectMapper MAPPER = new ObjectMapper();
 
   private static final String DATA_ENTITY_ID = "data-entity-id";
@@ -47,33 +54,62 @@ public class InputTokenizer {
   private static final String CASHTAG_VALUE_TYPE = "org.symphonyoss.fin.security.id.ticker";
   private static final String HASHTAG_VALUE_TYPE = "org.symphonyoss.taxonomy.hashtag";
 
-  @SneakyThrows
-  private static DocumentBuilder initBuilder() {
-    final DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-    // to fix XXE vulnerability
-    factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
-    return factory.newDocumentBuilder();
-  }
+  private static final Set<String> SUPPORTED_ENTITY_TYPES =
+      Stream.of(EntityTypeEnum.MENTION, EntityTypeEnum.CASHTAG, EntityTypeEnum.HASHTAG)
+          .map(EntityTypeEnum::getValue)
+          .collect(Collectors.toSet());
 
-  private Document document;
+  private final Supplier<JsonNode> data;
+  private final List<Object> tokens;
+  private final StringBuilder buffer;
   private JsonNode dataNode;
-  private List<Object> tokens;
-  private StringBuilder buffer;
+
+  private final String input;
+  private final PresentationMLScanner scanner;
+  private boolean fullyRead;
+  private Exception failure;
+
+  // entity being read
+  private int entityDepth = -1;
+  private String entityId;
+  private String entityType;
+  private StringBuilder entityText;
 
   /**
    *
    * @param message the message to be parsed
    */
-  @SneakyThrows
   public InputTokenizer(V4Message message) {
-    this.document = DOCUMENT_BUILDER.parse(
-        new ByteArrayInputStream(message.getMessage().getBytes(StandardCharsets.UTF_8)));
-    String jsonData = isBlank(message.getData()) ? "{}" : message.getData();
-    this.dataNode = MAPPER.readTree(jsonData);
+    this(message, () -> readData(message));
+    getTokens();
+  }
+
+  /**
+   * Creates a tokenizer reading the message on demand.
+   *
+   * @param message the message to be parsed
+   * @param data    the parsed data of the message, only called if the message contains an entity
+   */
+  InputTokenizer(V4Message message, Supplier<JsonNode> data) {
+    this.data = data;
     this.tokens = new ArrayList<>();
     this.buffer = new StringBuilder();
+    this.input = message.getMessage();
+    this.scanner = new PresentationMLScanner(this.input, new ScannedContent());
+  }
+
+  /**
+   * @param message the message to be parsed
+   * @return a tokenizer reading the message on demand, as its tokens are requested
+   */
+  static InputTokenizer lazy(V4Message message) {
+    return new InputTokenizer(message, () -> readData(message));
+  }
 
-    tokenize();
+  @SneakyThrows
+  static JsonNode readData(V4Message message) {
+    final String data = message.getData();
+    return MAPPER.readTree(isBlank(data) ? "{}" : data);
   }
 
   /**
@@ -81,97 +117,228 @@ public class InputTokenizer {
    * @return the list of tokens in the message
    */
   public List<Object> getTokens() {
+    getToken(Integer.MAX_VALUE);
     return tokens;
   }
 
-  private void tokenize() {
-    tokenize(document); // begin from the root node
+  /**
+   * Read the message until the token at the given index is found.
+   *
+   * @param index the index of the token
+   * @return the token, null if the message has fewer tokens
+   * @throws SAXException if the message is not a well-formed XML document, up to the read token
+   */
+  @SneakyThrows
+  Object getToken(int index) {
+    if (failure != null) {
+      throw failure;
+    }
+    try {
+      try {
+        while (tokens.size() <= index && !fullyRead) {
+          readNext();
+        }
+      } catch (PresentationMLScanner.NotValidatedException e) {
+        log.debug("Unable to scan the message, parsing it into a DOM: {}", e.getMessage());
+        readDocument();
+      }
+    } catch (Exception e) {
+      failure = e;
+      throw e;
+    }
+    return index < tokens.size() ? tokens.get(index) : null;
+  }
+
+  /**
+   * Tokenize the whole message from its DOM, the tokens read so far being replaced.
+   */
+  private void readDocument() throws SAXException, IOException {
+    final Document document = PresentationMLScanner.parseDocument(input);
+    tokens.clear();
+    buffer.setLength(0);
+    entityText = null;
+    tokenize(document);
     tokenizeRegularContent(); // tokenize what is left in the buffer
+    fullyRead = true;
   }
 
   private void tokenize(Node node) {
-    if (isEntityNode(node)) {
-      final String entityType = getEntityType(node);
-      if (isEntitySupported(entityType)) {
-        tokenizeEntityNode(node, entityType);
-      } else {
-        // entity type is not recognized, falling back to regular text
-        tokenizeRegularNode(node);
+    if (node.getNodeType() == Node.ELEMENT_NODE && SPAN.equals(node.getNodeName())) {
+      final String type = getEntityType(attribute(node, CLASS), attribute(node, DATA_ENTITY_ID));
+      if (type != null) {
+        tokenizeRegularContent(); // tokenize buffer as usual
+        addEntity(attribute(node, DATA_ENTITY_ID), type, node.getTextContent());
+        return;
       }
-    } else {
-      tokenizeRegularNode(node);
+    }
+    // otherwise, the content of the node is read as regular text
+    final String nodeValue = node.getNodeValue();
+    if (nodeValue != null) {
+      buffer.append(nodeValue);
+    }
+    for (Node child = node.getFirstChild(); child != null; child = child.getNextSibling()) {
+      tokenize(child);
     }
   }
 
-  private void tokenizeEntityNode(Node node, String entityType) {
-    tokenizeRegularContent(); // tokenize buffer as usual
-    buffer.delete(0, buffer.length()); // clear the buffer
+  private static String attribute(Node element, String name) {
+    final Node attribute = element.getAttributes().getNamedItem(name);
+    return attribute == null ? null : attribute.getNodeValue();
+  }
 
-    if (entityType.equals(EntityTypeEnum.MENTION.getValue())) {
-      final String userIdAsString = extractEntityValue(node, SYMPHONY_USER_ID_TYPE);
-      final Long userId = userIdAsString == null ? null : Long.parseLong(userIdAsString);
-      tokens.add(new Mention(node.getTextContent(), userId));
-    } else if (entityType.equals(EntityTypeEnum.CASHTAG.getValue())) {
-      tokens.add(new Cashtag(node.getTextContent(), extractEntityValue(node, CASHTAG_VALUE_TYPE)));
-    } else if (entityType.equals(EntityTypeEnum.HASHTAG.getValue())) {
-      tokens.add(new Hashtag(node.getTextContent(), extractEntityValue(node, HASHTAG_VALUE_TYPE)));
+  /**
+   * Scan the next text or markup, the words of the buffer being tokenized as soon as they are complete.
+   */
+  private void readNext() {
+    final int bufferLength = buffer.length();
+    if (!scanner.scanNext()) {
+      tokenizeRegularContent(); // tokenize what is left in the buffer
+      fullyRead = true;
+    } else if (buffer.length() > bufferLength) {
+      tokenizeCompleteWords(bufferLength);
+    }
+  }
+
+  /**
+   * @return the type of the entity a span element stands for, null if the element is not a supported entity
+   */
+  private String getEntityType(String classValue, String idValue) {
+    if (!ENTITY.equals(classValue) || idValue == null || !getDataNode().has(idValue)) {
+      return null;
     }
+
+    final String type = getDataNode().get(idValue).get(TYPE).asText();
+    return SUPPORTED_ENTITY_TYPES.contains(type) ? type : null;
   }
 
-  private boolean isEntitySupported(String entityType) {
-    return Stream.of(EntityTypeEnum.MENTION, EntityTypeEnum.CASHTAG, EntityTypeEnum.HASHTAG)
-        .map(EntityTypeEnum::getValue)
-        .anyMatch(t -> t.equals(entityType));
+  private void endEntity() {
+    addEntity(entityId, entityType, entityText.toString());
+    entityDepth = -1;
+    entityId = null;
+    entityType = null;
+    entityText = null;
   }
 
-  private String getEntityType(Node node) {
-    String entityId = node.getAttributes().getNamedItem(DATA_ENTITY_ID).getNodeValue();
-    return dataNode.get(entityId).get(TYPE).asText();
+  private void addEntity(String id, String type, String text) {
+    final JsonNode entity = getDataNode().get(id);
+    if (type.equals(EntityTypeEnum.MENTION.getValue())) {
+      final String userIdAsString = extractEntityValue(entity, SYMPHONY_USER_ID_TYPE);
+      final Long userId = userIdAsString == null ? null : Long.parseLong(userIdAsString);
+      tokens.add(new Mention(text, userId));
+    } else if (type.equals(EntityTypeEnum.CASHTAG.getValue())) {
+      tokens.add(new Cashtag(text, extractEntityValue(entity, CASHTAG_VALUE_TYPE)));
+    } else if (type.equals(EntityTypeEnum.HASHTAG.getValue())) {
+      tokens.add(new Hashtag(text, extractEntityValue(entity, HASHTAG_VALUE_TYPE)));
+    }
   }
 
-  private boolean isEntityNode(Node node) {
-    if (!StringUtils.equals(node.getNodeName(), SPAN)) {
-      return false;
+  private static String extractEntityValue(JsonNode entity, String type) {
+    for (JsonNode id : entity.get(ID)) {
+      if (id.get(TYPE).asText().equals(type)) {
+        return id.get(VALUE).asText();
+      }
     }
+    return null;
+  }
 
-    final Node classAttribute = node.getAttributes().getNamedItem(CLASS);
-    if (classAttribute == null || !StringUtils.equals(classAttribute.getNodeValue(), ENTITY)) {
-      return false;
+  private JsonNode getDataNode() {
+    if (dataNode == null) {
+      dataNode = data.get();
     }
+    return dataNode;
+  }
 
-    final Node entityIdAttribute = node.getAttributes().getNamedItem(DATA_ENTITY_ID);
-    if (entityIdAttribute == null) {
-      return false;
+  /**
+   * Add the words of the buffer, separated by whitespaces, to the tokens and clear the buffer.
+   */
+  private void tokenizeRegularContent() {
+    addWords(buffer.length());
+    buffer.setLength(0);
+  }
+
+  /**
+   * Add the words of the buffer followed by a whitespace to the tokens, only the last word being kept in the buffer.
+   *
+   * @param from the start of the text appended to the buffer, which has no whitespace before
+   */
+  private void tokenizeCompleteWords(int from) {
+    for (int i = buffer.length() - 1; i >= from; i--) {
+      if (isSeparator(buffer.charAt(i))) {
+        addWords(i);
+        buffer.delete(0, i + 1);
+        return;
+      }
     }
+  }
 
-    String entityId = entityIdAttribute.getNodeValue();
-    return dataNode.has(entityId);
+  private void addWords(int end) {
+    int start = -1;
+    for (int i = 0; i <= end; i++) {
+      if (i == end || isSeparator(buffer.charAt(i))) {
+        if (start >= 0) {
+          addWord(start, i);
+          start = -1;
+        }
+      } else if (start < 0) {
+        start = i;
+      }
+    }
   }
 
-  private String extractEntityValue(Node node, String type) {
-    String entityId = node.getAttributes().getNamedItem(DATA_ENTITY_ID).getNodeValue();
-    for (JsonNode id : dataNode.get(entityId).get(ID)) {
-      if (id.get(TYPE).asText().equals(type)) {
-        return id.get(VALUE).asText();
+  private void addWord(int start, int end) {
+    for (int i = start; i < end; i++) {
+      // words made of other whitespaces only, e.g. an em space, are ignored
+      if (!Character.isWhitespace(buffer.charAt(i))) {
+        tokens.add(buffer.substring(start, end));
+        return;
       }
     }
-    return null;
   }
 
-  private void tokenizeRegularContent() {
-    Arrays.stream(buffer.toString().trim().split("\\s+"))
-        .filter(StringUtils::isNotBlank)
-        .forEachOrdered(t -> tokens.add(t));
+  /**
+   * @return true for the characters of the {@code \s} regular expression class
+   */
+  private static boolean isSeparator(char c) {
+    return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
   }
 
-  private void tokenizeRegularNode(Node node) {
-    final String nodeValue = node.getNodeValue();
-    if (nodeValue != null) {
-      buffer.append(nodeValue);
+  /**
+   * Receives the content of the message from the scanner, the entities being read from their span element.
+   */
+  private class ScannedContent implements PresentationMLScanner.Handler {
+
+    @Override
+    public void onText(CharSequence text) {
+      (entityText != null ? entityText : buffer).append(text);
+    }
+
+    @Override
+    public void onComment(CharSequence text) {
+      if (entityText == null) {
+        // comments are part of the regular text, but not of the text of entities
+        buffer.append(text);
+      }
     }
 
-    for (int i = 0; i < node.getChildNodes().getLength(); i++) {
-      tokenize(node.getChildNodes().item(i));
+    @Override
+    public void onStartElement(PresentationMLScanner scanner) {
+      final String type = entityText == null && scanner.isElement(SPAN)
+          ? getEntityType(scanner.getAttribute(CLASS), scanner.getAttribute(DATA_ENTITY_ID)) : null;
+      if (type != null) {
+        tokenizeRegularContent(); // tokenize buffer as usual
+        entityId = scanner.getAttribute(DATA_ENTITY_ID);
+        entityType = type;
+        entityText = new StringBuilder();
+        entityDepth = scanner.getDepth();
+      }
+      // otherwise, the content of the element is read as regular text
+    }
+
+    @Override
+    public void onEndElement(PresentationMLScanner scanner) {
+      if (scanner.getDepth() == entityDepth) {
+        endEntity();
+      }
     }
   }
 }
@@ -0,0 +1,94 @@
+package com.symphony.bdk.core.activity.parsing;
+
+import com.symphony.bdk.core.service.message.exception.PresentationMLParserException;
+import com.symphony.bdk.core.service.message.util.PresentationMLParser;
+import com.symphony.bdk.gen.api.model.V4Message;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.apiguardian.api.API;
+
+import java.util.Collections;
+import java.util.List;
+
+import javax.annotation.Nonnull;
+
+/**
+ * The parsed content of a {@link V4Message}: its text content, its tokens and its entities. Each of them is computed
+ * on first access only.
+ * <p>
+ * An instance is created once per event by the {@link com.symphony.bdk.core.activity.command.SlashCommandRouter} and
+ * passed to the commands it dispatches the event to, so that a message is parsed once, however many commands try to
+ * match it.
+ */
+@API(status = API.Status.INTERNAL)
+public class ParsedMessage {
+
+  private final V4Message message;
+
+  private String textContent;
+  private JsonNode entities;
+  private InputTokenizer tokenizer;
+  private List<Object> tokens;
+
+  /**
+   * @param message the message to be parsed
+   */
+  public ParsedMessage(@Nonnull V4Message message) {
+    this.message = message;
+  }
+
+  /**
+   * @return the parsed message
+   */
+  public V4Message getMessage() {
+    return this.message;
+  }
+
+  /**
+   * @return the text content of the PresentationML message, see {@link PresentationMLParser#getTextContent(String)}
+   * @throws PresentationMLParserException if the message is not valid PresentationML
+   */
+  public synchronized String getTextContent() throws PresentationMLParserException {
+    if (this.textContent == null) {
+      this.textContent = PresentationMLParser.getTextContent(this.message.getMessage());
+    }
+    return this.textContent;
+  }
+
+  /**
+   * @return the entities of the message, read from its JSON data as the {@link InputTokenizer} does
+   */
+  public synchronized JsonNode getEntities() {
+    if (this.entities == null) {
+      this.entities = InputTokenizer.readData(this.message);
+    }
+    return this.entities;
+  }
+
+  /**
+   * @return the tokens of the message, see {@link InputTokenizer#getTokens()}
+   */
+  public synchronized List<Object> getTokens() {
+    if (this.tokens == null) {
+      this.tokens = Collections.unmodifiableList(this.getTokenizer().getTokens());
+    }
+    return this.tokens;
+  }
+
+  /**
+   * Only the beginning of the message is tokenized, up to the requested token.
+   *
+   * @param index the index of the token
+   * @return the token at the given index of {@link #getTokens()}, null if the message has fewer tokens
+   */
+  public synchronized Object getToken(int index) {
+    return this.getTokenizer().getToken(index);
+  }
+
+  private InputTokenizer getTokenizer() {
+    if (this.tokenizer == null) {
+      this.tokenizer = new InputTokenizer(this.message, this::getEntities);
+    }
+    return this.tokenizer;
+  }
+}
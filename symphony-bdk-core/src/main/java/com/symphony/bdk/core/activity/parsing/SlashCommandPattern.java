@@ -14,6 +14,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.IntFunction;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 import java.util.stream.Collectors;
@@ -36,6 +37,8 @@ public class SlashCommandPattern {
   private static final Pattern TYPED_ARGUMENT_PATTERN = Pattern.compile("^\\{[@$#][a-zA-Z_$][a-zA-Z_$0-9]*\\}$");
   private static final Pattern STRING_ARGUMENT_PATTERN = Pattern.compile("^\\{[a-zA-Z_$][a-zA-Z_$0-9]*\\}$");
 
+  private static final MatchResult NO_MATCH = new MatchResult(false);
+
   private final List<CommandToken> tokens;
 
   /**
@@ -79,37 +82,42 @@ public class SlashCommandPattern {
   }
 
   /**
+   * The message is tokenized up to the first token not matching the pattern only.
+   *
    * @param message the input message to be matched against the {@link SlashCommandPattern}
    * @return the {@link MatchResult} object containing the status (matches or not) and the potential arguments.
    */
   public MatchResult getMatchResult(V4Message message) {
-    final List<Object> inputTokens = new InputTokenizer(message).getTokens();
-
-    if (!matches(inputTokens)) {
-      return new MatchResult(false);
-    }
-    return new MatchResult(true, getArguments(inputTokens));
+    return getMatchResult(InputTokenizer.lazy(message)::getToken);
   }
 
-  private boolean matches(List<Object> inputTokens) {
-    if (tokens.isEmpty()) {
-      return inputTokens.isEmpty();
-    }
-
-    if (inputTokens.size() != tokens.size()) {
-      return false;
-    }
-
-    return matchesEveryToken(inputTokens);
+  /**
+   * The message is tokenized up to the first token not matching the pattern only, if not already done.
+   *
+   * @param message the already parsed input message to be matched against the {@link SlashCommandPattern}
+   * @return the {@link MatchResult} object containing the status (matches or not) and the potential arguments.
+   */
+  public MatchResult getMatchResult(ParsedMessage message) {
+    return getMatchResult(message::getToken);
   }
 
-  private boolean matchesEveryToken(List<Object> inputTokens) {
+  /**
+   * Compare the input tokens one by one, stopping at the first mismatch or extra token. The arguments are only
+   * collected once the whole message is known to match.
+   */
+  private MatchResult getMatchResult(IntFunction<Object> inputTokens) {
+    final Object[] matchedTokens = new Object[tokens.size()];
     for (int i = 0; i < tokens.size(); i++) {
-      if (!tokens.get(i).matches(inputTokens.get(i))) {
-        return false;
+      final Object inputToken = inputTokens.apply(i);
+      if (inputToken == null || !tokens.get(i).matches(inputToken)) {
+        return NO_MATCH;
       }
+      matchedTokens[i] = inputToken;
+    }
+    if (inputTokens.apply(tokens.size()) != null) {
+      return NO_MATCH;
     }
-    return true;
+    return new MatchResult(true, getArguments(matchedTokens));
   }
 
   private List<CommandToken> buildTokens(String pattern) {
@@ -141,13 +149,13 @@ public class SlashCommandPattern {
     return new StaticCommandToken(token);
   }
 
-  private Map<String, Object> getArguments(List<Object> inputTokens) {
+  private Map<String, Object> getArguments(Object[] inputTokens) {
     // we assume inputTokens are matching
     Map<String, Object> arguments = new HashMap<>();
 
     for (int i = 0; i < tokens.size(); i++) {
       if (tokens.get(i) instanceof ArgumentCommandToken) {
-        arguments.put(((ArgumentCommandToken) tokens.get(i)).getArgumentName(), inputTokens.get(i));
+        arguments.put(((ArgumentCommandToken) tokens.get(i)).getArgumentName(), inputTokens[i]);
       }
     }
     return arguments;
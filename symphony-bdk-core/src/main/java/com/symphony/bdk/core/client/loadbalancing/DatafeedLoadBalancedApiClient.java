@@ -5,6 +5,7 @@ import com.symphony.bdk.core.config.model.BdkConfig;
 import com.symphony.bdk.http.api.ApiException;
 import com.symphony.bdk.http.api.ApiResponse;
 import com.symphony.bdk.http.api.Pair;
+import com.symphony.bdk.http.api.ResponseBodyReader;
 import com.symphony.bdk.http.api.util.TypeReference;
 
 import org.apiguardian.api.API;
@@ -34,4 +35,16 @@ public class DatafeedLoadBalancedApiClient extends LoadBalancedApiClient {
     return apiClient.invokeAPI(path, method, queryParams, body, headerParams, cookieParams, formParams, accept,
         contentType, authNames, returnType);
   }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <T> ApiResponse<T> invokeStreamingAPI(String path, String method, List<Pair> queryParams, Object body,
+      Map<String, String> headerParams, Map<String, String> cookieParams, Map<String, Object> formParams, String accept,
+      String contentType, String[] authNames, ResponseBodyReader<T> bodyReader) throws ApiException {
+
+    return apiClient.invokeStreamingAPI(path, method, queryParams, body, headerParams, cookieParams, formParams, accept,
+        contentType, authNames, bodyReader);
+  }
 }
@@ -5,6 +5,8 @@ import com.symphony.bdk.core.client.exception.ApiClientInitializationException;
 import com.symphony.bdk.core.config.model.BdkConfig;
 import com.symphony.bdk.core.config.model.BdkLoadBalancingConfig;
 import com.symphony.bdk.http.api.ApiClient;
+import com.symphony.bdk.http.api.ApiException;
+import com.symphony.bdk.http.api.CancellableCall;
 import com.symphony.bdk.http.api.Pair;
 
 import com.symphony.bdk.http.api.auth.Authentication;
@@ -70,6 +72,22 @@ public abstract class LoadBalancedApiClient implements ApiClient {
     setBasePath(loadBalancingStrategy.getNewBasePath());
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <T> T invokeCancellable(CancellableCall<T> call) throws ApiException {
+    return this.apiClient.invokeCancellable(call);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void cancelPendingRequests() {
+    this.apiClient.cancelPendingRequests();
+  }
+
   /**
    * {@inheritDoc}
    */
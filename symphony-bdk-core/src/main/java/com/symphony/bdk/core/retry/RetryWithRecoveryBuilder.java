@@ -14,6 +14,7 @@ import java.net.SocketTimeoutException;
 import java.net.UnknownHostException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import javax.annotation.Nonnull;
@@ -33,6 +34,7 @@ public class RetryWithRecoveryBuilder<T> {
   private Predicate<Throwable> retryOnExceptionPredicate;
   private Predicate<Exception> ignoreException;
   private List<RecoveryStrategy> recoveryStrategies;
+  private Consumer<Throwable> retryListener;
 
   /**
    * Default constructor which ignores no exception
@@ -43,6 +45,7 @@ public class RetryWithRecoveryBuilder<T> {
     this.ignoreException = e -> false;
     this.retryOnExceptionPredicate = RetryWithRecoveryBuilder::isNetworkIssueOrMinorError;
     this.retryConfig = new BdkRetryConfig();
+    this.retryListener = t -> {};
   }
 
   /**
@@ -65,6 +68,7 @@ public class RetryWithRecoveryBuilder<T> {
     copy.retryConfig = from.retryConfig;
     copy.retryOnExceptionPredicate = from.retryOnExceptionPredicate;
     copy.ignoreException = from.ignoreException;
+    copy.retryListener = from.retryListener;
     return copy;
   }
 
@@ -215,6 +219,17 @@ public class RetryWithRecoveryBuilder<T> {
     return this;
   }
 
+  /**
+   * Sets the function notified each time the call to the provided {@link #supplier} is about to be retried.
+   *
+   * @param retryListener the function called with the exception that led to the retry.
+   * @return the modified builder instance.
+   */
+  public RetryWithRecoveryBuilder<T> onRetry(Consumer<Throwable> retryListener) {
+    this.retryListener = retryListener;
+    return this;
+  }
+
   /**
    * Removes all the recovery strategies from the builder instance.
    *
@@ -238,7 +253,8 @@ public class RetryWithRecoveryBuilder<T> {
         this.supplier,
         this.retryOnExceptionPredicate,
         this.ignoreException,
-        this.recoveryStrategies
+        this.recoveryStrategies,
+        this.retryListener
     );
   }
 }
@@ -13,6 +13,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.apiguardian.api.API;
 
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 /**
@@ -54,8 +55,27 @@ public class Resilience4jRetryWithRecovery<T> extends RetryWithRecovery<T> {
    */
   public Resilience4jRetryWithRecovery(String name, String address, BdkRetryConfig bdkRetryConfig, SupplierWithApiException<T> supplier,
       Predicate<Throwable> retryOnExceptionPredicate, Predicate<Exception> ignoreException, List<RecoveryStrategy> recoveryStrategies) {
+    this(name, address, bdkRetryConfig, supplier, retryOnExceptionPredicate, ignoreException, recoveryStrategies,
+        t -> {});
+  }
+
+  /**
+   * Constructor with a predicate on when to ignore an {@link ApiException} and a listener notified on each retry.
+   * @param name the name of the {@link Retry} service.
+   * @param bdkRetryConfig the retry configuration to be used.
+   * @param supplier the supplier responsible to provide the object of param type T and which may throw an {@link ApiException}.
+   * @param retryOnExceptionPredicate predicate on a thrown {@link ApiException} to know if call should be retried.
+   * @param ignoreException predicate on a thrown {@link Exception} to know if exception should be ignored,
+   *                           which means no subsequent retry will be made and null value will be returned.
+   * @param recoveryStrategies mapping between {@link Predicate<ApiException>} and the corresponding recovery functions to be executed before retrying.
+   *                           If several predicates match, all corresponding consumers will be executed.
+   * @param retryListener function called with the exception that led to the retry, before waiting for the next attempt.
+   */
+  public Resilience4jRetryWithRecovery(String name, String address, BdkRetryConfig bdkRetryConfig, SupplierWithApiException<T> supplier,
+      Predicate<Throwable> retryOnExceptionPredicate, Predicate<Exception> ignoreException, List<RecoveryStrategy> recoveryStrategies,
+      Consumer<Throwable> retryListener) {
     super(supplier, ignoreException, recoveryStrategies, address);
-    this.retry = createRetry(name, bdkRetryConfig, retryOnExceptionPredicate);
+    this.retry = createRetry(name, bdkRetryConfig, retryOnExceptionPredicate, retryListener);
   }
 
   /**
@@ -68,7 +88,8 @@ public class Resilience4jRetryWithRecovery<T> extends RetryWithRecovery<T> {
   private Retry createRetry(
       final String name,
       final BdkRetryConfig bdkRetryConfig,
-      final Predicate<Throwable> retryOnExceptionPredicate
+      final Predicate<Throwable> retryOnExceptionPredicate,
+      final Consumer<Throwable> retryListener
   ) {
 
     final RetryConfig retryConfig = RetryConfig.custom()
@@ -84,6 +105,7 @@ public class Resilience4jRetryWithRecovery<T> extends RetryWithRecovery<T> {
         log.debug("{} service failed due to {}", name, event.getLastThrowable().getMessage());
       }
       log.info("Retry in {}s...", interval);
+      retryListener.accept(event.getLastThrowable());
     });
 
     return retry;
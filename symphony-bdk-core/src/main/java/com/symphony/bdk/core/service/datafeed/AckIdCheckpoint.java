@@ -0,0 +1,21 @@
+package com.symphony.bdk.core.service.datafeed;
+
+import lombok.Value;
+import org.apiguardian.api.API;
+
+/**
+ * Position of a datafeed v2 or datahose loop: the ack ID of the last processed batch, valid for a given feed only.
+ */
+@Value
+@API(status = API.Status.EXPERIMENTAL)
+public class AckIdCheckpoint {
+
+  /**
+   * the ID of the feed the ack ID belongs to, e.g. the datafeed ID, or the tag of the datahose
+   */
+  String feedId;
+  /**
+   * the ack ID of the last processed batch
+   */
+  String ackId;
+}
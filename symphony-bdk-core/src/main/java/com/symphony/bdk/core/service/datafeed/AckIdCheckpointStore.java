@@ -0,0 +1,33 @@
+package com.symphony.bdk.core.service.datafeed;
+
+import org.apiguardian.api.API;
+
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * A storage of the {@link AckIdCheckpoint} of a datafeed v2 or datahose loop, written periodically while the loop is
+ * running and read when it starts, so that a restarted bot resumes reading where it stopped instead of receiving again
+ * the events it already processed.
+ * <p>
+ * By default, the checkpoints are stored on disk (see
+ * {@link com.symphony.bdk.core.config.model.BdkDispatchConfig#getCheckpoint()}).
+ */
+@API(status = API.Status.EXPERIMENTAL)
+public interface AckIdCheckpointStore {
+
+  /**
+   * Persists the checkpoint, replacing the previous one.
+   *
+   * @param checkpoint the checkpoint to be persisted
+   * @throws IOException if the checkpoint could not be persisted
+   */
+  void write(AckIdCheckpoint checkpoint) throws IOException;
+
+  /**
+   * Read the persisted checkpoint.
+   *
+   * @return the persisted checkpoint, empty if none
+   */
+  Optional<AckIdCheckpoint> read();
+}
@@ -0,0 +1,55 @@
+package com.symphony.bdk.core.service.datafeed;
+
+import com.symphony.bdk.gen.api.model.UserV2;
+import com.symphony.bdk.gen.api.model.V4Event;
+
+import org.apiguardian.api.API;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Interface definition for a callback to be invoked once per batch of real-time events received from the datafeed or
+ * the datahose, e.g. to store them in bulk, instead of once per event like a {@link RealTimeEventListener}.
+ *
+ * @see <a href="https://docs.developers.symphony.com/building-bots-on-symphony/datafeed/real-time-events">Real-Time Events</a>
+ */
+@API(status = API.Status.EXPERIMENTAL)
+public interface BatchRealTimeEventListener {
+
+  /**
+   * The types of the events the listener is interested in, e.g. "MESSAGESENT". By default, an empty set, meaning all
+   * the supported event types.
+   *
+   * @return the event types to be received
+   */
+  default Set<String> getEventTypes() {
+    return Collections.emptySet();
+  }
+
+  /**
+   * Check if the event is accepted to be handled, the events that are not accepted are filtered out of the batch.
+   * By default, the events created by the bot itself are not accepted, like for {@link RealTimeEventListener}.
+   *
+   * @param event   Event to be verified.
+   * @param botInfo General bot info object.
+   * @return The event is accepted or not.
+   */
+  default boolean isAcceptingEvent(V4Event event, UserV2 botInfo) {
+    return event.getInitiator() != null && event.getInitiator().getUser() != null
+        && event.getInitiator().getUser().getUserId() != null
+        && !event.getInitiator().getUser().getUserId().equals(botInfo.getId());
+  }
+
+  /**
+   * Called once per read batch with its accepted events of the requested types, in the order they were received. Not
+   * called if no event of the batch is accepted.
+   *
+   * @param events  the accepted events of the batch, not empty
+   * @param botInfo General bot info object.
+   * @throws EventException Throw this exception if this method should fail the current events processing
+   *                        and re-queue the events in datafeed. Other exceptions will be caught silently.
+   */
+  void onEvents(List<V4Event> events, UserV2 botInfo) throws EventException;
+}
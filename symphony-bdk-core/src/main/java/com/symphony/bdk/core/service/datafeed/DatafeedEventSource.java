@@ -0,0 +1,25 @@
+package com.symphony.bdk.core.service.datafeed;
+
+import com.symphony.bdk.gen.api.model.V4Event;
+
+import org.apiguardian.api.API;
+
+import java.util.concurrent.Flow;
+
+/**
+ * A {@link DatafeedLoop} exposing the events it receives as a {@link Flow.Publisher}. The datafeed and datahose loops
+ * provided by the BDK implement it.
+ */
+@API(status = API.Status.EXPERIMENTAL)
+public interface DatafeedEventSource {
+
+  /**
+   * The received events, as a {@link Flow.Publisher} honouring the demand of its subscribers: the loop waits for each
+   * event to be requested by all the subscribers before delivering it, so that the next read is only issued, and the
+   * batch only acknowledged, once all its events have been requested. Events are delivered after the subscribed
+   * {@link RealTimeEventListener}s handled them, and the subscriptions are completed when the loop is stopped.
+   *
+   * @return the publisher of the received events
+   */
+  Flow.Publisher<V4Event> events();
+}
@@ -2,8 +2,15 @@ package com.symphony.bdk.core.service.datafeed;
 
 import com.symphony.bdk.http.api.ApiException;
 import com.symphony.bdk.core.auth.exception.AuthUnauthorizedException;
+import com.symphony.bdk.gen.api.model.V4Event;
 
 import org.apiguardian.api.API;
+import org.slf4j.LoggerFactory;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Map;
+import java.util.function.Function;
 
 /**
  * Interface definition for a loop service to be used for handling the datafeed API.
@@ -38,6 +45,92 @@ public interface DatafeedLoop {
      */
     void unsubscribe(RealTimeEventListener listener);
 
+  /**
+   * The bot subscribes to a {@link BatchRealTimeEventListener}, receiving each read batch of events in a single call.
+   * The loops not supporting batch listeners ignore it, a warning being logged.
+   *
+   * @param listener a Datafeed batch event listener to be subscribed
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  default void subscribe(BatchRealTimeEventListener listener) {
+    LoggerFactory.getLogger(DatafeedLoop.class)
+        .warn("Batch listener {} ignored, not supported by {}", listener, this.getClass().getName());
+  }
+
+  /**
+   * The bot unsubscribes to a {@link BatchRealTimeEventListener}
+   *
+   * @param listener a Datafeed batch event listener to be unsubscribed
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  default void unsubscribe(BatchRealTimeEventListener listener) {
+    // batch listeners are not subscribed by default
+  }
+
+  /**
+   * Set the function computing the partition key of the received events, used when events are dispatched in parallel
+   * (see {@link com.symphony.bdk.core.config.model.BdkDispatchConfig#getParallelism()}). Events sharing the same key
+   * are dispatched sequentially, in the order they were received. Events with a null key are spread across workers.
+   * By default, the key is the ID of the stream the event occurred in. Ignored by the loops not dispatching events in
+   * parallel.
+   *
+   * @param partitionKey the function returning the partition key of an event
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  default void setEventPartitionKey(Function<V4Event, String> partitionKey) {
+    // events are dispatched sequentially by default
+  }
+
+  /**
+   * Set the metrics the loop reports its measurements to: reads, dispatch of the events to the listeners, event lag,
+   * re-queued batches and retries. Nothing is reported by default, nor by the loops not supporting metrics.
+   *
+   * @param metrics the metrics implementation
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  default void setMetrics(DatafeedMetrics metrics) {
+    // no metrics are reported by default
+  }
+
+  /**
+   * Set the handler of the events a listener still failed to handle once the local retries are exhausted
+   * (see {@link com.symphony.bdk.core.config.model.BdkDispatchConfig#getEventRetry()}). By default, they are logged.
+   * Ignored by the loops not retrying events locally.
+   *
+   * @param deadLetterHandler the dead letter handler
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  default void setDeadLetterHandler(DeadLetterHandler deadLetterHandler) {
+    // events are not retried locally by default
+  }
+
+  /**
+   * Set the store of the ack ID checkpoints, written periodically while the loop is running and read on start so that
+   * the loop resumes where it stopped (datafeed v2 and datahose only). Setting a store enables the checkpoints, which
+   * are otherwise stored on disk if enabled in the configuration
+   * (see {@link com.symphony.bdk.core.config.model.BdkDispatchConfig#getCheckpoint()}). Ignored by the other loops.
+   *
+   * @param checkpointStore the checkpoint store
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  default void setCheckpointStore(AckIdCheckpointStore checkpointStore) {
+    // no checkpoints by default
+  }
+
+  /**
+   * The listeners currently quarantined for exceeding their time budget
+   * (see {@link com.symphony.bdk.core.config.model.BdkDispatchConfig#getListenerBudget()}), their events being handled
+   * on their own thread. None by default.
+   *
+   * @return the labels of the quarantined listeners, with the time they were quarantined at. A listener is labelled
+   *     with its class name, followed by its rank if several instances of this class are subscribed, e.g.
+   *     {@code com.acme.Listener#2}
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  default Map<String, Instant> quarantinedListeners() {
+    return Collections.emptyMap();
+  }
+
   /**
    * The timestamp of the last successful pulling
    *
@@ -0,0 +1,85 @@
+package com.symphony.bdk.core.service.datafeed;
+
+import org.apiguardian.api.API;
+
+import java.time.Duration;
+
+/**
+ * Instrumentation of the datafeed and datahose loops, and of the activities they feed.
+ * <p>
+ * Implementations are called from the loop and activity threads, on the hot path of the event processing: they must be
+ * thread-safe and should not block. All methods do nothing by default, so that an implementation only overrides the
+ * measurements it is interested in.
+ *
+ * @see com.symphony.bdk.core.service.datafeed.metrics.InMemoryDatafeedMetrics
+ */
+@API(status = API.Status.EXPERIMENTAL)
+public interface DatafeedMetrics {
+
+  /**
+   * Default implementation, recording nothing.
+   */
+  DatafeedMetrics NO_OP = new DatafeedMetrics() {};
+
+  /**
+   * Called after each successful read of the datafeed.
+   *
+   * @param loop      the name of the loop
+   * @param roundTrip the duration of the read call
+   * @param batchSize the number of events received
+   */
+  default void recordRead(String loop, Duration roundTrip, int batchSize) {
+    // nothing is recorded by default
+  }
+
+  /**
+   * Called after an event has been dispatched to a listener.
+   *
+   * @param eventType the type of the event, see {@link com.symphony.bdk.gen.api.model.V4Event#getType()}
+   * @param listener  the label of the listener: its class name, followed by its rank if several instances of this
+   *                  class are subscribed, e.g. {@code com.acme.Listener#2}
+   * @param duration  the time spent by the listener handling the event
+   */
+  default void recordDispatch(String eventType, String listener, Duration duration) {
+    // nothing is recorded by default
+  }
+
+  /**
+   * Called when an event is about to be dispatched.
+   *
+   * @param eventType the type of the event, see {@link com.symphony.bdk.gen.api.model.V4Event#getType()}
+   * @param lag       the elapsed time since the event occurred, i.e. now minus the event timestamp
+   */
+  default void recordLag(String eventType, Duration lag) {
+    // nothing is recorded by default
+  }
+
+  /**
+   * Called when a batch of events could not be fully processed and will be re-queued by the datafeed.
+   *
+   * @param loop      the name of the loop
+   * @param batchSize the number of events of the re-queued batch
+   */
+  default void recordRequeue(String loop, int batchSize) {
+    // nothing is recorded by default
+  }
+
+  /**
+   * Called when a failed read of the datafeed is about to be retried.
+   *
+   * @param loop the name of the loop
+   */
+  default void recordRetry(String loop) {
+    // nothing is recorded by default
+  }
+
+  /**
+   * Called after an activity has been executed.
+   *
+   * @param activity the name of the activity
+   * @param duration the time spent executing the activity
+   */
+  default void recordActivity(String activity, Duration duration) {
+    // nothing is recorded by default
+  }
+}
@@ -5,6 +5,9 @@ import com.symphony.bdk.http.api.ApiException;
 
 import org.apiguardian.api.API;
 
+import java.util.Collections;
+import java.util.Map;
+
 /**
  * Interface definition for a loop service to be used for handling the datahose API.
  */
@@ -33,4 +36,15 @@ public interface DatahoseLoop extends DatafeedLoop {
    * {@inheritDoc}
    */
   void unsubscribe(RealTimeEventListener listener);
+
+  /**
+   * The timestamp of the last successful read of each reader, when several readers are configured
+   * (see {@link com.symphony.bdk.core.config.model.BdkDatahoseConfig#getReaders()}).
+   *
+   * @return the last pull timestamps, per reader name
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  default Map<String, Long> lastPullTimestamps() {
+    return Collections.singletonMap("reader-0", this.lastPullTimestamp());
+  }
 }
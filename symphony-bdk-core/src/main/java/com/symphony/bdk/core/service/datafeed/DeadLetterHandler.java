@@ -0,0 +1,27 @@
+package com.symphony.bdk.core.service.datafeed;
+
+import com.symphony.bdk.gen.api.model.V4Event;
+
+import org.apiguardian.api.API;
+
+/**
+ * Receives the events a listener still failed to handle once all the local retries are exhausted
+ * (see {@link com.symphony.bdk.core.config.model.BdkDispatchConfig#getEventRetry()}), e.g. to store them for a later
+ * manual processing, or the events dropped because too many events were waiting for a quarantined listener
+ * (see {@link com.symphony.bdk.core.config.model.BdkDispatchConfig#getListenerBudget()}), or the journaled events a
+ * listener still failed to handle once re-delivered (see
+ * {@link com.symphony.bdk.core.config.model.BdkJournalConfig#getMaxRedeliveries()}).
+ */
+@FunctionalInterface
+@API(status = API.Status.EXPERIMENTAL)
+public interface DeadLetterHandler {
+
+  /**
+   * Called on the retry, the quarantine or the journal thread, once per failed (event, listener) pair.
+   *
+   * @param event    the event that could not be handled
+   * @param listener the listener that failed to handle it
+   * @param cause    the exception raised by the listener on the last attempt
+   */
+  void onDeadLetter(V4Event event, RealTimeEventListener listener, EventException cause);
+}
@@ -1,12 +1,23 @@
 package com.symphony.bdk.core.service.datafeed.impl;
 
 import com.symphony.bdk.core.auth.AuthSession;
+import com.symphony.bdk.core.auth.exception.AuthUnauthorizedException;
+import com.symphony.bdk.core.config.model.BdkCheckpointConfig;
 import com.symphony.bdk.core.config.model.BdkConfig;
+import com.symphony.bdk.core.config.model.BdkDispatchConfig;
+import com.symphony.bdk.core.config.model.BdkJournalConfig;
+import com.symphony.bdk.core.service.datafeed.AckIdCheckpoint;
+import com.symphony.bdk.core.service.datafeed.AckIdCheckpointStore;
 import com.symphony.bdk.gen.api.DatafeedApi;
 import com.symphony.bdk.gen.api.model.UserV2;
+import com.symphony.bdk.gen.api.model.V4Event;
 import com.symphony.bdk.gen.api.model.V5EventList;
+import com.symphony.bdk.http.api.ApiClient;
 import com.symphony.bdk.http.api.ApiException;
+import com.symphony.bdk.http.api.ResponseBodyReader;
+import com.symphony.bdk.http.api.tracing.MDCUtils;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.AccessLevel;
 import lombok.Generated;
 import lombok.Getter;
@@ -14,7 +25,28 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.time.StopWatch;
 import org.apiguardian.api.API;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.Nullable;
 
 @API(status = API.Status.INTERNAL)
 @Slf4j
@@ -30,34 +62,581 @@ public abstract class AbstractAckIdEventLoop extends AbstractDatafeedLoop {
    */
   private static final int EVENT_PROCESSING_MAX_DURATION_SECONDS = 30;
 
+  /**
+   * Number of reads in flight when the pipelined mode is enabled.
+   */
+  private static final int PIPELINE_DEPTH = 2;
+
+  private static final String READER_PREFIX = "reader-";
+
+  /**
+   * How long the journal consumer waits for events before checking whether the loop is stopped.
+   */
+  private static final long JOURNAL_POLL_TIMEOUT_MILLIS = 500L;
+
+  /**
+   * Ack ID of the last successfully processed batch
+   */
   @Getter(AccessLevel.PROTECTED)
-  protected String ackId;
+  protected volatile String ackId;
+
+  // only set while the loop is running with several readers, i.e. in pipelined or multi-reader mode
+  private volatile ReadChain[] readChains;
+  private ExecutorService reader;
+  // order in which the reads of the chains complete, the batches being processed in that order
+  private final AtomicLong readSequence = new AtomicLong();
+  private long processedSequence;
+  // set on start to the mapper of the API client, if the events are decoded and dispatched while the read response is
+  // received
+  private ObjectMapper streamingMapper;
+  // only set while the loop is running with the journal enabled
+  private volatile EventJournal journal;
+  private Thread journalConsumer;
+  private volatile boolean consumingJournal;
+  // set by the application, replacing the on-disk checkpoints
+  private volatile AckIdCheckpointStore checkpointStore;
+  // only set while the loop is running with the checkpoints enabled
+  private AckIdCheckpointStore activeCheckpointStore;
+  private long checkpointIntervalMillis;
+  private long lastCheckpointMillis;
+  private String checkpointedAckId;
 
   public AbstractAckIdEventLoop(DatafeedApi datafeedApi, AuthSession authSession, BdkConfig config, UserV2 botInfo) {
     super(datafeedApi, authSession, config, botInfo);
     this.ackId = INITIAL_ACK_ID;
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void start() throws AuthUnauthorizedException, ApiException {
+    final int readerCount = this.getReaderCount();
+    if (!this.started.get() && readerCount > 1) {
+      log.info("Events will be read by {} concurrent readers", readerCount);
+      final ReadChain[] chains = new ReadChain[readerCount];
+      for (int i = 0; i < readerCount; i++) {
+        chains[i] = new ReadChain(READER_PREFIX + i);
+      }
+      final AtomicInteger readerIndex = new AtomicInteger();
+      this.reader = Executors.newFixedThreadPool(readerCount, runnable -> {
+        final Thread thread =
+            new Thread(runnable, this.getClass().getSimpleName() + "-Read-" + readerIndex.getAndIncrement());
+        thread.setDaemon(true);
+        return thread;
+      });
+      this.readChains = chains;
+    }
+    if (!this.started.get()) {
+      this.streamingMapper = this.streamingMapperOf(readerCount);
+      this.activeCheckpointStore = this.checkpointStoreOf(readerCount);
+    }
+
+    super.start();
+  }
+
+  /**
+   * Number of reads kept in flight: {@link #PIPELINE_DEPTH} in pipelined mode, 1 otherwise.
+   *
+   * @return the number of concurrent readers
+   */
+  protected int getReaderCount() {
+    final BdkDispatchConfig dispatchConfig = this.getDispatchConfig();
+    return dispatchConfig != null && dispatchConfig.isPipelined() ? PIPELINE_DEPTH : 1;
+  }
+
+  @Nullable
+  private ObjectMapper streamingMapperOf(int readerCount) {
+    final BdkDispatchConfig dispatchConfig = this.getDispatchConfig();
+    if (dispatchConfig == null || !dispatchConfig.isStreaming()) {
+      return null;
+    }
+    if (dispatchConfig.getJournal().isEnabled()) {
+      log.warn("Streaming reads are not supported with the event journal, events will be read as a whole");
+      return null;
+    }
+    if (readerCount > 1 || dispatchConfig.isParallel()) {
+      log.warn("Streaming reads require a single reader and a sequential dispatch, events will be read as a whole");
+      return null;
+    }
+    final Optional<ObjectMapper> mapper = this.getReadApiClient().getJsonMapper(ObjectMapper.class);
+    if (!mapper.isPresent()) {
+      log.warn("Streaming reads are not supported by the HTTP client, events will be read as a whole");
+      return null;
+    }
+    log.info("Events will be dispatched while the read responses are received");
+    return mapper.get();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setCheckpointStore(AckIdCheckpointStore checkpointStore) {
+    this.checkpointStore = Objects.requireNonNull(checkpointStore);
+  }
+
+  @Nullable
+  private AckIdCheckpointStore checkpointStoreOf(int readerCount) {
+    final BdkDispatchConfig dispatchConfig = this.getDispatchConfig();
+    final BdkCheckpointConfig checkpointConfig = dispatchConfig == null ? null : dispatchConfig.getCheckpoint();
+    final AckIdCheckpointStore store = this.checkpointStore;
+    if (store == null && (checkpointConfig == null || !checkpointConfig.isEnabled())) {
+      return null;
+    }
+    if (readerCount > 1) {
+      log.warn("Ack ID checkpoints require a single reader, the loop will not resume from a checkpoint");
+      return null;
+    }
+    this.checkpointIntervalMillis = checkpointConfig == null
+        ? BdkCheckpointConfig.DEFAULT_INTERVAL_MILLIS : checkpointConfig.getIntervalMillis();
+    this.lastCheckpointMillis = System.currentTimeMillis();
+    this.checkpointedAckId = null;
+    if (store != null) {
+      return store;
+    }
+    return new OnDiskAckIdCheckpointStore(
+        Paths.get(checkpointConfig.getDirectory(), this.getClass().getSimpleName() + ".checkpoint"));
+  }
+
+  /**
+   * The ID of the feed the ack IDs belong to, the loop only resuming from a checkpoint of the same feed.
+   *
+   * @return the feed ID, null if not known yet
+   */
+  @Nullable
+  protected abstract String getFeedId();
+
+  /**
+   * Resume from the checkpointed ack ID if the checkpoints are enabled and if it belongs to the current feed, see
+   * {@link #getFeedId()}. To be called once the feed is known, before the first read.
+   */
+  protected void resumeFromCheckpoint() {
+    final AckIdCheckpointStore store = this.activeCheckpointStore;
+    final String feedId = this.getFeedId();
+    if (store == null || feedId == null || !INITIAL_ACK_ID.equals(this.ackId)) {
+      return;
+    }
+    final Optional<AckIdCheckpoint> checkpoint = store.read();
+    if (checkpoint.isPresent() && feedId.equals(checkpoint.get().getFeedId())) {
+      log.info("Resuming reading events of feed {} from the checkpointed ack ID", feedId);
+      this.ackId = checkpoint.get().getAckId();
+      this.checkpointedAckId = this.ackId;
+    } else if (checkpoint.isPresent()) {
+      log.info("Ignoring the checkpoint of feed {}, events will be read from feed {}",
+          checkpoint.get().getFeedId(), feedId);
+    }
+  }
+
+  /**
+   * Update the ack ID of the last processed batch, checkpointing it if the checkpoint interval elapsed.
+   */
+  private void updateAckId(String ackId) {
+    this.ackId = ackId;
+    this.checkpoint(false);
+  }
+
+  private void checkpoint(boolean force) {
+    final AckIdCheckpointStore store = this.activeCheckpointStore;
+    final String feedId = this.getFeedId();
+    final String currentAckId = this.ackId;
+    if (store == null || feedId == null || currentAckId == null || currentAckId.equals(this.checkpointedAckId)) {
+      return;
+    }
+    final long now = System.currentTimeMillis();
+    if (!force && now - this.lastCheckpointMillis < this.checkpointIntervalMillis) {
+      return;
+    }
+    try {
+      store.write(new AckIdCheckpoint(feedId, currentAckId));
+      this.checkpointedAckId = currentAckId;
+      this.lastCheckpointMillis = now;
+    } catch (Exception e) {
+      log.warn("Failed to checkpoint the ack ID of feed {}", feedId, e);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * If the journal is enabled, it is opened and its events are dispatched by a dedicated consumer thread.
+   */
+  @Override
+  protected void startDispatch() {
+    final BdkDispatchConfig dispatchConfig = this.getDispatchConfig();
+    final BdkJournalConfig journalConfig = dispatchConfig == null ? null : dispatchConfig.getJournal();
+    EventJournal eventJournal = null;
+    if (journalConfig != null && journalConfig.isEnabled()) {
+      final Path directory = Paths.get(journalConfig.getDirectory(), this.getClass().getSimpleName());
+      final ObjectMapper mapper = this.getReadApiClient().getJsonMapper(ObjectMapper.class).orElseThrow(
+          () -> new IllegalStateException("The event journal is not supported by the HTTP client"));
+      try {
+        eventJournal = new EventJournal(directory, journalConfig.getSegmentSize(), mapper);
+      } catch (IOException e) {
+        throw new IllegalStateException("Failed to open the event journal in " + directory, e);
+      }
+    }
+
+    super.startDispatch();
+
+    if (eventJournal != null) {
+      final EventJournal consumedJournal = eventJournal;
+      this.journal = consumedJournal;
+      this.consumingJournal = true;
+      this.journalConsumer = new Thread(MDCUtils.wrap(() -> this.consumeJournal(consumedJournal, journalConfig)),
+          this.getClass().getSimpleName() + "-Journal");
+      this.journalConsumer.setDaemon(true);
+      this.journalConsumer.start();
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The journal consumer is stopped before the journal is closed, so that the checkpoint forced on close includes its
+   * last commit. The journaled events that are not dispatched yet will be dispatched on the next start. The ack ID is
+   * then checkpointed, if enabled, and the reads still in flight are cancelled.
+   */
+  @Override
+  protected void stopDispatch() {
+    if (this.journalConsumer != null) {
+      this.consumingJournal = false;
+      this.journal.wakeUp();
+      try {
+        this.journalConsumer.join(TimeUnit.SECONDS.toMillis(EVENT_PROCESSING_MAX_DURATION_SECONDS));
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      this.journal.close();
+      this.journalConsumer = null;
+      this.journal = null;
+    }
+    super.stopDispatch();
+
+    // the last processed batch is acknowledged by the first read after the restart
+    this.checkpoint(true);
+    this.activeCheckpointStore = null;
+    if (this.reader != null) {
+      // events of the cancelled reads are not acknowledged, they will be re-queued by the datafeed
+      this.cancelReads();
+      this.reader.shutdownNow();
+      this.reader = null;
+      this.readChains = null;
+    }
+  }
+
+  /**
+   * Dispatch the journaled events in the order they were received, the journal being checkpointed after each batch.
+   * A batch for which a listener raised an {@code EventException} is dispatched again after a delay, up to
+   * {@link BdkJournalConfig#getMaxRedeliveries()} times: it is then dispatched for the last time, the events that still
+   * fail being sent to the dead letter handler, or skipped if this last dispatch fails as well.
+   */
+  private void consumeJournal(EventJournal eventJournal, BdkJournalConfig journalConfig) {
+    int redeliveries = 0;
+    while (this.consumingJournal) {
+      EventJournal.Batch batch = null;
+      final boolean lastDelivery = redeliveries >= journalConfig.getMaxRedeliveries();
+      try {
+        batch = eventJournal.poll(journalConfig.getBatchSize(), JOURNAL_POLL_TIMEOUT_MILLIS);
+        if (lastDelivery) {
+          this.dispatchV4EventListOrDeadLetter(batch.getEvents());
+        } else {
+          this.dispatchV4EventList(batch.getEvents());
+        }
+        eventJournal.commit(batch.getNextOffset());
+        redeliveries = 0;
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      } catch (Exception e) {
+        if (lastDelivery && batch != null) {
+          log.error("Skipping {} journaled events that failed to be processed after {} re-deliveries",
+              batch.getEvents().size(), redeliveries, e);
+          eventJournal.commit(batch.getNextOffset());
+          redeliveries = 0;
+          continue;
+        }
+        log.warn("Failed to process journaled events, they will be dispatched again in {} ms",
+            journalConfig.getRedeliveryDelayMillis(), e);
+        this.metrics.recordRequeue(this.getClass().getSimpleName(), batch == null ? 0 : batch.getEvents().size());
+        eventJournal.rewind();
+        redeliveries++;
+        try {
+          Thread.sleep(journalConfig.getRedeliveryDelayMillis());
+        } catch (InterruptedException ie) {
+          Thread.currentThread().interrupt();
+          return;
+        }
+      }
+    }
+  }
+
+  /**
+   * The timestamp of the last successful read of each reader, see {@link #getReaderCount()}. With a single reader, or
+   * when the loop is not running, the only entry is {@link #lastPullTimestamp()}.
+   *
+   * @return the last pull timestamps, per reader name
+   */
+  public Map<String, Long> lastPullTimestamps() {
+    final ReadChain[] chains = this.readChains;
+    if (chains == null) {
+      return Collections.singletonMap(READER_PREFIX + 0, this.lastPullTimestamp());
+    }
+    final Map<String, Long> timestamps = new LinkedHashMap<>();
+    for (ReadChain chain : chains) {
+      timestamps.put(chain.name, chain.lastPullTimestamp);
+    }
+    return timestamps;
+  }
+
   protected Void readAndHandleEvents() throws ApiException {
-    V5EventList v5EventList = readEvents();
+    try {
+      if (this.readChains != null) {
+        return this.readAndHandlePipelinedEvents();
+      }
+      if (this.streamingMapper != null) {
+        return this.readAndHandleStreamedEvents();
+      }
+      return this.readAndHandleSequentialEvents();
+    } catch (RuntimeException e) {
+      if (!this.isStopping()) {
+        throw e;
+      }
+      // the read has been cancelled by stop(), it must not be retried
+      log.debug("Read aborted while stopping the loop", e);
+      return null;
+    }
+  }
+
+  private Void readAndHandleSequentialEvents() throws ApiException {
+    V5EventList v5EventList = this.timedReadEvents(this.ackId);
     try {
 
       StopWatch stopWatch = StopWatch.createStarted();
-      this.handleV4EventList(v5EventList.getEvents());
+      this.handleOrJournalEvents(v5EventList.getEvents());
       stopWatch.stop();
 
       checkProcessingTime(stopWatch);
 
       // updates ack id so that on next call DFv2 knows that events have been processed
-      this.ackId = v5EventList.getAckId();
+      this.updateAckId(v5EventList.getAckId());
     } catch (Exception e) {
       // can happen if developer explicitly raised a RequeueEventException in handleV4EventList
       // we also catch all exceptions just to be extra careful and never break the DF loop
       log.warn("Failed to process events, will not update ack id, events will be re-queued", e);
+      this.recordRequeue(v5EventList);
+    }
+    return null;
+  }
+
+  /**
+   * Pipelined or multi-reader mode: each read chain behaves like a distinct instance of the loop, reading with its own
+   * ack ID. Its next read is sent as soon as its batch is processed, and acknowledges this batch only, while the other
+   * chains' reads are still in flight. The batches are processed one at a time by the loop thread, in the order they
+   * are received, their events being dispatched in parallel if configured.
+   */
+  private Void readAndHandlePipelinedEvents() throws ApiException {
+    final ReadChain chain = this.awaitNextBatch();
+    final CompletedRead completedRead = chain.pendingRead.join();
+    final V5EventList v5EventList = completedRead.v5EventList;
+    chain.pendingRead = null;
+    try {
+
+      StopWatch stopWatch = StopWatch.createStarted();
+      this.handleOrJournalEvents(v5EventList.getEvents());
+      stopWatch.stop();
+
+      checkProcessingTime(stopWatch);
+
+      // ack id of this chain only, so that the batch is acknowledged by its next read
+      chain.ackId = v5EventList.getAckId();
+      // the loop ack id only moves forward, i.e. to the last processed batch in the order the reads completed
+      if (completedRead.sequence > this.processedSequence) {
+        this.processedSequence = completedRead.sequence;
+        this.ackId = chain.ackId;
+      }
+    } catch (Exception e) {
+      log.warn("Failed to process events, will not update ack id, events will be re-queued", e);
+      this.recordRequeue(v5EventList);
+    }
+    return null;
+  }
+
+  /**
+   * Streaming mode: each event is dispatched as soon as it is decoded from the read response, the ack ID being read
+   * last. If a listener requires the events to be re-queued, the rest of the response is discarded and the ack ID is
+   * not updated, so that the whole batch is re-delivered, like in the other modes.
+   */
+  private Void readAndHandleStreamedEvents() throws ApiException {
+    final long readStart = System.nanoTime();
+    final StopWatch stopWatch = StopWatch.createStarted();
+    final int[] handledEvents = {0};
+    // the batch listeners receive the whole batch once fully decoded, before it gets acknowledged
+    final List<V4Event> batch = this.hasBatchListeners() ? new ArrayList<>() : null;
+    this.retryDueEvents();
+    try {
+      final V5EventListStreamReader.Result result = this.streamEvents(this.ackId,
+          new V5EventListStreamReader(this.streamingMapper, event -> {
+            handledEvents[0]++;
+            this.updateLastPullTimestamp();
+            this.handleV4Event(event);
+            if (batch != null) {
+              batch.add(event);
+            } else {
+              this.publishEvent(event);
+            }
+          }));
+      if (batch != null && !batch.isEmpty()) {
+        this.dispatchToBatchListeners(batch);
+        for (V4Event event : batch) {
+          this.publishEvent(event);
+        }
+      }
+      stopWatch.stop();
+      this.updateLastPullTimestamp();
+      this.metrics.recordRead(this.getClass().getSimpleName(), Duration.ofNanos(System.nanoTime() - readStart),
+          result == null ? 0 : result.getEventCount());
+
+      checkProcessingTime(stopWatch);
+
+      if (result != null) {
+        // updates ack id so that on next call DFv2 knows that events have been processed
+        this.updateAckId(result.getAckId());
+      }
+    } catch (RequeueEventException e) {
+      log.warn("Failed to process events, will not update ack id, events will be re-queued", e);
+      this.metrics.recordRequeue(this.getClass().getSimpleName(), handledEvents[0]);
     }
     return null;
   }
 
+  /**
+   * Dispatch the received events or, if the journal is enabled, only append them to the journal so that the batch is
+   * acknowledged by the next read without waiting for its events to be dispatched.
+   */
+  private void handleOrJournalEvents(@Nullable List<V4Event> events) {
+    final EventJournal eventJournal = this.journal;
+    if (eventJournal == null) {
+      this.handleV4EventList(events);
+      return;
+    }
+
+    this.updateLastPullTimestamp();
+    if (events != null && !events.isEmpty()) {
+      try {
+        eventJournal.append(events);
+      } catch (IOException e) {
+        throw new UncheckedIOException("Failed to journal the received events", e);
+      }
+    }
+  }
+
+  private ReadChain awaitNextBatch() throws ApiException {
+    final CompletableFuture<?>[] pendingReads = new CompletableFuture<?>[this.readChains.length];
+    for (int i = 0; i < this.readChains.length; i++) {
+      final ReadChain chain = this.readChains[i];
+      if (chain.pendingRead == null) {
+        final String chainAckId = chain.ackId;
+        chain.pendingRead = CompletableFuture.supplyAsync(() -> {
+          try {
+            final V5EventList v5EventList = this.timedReadEvents(chainAckId);
+            chain.lastPullTimestamp = Instant.now().toEpochMilli();
+            return new CompletedRead(v5EventList, this.readSequence.incrementAndGet());
+          } catch (ApiException e) {
+            throw new CompletionException(e);
+          }
+        }, runnable -> this.reader.execute(MDCUtils.wrap(runnable)));
+      }
+      pendingReads[i] = chain.pendingRead;
+    }
+
+    try {
+      CompletableFuture.anyOf(pendingReads).join();
+    } catch (CompletionException e) {
+      // the failed read is checked below, along with the other completed reads
+    }
+
+    // batches are processed in the order their reads completed, whatever the chain
+    ReadChain nextChain = null;
+    for (ReadChain chain : this.readChains) {
+      if (chain.pendingRead.isCompletedExceptionally()) {
+        throw this.readFailure(chain);
+      }
+      if (chain.pendingRead.isDone()
+          && (nextChain == null || chain.pendingRead.join().sequence < nextChain.pendingRead.join().sequence)) {
+        nextChain = chain;
+      }
+    }
+    if (nextChain == null) {
+      throw new IllegalStateException("No completed read");
+    }
+    return nextChain;
+  }
+
+  /**
+   * Only the failed read is sent again when the caller retries: the reads of the other chains are kept, their batches
+   * being processed once received.
+   */
+  private ApiException readFailure(ReadChain chain) {
+    final CompletableFuture<CompletedRead> failedRead = chain.pendingRead;
+    chain.pendingRead = null;
+    try {
+      failedRead.join();
+      throw new IllegalStateException("The read of " + chain.name + " did not fail");
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof ApiException) {
+        return (ApiException) e.getCause();
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * Abort the reads in flight of all the chains, their batches not being acknowledged and thus re-queued by the
+   * datafeed. Cancelling the futures would not interrupt the readers: the HTTP requests are aborted instead.
+   */
+  private void cancelReads() {
+    boolean pendingReads = false;
+    for (ReadChain chain : this.readChains) {
+      if (chain.pendingRead != null) {
+        pendingReads |= !chain.pendingRead.isDone();
+        chain.pendingRead = null;
+      }
+    }
+    if (pendingReads) {
+      this.cancelPendingReads();
+    }
+  }
+
+  private V5EventList timedReadEvents(String ackId) throws ApiException {
+    final long readStart = System.nanoTime();
+    final V5EventList v5EventList = this.readEvents(ackId);
+    this.metrics.recordRead(this.getClass().getSimpleName(), Duration.ofNanos(System.nanoTime() - readStart),
+        sizeOf(v5EventList));
+    return v5EventList;
+  }
+
+  private void recordRequeue(V5EventList v5EventList) {
+    this.metrics.recordRequeue(this.getClass().getSimpleName(), sizeOf(v5EventList));
+  }
+
+  private static int sizeOf(V5EventList v5EventList) {
+    return v5EventList == null || v5EventList.getEvents() == null ? 0 : v5EventList.getEvents().size();
+  }
+
+  /**
+   * Reset the ack ID, e.g. when the datafeed is recreated.
+   */
+  protected void resetAckId() {
+    this.ackId = INITIAL_ACK_ID;
+    if (this.readChains != null) {
+      this.cancelReads();
+      for (ReadChain chain : this.readChains) {
+        chain.ackId = INITIAL_ACK_ID;
+      }
+    }
+  }
+
   @Generated // cannot be easily unit tested
   private void checkProcessingTime(StopWatch stopWatch) {
     if (stopWatch.getTime(TimeUnit.SECONDS) > EVENT_PROCESSING_MAX_DURATION_SECONDS) {
@@ -68,5 +647,57 @@ public abstract class AbstractAckIdEventLoop extends AbstractDatafeedLoop {
     }
   }
 
-  protected abstract V5EventList readEvents() throws ApiException;
+  /**
+   * @return the API client the events are read with
+   */
+  protected abstract ApiClient getReadApiClient();
+
+  /**
+   * Read the next batch of events.
+   *
+   * @param ackId ack ID of the last processed batch, to be acknowledged by this read
+   * @return the received events
+   * @throws ApiException if the read failed
+   */
+  protected abstract V5EventList readEvents(String ackId) throws ApiException;
+
+  /**
+   * Read the next batch of events, the response body being read by {@code bodyReader} while it is received.
+   *
+   * @param ackId      ack ID of the last processed batch, to be acknowledged by this read
+   * @param bodyReader reader of the response body
+   * @param <T>        type of the value returned by the body reader
+   * @return the value returned by the body reader, null if the response has no content
+   * @throws ApiException if the read failed
+   */
+  protected abstract <T> T streamEvents(String ackId, ResponseBodyReader<T> bodyReader) throws ApiException;
+
+  /**
+   * Sequence of reads, each one acknowledging the batch returned by the previous one.
+   */
+  private static class ReadChain {
+
+    private final String name;
+    private String ackId = INITIAL_ACK_ID;
+    private CompletableFuture<CompletedRead> pendingRead;
+    private volatile long lastPullTimestamp = Instant.now().toEpochMilli();
+
+    private ReadChain(String name) {
+      this.name = name;
+    }
+  }
+
+  /**
+   * Batch returned by the read of a chain, along with the completion order of this read.
+   */
+  private static class CompletedRead {
+
+    private final V5EventList v5EventList;
+    private final long sequence;
+
+    private CompletedRead(V5EventList v5EventList, long sequence) {
+      this.v5EventList = v5EventList;
+      this.sequence = sequence;
+    }
+  }
 }
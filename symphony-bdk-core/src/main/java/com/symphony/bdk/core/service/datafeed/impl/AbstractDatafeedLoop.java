@@ -5,7 +5,12 @@ import static com.symphony.bdk.core.retry.RetryWithRecovery.networkIssueMessageE
 import com.symphony.bdk.core.auth.AuthSession;
 import com.symphony.bdk.core.auth.exception.AuthUnauthorizedException;
 import com.symphony.bdk.core.config.model.BdkConfig;
+import com.symphony.bdk.core.config.model.BdkDispatchConfig;
+import com.symphony.bdk.core.service.datafeed.BatchRealTimeEventListener;
+import com.symphony.bdk.core.service.datafeed.DatafeedEventSource;
 import com.symphony.bdk.core.service.datafeed.DatafeedLoop;
+import com.symphony.bdk.core.service.datafeed.DatafeedMetrics;
+import com.symphony.bdk.core.service.datafeed.DeadLetterHandler;
 import com.symphony.bdk.core.service.datafeed.EventException;
 import com.symphony.bdk.core.service.datafeed.RealTimeEventListener;
 import com.symphony.bdk.core.service.datafeed.exception.NestedRetryException;
@@ -18,11 +23,22 @@ import com.symphony.bdk.http.api.tracing.DistributedTracingContext;
 import lombok.extern.slf4j.Slf4j;
 import org.apiguardian.api.API;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
 
 import javax.annotation.Nullable;
 
@@ -32,21 +48,61 @@ import javax.annotation.Nullable;
  */
 @Slf4j
 @API(status = API.Status.INTERNAL)
-abstract class AbstractDatafeedLoop implements DatafeedLoop {
+abstract class AbstractDatafeedLoop implements DatafeedLoop, DatafeedEventSource {
+
+  /**
+   * Event type the dispatches to the {@link BatchRealTimeEventListener} are reported with.
+   */
+  static final String BATCH_EVENT_TYPE = "BATCH";
+
+  /**
+   * Interval at which the pending reads are cancelled again, while {@link #stop()} waits for the loop to exit.
+   */
+  private static final long CANCEL_INTERVAL_MILLIS = 100L;
 
   protected final AuthSession authSession;
   protected final BdkConfig bdkConfig;
   protected final UserV2 botInfo;
   protected final AtomicBoolean started = new AtomicBoolean();
   protected DatafeedApi datafeedApi;
+  protected volatile DatafeedMetrics metrics = DatafeedMetrics.NO_OP;
   private long lastPullTimestamp;
 
-  // access needs to be thread safe (DF loop is usually running on its own thread)
-  private final List<RealTimeEventListener> listeners;
+  // counted down once the loop has exited and its dispatch resources are released
+  private volatile CountDownLatch running;
+  private volatile boolean stopping;
+  // set while a listener is called, stop() cannot wait for the loop to exit from such a thread
+  private final ThreadLocal<Boolean> dispatching = new ThreadLocal<>();
+
+  // lock-free on the read path, the DF loop is usually running on its own thread
+  private final RealTimeEventListenerRegistry listeners;
+  private final List<BatchRealTimeEventListener> batchListeners = new CopyOnWriteArrayList<>();
+  // the listeners are reported to the metrics by identity, under these labels
+  private final ListenerLabels listenerLabels = new ListenerLabels();
+
+  // only set while the loop is running with a parallel dispatch configured
+  private PartitionedEventDispatcher eventDispatcher;
+  private volatile Function<V4Event, String> eventPartitionKey = PartitionedEventDispatcher::streamId;
+
+  // only set if the deduplication is enabled, kept across restarts as events can be re-delivered after a restart
+  private EventDeduplicationCache deduplicationCache;
+
+  private final DatafeedEventPublisher eventPublisher = new DatafeedEventPublisher(this.started::get);
+
+  // only set while the loop is running with the event retries enabled
+  private EventRetryQueue eventRetryQueue;
+  private volatile DeadLetterHandler deadLetterHandler = (event, listener, cause) ->
+      log.error("'{}' event {} could not be handled by listener {}", event.getType(), event.getId(), listener, cause);
+
+  // set while a batch is dispatched for the last time, see #dispatchV4EventListOrDeadLetter(List)
+  private volatile boolean lastDispatch;
+
+  // only set while the loop is running with the listener budget enabled, read by the health checks
+  private volatile ListenerQuarantine listenerQuarantine;
 
   public AbstractDatafeedLoop(DatafeedApi datafeedApi, AuthSession authSession, BdkConfig config, UserV2 botInfo) {
     this.datafeedApi = datafeedApi;
-    this.listeners = new ArrayList<>();
+    this.listeners = new RealTimeEventListenerRegistry();
     this.authSession = authSession;
     this.bdkConfig = config;
     this.botInfo = botInfo;
@@ -57,9 +113,8 @@ abstract class AbstractDatafeedLoop implements DatafeedLoop {
    */
   @Override
   public void subscribe(RealTimeEventListener listener) {
-    synchronized (this.listeners) {
-      this.listeners.add(listener);
-    }
+    this.listeners.add(listener);
+    this.listenerLabels.add(listener);
   }
 
   /**
@@ -67,9 +122,42 @@ abstract class AbstractDatafeedLoop implements DatafeedLoop {
    */
   @Override
   public void unsubscribe(RealTimeEventListener listener) {
-    synchronized (this.listeners) {
-      this.listeners.remove(listener);
-    }
+    this.listeners.remove(listener);
+    this.listenerLabels.remove(listener);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void subscribe(BatchRealTimeEventListener listener) {
+    this.batchListeners.add(Objects.requireNonNull(listener));
+    this.listenerLabels.add(listener);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void unsubscribe(BatchRealTimeEventListener listener) {
+    this.batchListeners.remove(listener);
+    this.listenerLabels.remove(listener);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setEventPartitionKey(Function<V4Event, String> partitionKey) {
+    this.eventPartitionKey = Objects.requireNonNull(partitionKey);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setMetrics(DatafeedMetrics metrics) {
+    this.metrics = Objects.requireNonNull(metrics);
   }
 
   /**
@@ -85,16 +173,87 @@ abstract class AbstractDatafeedLoop implements DatafeedLoop {
       DistributedTracingContext.setTraceId();
     }
 
+    final CountDownLatch loopRunning = new CountDownLatch(1);
+    this.running = loopRunning;
+    this.stopping = false;
     try {
-      updateLastPullTimestamp();
-      runLoop();
-    } catch (AuthUnauthorizedException | ApiException | NestedRetryException exception) {
-      throw exception;
-    } catch (Throwable throwable) {
-      log.error("{}\n{}", networkIssueMessageError(throwable, datafeedApi.getApiClient().getBasePath()), throwable);
+      this.startDispatch();
+
+      try {
+        updateLastPullTimestamp();
+        runLoop();
+      } catch (AuthUnauthorizedException | ApiException | NestedRetryException exception) {
+        throw exception;
+      } catch (Throwable throwable) {
+        if (this.stopping) {
+          // the in-flight read has been cancelled by stop()
+          log.debug("Read aborted while stopping the loop", throwable);
+        } else {
+          log.error("{}\n{}", networkIssueMessageError(throwable, datafeedApi.getApiClient().getBasePath()),
+              throwable);
+        }
+      } finally {
+        this.stopDispatch();
+        DistributedTracingContext.clear();
+      }
     } finally {
-      DistributedTracingContext.clear();
+      loopRunning.countDown();
+    }
+  }
+
+  /**
+   * Set up the dispatch of the events according to the {@link #getDispatchConfig()}, before the loop starts.
+   */
+  protected void startDispatch() {
+    final BdkDispatchConfig dispatchConfig = this.getDispatchConfig();
+    if (dispatchConfig != null && dispatchConfig.isParallel()) {
+      log.info("Events will be dispatched on {} parallel workers", dispatchConfig.getParallelism());
+      this.eventDispatcher = new PartitionedEventDispatcher(this.getClass().getSimpleName() + "-Dispatch",
+          dispatchConfig.getParallelism());
+    }
+    if (dispatchConfig != null && dispatchConfig.getDeduplication().isEnabled() && this.deduplicationCache == null) {
+      this.deduplicationCache = new EventDeduplicationCache(dispatchConfig.getDeduplication());
+    }
+    if (dispatchConfig != null && dispatchConfig.getEventRetry().isEnabled()) {
+      log.info("Events failed by a listener will be retried locally, up to {} attempts",
+          dispatchConfig.getEventRetry().getRetry().getMaxAttempts());
+      this.eventRetryQueue = new EventRetryQueue(this.getClass().getSimpleName() + "-Retry",
+          dispatchConfig.getEventRetry(), this::dispatchToListener, () -> this.deadLetterHandler);
+    }
+    if (dispatchConfig != null && dispatchConfig.getListenerBudget().isEnabled()) {
+      log.info("Listeners exceeding their {} ms budget will be quarantined",
+          dispatchConfig.getListenerBudget().getBudgetMillis());
+      this.listenerQuarantine = new ListenerQuarantine(this.getClass().getSimpleName() + "-Quarantine",
+          dispatchConfig.getListenerBudget(), this::dispatchIsolated, this.listenerLabels::of);
+    }
+  }
+
+  /**
+   * Release the dispatch resources, once the loop is stopped.
+   */
+  protected void stopDispatch() {
+    if (this.eventDispatcher != null) {
+      this.eventDispatcher.shutdown();
+      this.eventDispatcher = null;
     }
+    if (this.eventRetryQueue != null) {
+      this.eventRetryQueue.shutdown();
+      this.eventRetryQueue = null;
+    }
+    if (this.listenerQuarantine != null) {
+      this.listenerQuarantine.shutdown(this.getStopTimeoutMillis());
+      this.listenerQuarantine = null;
+    }
+    this.eventPublisher.complete();
+  }
+
+  /**
+   * The dispatch configuration of the loop, by default the one of the datafeed.
+   *
+   * @return the dispatch configuration
+   */
+  protected BdkDispatchConfig getDispatchConfig() {
+    return this.bdkConfig.getDatafeed().getDispatch();
   }
 
   protected abstract void runLoop() throws Throwable;
@@ -104,11 +263,55 @@ abstract class AbstractDatafeedLoop implements DatafeedLoop {
    */
   @Override
   public void stop() {
-    log.info("Stopping the datafeed loop (will happen once the current read is finished)...");
+    log.info("Stopping the datafeed loop...");
+    this.stopping = true;
     this.started.set(false);
+
+    final CountDownLatch loopRunning = this.running;
+    if (loopRunning == null || this.dispatching.get() != null) {
+      // not started, or called by a listener: the loop exits once the listener returns
+      return;
+    }
+
+    final long timeoutMillis = this.getStopTimeoutMillis();
+    final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+    try {
+      // a read might be sent right after a cancellation, before the loop notices it is stopped
+      do {
+        this.cancelPendingReads();
+      } while (!loopRunning.await(CANCEL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS) && System.nanoTime() - deadline < 0);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+
+    if (loopRunning.getCount() > 0) {
+      log.warn("The datafeed loop did not stop within {} ms, the events being dispatched might be re-delivered",
+          timeoutMillis);
+    }
   }
 
-  private void updateLastPullTimestamp() {
+  /**
+   * Abort the reads in flight, so that the loop exits without waiting for a long-polling read to return.
+   */
+  protected void cancelPendingReads() {
+    this.datafeedApi.getApiClient().cancelPendingRequests();
+  }
+
+  /**
+   * @return true if {@link #stop()} has been called since the loop was started
+   */
+  protected boolean isStopping() {
+    return this.stopping;
+  }
+
+  private long getStopTimeoutMillis() {
+    final BdkDispatchConfig dispatchConfig = this.getDispatchConfig();
+    return dispatchConfig == null
+        ? BdkDispatchConfig.DEFAULT_STOP_TIMEOUT_MILLIS
+        : dispatchConfig.getStopTimeoutMillis();
+  }
+
+  protected void updateLastPullTimestamp() {
     this.lastPullTimestamp = Instant.now().toEpochMilli();
   }
 
@@ -120,44 +323,339 @@ abstract class AbstractDatafeedLoop implements DatafeedLoop {
    */
   protected void handleV4EventList(@Nullable List<V4Event> events) throws RequeueEventException {
     updateLastPullTimestamp();
+    this.dispatchV4EventList(events);
+  }
+
+  /**
+   * Dispatch events to the subscribed {@link RealTimeEventListener}, sequentially or on the parallel workers, then to
+   * the subscribed {@link BatchRealTimeEventListener}, and finally publish them, on the calling thread, to the
+   * subscribers of {@link #events()}.
+   *
+   * @param events List of Datafeed events to be dispatched
+   * @throws RequeueEventException Raised if a listener fails and the developer wants to explicitly not update the ack id.
+   */
+  protected void dispatchV4EventList(@Nullable List<V4Event> events) throws RequeueEventException {
+    this.retryDueEvents();
     if (events == null || events.isEmpty()) {
       return;
     }
 
+    if (this.eventDispatcher == null) {
+      for (V4Event event : events) {
+        this.handleV4Event(event);
+      }
+    } else {
+      // returns once all events are handled, so that the DFv2 ack id is only updated for fully processed batches
+      this.eventDispatcher.dispatch(events, this.eventPartitionKey, this::handleV4Event);
+    }
+    this.dispatchToBatchListeners(events);
     for (V4Event event : events) {
+      this.publishEvent(event);
+    }
+  }
 
-      final Optional<RealTimeEventType> eventType = RealTimeEventType.fromV4Event(event);
+  /**
+   * Dispatch again, on the calling thread, the failed events whose retry is due, so that a listener is not called by a
+   * retry while it handles the received events. The retries of a quarantined listener are run on its own thread.
+   */
+  protected void retryDueEvents() {
+    final EventRetryQueue retryQueue = this.eventRetryQueue;
+    if (retryQueue != null) {
+      final ListenerQuarantine quarantine = this.listenerQuarantine;
+      retryQueue.retryDue((listener, retry) -> quarantine != null && quarantine.execute(listener, retry));
+    }
+  }
+
+  /**
+   * Dispatch a batch of events for the last time: the events a listener fails to handle are sent to the dead letter
+   * handler instead of the batch being re-queued, so that the other events are still dispatched.
+   *
+   * @param events List of Datafeed events to be dispatched
+   * @throws RequeueEventException Raised if a batch listener or a subscriber fails to handle the events.
+   */
+  protected void dispatchV4EventListOrDeadLetter(@Nullable List<V4Event> events) throws RequeueEventException {
+    this.lastDispatch = true;
+    try {
+      this.dispatchV4EventList(events);
+    } finally {
+      this.lastDispatch = false;
+    }
+  }
 
-      if (!eventType.isPresent()) {
-        log.info("Unsupported event received: {}", event);
+  /**
+   * @return true if at least one {@link BatchRealTimeEventListener} is subscribed
+   */
+  protected boolean hasBatchListeners() {
+    return !this.batchListeners.isEmpty();
+  }
+
+  /**
+   * Dispatch a batch of events to the subscribed {@link BatchRealTimeEventListener}, on the calling thread. Each
+   * listener receives, in a single call, the events it accepts among the supported ones of its types.
+   *
+   * @param events the events of the batch
+   * @throws RequeueEventException Raised if a listener fails and the developer wants to explicitly not update the ack id.
+   */
+  protected void dispatchToBatchListeners(List<V4Event> events) throws RequeueEventException {
+    this.dispatching.set(Boolean.TRUE);
+    try {
+      this.doDispatchToBatchListeners(events);
+    } finally {
+      this.dispatching.remove();
+    }
+  }
+
+  private void doDispatchToBatchListeners(List<V4Event> events) {
+    for (BatchRealTimeEventListener listener : this.batchListeners) {
+      final List<V4Event> accepted = this.acceptedEvents(events, listener);
+      if (accepted.isEmpty()) {
         continue;
       }
 
-      // dispatch single event using event's ID as traceId. Tested for DatafeedLoopV2 as well, and working.
+      final long dispatchStart = System.nanoTime();
+      try {
+        log.debug("Before dispatching {} events to batch listener {}", accepted.size(), listener);
+        listener.onEvents(accepted, this.botInfo);
+      } catch (EventException e) {
+        // rethrow this explicit exception to not update the ack id in the DFv2 loop
+        throw new RequeueEventException(accepted.get(0), e);
+      } catch (Exception e) {
+        log.debug("An uncaught exception has occurred while dispatching {} events to batch listener {}",
+            accepted.size(), listener, e);
+      } finally {
+        this.metrics.recordDispatch(BATCH_EVENT_TYPE, this.listenerLabels.of(listener),
+            Duration.ofNanos(System.nanoTime() - dispatchStart));
+      }
+      for (V4Event event : accepted) {
+        this.markDispatched(event, listener);
+      }
+    }
+  }
+
+  private List<V4Event> acceptedEvents(List<V4Event> events, BatchRealTimeEventListener listener) {
+    final Set<String> eventTypes = listener.getEventTypes();
+    final List<V4Event> accepted = new ArrayList<>(events.size());
+    for (V4Event event : events) {
+      if (!RealTimeEventType.fromV4Event(event).isPresent()
+          || (!eventTypes.isEmpty() && !eventTypes.contains(event.getType()))
+          || this.isAlreadyDispatched(event, listener)) {
+        continue;
+      }
+      try {
+        if (listener.isAcceptingEvent(event, this.botInfo)) {
+          accepted.add(event);
+        }
+      } catch (Exception e) {
+        log.debug("Batch listener {} failed to filter event {}, skipping it", listener, event.getId(), e);
+      }
+    }
+    return accepted;
+  }
+
+  /**
+   * Handle a single received event by using the subscribed {@link RealTimeEventListener}, on the calling thread.
+   *
+   * @param event Datafeed event to be handled
+   * @throws RequeueEventException Raised if a listener fails and the developer wants to explicitly not update the ack id.
+   */
+  protected void handleV4Event(V4Event event) throws RequeueEventException {
+    final Optional<RealTimeEventType> eventType = RealTimeEventType.fromV4Event(event);
+
+    if (!eventType.isPresent()) {
+      log.info("Unsupported event received: {}", event);
+      return;
+    }
+
+    final DatafeedMetrics metrics = this.metrics;
+    if (event.getTimestamp() != null) {
+      metrics.recordLag(event.getType(), Duration.ofMillis(Instant.now().toEpochMilli() - event.getTimestamp()));
+    }
+
+    // dispatch single event using event's ID as traceId. Tested for DatafeedLoopV2 as well, and working.
+    this.dispatching.set(Boolean.TRUE);
+    try {
       DistributedTracingContext.doWithTraceId(event.getId(), () -> {
 
-        synchronized (this.listeners) {
-          for (RealTimeEventListener listener : this.listeners) {
+        // the payload proxy is built once, on first accepting listener, and shared with the other ones
+        Object payload = null;
+        final ListenerQuarantine quarantine = this.listenerQuarantine;
+
+        // only the listeners overriding the callback of this event type
+        for (RealTimeEventListener listener : this.listeners.listenersOf(eventType.get())) {
 
-            if (listener.isAcceptingEvent(event, this.botInfo)) {
-              try {
-                log.debug("Before dispatching '{}' event to listener {}", event.getType(), listener);
-                eventType.get().dispatch(listener, event);
-                log.debug("'{}' event successfully dispatched to listener {}", event.getType(), listener);
-              } catch (EventException e) {
+          if (this.isAlreadyDispatched(event, listener)) {
+            log.debug("'{}' event {} already dispatched to listener {}, skipping it", event.getType(), event.getId(),
+                listener);
+            continue;
+          }
+
+          if (listener.isAcceptingEvent(event, this.botInfo)) {
+            if (quarantine != null && this.dispatchQuarantined(quarantine, event, listener)) {
+              // handled on the own executor of the listener, without delaying the other ones
+              continue;
+            }
+
+            final long dispatchStart = System.nanoTime();
+            try {
+              log.debug("Before dispatching '{}' event to listener {}", event.getType(), listener);
+              if (payload == null) {
+                payload = eventType.get().proxyPayload(event);
+              }
+              eventType.get().dispatch(listener, event, payload);
+              log.debug("'{}' event successfully dispatched to listener {}", event.getType(), listener);
+            } catch (EventException e) {
+              final EventRetryQueue retryQueue = this.eventRetryQueue;
+              if (retryQueue == null && this.lastDispatch) {
+                // the event has been re-delivered too many times already
+                this.deadLetter(event, listener, e);
+                continue;
+              }
+              if (retryQueue == null) {
                 // rethrow this explicit exception to not update the ack id in the DFv2 loop
                 throw new RequeueEventException(event, listener, e);
-              } catch (Exception t) {
-                log.debug("An uncaught exception has occurred while dispatching event {} to listener {}",
-                    event.getType(), listener, t);
+              }
+              // the batch is acknowledged, only this listener will receive the event again
+              retryQueue.schedule(event, listener, e);
+              continue;
+            } catch (Exception t) {
+              log.debug("An uncaught exception has occurred while dispatching event {} to listener {}",
+                  event.getType(), listener, t);
+            } finally {
+              final Duration duration = Duration.ofNanos(System.nanoTime() - dispatchStart);
+              metrics.recordDispatch(event.getType(), this.listenerLabels.of(listener), duration);
+              if (quarantine != null) {
+                quarantine.record(listener, duration);
               }
             }
+            // the listener is done with the event, it will not receive it again if the batch is re-delivered
+            this.markDispatched(event, listener);
           }
         }
       });
+    } finally {
+      this.dispatching.remove();
     }
   }
 
+  /**
+   * Dispatch an event again to a listener that failed to handle it.
+   */
+  private void dispatchToListener(V4Event event, RealTimeEventListener listener) throws EventException {
+    final RealTimeEventType eventType = RealTimeEventType.fromV4Event(event)
+        .orElseThrow(() -> new IllegalArgumentException("Unsupported event: " + event.getType()));
+
+    DistributedTracingContext.doWithTraceId(event.getId(), () -> {
+      final long dispatchStart = System.nanoTime();
+      this.dispatching.set(Boolean.TRUE);
+      try {
+        eventType.dispatch(listener, event, eventType.proxyPayload(event));
+      } finally {
+        this.dispatching.remove();
+        this.metrics.recordDispatch(event.getType(), this.listenerLabels.of(listener),
+            Duration.ofNanos(System.nanoTime() - dispatchStart));
+      }
+    });
+    this.markDispatched(event, listener);
+  }
+
+  /**
+   * Hand over an event to a quarantined listener, the event being sent to the dead letter handler if too many events
+   * are already waiting for this listener.
+   *
+   * @return false if the listener is not quarantined
+   */
+  private boolean dispatchQuarantined(ListenerQuarantine quarantine, V4Event event, RealTimeEventListener listener) {
+    try {
+      return quarantine.offer(event, listener);
+    } catch (RejectedExecutionException e) {
+      this.deadLetter(event, listener,
+          new EventException("Too many events waiting for quarantined listener " + listener, e));
+      return true;
+    }
+  }
+
+  /**
+   * Dispatch an event to a quarantined listener, on its own executor.
+   */
+  private void dispatchIsolated(V4Event event, RealTimeEventListener listener) {
+    try {
+      this.dispatchToListener(event, listener);
+    } catch (EventException e) {
+      final EventRetryQueue retryQueue = this.eventRetryQueue;
+      if (retryQueue == null) {
+        // the batch has already been acknowledged, the event cannot be re-delivered
+        this.deadLetter(event, listener, e);
+      } else {
+        retryQueue.schedule(event, listener, e);
+      }
+    } catch (Exception e) {
+      log.debug("An uncaught exception has occurred while dispatching event {} to quarantined listener {}",
+          event.getType(), listener, e);
+    }
+  }
+
+  private void deadLetter(V4Event event, RealTimeEventListener listener, EventException cause) {
+    try {
+      this.deadLetterHandler.onDeadLetter(event, listener, cause);
+    } catch (Exception e) {
+      log.error("Dead letter handler failed for '{}' event {}", event.getType(), event.getId(), e);
+    }
+  }
+
+  /**
+   * Deliver a dispatched event to the subscribers of {@link #events()}, waiting for their demand. The event is skipped
+   * if it has already been published before its batch got re-delivered, provided the deduplication is enabled.
+   *
+   * @param event the dispatched event
+   * @throws RequeueEventException if the loop is stopped before the event is requested by all the subscribers
+   */
+  protected void publishEvent(V4Event event) throws RequeueEventException {
+    if (!RealTimeEventType.fromV4Event(event).isPresent() || this.isAlreadyDispatched(event, this.eventPublisher)) {
+      return;
+    }
+    this.eventPublisher.publish(event);
+    this.markDispatched(event, this.eventPublisher);
+  }
+
+  private boolean isAlreadyDispatched(V4Event event, Object listener) {
+    return this.deduplicationCache != null && event.getId() != null
+        && this.deduplicationCache.isDispatched(event.getId(), listener);
+  }
+
+  private void markDispatched(V4Event event, Object listener) {
+    if (this.deduplicationCache != null && event.getId() != null) {
+      this.deduplicationCache.markDispatched(event.getId(), listener);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Flow.Publisher<V4Event> events() {
+    return this.eventPublisher;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Map<String, Instant> quarantinedListeners() {
+    final ListenerQuarantine quarantine = this.listenerQuarantine;
+    if (quarantine == null) {
+      return Collections.emptyMap();
+    }
+    return quarantine.quarantinedListeners();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setDeadLetterHandler(DeadLetterHandler deadLetterHandler) {
+    this.deadLetterHandler = Objects.requireNonNull(deadLetterHandler);
+  }
+
   protected void refresh() throws AuthUnauthorizedException {
     log.info("Re-authenticate and try again");
     this.authSession.refresh();
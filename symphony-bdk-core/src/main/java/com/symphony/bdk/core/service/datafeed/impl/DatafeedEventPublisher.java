@@ -0,0 +1,158 @@
+package com.symphony.bdk.core.service.datafeed.impl;
+
+import com.symphony.bdk.core.service.datafeed.EventException;
+import com.symphony.bdk.gen.api.model.V4Event;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apiguardian.api.API;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+
+/**
+ * {@link Flow.Publisher} of the events received by a loop, honouring the demand of its subscribers: an event is only
+ * delivered once every subscriber requested it, the loop waiting in the meantime. The next read is then only issued,
+ * and the current batch only acknowledged, once all the events of the batch have been requested.
+ * <p>
+ * Subscriptions are completed when the loop is stopped.
+ */
+@Slf4j
+@API(status = API.Status.INTERNAL)
+class DatafeedEventPublisher implements Flow.Publisher<V4Event> {
+
+  /**
+   * How long the loop waits for demand before checking whether it is stopped.
+   */
+  private static final long DEMAND_POLL_MILLIS = 500L;
+
+  private final BooleanSupplier running;
+  private final List<EventSubscription> subscriptions = new CopyOnWriteArrayList<>();
+
+  DatafeedEventPublisher(BooleanSupplier running) {
+    this.running = running;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void subscribe(Flow.Subscriber<? super V4Event> subscriber) {
+    final EventSubscription subscription = new EventSubscription(Objects.requireNonNull(subscriber));
+    this.subscriptions.add(subscription);
+    subscriber.onSubscribe(subscription);
+  }
+
+  /**
+   * Deliver an event to every subscriber, waiting for their demand.
+   *
+   * @param event the event to deliver
+   * @throws RequeueEventException if the loop is stopped before the event is requested by all the subscribers
+   */
+  void publish(V4Event event) throws RequeueEventException {
+    for (EventSubscription subscription : this.subscriptions) {
+      subscription.deliver(event);
+    }
+  }
+
+  /**
+   * Complete the subscriptions, e.g. once the loop is stopped.
+   */
+  void complete() {
+    for (EventSubscription subscription : this.subscriptions) {
+      this.subscriptions.remove(subscription);
+      subscription.complete();
+    }
+  }
+
+  private class EventSubscription implements Flow.Subscription {
+
+    private final Flow.Subscriber<? super V4Event> subscriber;
+    // guards the demand and serializes the signals, events being possibly published by parallel workers
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition demandAvailable = this.lock.newCondition();
+    private long demand;
+    private volatile boolean cancelled;
+
+    private EventSubscription(Flow.Subscriber<? super V4Event> subscriber) {
+      this.subscriber = subscriber;
+    }
+
+    @Override
+    public void request(long n) {
+      if (n <= 0) {
+        this.cancel();
+        this.subscriber.onError(new IllegalArgumentException("Requested events must be positive: " + n));
+        return;
+      }
+      this.lock.lock();
+      try {
+        this.demand = this.demand + n < 0 ? Long.MAX_VALUE : this.demand + n;
+        this.demandAvailable.signalAll();
+      } finally {
+        this.lock.unlock();
+      }
+    }
+
+    @Override
+    public void cancel() {
+      this.cancelled = true;
+      subscriptions.remove(this);
+      this.lock.lock();
+      try {
+        this.demandAvailable.signalAll();
+      } finally {
+        this.lock.unlock();
+      }
+    }
+
+    private void deliver(V4Event event) {
+      this.lock.lock();
+      try {
+        while (this.demand == 0 && !this.cancelled) {
+          if (!running.getAsBoolean()) {
+            throw new RequeueEventException(event,
+                new EventException("Loop stopped before the event was requested by subscriber " + this.subscriber));
+          }
+          this.demandAvailable.await(DEMAND_POLL_MILLIS, TimeUnit.MILLISECONDS);
+        }
+        if (this.cancelled) {
+          return;
+        }
+        if (this.demand != Long.MAX_VALUE) {
+          this.demand--;
+        }
+        this.subscriber.onNext(event);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new RequeueEventException(event, new EventException("Interrupted while waiting for demand", e));
+      } catch (RequeueEventException e) {
+        throw e;
+      } catch (RuntimeException e) {
+        // a subscriber is not supposed to throw, the subscription is then considered cancelled
+        log.warn("Subscriber {} failed to handle event {}, cancelling its subscription", this.subscriber,
+            event.getId(), e);
+        this.cancel();
+      } finally {
+        this.lock.unlock();
+      }
+    }
+
+    private void complete() {
+      this.lock.lock();
+      try {
+        if (!this.cancelled) {
+          this.cancelled = true;
+          this.subscriber.onComplete();
+        }
+      } finally {
+        this.lock.unlock();
+      }
+    }
+  }
+}
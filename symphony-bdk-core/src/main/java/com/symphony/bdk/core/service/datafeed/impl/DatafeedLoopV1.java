@@ -17,6 +17,7 @@ import com.symphony.bdk.http.api.ApiException;
 import lombok.extern.slf4j.Slf4j;
 import org.apiguardian.api.API;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 
@@ -82,6 +83,7 @@ public class DatafeedLoopV1 extends AbstractDatafeedLoop {
     this.readDatafeed = RetryWithRecoveryBuilder.<Void>from(retryWithRecoveryBuilder)
         .name("Read Datafeed V1")
         .supplier(this::readAndHandleEvents)
+        .onRetry(t -> this.metrics.recordRetry(this.getClass().getSimpleName()))
         .recoveryStrategy(ApiException::isClientError, this::recreateDatafeed)
         .retryOnException(RetryWithRecoveryBuilder::isNetworkIssueOrMinorErrorOrClientError)
         .build();
@@ -106,12 +108,16 @@ public class DatafeedLoopV1 extends AbstractDatafeedLoop {
   }
 
   private Void readAndHandleEvents() throws ApiException {
-    List<V4Event> events = this.datafeedApi.v4DatafeedIdReadGet(
+    final long readStart = System.nanoTime();
+    // aborted if the loop is stopped meanwhile
+    List<V4Event> events = this.apiClient.invokeCancellable(() -> this.datafeedApi.v4DatafeedIdReadGet(
         datafeedId,
         null,
         authSession.getSessionToken(),
         authSession.getKeyManagerToken()
-    );
+    ));
+    this.metrics.recordRead(this.getClass().getSimpleName(), Duration.ofNanos(System.nanoTime() - readStart),
+        events == null ? 0 : events.size());
 
     try {
 
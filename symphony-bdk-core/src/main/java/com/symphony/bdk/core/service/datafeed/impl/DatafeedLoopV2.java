@@ -11,7 +11,9 @@ import com.symphony.bdk.gen.api.model.UserV2;
 import com.symphony.bdk.gen.api.model.V5Datafeed;
 import com.symphony.bdk.gen.api.model.V5DatafeedCreateBody;
 import com.symphony.bdk.gen.api.model.V5EventList;
+import com.symphony.bdk.http.api.ApiClient;
 import com.symphony.bdk.http.api.ApiException;
+import com.symphony.bdk.http.api.ResponseBodyReader;
 
 import lombok.extern.slf4j.Slf4j;
 import org.apiguardian.api.API;
@@ -67,6 +69,7 @@ public class DatafeedLoopV2 extends AbstractAckIdEventLoop {
     this.readDatafeed = RetryWithRecoveryBuilder.<Void>from(retryWithRecoveryBuilder)
         .name("Read Datafeed V2")
         .supplier(this::readAndHandleEvents)
+        .onRetry(t -> this.metrics.recordRetry(this.getClass().getSimpleName()))
         .retryOnException(RetryWithRecoveryBuilder::isNetworkIssueOrMinorErrorOrClientError)
         .recoveryStrategy(ApiException::isClientError, this::recreateDatafeed)
         .build();
@@ -95,6 +98,7 @@ public class DatafeedLoopV2 extends AbstractAckIdEventLoop {
     if (this.datafeed == null) {
       this.datafeed = this.createDatafeed.execute();
     }
+    this.resumeFromCheckpoint();
 
     log.info("Start reading events from datafeed {}", this.datafeed.getId());
     this.started.set(true);
@@ -106,8 +110,14 @@ public class DatafeedLoopV2 extends AbstractAckIdEventLoop {
     log.info("Datafeed loop successfully stopped.");
   }
 
+  @Override
+  protected String getFeedId() {
+    final V5Datafeed currentDatafeed = this.datafeed;
+    return currentDatafeed == null ? null : currentDatafeed.getId();
+  }
+
   private V5Datafeed doCreateDatafeed() throws ApiException {
-    this.ackId = INITIAL_ACK_ID;
+    this.resetAckId();
     return this.datafeedApi.createDatafeed(
         this.authSession.getSessionToken(),
         this.authSession.getKeyManagerToken(),
@@ -130,13 +140,30 @@ public class DatafeedLoopV2 extends AbstractAckIdEventLoop {
   }
 
   @Override
-  protected V5EventList readEvents() throws ApiException {
-    return this.datafeedApi.readDatafeed(
+  protected V5EventList readEvents(String ackId) throws ApiException {
+    return this.getReadApiClient().invokeCancellable(() -> this.datafeedApi.readDatafeed(
         this.datafeed.getId(),
         this.authSession.getSessionToken(),
         this.authSession.getKeyManagerToken(),
-        new AckId().ackId(this.ackId)
-    );
+        new AckId().ackId(ackId)
+    ));
+  }
+
+  @Override
+  protected ApiClient getReadApiClient() {
+    return this.datafeedApi.getApiClient();
+  }
+
+  @Override
+  protected <T> T streamEvents(String ackId, ResponseBodyReader<T> bodyReader) throws ApiException {
+    final StreamingApiClient<T> apiClient = new StreamingApiClient<>(this.getReadApiClient(), bodyReader);
+    this.getReadApiClient().invokeCancellable(() -> new DatafeedApi(apiClient).readDatafeed(
+        this.datafeed.getId(),
+        this.authSession.getSessionToken(),
+        this.authSession.getKeyManagerToken(),
+        new AckId().ackId(ackId)
+    ));
+    return apiClient.getResult();
   }
 
   private void recreateDatafeed() {
@@ -2,6 +2,7 @@ package com.symphony.bdk.core.service.datafeed.impl;
 
 import com.symphony.bdk.core.auth.AuthSession;
 import com.symphony.bdk.core.config.model.BdkConfig;
+import com.symphony.bdk.core.config.model.BdkDispatchConfig;
 import com.symphony.bdk.core.retry.RetryWithRecovery;
 import com.symphony.bdk.core.retry.RetryWithRecoveryBuilder;
 import com.symphony.bdk.core.service.datafeed.DatahoseLoop;
@@ -10,7 +11,9 @@ import com.symphony.bdk.gen.api.DatahoseApi;
 import com.symphony.bdk.gen.api.model.UserV2;
 import com.symphony.bdk.gen.api.model.V5EventList;
 import com.symphony.bdk.gen.api.model.V5EventsReadBody;
+import com.symphony.bdk.http.api.ApiClient;
 import com.symphony.bdk.http.api.ApiException;
+import com.symphony.bdk.http.api.ResponseBodyReader;
 
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
@@ -50,6 +53,7 @@ public class DatahoseLoopImpl extends AbstractAckIdEventLoop implements Datahose
         .retryConfig(config.getDatahose().getRetry())
         .name("readEvents")
         .supplier(this::readAndHandleEvents)
+        .onRetry(t -> this.metrics.recordRetry(this.getClass().getSimpleName()))
         .retryOnException(RetryWithRecoveryBuilder::isNetworkIssueOrMinorError)
         .recoveryStrategy(ApiException::isUnauthorized, this::refresh)
         .build();
@@ -58,6 +62,7 @@ public class DatahoseLoopImpl extends AbstractAckIdEventLoop implements Datahose
   @Override
   protected void runLoop() throws Throwable {
     log.info("Start reading events from datahose loop");
+    this.resumeFromCheckpoint();
     this.started.set(true);
 
     do {
@@ -68,8 +73,51 @@ public class DatahoseLoopImpl extends AbstractAckIdEventLoop implements Datahose
   }
 
   @Override
-  protected V5EventList readEvents() throws ApiException {
-    return this.datahoseApi.readEvents(this.authSession.getSessionToken(), this.authSession.getKeyManagerToken(),
-        new V5EventsReadBody().ackId(this.ackId).eventTypes(this.filters).tag(this.tag).type(DATAHOSE));
+  protected BdkDispatchConfig getDispatchConfig() {
+    return this.bdkConfig.getDatahose().getDispatch();
+  }
+
+  @Override
+  protected int getReaderCount() {
+    return Math.max(this.bdkConfig.getDatahose().getReaders(), super.getReaderCount());
+  }
+
+  /**
+   * The events are read through the datahose API client.
+   */
+  @Override
+  protected void cancelPendingReads() {
+    this.datahoseApi.getApiClient().cancelPendingRequests();
+  }
+
+  /**
+   * The ack IDs of the datahose belong to its tag.
+   */
+  @Override
+  protected String getFeedId() {
+    return this.tag;
+  }
+
+  @Override
+  protected V5EventList readEvents(String ackId) throws ApiException {
+    return this.getReadApiClient().invokeCancellable(() -> this.datahoseApi.readEvents(
+        this.authSession.getSessionToken(), this.authSession.getKeyManagerToken(), this.readBody(ackId)));
+  }
+
+  @Override
+  protected ApiClient getReadApiClient() {
+    return this.datahoseApi.getApiClient();
+  }
+
+  @Override
+  protected <T> T streamEvents(String ackId, ResponseBodyReader<T> bodyReader) throws ApiException {
+    final StreamingApiClient<T> apiClient = new StreamingApiClient<>(this.getReadApiClient(), bodyReader);
+    this.getReadApiClient().invokeCancellable(() -> new DatahoseApi(apiClient).readEvents(
+        this.authSession.getSessionToken(), this.authSession.getKeyManagerToken(), this.readBody(ackId)));
+    return apiClient.getResult();
+  }
+
+  private V5EventsReadBody readBody(String ackId) {
+    return new V5EventsReadBody().ackId(ackId).eventTypes(this.filters).tag(this.tag).type(DATAHOSE);
   }
 }
@@ -0,0 +1,99 @@
+package com.symphony.bdk.core.service.datafeed.impl;
+
+import com.symphony.bdk.core.config.model.BdkDeduplicationConfig;
+
+import org.apiguardian.api.API;
+
+import java.time.Clock;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Set;
+
+/**
+ * Bounded and time-windowed record of the listeners each event (identified by its ID) has been dispatched to.
+ * <p>
+ * When a batch is re-delivered by the datafeed because one of its events failed, the listeners that already handled an
+ * event can then be skipped. Events are forgotten once the window has elapsed, or when the maximum number of events
+ * is reached, the oldest ones first.
+ */
+@API(status = API.Status.INTERNAL)
+class EventDeduplicationCache {
+
+  private final long windowMillis;
+  private final int maxEvents;
+  private final Clock clock;
+
+  // insertion ordered, so that the eldest entries are first, guarded by 'this'
+  private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>();
+
+  EventDeduplicationCache(BdkDeduplicationConfig config) {
+    this(config, Clock.systemUTC());
+  }
+
+  EventDeduplicationCache(BdkDeduplicationConfig config, Clock clock) {
+    this.windowMillis = config.getWindowMillis();
+    this.maxEvents = config.getMaxEvents();
+    this.clock = clock;
+  }
+
+  /**
+   * @param eventId  the event ID
+   * @param listener the listener the event is about to be dispatched to
+   * @return true if the event has already been dispatched to the listener within the window
+   */
+  synchronized boolean isDispatched(String eventId, Object listener) {
+    final Entry entry = this.entries.get(eventId);
+    return entry != null && !entry.isExpired(this.clock.millis()) && entry.listeners.contains(listener);
+  }
+
+  /**
+   * Record that the event has been dispatched to the listener.
+   *
+   * @param eventId  the event ID
+   * @param listener the listener that handled the event
+   */
+  synchronized void markDispatched(String eventId, Object listener) {
+    final long now = this.clock.millis();
+    Entry entry = this.entries.get(eventId);
+    if (entry == null || entry.isExpired(now)) {
+      entry = new Entry(now + this.windowMillis);
+      // re-inserted entries are moved at the end
+      this.entries.remove(eventId);
+      this.entries.put(eventId, entry);
+    }
+    entry.listeners.add(listener);
+    this.evict(now);
+  }
+
+  synchronized int size() {
+    return this.entries.size();
+  }
+
+  private void evict(long now) {
+    final Iterator<Entry> iterator = this.entries.values().iterator();
+    while (iterator.hasNext()) {
+      final Entry eldest = iterator.next();
+      if (this.entries.size() > this.maxEvents || eldest.isExpired(now)) {
+        iterator.remove();
+      } else {
+        break;
+      }
+    }
+  }
+
+  private static class Entry {
+
+    private final long expiresAt;
+    private final Set<Object> listeners = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    private Entry(long expiresAt) {
+      this.expiresAt = expiresAt;
+    }
+
+    private boolean isExpired(long now) {
+      return now >= this.expiresAt;
+    }
+  }
+}
@@ -0,0 +1,365 @@
+package com.symphony.bdk.core.service.datafeed.impl;
+
+import com.symphony.bdk.gen.api.model.V4Event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.apiguardian.api.API;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only journal of received events, stored in memory-mapped segment files, so that events can be acknowledged as
+ * soon as they are journaled and dispatched afterwards, at the consumer's own pace and across restarts.
+ * <p>
+ * Each event is stored as a record made of its length, the CRC32 of its JSON form and the JSON form itself. Records
+ * are addressed by offsets, growing across segments: a segment file is named after the offset of its first byte, and
+ * a record that does not fit in the current segment starts the next one. The offset up to which the events have been
+ * dispatched is checkpointed in a memory-mapped file, the segments before it being deleted.
+ * <p>
+ * Events are appended by a single thread, and consumed by another single thread.
+ */
+@Slf4j
+@API(status = API.Status.INTERNAL)
+class EventJournal implements Closeable {
+
+  private static final String SEGMENT_SUFFIX = ".log";
+  private static final String CHECKPOINT_FILE = "checkpoint";
+  private static final int HEADER_SIZE = 2 * Integer.BYTES;
+  private static final int ROLL_MARKER = -1;
+
+  private final Path directory;
+  private final int segmentSize;
+  private final ObjectMapper mapper;
+  private final ConcurrentNavigableMap<Long, Segment> segments = new ConcurrentSkipListMap<>();
+  private final MappedByteBuffer checkpoint;
+  private final Object monitor = new Object();
+
+  private volatile Segment writeSegment;
+  private volatile long writeOffset;
+  private volatile long committedOffset;
+  private volatile boolean closed;
+  // guarded by the monitor
+  private boolean wokenUp;
+  // consumer thread only
+  private long readOffset;
+
+  /**
+   * Open the journal, its segments being created if it does not exist yet.
+   *
+   * @param directory   directory of the journal files
+   * @param segmentSize size in bytes of the segment files
+   * @param mapper      mapper of the API client, the events are journaled in their JSON form
+   * @throws IOException if the journal files cannot be opened
+   */
+  EventJournal(Path directory, int segmentSize, ObjectMapper mapper) throws IOException {
+    if (segmentSize <= HEADER_SIZE) {
+      throw new IllegalArgumentException("Journal segment size is too small: " + segmentSize);
+    }
+    this.directory = directory;
+    this.segmentSize = segmentSize;
+    this.mapper = mapper;
+
+    Files.createDirectories(directory);
+    this.checkpoint = map(directory.resolve(CHECKPOINT_FILE), Long.BYTES);
+    this.loadSegments();
+
+    final long checkpointed = this.checkpoint.getLong(0);
+    if (this.segments.isEmpty()) {
+      this.writeSegment = this.createSegment(checkpointed, segmentSize);
+      this.writeOffset = checkpointed;
+    } else {
+      this.writeSegment = this.segments.lastEntry().getValue();
+      this.writeOffset = this.recover(this.writeSegment);
+    }
+    this.committedOffset = Math.min(Math.max(checkpointed, this.segments.firstKey()), this.writeOffset);
+    this.readOffset = this.committedOffset;
+    this.deleteConsumedSegments();
+
+    log.info("Event journal opened in {}, {} bytes of events to be dispatched", directory,
+        this.writeOffset - this.committedOffset);
+  }
+
+  /**
+   * Append events to the journal, they are durably stored once this method returns.
+   *
+   * @param events the events to append
+   * @throws IOException if an event cannot be serialized or stored
+   */
+  void append(List<V4Event> events) throws IOException {
+    Segment segment = this.writeSegment;
+    long offset = this.writeOffset;
+    final Set<Segment> written = new LinkedHashSet<>();
+
+    for (V4Event event : events) {
+      final byte[] payload = this.mapper.writeValueAsBytes(event);
+      final int recordSize = HEADER_SIZE + payload.length;
+      int position = (int) (offset - segment.base);
+
+      if (position + recordSize > segment.capacity) {
+        if (segment.capacity - position >= Integer.BYTES) {
+          segment.buffer.putInt(position, ROLL_MARKER);
+          written.add(segment);
+        }
+        segment = this.createSegment(segment.end(), Math.max(this.segmentSize, recordSize));
+        this.writeSegment = segment;
+        position = 0;
+      }
+
+      segment.buffer.putInt(position + Integer.BYTES, checksum(payload));
+      segment.buffer.put(position + HEADER_SIZE, payload);
+      segment.buffer.putInt(position, payload.length);
+      written.add(segment);
+      offset = segment.base + position + recordSize;
+    }
+
+    for (Segment s : written) {
+      s.buffer.force();
+    }
+
+    synchronized (this.monitor) {
+      this.writeOffset = offset;
+      this.monitor.notifyAll();
+    }
+  }
+
+  /**
+   * Read the next journaled events, waiting for events to be appended if there are none.
+   *
+   * @param maxEvents     maximum number of returned events
+   * @param timeoutMillis maximum time to wait for events
+   * @return the next events, possibly none
+   * @throws InterruptedException if interrupted while waiting
+   */
+  Batch poll(int maxEvents, long timeoutMillis) throws InterruptedException {
+    synchronized (this.monitor) {
+      if (this.readOffset == this.writeOffset && !this.closed && !this.wokenUp) {
+        this.monitor.wait(timeoutMillis);
+      }
+    }
+
+    final List<V4Event> events = new ArrayList<>();
+    final long end = this.writeOffset;
+    long offset = this.readOffset;
+    while (offset < end && events.size() < maxEvents) {
+      final Segment segment = this.segments.floorEntry(offset).getValue();
+      final int position = (int) (offset - segment.base);
+      if (segment.capacity - position < Integer.BYTES || segment.buffer.getInt(position) == ROLL_MARKER) {
+        offset = segment.end();
+        continue;
+      }
+
+      final byte[] payload = new byte[segment.buffer.getInt(position)];
+      segment.buffer.get(position + HEADER_SIZE, payload);
+      try {
+        events.add(this.mapper.readValue(payload, V4Event.class));
+      } catch (IOException e) {
+        log.error("Skipping journaled event at offset {} that cannot be read", offset, e);
+      }
+      offset += HEADER_SIZE + payload.length;
+    }
+    this.readOffset = offset;
+    return new Batch(events, offset);
+  }
+
+  /**
+   * Checkpoint the offset up to which the events have been dispatched, the fully dispatched segments being deleted.
+   *
+   * @param offset the {@link Batch#getNextOffset()} of the last dispatched batch
+   */
+  void commit(long offset) {
+    this.committedOffset = offset;
+    this.checkpoint.putLong(0, offset);
+    this.deleteConsumedSegments();
+  }
+
+  /**
+   * Read again the events polled since the last commit.
+   */
+  void rewind() {
+    this.readOffset = this.committedOffset;
+  }
+
+  /**
+   * @return the number of journaled bytes not dispatched yet
+   */
+  long pendingBytes() {
+    return this.writeOffset - this.committedOffset;
+  }
+
+  /**
+   * Stop waiting for events to be appended, the current and next polls returning the journaled events only.
+   */
+  void wakeUp() {
+    synchronized (this.monitor) {
+      this.wokenUp = true;
+      this.monitor.notifyAll();
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void close() {
+    synchronized (this.monitor) {
+      this.closed = true;
+      this.monitor.notifyAll();
+    }
+    this.checkpoint.force();
+  }
+
+  private void loadSegments() throws IOException {
+    final List<Path> files;
+    try (Stream<Path> list = Files.list(this.directory)) {
+      files = list.filter(f -> f.getFileName().toString().endsWith(SEGMENT_SUFFIX)).collect(Collectors.toList());
+    }
+
+    for (Path file : files) {
+      final String name = file.getFileName().toString();
+      final long base;
+      try {
+        base = Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+      } catch (NumberFormatException e) {
+        log.warn("Ignoring unexpected file {} in the event journal", file);
+        continue;
+      }
+
+      final long size = Files.size(file);
+      if (size < HEADER_SIZE) {
+        // created but never written, e.g. if the bot stopped while rolling to this segment
+        Files.delete(file);
+        continue;
+      }
+      this.segments.put(base, new Segment(file, base, map(file, (int) size)));
+    }
+  }
+
+  /**
+   * Find the end of the records of the last segment, i.e. the first missing or torn record.
+   */
+  private long recover(Segment segment) {
+    int position = 0;
+    while (segment.capacity - position >= Integer.BYTES) {
+      final int length = segment.buffer.getInt(position);
+      if (length == ROLL_MARKER) {
+        return segment.end();
+      }
+      if (length <= 0 || length > segment.capacity - position - HEADER_SIZE) {
+        break;
+      }
+      final byte[] payload = new byte[length];
+      segment.buffer.get(position + HEADER_SIZE, payload);
+      if (segment.buffer.getInt(position + Integer.BYTES) != checksum(payload)) {
+        break;
+      }
+      position += HEADER_SIZE + length;
+    }
+
+    if (segment.capacity - position >= Integer.BYTES && segment.buffer.getInt(position) != 0) {
+      log.warn("Discarding the torn record at offset {} of the event journal", segment.base + position);
+      segment.buffer.put(position, new byte[segment.capacity - position]);
+      segment.buffer.force();
+    }
+    return segment.base + position;
+  }
+
+  private Segment createSegment(long base, int capacity) throws IOException {
+    final Path file = this.directory.resolve(String.format("%020d%s", base, SEGMENT_SUFFIX));
+    final Segment segment = new Segment(file, base, map(file, capacity));
+    this.segments.put(base, segment);
+    return segment;
+  }
+
+  private void deleteConsumedSegments() {
+    for (Segment segment : new ArrayList<>(this.segments.headMap(this.committedOffset, true).values())) {
+      if (segment.end() > this.committedOffset || segment == this.writeSegment) {
+        continue;
+      }
+      this.segments.remove(segment.base);
+      try {
+        // still mapped until garbage collected, which does not prevent the deletion on most platforms
+        Files.deleteIfExists(segment.file);
+      } catch (IOException e) {
+        log.debug("Failed to delete the dispatched journal segment {}", segment.file, e);
+      }
+    }
+  }
+
+  private static MappedByteBuffer map(Path file, int size) throws IOException {
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+        StandardOpenOption.WRITE)) {
+      return channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+    }
+  }
+
+  private static int checksum(byte[] payload) {
+    final CRC32 crc = new CRC32();
+    crc.update(payload);
+    return (int) crc.getValue();
+  }
+
+  /**
+   * Events read from the journal.
+   */
+  static class Batch {
+
+    private final List<V4Event> events;
+    private final long nextOffset;
+
+    Batch(List<V4Event> events, long nextOffset) {
+      this.events = Collections.unmodifiableList(events);
+      this.nextOffset = nextOffset;
+    }
+
+    List<V4Event> getEvents() {
+      return this.events;
+    }
+
+    /**
+     * @return the offset following the last event of the batch, to be committed once the batch is dispatched
+     */
+    long getNextOffset() {
+      return this.nextOffset;
+    }
+
+    boolean isEmpty() {
+      return this.events.isEmpty();
+    }
+  }
+
+  private static class Segment {
+
+    private final Path file;
+    private final long base;
+    private final int capacity;
+    private final MappedByteBuffer buffer;
+
+    private Segment(Path file, long base, MappedByteBuffer buffer) {
+      this.file = file;
+      this.base = base;
+      this.capacity = buffer.capacity();
+      this.buffer = buffer;
+    }
+
+    private long end() {
+      return this.base + this.capacity;
+    }
+  }
+}
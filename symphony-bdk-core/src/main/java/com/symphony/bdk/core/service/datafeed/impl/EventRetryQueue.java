@@ -0,0 +1,215 @@
+package com.symphony.bdk.core.service.datafeed.impl;
+
+import com.symphony.bdk.core.config.model.BdkEventRetryConfig;
+import com.symphony.bdk.core.config.model.BdkRetryConfig;
+import com.symphony.bdk.core.service.datafeed.DeadLetterHandler;
+import com.symphony.bdk.core.service.datafeed.EventException;
+import com.symphony.bdk.core.service.datafeed.RealTimeEventListener;
+import com.symphony.bdk.gen.api.model.V4Event;
+import com.symphony.bdk.http.api.tracing.MDCUtils;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apiguardian.api.API;
+
+import java.util.ArrayList;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiPredicate;
+import java.util.function.Supplier;
+
+/**
+ * Local retries of the (event, listener) pairs for which the listener raised an {@link EventException}, so that the
+ * batch of the event can be acknowledged. Each pair is dispatched again after an exponential backoff, until the
+ * listener handles it or the attempts are exhausted, the pair being then handed to the {@link DeadLetterHandler}.
+ * <p>
+ * By default, the retries whose backoff is elapsed are only run by the loop, through {@link #retryDue(BiPredicate)},
+ * so that a listener is not called by a retry while it handles the received events. If the retries are configured as
+ * concurrent, they are run by a dedicated thread as soon as their backoff is elapsed.
+ */
+@Slf4j
+@API(status = API.Status.INTERNAL)
+class EventRetryQueue {
+
+  private final BdkRetryConfig backoff;
+  private final int maxQueueSize;
+  private final boolean concurrent;
+  private final ListenerDispatcher dispatcher;
+  private final Supplier<DeadLetterHandler> deadLetterHandler;
+  private final ScheduledExecutorService scheduler;
+  private final Set<Entry> pending = ConcurrentHashMap.newKeySet();
+  // retries whose backoff is elapsed, waiting for the loop to run them
+  private final Queue<Entry> due = new ConcurrentLinkedQueue<>();
+
+  EventRetryQueue(String name, BdkEventRetryConfig config, ListenerDispatcher dispatcher,
+      Supplier<DeadLetterHandler> deadLetterHandler) {
+    this.backoff = config.getRetry();
+    this.maxQueueSize = config.getMaxQueueSize();
+    this.concurrent = config.isConcurrent();
+    this.dispatcher = dispatcher;
+    this.deadLetterHandler = deadLetterHandler;
+    final ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+      final Thread thread = new Thread(runnable, name);
+      thread.setDaemon(true);
+      return thread;
+    });
+    executor.setRemoveOnCancelPolicy(true);
+    this.scheduler = executor;
+  }
+
+  /**
+   * Schedule the first retry of a failed (event, listener) pair.
+   *
+   * @param event    the event the listener failed to handle
+   * @param listener the failed listener
+   * @param failure  the exception raised by the listener
+   */
+  void schedule(V4Event event, RealTimeEventListener listener, EventException failure) {
+    final Entry entry = new Entry(event, listener);
+    if (this.pending.size() >= this.maxQueueSize) {
+      log.warn("Event retry queue is full ({} pending retries), '{}' event {} will not be retried for listener {}",
+          this.maxQueueSize, event.getType(), event.getId(), listener);
+      this.deadLetter(entry, failure);
+      return;
+    }
+    this.retryLater(entry, failure);
+  }
+
+  /**
+   * Run the retries whose backoff is elapsed, on the calling thread unless handed over to another thread. Has no effect
+   * if the retries are concurrent.
+   *
+   * @param handOver hands a retry over to the thread the listener is dispatched on, e.g. the one of a quarantined
+   *                 listener, returns false if the retry is to be run on the calling thread
+   */
+  void retryDue(BiPredicate<RealTimeEventListener, Runnable> handOver) {
+    Entry entry;
+    while ((entry = this.due.poll()) != null) {
+      final Entry dueEntry = entry;
+      final Runnable retry = () -> this.retry(dueEntry);
+      try {
+        if (!handOver.test(entry.listener, retry)) {
+          retry.run();
+        }
+      } catch (RejectedExecutionException e) {
+        if (this.pending.remove(entry)) {
+          this.deadLetter(entry, entry.lastFailure);
+        }
+      }
+    }
+  }
+
+  /**
+   * @return the number of pending retries
+   */
+  int size() {
+    return this.pending.size();
+  }
+
+  /**
+   * Stop retrying, the pending retries being handed to the {@link DeadLetterHandler}.
+   */
+  void shutdown() {
+    this.scheduler.shutdownNow();
+    this.due.clear();
+    for (Entry entry : new ArrayList<>(this.pending)) {
+      if (this.pending.remove(entry)) {
+        log.warn("Loop stopped before '{}' event {} could be retried for listener {}", entry.event.getType(),
+            entry.event.getId(), entry.listener);
+        this.deadLetter(entry, entry.lastFailure);
+      }
+    }
+  }
+
+  private void retryLater(Entry entry, EventException failure) {
+    entry.lastFailure = failure;
+    if (entry.attempts >= this.backoff.getMaxAttempts()) {
+      log.warn("Listener {} failed to handle '{}' event {} after {} attempts", entry.listener, entry.event.getType(),
+          entry.event.getId(), entry.attempts);
+      this.deadLetter(entry, failure);
+      return;
+    }
+
+    final long delay = this.delayOf(entry.attempts);
+    log.debug("'{}' event {} will be dispatched again to listener {} in {} ms", entry.event.getType(),
+        entry.event.getId(), entry.listener, delay);
+    this.pending.add(entry);
+    try {
+      this.scheduler.schedule(MDCUtils.wrap(() -> this.onBackoffElapsed(entry)), delay, TimeUnit.MILLISECONDS);
+    } catch (RejectedExecutionException e) {
+      // the queue has been shut down in the meantime
+      if (this.pending.remove(entry)) {
+        this.deadLetter(entry, failure);
+      }
+    }
+  }
+
+  private void onBackoffElapsed(Entry entry) {
+    if (this.concurrent) {
+      this.retry(entry);
+    } else {
+      this.due.add(entry);
+    }
+  }
+
+  private void retry(Entry entry) {
+    if (!this.pending.remove(entry)) {
+      return;
+    }
+    entry.attempts++;
+    try {
+      this.dispatcher.dispatch(entry.event, entry.listener);
+    } catch (EventException e) {
+      this.retryLater(entry, e);
+    } catch (Exception e) {
+      // like on the first dispatch, only an EventException requires the event to be handled again
+      log.debug("An uncaught exception has occurred while retrying event {} for listener {}", entry.event.getType(),
+          entry.listener, e);
+    }
+  }
+
+  private long delayOf(int attempts) {
+    final double delay = this.backoff.getInitialIntervalMillis() * Math.pow(this.backoff.getMultiplier(), attempts - 1);
+    return (long) Math.min(delay, this.backoff.getMaxIntervalMillis());
+  }
+
+  private void deadLetter(Entry entry, EventException failure) {
+    try {
+      this.deadLetterHandler.get().onDeadLetter(entry.event, entry.listener, failure);
+    } catch (Exception e) {
+      log.error("Dead letter handler failed for '{}' event {}", entry.event.getType(), entry.event.getId(), e);
+    }
+  }
+
+  /**
+   * Dispatches an event to a single listener.
+   */
+  @FunctionalInterface
+  interface ListenerDispatcher {
+
+    /**
+     * @param event    the event to dispatch
+     * @param listener the listener to dispatch it to
+     * @throws EventException if the listener failed to handle the event
+     */
+    void dispatch(V4Event event, RealTimeEventListener listener) throws EventException;
+  }
+
+  private static class Entry {
+
+    private final V4Event event;
+    private final RealTimeEventListener listener;
+    private int attempts = 1;
+    private volatile EventException lastFailure;
+
+    private Entry(V4Event event, RealTimeEventListener listener) {
+      this.event = event;
+      this.listener = listener;
+    }
+  }
+}
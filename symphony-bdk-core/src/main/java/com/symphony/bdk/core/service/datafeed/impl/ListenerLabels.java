@@ -0,0 +1,64 @@
+package com.symphony.bdk.core.service.datafeed.impl;
+
+import org.apiguardian.api.API;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Labels of the listeners subscribed to a datafeed loop, under which their dispatches are reported to the metrics.
+ * <p>
+ * Listeners are told apart by identity: the first subscribed listener of a class is labelled with its class name, the
+ * next instances of the same class with their class name followed by their rank, e.g. {@code com.acme.Listener#2}.
+ * Lookups ({@link #of(Object)}) do not take any lock: subscriptions, which are rare, publish a new copy of the labels
+ * through a volatile field.
+ */
+@API(status = API.Status.INTERNAL)
+class ListenerLabels {
+
+  // guarded by 'this', number of instances of each listener class subscribed so far
+  private final Map<Class<?>, Integer> instanceCounts = new HashMap<>();
+
+  private volatile Map<Object, String> labels = new IdentityHashMap<>();
+
+  /**
+   * Label a subscribed listener, has no effect if it is already labelled.
+   *
+   * @param listener the subscribed listener
+   */
+  synchronized void add(Object listener) {
+    if (this.labels.containsKey(listener)) {
+      return;
+    }
+    final String className = listener.getClass().getName();
+    final int rank = this.instanceCounts.merge(listener.getClass(), 1, Integer::sum);
+    final Map<Object, String> newLabels = new IdentityHashMap<>(this.labels);
+    newLabels.put(listener, rank == 1 ? className : className + "#" + rank);
+    this.labels = newLabels;
+  }
+
+  /**
+   * Forget the label of an unsubscribed listener.
+   *
+   * @param listener the unsubscribed listener
+   */
+  synchronized void remove(Object listener) {
+    if (this.labels.containsKey(listener)) {
+      final Map<Object, String> newLabels = new IdentityHashMap<>(this.labels);
+      newLabels.remove(listener);
+      this.labels = newLabels;
+    }
+  }
+
+  /**
+   * Lock-free lookup of the label of a listener.
+   *
+   * @param listener the listener
+   * @return its label, its class name if it is not subscribed
+   */
+  String of(Object listener) {
+    final String label = this.labels.get(listener);
+    return label != null ? label : listener.getClass().getName();
+  }
+}
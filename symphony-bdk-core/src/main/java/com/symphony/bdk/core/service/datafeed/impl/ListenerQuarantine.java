@@ -0,0 +1,197 @@
+package com.symphony.bdk.core.service.datafeed.impl;
+
+import com.symphony.bdk.core.config.model.BdkListenerBudgetConfig;
+import com.symphony.bdk.core.service.datafeed.RealTimeEventListener;
+import com.symphony.bdk.gen.api.model.V4Event;
+import com.symphony.bdk.http.api.tracing.MDCUtils;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apiguardian.api.API;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Tracks the time each listener takes to handle an event. A listener exceeding its time budget for several consecutive
+ * events is quarantined: its events are then handed over to its own single-threaded executor, so that it no longer
+ * delays the other listeners nor the acknowledgement of the batches. Once the quarantine period is over and its pending
+ * events are handled, the listener is dispatched by the loop again.
+ * <p>
+ * Listeners are tracked by identity, through the labels of the loop, see {@link ListenerLabels}.
+ */
+@Slf4j
+@API(status = API.Status.INTERNAL)
+class ListenerQuarantine {
+
+  private final String name;
+  private final long budgetNanos;
+  private final int maxOverruns;
+  private final long quarantineMillis;
+  private final int queueCapacity;
+  private final BiConsumer<V4Event, RealTimeEventListener> dispatcher;
+  private final Function<Object, String> labels;
+  // per listener label
+  private final Map<String, Budget> budgets = new ConcurrentHashMap<>();
+  private final AtomicInteger threadCount = new AtomicInteger();
+
+  ListenerQuarantine(String name, BdkListenerBudgetConfig config,
+      BiConsumer<V4Event, RealTimeEventListener> dispatcher, Function<Object, String> labels) {
+    this.name = name;
+    this.budgetNanos = TimeUnit.MILLISECONDS.toNanos(config.getBudgetMillis());
+    this.maxOverruns = config.getMaxOverruns();
+    this.quarantineMillis = config.getQuarantineMillis();
+    this.queueCapacity = config.getQueueCapacity();
+    this.dispatcher = dispatcher;
+    this.labels = labels;
+  }
+
+  /**
+   * Record the time a listener took to handle an event, the listener being quarantined once it exceeded its budget for
+   * too many consecutive events.
+   *
+   * @param listener the listener
+   * @param duration the time it took to handle the event
+   */
+  void record(RealTimeEventListener listener, Duration duration) {
+    final String label = this.labels.apply(listener);
+    final Budget budget = this.budgets.computeIfAbsent(label, l -> new Budget());
+    synchronized (budget) {
+      if (duration.toNanos() <= this.budgetNanos) {
+        budget.overruns = 0;
+        return;
+      }
+      budget.overruns++;
+      if (budget.overruns >= this.maxOverruns && budget.executor == null) {
+        log.warn("Listener {} exceeded its {} ms budget for {} consecutive events, it is quarantined for {} ms",
+            label, TimeUnit.NANOSECONDS.toMillis(this.budgetNanos), budget.overruns, this.quarantineMillis);
+        budget.executor = this.newExecutor();
+        budget.quarantinedAt = Instant.now();
+      }
+    }
+  }
+
+  /**
+   * Hand over an event to the executor of the listener, if the listener is quarantined.
+   *
+   * @param event    the event to dispatch
+   * @param listener the listener to dispatch it to
+   * @return false if the listener is not quarantined, the event being then to be dispatched by the caller
+   * @throws RejectedExecutionException if too many events are already waiting for the listener
+   */
+  boolean offer(V4Event event, RealTimeEventListener listener) {
+    return this.execute(listener, () -> this.dispatcher.accept(event, listener));
+  }
+
+  /**
+   * Hand over a task calling a listener to the executor of the listener, if the listener is quarantined.
+   *
+   * @param listener the listener called by the task
+   * @param task     the task to execute
+   * @return false if the listener is not quarantined, the task being then to be executed by the caller
+   * @throws RejectedExecutionException if too many events are already waiting for the listener
+   */
+  boolean execute(RealTimeEventListener listener, Runnable task) {
+    final Budget budget = this.budgets.get(this.labels.apply(listener));
+    if (budget == null) {
+      return false;
+    }
+    synchronized (budget) {
+      if (budget.executor == null) {
+        return false;
+      }
+      if (budget.pending == 0 && Instant.now().isAfter(budget.quarantinedAt.plusMillis(this.quarantineMillis))) {
+        log.info("Listener {} is released from quarantine", this.labels.apply(listener));
+        budget.executor.shutdown();
+        budget.executor = null;
+        budget.quarantinedAt = null;
+        budget.overruns = 0;
+        return false;
+      }
+      budget.executor.execute(MDCUtils.wrap(() -> {
+        try {
+          task.run();
+        } finally {
+          synchronized (budget) {
+            budget.pending--;
+          }
+        }
+      }));
+      budget.pending++;
+      return true;
+    }
+  }
+
+  /**
+   * @return the labels of the quarantined listeners, with the time they were quarantined at
+   */
+  Map<String, Instant> quarantinedListeners() {
+    final Map<String, Instant> quarantined = new LinkedHashMap<>();
+    this.budgets.forEach((listener, budget) -> {
+      synchronized (budget) {
+        if (budget.quarantinedAt != null) {
+          quarantined.put(listener, budget.quarantinedAt);
+        }
+      }
+    });
+    return Collections.unmodifiableMap(quarantined);
+  }
+
+  /**
+   * Stop the executors of the quarantined listeners, waiting for their pending events to be handled.
+   *
+   * @param timeoutMillis the maximum time to wait for the pending events
+   */
+  void shutdown(long timeoutMillis) {
+    final List<ThreadPoolExecutor> executors = new ArrayList<>();
+    this.budgets.values().forEach(budget -> {
+      synchronized (budget) {
+        if (budget.executor != null) {
+          budget.executor.shutdown();
+          executors.add(budget.executor);
+        }
+      }
+    });
+
+    final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+    try {
+      for (ThreadPoolExecutor executor : executors) {
+        if (!executor.awaitTermination(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+          log.warn("Quarantined listeners did not handle their pending events within {} ms", timeoutMillis);
+          return;
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private ThreadPoolExecutor newExecutor() {
+    return new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(this.queueCapacity),
+        runnable -> {
+          final Thread thread = new Thread(runnable, this.name + "-" + this.threadCount.getAndIncrement());
+          thread.setDaemon(true);
+          return thread;
+        });
+  }
+
+  private static class Budget {
+
+    private int overruns;
+    private int pending;
+    private ThreadPoolExecutor executor;
+    private Instant quarantinedAt;
+  }
+}
@@ -0,0 +1,75 @@
+package com.symphony.bdk.core.service.datafeed.impl;
+
+import com.symphony.bdk.core.service.datafeed.AckIdCheckpoint;
+import com.symphony.bdk.core.service.datafeed.AckIdCheckpointStore;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apiguardian.api.API;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The implementation of {@link AckIdCheckpointStore} interface for persisting a checkpoint on disk. The checkpoint is
+ * written to a temporary file that is then renamed, so that the checkpoint file is never left partially written.
+ */
+@Slf4j
+@API(status = API.Status.INTERNAL)
+public class OnDiskAckIdCheckpointStore implements AckIdCheckpointStore {
+
+  private static final String TEMPORARY_SUFFIX = ".tmp";
+
+  private final Path file;
+
+  public OnDiskAckIdCheckpointStore(Path file) {
+    this.file = file;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void write(AckIdCheckpoint checkpoint) throws IOException {
+    log.debug("Writing checkpoint {} to file: {}", checkpoint, this.file);
+    final Path directory = this.file.toAbsolutePath().getParent();
+    if (directory != null) {
+      Files.createDirectories(directory);
+    }
+    final Path temporaryFile = this.file.resolveSibling(this.file.getFileName() + TEMPORARY_SUFFIX);
+    Files.write(temporaryFile, Arrays.asList(checkpoint.getFeedId(), checkpoint.getAckId()), StandardCharsets.UTF_8);
+    try {
+      Files.move(temporaryFile, this.file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    } catch (AtomicMoveNotSupportedException e) {
+      Files.move(temporaryFile, this.file, StandardCopyOption.REPLACE_EXISTING);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Optional<AckIdCheckpoint> read() {
+    try {
+      final List<String> lines = Files.readAllLines(this.file, StandardCharsets.UTF_8);
+      if (lines.size() < 2 || lines.get(0).isEmpty()) {
+        log.warn("Ignoring invalid checkpoint file: {}", this.file);
+        return Optional.empty();
+      }
+      return Optional.of(new AckIdCheckpoint(lines.get(0), lines.get(1)));
+    } catch (NoSuchFileException e) {
+      log.debug("No checkpoint file: {}", this.file);
+      return Optional.empty();
+    } catch (IOException e) {
+      log.warn("Checkpoint could not be read from file: {}", this.file, e);
+      return Optional.empty();
+    }
+  }
+}
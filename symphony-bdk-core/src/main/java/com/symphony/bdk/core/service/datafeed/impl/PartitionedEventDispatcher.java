@@ -0,0 +1,124 @@
+package com.symphony.bdk.core.service.datafeed.impl;
+
+import com.symphony.bdk.core.service.datafeed.util.EventStreamIds;
+import com.symphony.bdk.gen.api.model.V4Event;
+import com.symphony.bdk.http.api.tracing.MDCUtils;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apiguardian.api.API;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import javax.annotation.Nullable;
+
+/**
+ * Dispatches the events of a batch across a fixed set of single-threaded workers. Events are assigned to a worker
+ * according to their partition key, so that events sharing the same key (e.g. the same stream) are handled one after
+ * the other, in the order they were received.
+ * <p>
+ * {@link #dispatch(List, Function, Consumer)} only returns once every event of the batch has been handled, so that
+ * the caller can safely acknowledge the batch afterwards.
+ */
+@Slf4j
+@API(status = API.Status.INTERNAL)
+class PartitionedEventDispatcher {
+
+  private final ExecutorService[] workers;
+
+  PartitionedEventDispatcher(String name, int parallelism) {
+    this.workers = new ExecutorService[parallelism];
+    for (int i = 0; i < parallelism; i++) {
+      final String threadName = name + "-" + i;
+      this.workers[i] = Executors.newSingleThreadExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, threadName);
+        thread.setDaemon(true);
+        return thread;
+      });
+    }
+  }
+
+  /**
+   * Dispatch the events to the workers and wait for all of them to be handled.
+   * If the handler fails for an event, the remaining events that have not been started yet are skipped and the
+   * failure is rethrown once the in-flight events are done.
+   *
+   * @param events       the batch of events
+   * @param partitionKey function returning the partition key of an event, null keys fall back to the event ID
+   * @param handler      the event handler
+   * @throws RuntimeException the first exception raised by the handler
+   */
+  void dispatch(List<V4Event> events, Function<V4Event, String> partitionKey, Consumer<V4Event> handler) {
+    final CountDownLatch latch = new CountDownLatch(events.size());
+    final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+
+    for (V4Event event : events) {
+      this.workers[this.partitionOf(event, partitionKey)].execute(MDCUtils.wrap(() -> {
+        try {
+          if (failure.get() == null) {
+            handler.accept(event);
+          }
+        } catch (RuntimeException e) {
+          failure.compareAndSet(null, e);
+        } finally {
+          latch.countDown();
+        }
+      }));
+    }
+
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for the events to be dispatched", e);
+    }
+
+    if (failure.get() != null) {
+      throw failure.get();
+    }
+  }
+
+  /**
+   * Stop the workers once the already submitted events are handled.
+   */
+  void shutdown() {
+    for (ExecutorService worker : this.workers) {
+      worker.shutdown();
+    }
+  }
+
+  private int partitionOf(@Nullable V4Event event, Function<V4Event, String> partitionKey) {
+    if (event == null) {
+      return 0;
+    }
+
+    String key = null;
+    try {
+      key = partitionKey.apply(event);
+    } catch (Exception e) {
+      log.debug("Failed to compute the partition key of event {}", event.getId(), e);
+    }
+
+    if (key == null) {
+      key = event.getId();
+    }
+    return key == null ? 0 : Math.floorMod(key.hashCode(), this.workers.length);
+  }
+
+  /**
+   * Default partition key: the ID of the stream the event occurred in, null for events not bound to a stream
+   * (i.e. connection events).
+   *
+   * @param event the received event
+   * @return the stream ID, null if not available
+   */
+  @Nullable
+  static String streamId(V4Event event) {
+    return RealTimeEventType.fromV4Event(event).map(type -> EventStreamIds.of(type.payload(event))).orElse(null);
+  }
+}
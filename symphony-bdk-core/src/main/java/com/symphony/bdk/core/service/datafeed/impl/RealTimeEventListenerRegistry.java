@@ -0,0 +1,130 @@
+package com.symphony.bdk.core.service.datafeed.impl;
+
+import com.symphony.bdk.core.service.datafeed.RealTimeEventListener;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apiguardian.api.API;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Copy-on-write registry of the {@link RealTimeEventListener} subscribed to a datafeed loop, indexed by
+ * {@link RealTimeEventType}.
+ * <p>
+ * The event types a listener is interested in are detected when it is subscribed, from the
+ * {@link RealTimeEventListener} callbacks its class overrides. A listener that does not override any callback
+ * (e.g. a dynamic proxy, or a mock) is considered as interested in all the event types.
+ * <p>
+ * Reads ({@link #listenersOf(RealTimeEventType)}) do not take any lock: subscriptions, which are rare, rebuild the
+ * index that is then published through a volatile field.
+ */
+@Slf4j
+@API(status = API.Status.INTERNAL)
+class RealTimeEventListenerRegistry {
+
+  /**
+   * {@link RealTimeEventListener} callback of each event type, e.g. MESSAGESENT is handled by "onMessageSent".
+   */
+  private static final Map<RealTimeEventType, Method> CALLBACKS = listenerCallbacks();
+
+  /**
+   * Event types handled by a listener class, computed once per class.
+   */
+  private static final ClassValue<Set<RealTimeEventType>> INTERESTS = new ClassValue<Set<RealTimeEventType>>() {
+    @Override
+    protected Set<RealTimeEventType> computeValue(Class<?> listenerClass) {
+      return interestsOf(listenerClass);
+    }
+  };
+
+  // guarded by 'this', in subscription order
+  private final List<RealTimeEventListener> subscribed = new ArrayList<>();
+
+  private volatile Map<RealTimeEventType, List<RealTimeEventListener>> index = new EnumMap<>(RealTimeEventType.class);
+
+  /**
+   * Subscribe a listener to the event types it handles.
+   *
+   * @param listener the listener to be added
+   */
+  synchronized void add(RealTimeEventListener listener) {
+    this.subscribed.add(listener);
+    this.rebuildIndex();
+  }
+
+  /**
+   * Unsubscribe a listener, has no effect if the listener was not subscribed.
+   *
+   * @param listener the listener to be removed
+   */
+  synchronized void remove(RealTimeEventListener listener) {
+    if (this.subscribed.remove(listener)) {
+      this.rebuildIndex();
+    }
+  }
+
+  /**
+   * Lock-free lookup of the listeners interested in an event type.
+   *
+   * @param eventType the type of the received event
+   * @return the interested listeners in subscription order, an empty list if none
+   */
+  List<RealTimeEventListener> listenersOf(RealTimeEventType eventType) {
+    return this.index.getOrDefault(eventType, Collections.emptyList());
+  }
+
+  private void rebuildIndex() {
+    final Map<RealTimeEventType, List<RealTimeEventListener>> newIndex = new EnumMap<>(RealTimeEventType.class);
+    for (RealTimeEventListener listener : this.subscribed) {
+      for (RealTimeEventType eventType : INTERESTS.get(listener.getClass())) {
+        newIndex.computeIfAbsent(eventType, t -> new ArrayList<>()).add(listener);
+      }
+    }
+    newIndex.replaceAll((t, listeners) -> Collections.unmodifiableList(listeners));
+    this.index = newIndex;
+  }
+
+  static Set<RealTimeEventType> interestsOf(Class<?> listenerClass) {
+    final Set<RealTimeEventType> interests = EnumSet.noneOf(RealTimeEventType.class);
+    for (Map.Entry<RealTimeEventType, Method> callback : CALLBACKS.entrySet()) {
+      try {
+        final Method method = listenerClass.getMethod(callback.getValue().getName(),
+            callback.getValue().getParameterTypes());
+        if (method.getDeclaringClass() != RealTimeEventListener.class) {
+          interests.add(callback.getKey());
+        }
+      } catch (NoSuchMethodException e) {
+        // cannot happen as the listener implements RealTimeEventListener
+        interests.add(callback.getKey());
+      }
+    }
+
+    if (interests.isEmpty()) {
+      log.debug("No callback overridden by listener {}, it will receive all the events", listenerClass);
+      return EnumSet.allOf(RealTimeEventType.class);
+    }
+    return interests;
+  }
+
+  private static Map<RealTimeEventType, Method> listenerCallbacks() {
+    final Map<RealTimeEventType, Method> callbacks = new EnumMap<>(RealTimeEventType.class);
+    for (Method method : RealTimeEventListener.class.getMethods()) {
+      if (method.getName().startsWith("on") && method.getParameterCount() == 2) {
+        try {
+          callbacks.put(RealTimeEventType.valueOf(method.getName().substring(2).toUpperCase(Locale.ROOT)), method);
+        } catch (IllegalArgumentException e) {
+          log.debug("Listener method {} does not match any event type", method.getName());
+        }
+      }
+    }
+    return callbacks;
+  }
+}
@@ -3,6 +3,8 @@ package com.symphony.bdk.core.service.datafeed.impl;
 import com.symphony.bdk.core.service.datafeed.EventPayload;
 import com.symphony.bdk.core.service.datafeed.RealTimeEventListener;
 import com.symphony.bdk.gen.api.model.V4Event;
+import com.symphony.bdk.gen.api.model.V4Initiator;
+import com.symphony.bdk.gen.api.model.V4Payload;
 
 import lombok.extern.slf4j.Slf4j;
 import net.bytebuddy.ByteBuddy;
@@ -14,10 +16,15 @@ import net.bytebuddy.implementation.MethodCall;
 import net.bytebuddy.matcher.ElementMatchers;
 import org.apiguardian.api.API;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodType;
+import java.util.Map;
 import java.util.Optional;
-import java.util.function.BiConsumer;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import javax.annotation.Nullable;
 
 import static net.bytebuddy.matcher.ElementMatchers.isPublic;
 
@@ -29,67 +36,43 @@ import static net.bytebuddy.matcher.ElementMatchers.isPublic;
 @Slf4j
 enum RealTimeEventType {
 
-  MESSAGESENT((listener, event) -> {
-    listener.onMessageSent(event.getInitiator(), proxy(event.getPayload().getMessageSent(), event));
-  }),
-  MESSAGESUPPRESSED((listener, event) -> {
-    listener.onMessageSuppressed(event.getInitiator(), proxy(event.getPayload().getMessageSuppressed(), event));
-  }),
-  SYMPHONYELEMENTSACTION((listener, event) -> {
-    listener.onSymphonyElementsAction(event.getInitiator(),
-        proxy(event.getPayload().getSymphonyElementsAction(), event));
-  }),
-  SHAREDPOST((listener, event) -> {
-    listener.onSharedPost(event.getInitiator(), proxy(event.getPayload().getSharedPost(), event));
-  }),
-  INSTANTMESSAGECREATED((listener, event) -> {
-    listener.onInstantMessageCreated(event.getInitiator(), proxy(event.getPayload().getInstantMessageCreated(), event));
-  }),
-  ROOMCREATED((listener, event) -> {
-    listener.onRoomCreated(event.getInitiator(), proxy(event.getPayload().getRoomCreated(), event));
-  }),
-  ROOMUPDATED((listener, event) -> {
-    listener.onRoomUpdated(event.getInitiator(), proxy(event.getPayload().getRoomUpdated(), event));
-  }),
-  ROOMDEACTIVATED((listener, event) -> {
-    listener.onRoomDeactivated(event.getInitiator(), proxy(event.getPayload().getRoomDeactivated(), event));
-  }),
-  ROOMREACTIVATED((listener, event) -> {
-    listener.onRoomReactivated(event.getInitiator(), proxy(event.getPayload().getRoomReactivated(), event));
-  }),
-  USERJOINEDROOM((listener, event) -> {
-    listener.onUserJoinedRoom(event.getInitiator(), proxy(event.getPayload().getUserJoinedRoom(), event));
-  }),
-  USERLEFTROOM((listener, event) -> {
-    listener.onUserLeftRoom(event.getInitiator(), proxy(event.getPayload().getUserLeftRoom(), event));
-  }),
-  USERREQUESTEDTOJOINROOM((listener, event) -> {
-    listener.onUserRequestedToJoinRoom(event.getInitiator(),
-        proxy(event.getPayload().getUserRequestedToJoinRoom(), event));
-  }),
-  ROOMMEMBERPROMOTEDTOOWNER((listener, event) -> {
-    listener.onRoomMemberPromotedToOwner(event.getInitiator(),
-        proxy(event.getPayload().getRoomMemberPromotedToOwner(), event));
-  }),
-  ROOMMEMBERDEMOTEDFROMOWNER((listener, event) -> {
-    listener.onRoomMemberDemotedFromOwner(event.getInitiator(),
-        proxy(event.getPayload().getRoomMemberDemotedFromOwner(), event));
-  }),
-  CONNECTIONACCEPTED((listener, event) -> {
-    listener.onConnectionAccepted(event.getInitiator(), proxy(event.getPayload().getConnectionAccepted(), event));
-  }),
-  CONNECTIONREQUESTED((listener, event) -> {
-    listener.onConnectionRequested(event.getInitiator(), proxy(event.getPayload().getConnectionRequested(), event));
-  }),
-  GENERICSYSTEMEVENT((listener, event) -> {
-    listener.onGenericSystemEvent(event.getInitiator(), proxy(event.getPayload().getGenericSystemEvent(), event));
-  });
-
-
-  private final BiConsumer<RealTimeEventListener, V4Event> execConsumer;
-
-  RealTimeEventType(BiConsumer<RealTimeEventListener, V4Event> consumer) {
-    this.execConsumer = consumer;
+  MESSAGESENT(V4Payload::getMessageSent, RealTimeEventListener::onMessageSent),
+  MESSAGESUPPRESSED(V4Payload::getMessageSuppressed, RealTimeEventListener::onMessageSuppressed),
+  SYMPHONYELEMENTSACTION(V4Payload::getSymphonyElementsAction, RealTimeEventListener::onSymphonyElementsAction),
+  SHAREDPOST(V4Payload::getSharedPost, RealTimeEventListener::onSharedPost),
+  INSTANTMESSAGECREATED(V4Payload::getInstantMessageCreated, RealTimeEventListener::onInstantMessageCreated),
+  ROOMCREATED(V4Payload::getRoomCreated, RealTimeEventListener::onRoomCreated),
+  ROOMUPDATED(V4Payload::getRoomUpdated, RealTimeEventListener::onRoomUpdated),
+  ROOMDEACTIVATED(V4Payload::getRoomDeactivated, RealTimeEventListener::onRoomDeactivated),
+  ROOMREACTIVATED(V4Payload::getRoomReactivated, RealTimeEventListener::onRoomReactivated),
+  USERJOINEDROOM(V4Payload::getUserJoinedRoom, RealTimeEventListener::onUserJoinedRoom),
+  USERLEFTROOM(V4Payload::getUserLeftRoom, RealTimeEventListener::onUserLeftRoom),
+  USERREQUESTEDTOJOINROOM(V4Payload::getUserRequestedToJoinRoom, RealTimeEventListener::onUserRequestedToJoinRoom),
+  ROOMMEMBERPROMOTEDTOOWNER(V4Payload::getRoomMemberPromotedToOwner,
+      RealTimeEventListener::onRoomMemberPromotedToOwner),
+  ROOMMEMBERDEMOTEDFROMOWNER(V4Payload::getRoomMemberDemotedFromOwner,
+      RealTimeEventListener::onRoomMemberDemotedFromOwner),
+  CONNECTIONACCEPTED(V4Payload::getConnectionAccepted, RealTimeEventListener::onConnectionAccepted),
+  CONNECTIONREQUESTED(V4Payload::getConnectionRequested, RealTimeEventListener::onConnectionRequested),
+  GENERICSYSTEMEVENT(V4Payload::getGenericSystemEvent, RealTimeEventListener::onGenericSystemEvent);
+
+  /**
+   * Name of the field holding the original event in the generated proxy classes.
+   */
+  private static final String DELEGATE_FIELD = "delegate";
+
+  /**
+   * Proxy factories indexed by payload class. Proxy classes are generated once per payload type then reused.
+   */
+  private static final Map<Class<?>, PayloadProxyFactory> PROXY_FACTORIES = new ConcurrentHashMap<>();
+
+  private final Function<V4Payload, ?> payloadExtractor;
+  private final PayloadDispatcher<Object> payloadDispatcher;
+
+  @SuppressWarnings("unchecked")
+  <T> RealTimeEventType(Function<V4Payload, T> payloadExtractor, PayloadDispatcher<T> payloadDispatcher) {
+    this.payloadExtractor = payloadExtractor;
+    this.payloadDispatcher = (PayloadDispatcher<Object>) payloadDispatcher;
   }
 
   public static Optional<RealTimeEventType> fromV4Event(V4Event event) {
@@ -105,39 +88,123 @@ enum RealTimeEventType {
     }
   }
 
+  /**
+   * Dispatch the event to the listener, building a new payload proxy for this call only.
+   * When dispatching the same event to several listeners, prefer {@link #proxyPayload(V4Event)} and
+   * {@link #dispatch(RealTimeEventListener, V4Event, Object)} so that the proxy is built only once.
+   *
+   * @param listener the listener to be notified
+   * @param event    the received event
+   */
   public void dispatch(RealTimeEventListener listener, V4Event event) {
-    this.execConsumer.accept(listener, event);
+    this.dispatch(listener, event, this.proxyPayload(event));
+  }
+
+  /**
+   * Dispatch the event to the listener using an already built payload proxy.
+   *
+   * @param listener the listener to be notified
+   * @param event    the received event
+   * @param payload  the payload proxy, as returned by {@link #proxyPayload(V4Event)}
+   */
+  public void dispatch(RealTimeEventListener listener, V4Event event, Object payload) {
+    this.payloadDispatcher.dispatch(listener, event.getInitiator(), payload);
+  }
+
+  /**
+   * @param event the received event
+   * @return the payload of the event, without proxy, null if not set
+   */
+  @Nullable
+  public Object payload(V4Event event) {
+    return event.getPayload() == null ? null : this.payloadExtractor.apply(event.getPayload());
+  }
+
+  /**
+   * Build the payload proxy of the event, implementing {@link EventPayload}. The returned instance can be shared
+   * across all the listeners the event is dispatched to.
+   *
+   * @param event the received event
+   * @return the payload proxy
+   */
+  public Object proxyPayload(V4Event event) {
+    return proxy(this.payloadExtractor.apply(event.getPayload()), event);
   }
 
   /**
    * Build a dynamic proxy on the received event, add two more fields to the new proxy class as a decorator pattern.
    * So that the event original timestamp, and event id are accessible from the new fields.
    * Other method calls will be delegated to the original event object instance.
+   * <p>
+   * The proxy class is generated on the first call for a given event type and cached for the later ones.
    *
    * @param event     original event, the type will be used to build the proxy
    * @param realEvent the parent V4Event, from where the event id and timestamp can be read
    * @param <T>       event type
    * @return the new created event proxy instance
    */
+  @SuppressWarnings("unchecked")
   private static <T> T proxy(T event, V4Event realEvent) {
-    try {
-      T proxyEvent = (T) new ByteBuddy(ClassFileVersion.JAVA_V17)
-          .subclass(event.getClass())
-          .method(ElementMatchers.any().and(isPublic()))
-          .intercept(MethodCall.invokeSelf().on(event).withAllArguments())
-          .defineField("eventTimestamp", Long.class, Visibility.PRIVATE)
-          .implement(EventPayload.class).intercept(FieldAccessor.ofBeanProperty())
-          .make()
-          .load(event.getClass().getClassLoader(), ClassLoadingStrategy.UsingLookup.of(MethodHandles
-              .privateLookupIn(event.getClass(), MethodHandles.lookup())))
-          .getLoaded().getDeclaredConstructor(new Class[] {}).newInstance();
-      ((EventPayload) proxyEvent).setEventTimestamp(realEvent.getTimestamp());
-      return proxyEvent;
-    } catch (InstantiationException | IllegalAccessException | InvocationTargetException | NoSuchMethodException e) {
-      log.error("Cannot create real time event proxy class - {}", e.getMessage());
-      log.debug("", e);
-      throw new RuntimeException(e);
-    }
+    final PayloadProxyFactory factory = PROXY_FACTORIES.computeIfAbsent(event.getClass(), PayloadProxyFactory::new);
+    return (T) factory.newProxy(event, realEvent.getTimestamp());
   }
 
+  /**
+   * Listener callback receiving the event initiator and its payload.
+   *
+   * @param <T> payload type
+   */
+  @FunctionalInterface
+  private interface PayloadDispatcher<T> {
+
+    void dispatch(RealTimeEventListener listener, V4Initiator initiator, T payload);
+  }
+
+  /**
+   * Holds a generated proxy class along with the handles used to instantiate it and to set its delegate.
+   */
+  private static class PayloadProxyFactory {
+
+    private final MethodHandle constructor;
+    private final MethodHandle delegateSetter;
+
+    PayloadProxyFactory(Class<?> eventClass) {
+      try {
+        final Class<?> proxyClass = new ByteBuddy(ClassFileVersion.JAVA_V17)
+            .subclass(eventClass)
+            .defineField(DELEGATE_FIELD, eventClass, Visibility.PRIVATE)
+            .method(ElementMatchers.any().and(isPublic()))
+            .intercept(MethodCall.invokeSelf().onField(DELEGATE_FIELD).withAllArguments())
+            .defineField("eventTimestamp", Long.class, Visibility.PRIVATE)
+            .implement(EventPayload.class).intercept(FieldAccessor.ofBeanProperty())
+            .make()
+            .load(eventClass.getClassLoader(), ClassLoadingStrategy.UsingLookup.of(MethodHandles
+                .privateLookupIn(eventClass, MethodHandles.lookup())))
+            .getLoaded();
+
+        final MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(proxyClass, MethodHandles.lookup());
+        this.constructor = lookup.findConstructor(proxyClass, MethodType.methodType(void.class))
+            .asType(MethodType.methodType(Object.class));
+        this.delegateSetter = lookup.findSetter(proxyClass, DELEGATE_FIELD, eventClass)
+            .asType(MethodType.methodType(void.class, Object.class, Object.class));
+      } catch (NoSuchMethodException | NoSuchFieldException | IllegalAccessException e) {
+        log.error("Cannot create real time event proxy class - {}", e.getMessage());
+        log.debug("", e);
+        throw new RuntimeException(e);
+      }
+    }
+
+    Object newProxy(Object event, Long eventTimestamp) {
+      try {
+        final Object proxyEvent = this.constructor.invokeExact();
+        this.delegateSetter.invokeExact(proxyEvent, event);
+        ((EventPayload) proxyEvent).setEventTimestamp(eventTimestamp);
+        return proxyEvent;
+      } catch (Throwable e) {
+        log.error("Cannot create real time event proxy instance - {}", e.getMessage());
+        log.debug("", e);
+        throw new RuntimeException(e);
+      }
+    }
+  }
 }
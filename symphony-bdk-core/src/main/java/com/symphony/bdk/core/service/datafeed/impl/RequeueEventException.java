@@ -15,4 +15,9 @@ public class RequeueEventException extends RuntimeException {
     super(String.format("Listener %s failed to process event %s with type %s, events will be re-queued",
         listener, event.getId(), event.getType()), e);
   }
+
+  public RequeueEventException(V4Event event, EventException e) {
+    super(String.format("Failed to process event %s with type %s, events will be re-queued: %s",
+        event.getId(), event.getType(), e.getMessage()), e);
+  }
 }
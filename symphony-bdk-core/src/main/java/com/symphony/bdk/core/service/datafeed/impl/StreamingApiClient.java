@@ -0,0 +1,125 @@
+package com.symphony.bdk.core.service.datafeed.impl;
+
+import com.symphony.bdk.http.api.ApiClient;
+import com.symphony.bdk.http.api.ApiException;
+import com.symphony.bdk.http.api.ApiResponse;
+import com.symphony.bdk.http.api.CancellableCall;
+import com.symphony.bdk.http.api.Pair;
+import com.symphony.bdk.http.api.ResponseBodyReader;
+import com.symphony.bdk.http.api.auth.Authentication;
+import com.symphony.bdk.http.api.util.TypeReference;
+
+import org.apiguardian.api.API;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * {@link ApiClient} through which a generated API sends its request with
+ * {@link ApiClient#invokeStreamingAPI}, the response body being read by a {@link ResponseBodyReader} instead of being
+ * deserialized as a whole. The request is built by the generated API, i.e. with its path, headers and content type,
+ * the generated method returning null while the value read from the body is available from {@link #getResult()}.
+ *
+ * @param <R> type of the value returned by the body reader
+ */
+@API(status = API.Status.INTERNAL)
+class StreamingApiClient<R> implements ApiClient {
+
+  private final ApiClient delegate;
+  private final ResponseBodyReader<R> bodyReader;
+  private R result;
+
+  StreamingApiClient(ApiClient delegate, ResponseBodyReader<R> bodyReader) {
+    this.delegate = delegate;
+    this.bodyReader = bodyReader;
+  }
+
+  /**
+   * @return the value returned by the body reader, null if the response has no content
+   */
+  R getResult() {
+    return this.result;
+  }
+
+  /**
+   * Send the request with {@link ApiClient#invokeStreamingAPI}, whatever the return type.
+   */
+  @Override
+  public <T> ApiResponse<T> invokeAPI(String path, String method, List<Pair> queryParams, Object body,
+      Map<String, String> headerParams, Map<String, String> cookieParams, Map<String, Object> formParams,
+      String accept, String contentType, String[] authNames, TypeReference<T> returnType) throws ApiException {
+    final ApiResponse<R> response = this.delegate.invokeStreamingAPI(path, method, queryParams, body, headerParams,
+        cookieParams, formParams, accept, contentType, authNames, this.bodyReader);
+    this.result = response.getData();
+    return new ApiResponse<>(response.getStatusCode(), response.getHeaders());
+  }
+
+  @Override
+  public <T> ApiResponse<T> invokeStreamingAPI(String path, String method, List<Pair> queryParams, Object body,
+      Map<String, String> headerParams, Map<String, String> cookieParams, Map<String, Object> formParams,
+      String accept, String contentType, String[] authNames, ResponseBodyReader<T> bodyReader) throws ApiException {
+    return this.delegate.invokeStreamingAPI(path, method, queryParams, body, headerParams, cookieParams, formParams,
+        accept, contentType, authNames, bodyReader);
+  }
+
+  @Override
+  public <M> Optional<M> getJsonMapper(Class<M> mapperType) {
+    return this.delegate.getJsonMapper(mapperType);
+  }
+
+  @Override
+  public String getBasePath() {
+    return this.delegate.getBasePath();
+  }
+
+  @Override
+  public String parameterToString(Object param) {
+    return this.delegate.parameterToString(param);
+  }
+
+  @Override
+  public List<Pair> parameterToPairs(String collectionFormat, String name, Object value) {
+    return this.delegate.parameterToPairs(collectionFormat, name, value);
+  }
+
+  @Override
+  public String selectHeaderAccept(String... accepts) {
+    return this.delegate.selectHeaderAccept(accepts);
+  }
+
+  @Override
+  public String selectHeaderContentType(String... contentTypes) {
+    return this.delegate.selectHeaderContentType(contentTypes);
+  }
+
+  @Override
+  public String escapeString(String str) {
+    return this.delegate.escapeString(str);
+  }
+
+  @Override
+  public Map<String, Authentication> getAuthentications() {
+    return this.delegate.getAuthentications();
+  }
+
+  @Override
+  public void addEnforcedAuthenticationScheme(String name) {
+    this.delegate.addEnforcedAuthenticationScheme(name);
+  }
+
+  @Override
+  public void rotate() {
+    this.delegate.rotate();
+  }
+
+  @Override
+  public <T> T invokeCancellable(CancellableCall<T> call) throws ApiException {
+    return this.delegate.invokeCancellable(call);
+  }
+
+  @Override
+  public void cancelPendingRequests() {
+    this.delegate.cancelPendingRequests();
+  }
+}
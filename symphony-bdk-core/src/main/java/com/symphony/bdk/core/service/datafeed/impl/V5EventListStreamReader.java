@@ -0,0 +1,103 @@
+package com.symphony.bdk.core.service.datafeed.impl;
+
+import com.symphony.bdk.gen.api.model.V4Event;
+import com.symphony.bdk.http.api.ResponseBodyReader;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apiguardian.api.API;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Reads a {@code V5EventList} JSON body with the Jackson streaming parser, each event of the {@code events} array being
+ * handed to an {@link EventHandler} as soon as it is decoded, i.e. before the rest of the body is received. The
+ * {@code ackId} field, sent after the events, is returned once the whole body is read.
+ */
+@API(status = API.Status.INTERNAL)
+class V5EventListStreamReader implements ResponseBodyReader<V5EventListStreamReader.Result> {
+
+  private static final String EVENTS = "events";
+  private static final String ACK_ID = "ackId";
+
+  private final ObjectMapper mapper;
+  private final EventHandler handler;
+
+  /**
+   * @param mapper  mapper of the API client, so that the events are decoded the same way as by the generated API
+   * @param handler handler of the decoded events
+   */
+  V5EventListStreamReader(ObjectMapper mapper, EventHandler handler) {
+    this.mapper = mapper;
+    this.handler = handler;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Result read(InputStream body) throws IOException {
+    String ackId = null;
+    int eventCount = 0;
+
+    try (JsonParser parser = this.mapper.createParser(body)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        throw new IOException("Expected an event list object, got " + parser.currentToken());
+      }
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        final String field = parser.currentName();
+        final JsonToken value = parser.nextToken();
+
+        if (EVENTS.equals(field) && value == JsonToken.START_ARRAY) {
+          while (parser.nextToken() != JsonToken.END_ARRAY) {
+            final V4Event event = this.mapper.readValue(parser, V4Event.class);
+            eventCount++;
+            this.handler.handle(event);
+          }
+        } else if (ACK_ID.equals(field)) {
+          ackId = value == JsonToken.VALUE_NULL ? null : parser.getValueAsString();
+        } else {
+          parser.skipChildren();
+        }
+      }
+    }
+    return new Result(ackId, eventCount);
+  }
+
+  /**
+   * Handles an event as soon as it is decoded.
+   */
+  @FunctionalInterface
+  interface EventHandler {
+
+    /**
+     * @param event the decoded event
+     * @throws RequeueEventException to stop reading the body, the events of the batch not being acknowledged
+     */
+    void handle(V4Event event) throws RequeueEventException;
+  }
+
+  /**
+   * Outcome of a read, once the whole body is consumed.
+   */
+  static class Result {
+
+    private final String ackId;
+    private final int eventCount;
+
+    Result(String ackId, int eventCount) {
+      this.ackId = ackId;
+      this.eventCount = eventCount;
+    }
+
+    String getAckId() {
+      return this.ackId;
+    }
+
+    int getEventCount() {
+      return this.eventCount;
+    }
+  }
+}
@@ -0,0 +1,141 @@
+package com.symphony.bdk.core.service.datafeed.metrics;
+
+import org.apiguardian.api.API;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram of positive long values, with a bounded memory footprint whatever the recorded values.
+ * <p>
+ * Values are counted in log-linear buckets: each power of two is split in {@value #SUB_BUCKETS} buckets, so that a
+ * percentile is reported with a relative error of at most 12.5%. Count, sum, min and max are exact.
+ */
+@API(status = API.Status.EXPERIMENTAL)
+public class Histogram {
+
+  private static final int SUB_BUCKET_BITS = 3;
+  private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+  private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+  private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+  private final LongAdder count = new LongAdder();
+  private final LongAdder sum = new LongAdder();
+  private final LongAccumulator min = new LongAccumulator(Math::min, Long.MAX_VALUE);
+  private final LongAccumulator max = new LongAccumulator(Math::max, Long.MIN_VALUE);
+
+  /**
+   * Record a value, negative values are recorded as 0.
+   *
+   * @param value the value to record
+   */
+  public void record(long value) {
+    final long v = Math.max(0L, value);
+    this.buckets.incrementAndGet(bucketOf(v));
+    this.count.increment();
+    this.sum.add(v);
+    this.min.accumulate(v);
+    this.max.accumulate(v);
+  }
+
+  /**
+   * @return a consistent enough view of the recorded values, values recorded concurrently may or may not be included
+   */
+  public Snapshot snapshot() {
+    final long[] counts = new long[BUCKETS];
+    long total = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      counts[i] = this.buckets.get(i);
+      total += counts[i];
+    }
+    return new Snapshot(counts, total, this.sum.sum(), total == 0 ? 0 : this.min.get(),
+        total == 0 ? 0 : this.max.get());
+  }
+
+  static int bucketOf(long value) {
+    if (value < SUB_BUCKETS) {
+      return (int) value;
+    }
+    final int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+    final int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+    return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+  }
+
+  static long upperBoundOf(int bucket) {
+    if (bucket < SUB_BUCKETS) {
+      return bucket;
+    }
+    final int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+    final long lowerBound = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << (exponent - SUB_BUCKET_BITS);
+    return lowerBound + (1L << (exponent - SUB_BUCKET_BITS)) - 1;
+  }
+
+  /**
+   * Immutable view of a {@link Histogram}.
+   */
+  public static class Snapshot {
+
+    private final long[] buckets;
+    private final long count;
+    private final long sum;
+    private final long min;
+    private final long max;
+
+    private Snapshot(long[] buckets, long count, long sum, long min, long max) {
+      this.buckets = buckets;
+      this.count = count;
+      this.sum = sum;
+      this.min = min;
+      this.max = max;
+    }
+
+    public long getCount() {
+      return this.count;
+    }
+
+    public long getSum() {
+      return this.sum;
+    }
+
+    public long getMin() {
+      return this.min;
+    }
+
+    public long getMax() {
+      return this.max;
+    }
+
+    public double getMean() {
+      return this.count == 0 ? 0 : (double) this.sum / this.count;
+    }
+
+    /**
+     * @param percentile the percentile, between 0 and 100
+     * @return the upper bound of the bucket containing the percentile, capped by the max recorded value
+     */
+    public long getPercentile(double percentile) {
+      if (percentile < 0 || percentile > 100) {
+        throw new IllegalArgumentException("Percentile must be between 0 and 100: " + percentile);
+      }
+      if (this.count == 0) {
+        return 0;
+      }
+      final long rank = Math.max(1L, (long) Math.ceil(percentile / 100 * this.count));
+      long seen = 0;
+      for (int i = 0; i < this.buckets.length; i++) {
+        seen += this.buckets[i];
+        if (seen >= rank) {
+          return Math.min(upperBoundOf(i), this.max);
+        }
+      }
+      return this.max;
+    }
+
+    @Override
+    public String toString() {
+      return "count=" + this.count + ", mean=" + this.getMean() + ", min=" + this.min + ", p50=" + this.getPercentile(50)
+          + ", p99=" + this.getPercentile(99) + ", max=" + this.max;
+    }
+  }
+}
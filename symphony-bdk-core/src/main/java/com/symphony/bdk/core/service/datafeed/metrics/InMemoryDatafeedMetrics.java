@@ -0,0 +1,164 @@
+package com.symphony.bdk.core.service.datafeed.metrics;
+
+import com.symphony.bdk.core.service.datafeed.DatafeedMetrics;
+
+import org.apiguardian.api.API;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link DatafeedMetrics} implementation keeping the measurements in memory, in {@link Histogram} and counters, so that
+ * they can be periodically scraped, e.g. to be exposed by a monitoring endpoint or logged.
+ * <p>
+ * Durations are recorded in microseconds, except the event lag which is recorded in milliseconds, the precision of the
+ * event timestamps.
+ */
+@API(status = API.Status.EXPERIMENTAL)
+public class InMemoryDatafeedMetrics implements DatafeedMetrics {
+
+  private final ConcurrentMap<String, Histogram> readRoundTrips = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, Histogram> batchSizes = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, Histogram> dispatchByListener = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, Histogram> dispatchByEventType = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, Histogram> lags = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, Histogram> activities = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, LongAdder> requeues = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, LongAdder> retries = new ConcurrentHashMap<>();
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void recordRead(String loop, Duration roundTrip, int batchSize) {
+    histogram(this.readRoundTrips, loop).record(toMicros(roundTrip));
+    histogram(this.batchSizes, loop).record(batchSize);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void recordDispatch(String eventType, String listener, Duration duration) {
+    final long micros = toMicros(duration);
+    histogram(this.dispatchByListener, listener).record(micros);
+    histogram(this.dispatchByEventType, eventType).record(micros);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void recordLag(String eventType, Duration lag) {
+    histogram(this.lags, eventType).record(lag.toMillis());
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void recordRequeue(String loop, int batchSize) {
+    counter(this.requeues, loop).increment();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void recordRetry(String loop) {
+    counter(this.retries, loop).increment();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void recordActivity(String activity, Duration duration) {
+    histogram(this.activities, activity).record(toMicros(duration));
+  }
+
+  /**
+   * @return the read round-trip times in microseconds, per loop
+   */
+  public Map<String, Histogram.Snapshot> getReadRoundTrips() {
+    return snapshot(this.readRoundTrips);
+  }
+
+  /**
+   * @return the number of events per read, per loop
+   */
+  public Map<String, Histogram.Snapshot> getBatchSizes() {
+    return snapshot(this.batchSizes);
+  }
+
+  /**
+   * @return the dispatch times in microseconds, per listener
+   */
+  public Map<String, Histogram.Snapshot> getDispatchTimesByListener() {
+    return snapshot(this.dispatchByListener);
+  }
+
+  /**
+   * @return the dispatch times in microseconds, per event type
+   */
+  public Map<String, Histogram.Snapshot> getDispatchTimesByEventType() {
+    return snapshot(this.dispatchByEventType);
+  }
+
+  /**
+   * @return the events lag in milliseconds, per event type
+   */
+  public Map<String, Histogram.Snapshot> getLags() {
+    return snapshot(this.lags);
+  }
+
+  /**
+   * @return the activities execution times in microseconds, per activity
+   */
+  public Map<String, Histogram.Snapshot> getActivityTimes() {
+    return snapshot(this.activities);
+  }
+
+  /**
+   * @return the number of re-queued batches, per loop
+   */
+  public Map<String, Long> getRequeueCounts() {
+    return count(this.requeues);
+  }
+
+  /**
+   * @return the number of retried reads, per loop
+   */
+  public Map<String, Long> getRetryCounts() {
+    return count(this.retries);
+  }
+
+  private static Histogram histogram(ConcurrentMap<String, Histogram> histograms, String name) {
+    return histograms.computeIfAbsent(String.valueOf(name), n -> new Histogram());
+  }
+
+  private static LongAdder counter(ConcurrentMap<String, LongAdder> counters, String name) {
+    return counters.computeIfAbsent(String.valueOf(name), n -> new LongAdder());
+  }
+
+  private static long toMicros(Duration duration) {
+    return duration.toNanos() / 1000;
+  }
+
+  private static Map<String, Histogram.Snapshot> snapshot(Map<String, Histogram> histograms) {
+    final Map<String, Histogram.Snapshot> snapshots = new TreeMap<>();
+    histograms.forEach((name, histogram) -> snapshots.put(name, histogram.snapshot()));
+    return Collections.unmodifiableMap(snapshots);
+  }
+
+  private static Map<String, Long> count(Map<String, LongAdder> counters) {
+    final Map<String, Long> counts = new TreeMap<>();
+    counters.forEach((name, counter) -> counts.put(name, counter.sum()));
+    return Collections.unmodifiableMap(counts);
+  }
+}
@@ -0,0 +1,83 @@
+package com.symphony.bdk.core.service.datafeed.util;
+
+import com.symphony.bdk.gen.api.model.V4GenericSystemEvent;
+import com.symphony.bdk.gen.api.model.V4InstantMessageCreated;
+import com.symphony.bdk.gen.api.model.V4Message;
+import com.symphony.bdk.gen.api.model.V4MessageSent;
+import com.symphony.bdk.gen.api.model.V4MessageSuppressed;
+import com.symphony.bdk.gen.api.model.V4RoomCreated;
+import com.symphony.bdk.gen.api.model.V4RoomDeactivated;
+import com.symphony.bdk.gen.api.model.V4RoomMemberDemotedFromOwner;
+import com.symphony.bdk.gen.api.model.V4RoomMemberPromotedToOwner;
+import com.symphony.bdk.gen.api.model.V4RoomReactivated;
+import com.symphony.bdk.gen.api.model.V4RoomUpdated;
+import com.symphony.bdk.gen.api.model.V4SharedPost;
+import com.symphony.bdk.gen.api.model.V4Stream;
+import com.symphony.bdk.gen.api.model.V4SymphonyElementsAction;
+import com.symphony.bdk.gen.api.model.V4UserJoinedRoom;
+import com.symphony.bdk.gen.api.model.V4UserLeftRoom;
+import com.symphony.bdk.gen.api.model.V4UserRequestedToJoinRoom;
+
+import org.apiguardian.api.API;
+
+import javax.annotation.Nullable;
+
+/**
+ * Utility class returning the ID of the stream a real-time event occurred in, e.g. to dispatch the events of a same
+ * stream in the order they were received.
+ */
+@API(status = API.Status.INTERNAL)
+public final class EventStreamIds {
+
+  private EventStreamIds() {
+    // utility class
+  }
+
+  /**
+   * @param payload the payload of a real-time event, e.g. a {@link V4MessageSent}
+   * @return the ID of the stream the event occurred in, null for events not bound to a stream (i.e. connection events)
+   */
+  @Nullable
+  public static String of(@Nullable Object payload) {
+    final V4Stream stream;
+    if (payload instanceof V4MessageSent) {
+      stream = streamOf(((V4MessageSent) payload).getMessage());
+    } else if (payload instanceof V4SharedPost) {
+      stream = streamOf(((V4SharedPost) payload).getSharedMessage());
+    } else if (payload instanceof V4MessageSuppressed) {
+      stream = ((V4MessageSuppressed) payload).getStream();
+    } else if (payload instanceof V4SymphonyElementsAction) {
+      stream = ((V4SymphonyElementsAction) payload).getStream();
+    } else if (payload instanceof V4InstantMessageCreated) {
+      stream = ((V4InstantMessageCreated) payload).getStream();
+    } else if (payload instanceof V4RoomCreated) {
+      stream = ((V4RoomCreated) payload).getStream();
+    } else if (payload instanceof V4RoomUpdated) {
+      stream = ((V4RoomUpdated) payload).getStream();
+    } else if (payload instanceof V4RoomDeactivated) {
+      stream = ((V4RoomDeactivated) payload).getStream();
+    } else if (payload instanceof V4RoomReactivated) {
+      stream = ((V4RoomReactivated) payload).getStream();
+    } else if (payload instanceof V4UserJoinedRoom) {
+      stream = ((V4UserJoinedRoom) payload).getStream();
+    } else if (payload instanceof V4UserLeftRoom) {
+      stream = ((V4UserLeftRoom) payload).getStream();
+    } else if (payload instanceof V4UserRequestedToJoinRoom) {
+      stream = ((V4UserRequestedToJoinRoom) payload).getStream();
+    } else if (payload instanceof V4RoomMemberPromotedToOwner) {
+      stream = ((V4RoomMemberPromotedToOwner) payload).getStream();
+    } else if (payload instanceof V4RoomMemberDemotedFromOwner) {
+      stream = ((V4RoomMemberDemotedFromOwner) payload).getStream();
+    } else if (payload instanceof V4GenericSystemEvent) {
+      stream = ((V4GenericSystemEvent) payload).getStream();
+    } else {
+      stream = null;
+    }
+    return stream == null ? null : stream.getStreamId();
+  }
+
+  @Nullable
+  private static V4Stream streamOf(@Nullable V4Message message) {
+    return message == null ? null : message.getStream();
+  }
+}
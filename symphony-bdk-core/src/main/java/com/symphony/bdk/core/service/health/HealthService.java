@@ -3,6 +3,7 @@ package com.symphony.bdk.core.service.health;
 import com.symphony.bdk.core.auth.AuthSession;
 import com.symphony.bdk.core.retry.function.SupplierWithApiException;
 import com.symphony.bdk.core.service.datafeed.DatafeedLoop;
+import com.symphony.bdk.core.service.datafeed.DatahoseLoop;
 import com.symphony.bdk.gen.api.SignalsApi;
 import com.symphony.bdk.gen.api.SystemApi;
 import com.symphony.bdk.gen.api.model.AgentInfo;
@@ -15,6 +16,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.apiguardian.api.API;
 
 import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.function.Supplier;
 
 /**
@@ -28,6 +31,7 @@ public class HealthService {
   private final SignalsApi signalsApi;
   private final AuthSession authSession;
   private DatafeedLoop datafeedLoop;
+  private DatahoseLoop datahoseLoop;
 
   public HealthService(SystemApi systemApi, SignalsApi signalsApi, AuthSession authSession) {
     this.systemApi = systemApi;
@@ -46,6 +50,11 @@ public class HealthService {
     this.datafeedLoop = datafeedLoop;
   }
 
+  @API(status = API.Status.EXPERIMENTAL)
+  public void setDatahoseLoop(DatahoseLoop datahoseLoop) {
+    this.datahoseLoop = datahoseLoop;
+  }
+
   /**
    * Returns the connectivity status of your Agent server.
    * If your Agent server is started and running properly, the status value will be UP.
@@ -82,6 +91,53 @@ public class HealthService {
     return V3HealthStatus.DOWN;
   }
 
+  /**
+   * Return the connectivity status of the Datahose long pulling connections, UP only if all the readers are UP.
+   *
+   * @return {@link V3HealthStatus} the connectivity status
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  public V3HealthStatus datahoseHealthCheck() {
+    final Map<String, V3HealthStatus> readers = this.datahoseReadersHealthCheck();
+    return !readers.isEmpty() && readers.values().stream().allMatch(V3HealthStatus.UP::equals)
+        ? V3HealthStatus.UP : V3HealthStatus.DOWN;
+  }
+
+  /**
+   * Return the connectivity status of each reader of the Datahose loop.
+   *
+   * @return {@link V3HealthStatus} the connectivity status, per reader name, empty if the datahose loop is not enabled
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  public Map<String, V3HealthStatus> datahoseReadersHealthCheck() {
+    final Map<String, V3HealthStatus> readers = new LinkedHashMap<>();
+    if (this.datahoseLoop != null) {
+      this.datahoseLoop.lastPullTimestamps().forEach((reader, lastPull) ->
+          readers.put(reader, lastRunHealthStatus(() -> lastPull)));
+    } else {
+      log.trace("datahoseloop is not enabled");
+    }
+    return readers;
+  }
+
+  /**
+   * Return the listeners of the datafeed and datahose loops currently quarantined for exceeding their time budget.
+   *
+   * @return the time each listener was quarantined at, per listener label (see
+   *     {@link DatafeedLoop#quarantinedListeners()}), empty if no listener is quarantined
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  public Map<String, Instant> quarantinedListeners() {
+    final Map<String, Instant> quarantined = new LinkedHashMap<>();
+    if (this.datafeedLoop != null) {
+      quarantined.putAll(this.datafeedLoop.quarantinedListeners());
+    }
+    if (this.datahoseLoop != null) {
+      quarantined.putAll(this.datahoseLoop.quarantinedListeners());
+    }
+    return quarantined;
+  }
+
   /**
    * Gets information about the Agent.
    * Available on Agent 2.53.0 and above.
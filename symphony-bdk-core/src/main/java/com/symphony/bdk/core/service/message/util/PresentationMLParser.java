@@ -1,30 +1,25 @@
 package com.symphony.bdk.core.service.message.util;
 
 import com.symphony.bdk.core.service.message.exception.PresentationMLParserException;
+import com.symphony.bdk.core.util.PresentationMLScanner;
 
-import lombok.Generated;
-import lombok.SneakyThrows;
 import org.apache.commons.text.StringEscapeUtils;
 import org.apiguardian.api.API;
 import org.w3c.dom.Document;
 import org.xml.sax.SAXException;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
-
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
 
 /**
  * Helper class for parsing the PresentationML to text content.
+ * <p>
+ * The text content is extracted in a single pass over the PresentationML by a {@link PresentationMLScanner}, without
+ * building a DOM. The PresentationML is only parsed into a DOM when the scanner cannot validate it, so that the same
+ * errors are reported.
  */
 @API(status = API.Status.STABLE)
 public class PresentationMLParser {
 
-  private static final ThreadLocal<DocumentBuilder> LOCAL_BUILDER = ThreadLocal.withInitial(
-      PresentationMLParser::initBuilder);
-
   /**
    * Get text content from PresentationML
    *
@@ -33,15 +28,13 @@ public class PresentationMLParser {
    * @return the message text content extracted from the given PresentationML
    */
   public static String getTextContent(String presentationML, Boolean trim) throws PresentationMLParserException {
-    try {
-      final Document doc = LOCAL_BUILDER.get().parse(
-          new ByteArrayInputStream(presentationML.getBytes(StandardCharsets.UTF_8)));
-      String textContent = doc.getChildNodes().item(0).getTextContent();
-      String escapedPresentationML = StringEscapeUtils.unescapeHtml4(textContent);
-      return trim ? escapedPresentationML.trim() : escapedPresentationML;
-    } catch (SAXException | IOException e) {
-      throw new PresentationMLParserException(presentationML, "Failed to parse the PresentationML", e);
+    String textContent = new TextExtractor(presentationML).extract();
+    if (textContent == null) {
+      textContent = getTextContentFromDocument(presentationML);
     }
+    String escapedPresentationML = textContent.indexOf('&') < 0 ? textContent
+        : StringEscapeUtils.unescapeHtml4(textContent);
+    return trim ? escapedPresentationML.trim() : escapedPresentationML;
   }
 
   /**
@@ -54,16 +47,56 @@ public class PresentationMLParser {
     return getTextContent(presentationML, true);
   }
 
-  // Ignore the code coverage check because cannot produce the exception
-  @Generated
-  @SneakyThrows
-  private static DocumentBuilder initBuilder() {
-    final DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-    factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
-    return factory.newDocumentBuilder();
+  private static String getTextContentFromDocument(String presentationML) throws PresentationMLParserException {
+    try {
+      final Document doc = PresentationMLScanner.parseDocument(presentationML);
+      return doc.getChildNodes().item(0).getTextContent();
+    } catch (SAXException | IOException e) {
+      throw new PresentationMLParserException(presentationML, "Failed to parse the PresentationML", e);
+    }
   }
 
   private PresentationMLParser() {
 
   }
+
+  /**
+   * Extracts the text of the root element of a PresentationML document, that is, its character data and CDATA
+   * sections, the character and predefined entity references being replaced.
+   */
+  private static final class TextExtractor implements PresentationMLScanner.Handler {
+
+    private final PresentationMLScanner scanner;
+    private final StringBuilder text;
+
+    private TextExtractor(String input) {
+      this.scanner = new PresentationMLScanner(input, this);
+      this.text = new StringBuilder(input.length());
+    }
+
+    /**
+     * @return the text content, null if the document has to be parsed into a DOM
+     */
+    private String extract() {
+      try {
+        this.scanner.scan();
+      } catch (PresentationMLScanner.NotValidatedException e) {
+        return null;
+      }
+      return this.text.toString();
+    }
+
+    @Override
+    public void onText(CharSequence text) {
+      this.text.append(text);
+    }
+
+    @Override
+    public void onComment(CharSequence text) {
+      if (!this.scanner.isRootElementRead() && this.scanner.getDepth() == 0) {
+        // a comment before the root element would be returned as the text content
+        throw this.scanner.notValidated("Comment before the root element");
+      }
+    }
+  }
 }
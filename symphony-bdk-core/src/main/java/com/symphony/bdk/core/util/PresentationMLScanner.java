@@ -0,0 +1,545 @@
+package com.symphony.bdk.core.util;
+
+import lombok.Generated;
+import lombok.SneakyThrows;
+import org.apiguardian.api.API;
+import org.w3c.dom.Document;
+import org.xml.sax.SAXException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import javax.annotation.Nullable;
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+
+/**
+ * Scans a PresentationML document in a single pass, without building a DOM, its content being reported to a
+ * {@link Handler} as it is read.
+ * <p>
+ * Only the subset of XML used by PresentationML is supported: a document the scanner cannot validate, e.g. because
+ * it is not well-formed or uses an XML declaration, a DOCTYPE or references in attribute values, makes it throw a
+ * {@link NotValidatedException}. The document is then expected to be parsed into a DOM, see
+ * {@link #parseDocument(String)}, so that the same content and errors are returned.
+ */
+@API(status = API.Status.INTERNAL)
+public class PresentationMLScanner {
+
+  private static final ThreadLocal<DocumentBuilder> LOCAL_BUILDER = ThreadLocal.withInitial(
+      PresentationMLScanner::initBuilder);
+
+  private final String input;
+  private final Handler handler;
+  private final StringBuilder text = new StringBuilder();
+  private int position;
+  private int[] openElements = new int[16]; // start and end of the name of each open element
+  private int depth;
+  private boolean rootElementRead;
+  // start and end of the name and of the value of each attribute of the current element
+  private int[] attributes = new int[16];
+  private int attributeCount;
+
+  /**
+   * Receives the content of the scanned document.
+   */
+  public interface Handler {
+
+    /**
+     * Character data or CDATA section of the document, the references being replaced and the line breaks
+     * normalized. The whitespaces out of the root element are not reported.
+     *
+     * @param text the text, only valid during the call
+     */
+    void onText(CharSequence text);
+
+    /**
+     * Comment of the document, its line breaks being normalized.
+     *
+     * @param text the text of the comment, only valid during the call
+     */
+    default void onComment(CharSequence text) {
+    }
+
+    /**
+     * Start of an element, whose name and attributes are returned by the scanner during the call.
+     *
+     * @param scanner the scanner, positioned on the element
+     */
+    default void onStartElement(PresentationMLScanner scanner) {
+    }
+
+    /**
+     * End of an element, including an empty one, whose name is returned by the scanner during the call.
+     *
+     * @param scanner the scanner, positioned on the element
+     */
+    default void onEndElement(PresentationMLScanner scanner) {
+    }
+  }
+
+  /**
+   * @param input   the PresentationML document
+   * @param handler the handler receiving the content of the document
+   */
+  public PresentationMLScanner(String input, Handler handler) {
+    this.input = input;
+    this.handler = handler;
+  }
+
+  /**
+   * Parse a document into a DOM, e.g. once the scanner failed to validate it.
+   *
+   * @param input the PresentationML document
+   * @return the parsed document
+   * @throws SAXException if the document is not a well-formed XML document
+   * @throws IOException  never, the document being read from memory
+   */
+  public static Document parseDocument(String input) throws SAXException, IOException {
+    return LOCAL_BUILDER.get().parse(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)));
+  }
+
+  // Ignore the code coverage check because cannot produce the exception
+  @Generated
+  @SneakyThrows
+  private static DocumentBuilder initBuilder() {
+    final DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+    // to fix XXE vulnerability
+    factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+    return factory.newDocumentBuilder();
+  }
+
+  /**
+   * Scan the whole document.
+   *
+   * @throws NotValidatedException if the document cannot be validated by the scanner
+   */
+  public void scan() {
+    while (this.scanNext()) {
+      // reported to the handler
+    }
+  }
+
+  /**
+   * Scan the next text or markup of the document.
+   *
+   * @return false if the whole document has already been scanned
+   * @throws NotValidatedException if the document cannot be validated by the scanner
+   */
+  public boolean scanNext() {
+    if (this.position == 0 && this.input.startsWith("<?xml")) {
+      throw this.notValidated("XML declaration");
+    }
+
+    if (this.position >= this.input.length()) {
+      if (!this.rootElementRead || this.depth > 0) {
+        throw this.notValidated("Premature end of document");
+      }
+      return false;
+    }
+
+    if (this.input.charAt(this.position) == '<') {
+      this.readMarkup();
+    } else {
+      final int markup = this.input.indexOf('<', this.position);
+      this.readText(markup < 0 ? this.input.length() : markup);
+    }
+    return true;
+  }
+
+  /**
+   * @return the depth of the current element, 1 for the root element, 0 out of the root element
+   */
+  public int getDepth() {
+    return this.depth;
+  }
+
+  /**
+   * @return true once the root element has been fully read
+   */
+  public boolean isRootElementRead() {
+    return this.rootElementRead;
+  }
+
+  /**
+   * @param name an element name
+   * @return true if the current element has the given name
+   */
+  public boolean isElement(String name) {
+    return this.depth > 0 && this.isName(name, this.openElements[2 * this.depth - 2],
+        this.openElements[2 * this.depth - 1]);
+  }
+
+  /**
+   * @param name an attribute name
+   * @return the value of the attribute of the current element, its whitespaces being normalized as in a DOM, null if
+   *     the element does not have such an attribute or if not called from {@link Handler#onStartElement}
+   */
+  @Nullable
+  public String getAttribute(String name) {
+    for (int i = 0; i < this.attributeCount; i++) {
+      if (this.isName(name, this.attributes[4 * i], this.attributes[4 * i + 1])) {
+        return this.attributeValue(this.attributes[4 * i + 2], this.attributes[4 * i + 3]);
+      }
+    }
+    return null;
+  }
+
+  /**
+   * @param reason why the document cannot be validated
+   * @return the exception to be thrown, e.g. by a handler only supporting a subset of the valid documents
+   */
+  public NotValidatedException notValidated(String reason) {
+    return new NotValidatedException(reason + " at position " + this.position);
+  }
+
+  private void readText(int end) {
+    if (this.depth == 0) {
+      // only whitespaces are allowed out of the root element
+      for (int i = this.position; i < end; i++) {
+        if (!isWhitespace(this.input.charAt(i))) {
+          throw this.notValidated("Content is not allowed out of the root element");
+        }
+      }
+      this.position = end;
+      return;
+    }
+
+    this.text.setLength(0);
+    int copied = this.position;
+    for (int i = this.position; i < end; i++) {
+      final char c = this.input.charAt(i);
+      if (c == '&') {
+        this.text.append(this.input, copied, i);
+        i = this.appendReference(i, end);
+        copied = i + 1;
+      } else if (c == '\r') {
+        this.text.append(this.input, copied, i).append('\n');
+        if (i + 1 < end && this.input.charAt(i + 1) == '\n') {
+          i++;
+        }
+        copied = i + 1;
+      } else if (!this.isValidCharacter(c, i)
+          || (c == '>' && i >= this.position + 2 && this.input.startsWith("]]>", i - 2))) {
+        throw this.notValidated("Invalid character");
+      }
+    }
+    this.text.append(this.input, copied, end);
+    this.position = end;
+    this.handler.onText(this.text);
+  }
+
+  /**
+   * @return the position of the ';' ending the reference
+   */
+  private int appendReference(int start, int end) {
+    final int semicolon = this.input.indexOf(';', start);
+    if (semicolon < 0 || semicolon >= end) {
+      throw this.notValidated("Unterminated reference");
+    }
+
+    if (this.input.startsWith("&#", start)) {
+      final boolean hexadecimal = this.input.startsWith("&#x", start);
+      final int codePoint;
+      try {
+        codePoint = Integer.parseInt(this.input.substring(start + (hexadecimal ? 3 : 2), semicolon),
+            hexadecimal ? 16 : 10);
+      } catch (NumberFormatException e) {
+        throw this.notValidated("Invalid character reference");
+      }
+      if (!isValidCodePoint(codePoint)) {
+        throw this.notValidated("Invalid character reference");
+      }
+      this.text.appendCodePoint(codePoint);
+      return semicolon;
+    }
+
+    switch (this.input.substring(start + 1, semicolon)) {
+      case "amp":
+        this.text.append('&');
+        break;
+      case "lt":
+        this.text.append('<');
+        break;
+      case "gt":
+        this.text.append('>');
+        break;
+      case "quot":
+        this.text.append('"');
+        break;
+      case "apos":
+        this.text.append('\'');
+        break;
+      default:
+        throw this.notValidated("Undeclared entity");
+    }
+    return semicolon;
+  }
+
+  private void readMarkup() {
+    if (this.input.startsWith("<!--", this.position)) {
+      final int end = this.indexOf("--", this.position + 4);
+      if (!this.input.startsWith("-->", end)) {
+        throw this.notValidated("Invalid comment");
+      }
+      this.readUnparsedText(this.position + 4, end);
+      this.position = end + 3;
+      this.handler.onComment(this.text);
+    } else if (this.input.startsWith("<![CDATA[", this.position)) {
+      final int end = this.indexOf("]]>", this.position + 9);
+      if (this.depth == 0) {
+        throw this.notValidated("Content is not allowed out of the root element");
+      }
+      this.readUnparsedText(this.position + 9, end);
+      this.position = end + 3;
+      this.handler.onText(this.text);
+    } else if (this.input.startsWith("<!", this.position) || this.input.startsWith("<?", this.position)) {
+      // DOCTYPE and processing instructions are left to the DOM parser, which rejects the DOCTYPE
+      throw this.notValidated("DOCTYPE or processing instruction");
+    } else if (this.input.startsWith("</", this.position)) {
+      this.readEndTag();
+    } else {
+      this.readStartTag();
+    }
+  }
+
+  /**
+   * Read the text of a comment or CDATA section, in which references are not replaced.
+   */
+  private void readUnparsedText(int start, int end) {
+    this.text.setLength(0);
+    for (int i = start; i < end; i++) {
+      final char c = this.input.charAt(i);
+      if (c == '\r') {
+        this.text.append('\n');
+        if (i + 1 < end && this.input.charAt(i + 1) == '\n') {
+          i++;
+        }
+      } else if (this.isValidCharacter(c, i)) {
+        this.text.append(c);
+      } else {
+        throw this.notValidated("Invalid character");
+      }
+    }
+  }
+
+  private void readStartTag() {
+    if (this.depth == 0 && this.rootElementRead) {
+      throw this.notValidated("Only one root element is allowed");
+    }
+
+    final int nameStart = this.position + 1;
+    final int nameEnd = this.nameEnd(nameStart);
+    this.position = nameEnd;
+    this.attributeCount = 0;
+    while (true) {
+      final int beforeWhitespaces = this.position;
+      this.skipWhitespaces();
+      if (this.position >= this.input.length()) {
+        throw this.notValidated("Unterminated element");
+      }
+      if (this.input.charAt(this.position) == '>' || this.input.startsWith("/>", this.position)) {
+        break;
+      }
+      if (this.position == beforeWhitespaces) {
+        throw this.notValidated("Missing whitespace before attribute");
+      }
+      this.readAttribute();
+    }
+
+    final boolean empty = this.input.charAt(this.position) == '/';
+    this.position += empty ? 2 : 1;
+    this.pushElement(nameStart, nameEnd);
+    this.handler.onStartElement(this);
+    this.attributeCount = 0;
+    if (empty) {
+      this.endElement();
+    }
+  }
+
+  /**
+   * Read an attribute, its value being validated only.
+   */
+  private void readAttribute() {
+    final int nameStart = this.position;
+    final int nameEnd = this.nameEnd(nameStart);
+    if (this.isDuplicateAttribute(nameStart, nameEnd)) {
+      throw this.notValidated("Duplicate attribute");
+    }
+    this.position = nameEnd;
+    this.skipWhitespaces();
+    if (this.position >= this.input.length() || this.input.charAt(this.position) != '=') {
+      throw this.notValidated("Invalid attribute");
+    }
+    this.position++;
+    this.skipWhitespaces();
+
+    final char quote = this.position < this.input.length() ? this.input.charAt(this.position) : 0;
+    final int valueEnd = quote == '"' || quote == '\'' ? this.input.indexOf(quote, this.position + 1) : -1;
+    if (valueEnd < 0) {
+      throw this.notValidated("Invalid attribute value");
+    }
+    for (int i = this.position + 1; i < valueEnd; i++) {
+      final char c = this.input.charAt(i);
+      if (c == '<' || c == '&' || !this.isValidCharacter(c, i)) {
+        // references in attribute values are left to the DOM parser
+        throw this.notValidated("Invalid attribute value");
+      }
+    }
+
+    if (4 * this.attributeCount + 4 > this.attributes.length) {
+      this.attributes = Arrays.copyOf(this.attributes, this.attributes.length * 2);
+    }
+    this.attributes[4 * this.attributeCount] = nameStart;
+    this.attributes[4 * this.attributeCount + 1] = nameEnd;
+    this.attributes[4 * this.attributeCount + 2] = this.position + 1;
+    this.attributes[4 * this.attributeCount + 3] = valueEnd;
+    this.attributeCount++;
+    this.position = valueEnd + 1;
+  }
+
+  private boolean isDuplicateAttribute(int nameStart, int nameEnd) {
+    for (int i = 0; i < this.attributeCount; i++) {
+      final int otherStart = this.attributes[4 * i];
+      if (this.attributes[4 * i + 1] - otherStart == nameEnd - nameStart
+          && this.input.regionMatches(otherStart, this.input, nameStart, nameEnd - nameStart)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * @return the value of a validated attribute, its whitespaces being normalized as in a DOM
+   */
+  private String attributeValue(int start, int end) {
+    final StringBuilder value = new StringBuilder(end - start);
+    for (int i = start; i < end; i++) {
+      final char c = this.input.charAt(i);
+      if (c != '\r' || i + 1 == end || this.input.charAt(i + 1) != '\n') {
+        value.append(isWhitespace(c) ? ' ' : c);
+      }
+    }
+    return value.toString();
+  }
+
+  private void readEndTag() {
+    final int nameStart = this.position + 2;
+    final int nameEnd = this.nameEnd(nameStart);
+    this.position = nameEnd;
+    this.skipWhitespaces();
+    if (this.position >= this.input.length() || this.input.charAt(this.position) != '>') {
+      throw this.notValidated("Unterminated end tag");
+    }
+    this.position++;
+
+    if (this.depth == 0 || !this.isElement(nameStart, nameEnd)) {
+      throw this.notValidated("End tag does not match its start tag");
+    }
+    this.endElement();
+  }
+
+  private void pushElement(int nameStart, int nameEnd) {
+    if (2 * this.depth + 2 > this.openElements.length) {
+      this.openElements = Arrays.copyOf(this.openElements, this.openElements.length * 2);
+    }
+    this.openElements[2 * this.depth] = nameStart;
+    this.openElements[2 * this.depth + 1] = nameEnd;
+    this.depth++;
+  }
+
+  private void endElement() {
+    this.handler.onEndElement(this);
+    this.depth--;
+    this.rootElementRead = true;
+  }
+
+  private boolean isElement(int nameStart, int nameEnd) {
+    final int openNameStart = this.openElements[2 * this.depth - 2];
+    final int openNameEnd = this.openElements[2 * this.depth - 1];
+    return openNameEnd - openNameStart == nameEnd - nameStart
+        && this.input.regionMatches(openNameStart, this.input, nameStart, nameEnd - nameStart);
+  }
+
+  private boolean isName(String name, int start, int end) {
+    return end - start == name.length() && this.input.startsWith(name, start);
+  }
+
+  /**
+   * @return the end of the element or attribute name starting at the given position, only ASCII names being validated
+   */
+  private int nameEnd(int start) {
+    int end = start;
+    while (end < this.input.length()) {
+      final char c = this.input.charAt(end);
+      if (isWhitespace(c) || c == '/' || c == '>' || c == '=') {
+        break;
+      }
+      if (!isNameCharacter(c) || (end == start && !isNameStartCharacter(c))) {
+        throw this.notValidated("Invalid name");
+      }
+      end++;
+    }
+    if (end == start) {
+      throw this.notValidated("Missing name");
+    }
+    return end;
+  }
+
+  private void skipWhitespaces() {
+    while (this.position < this.input.length() && isWhitespace(this.input.charAt(this.position))) {
+      this.position++;
+    }
+  }
+
+  private int indexOf(String delimiter, int from) {
+    final int index = this.input.indexOf(delimiter, from);
+    if (index < 0) {
+      throw this.notValidated("Missing " + delimiter);
+    }
+    return index;
+  }
+
+  /**
+   * @return false for the characters not allowed in XML documents, surrogates being only allowed by pair
+   */
+  private boolean isValidCharacter(char c, int index) {
+    if (Character.isHighSurrogate(c)) {
+      return index + 1 < this.input.length() && Character.isLowSurrogate(this.input.charAt(index + 1));
+    }
+    if (Character.isLowSurrogate(c)) {
+      return index > 0 && Character.isHighSurrogate(this.input.charAt(index - 1));
+    }
+    return isValidCodePoint(c);
+  }
+
+  private static boolean isValidCodePoint(int codePoint) {
+    return codePoint == 0x9 || codePoint == 0xA || codePoint == 0xD
+        || (codePoint >= 0x20 && codePoint <= 0xD7FF)
+        || (codePoint >= 0xE000 && codePoint <= 0xFFFD)
+        || (codePoint >= 0x10000 && codePoint <= 0x10FFFF);
+  }
+
+  private static boolean isNameStartCharacter(char c) {
+    return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '_' || c == ':';
+  }
+
+  private static boolean isNameCharacter(char c) {
+    return isNameStartCharacter(c) || (c >= '0' && c <= '9') || c == '-' || c == '.';
+  }
+
+  private static boolean isWhitespace(char c) {
+    return c == ' ' || c == '\t' || c == '\n' || c == '\r';
+  }
+
+  /**
+   * Thrown when the scanner cannot validate the document, which is then expected to be parsed into a DOM.
+   */
+  public static class NotValidatedException extends RuntimeException {
+
+    private NotValidatedException(String message) {
+      super(message, null, false, false);
+    }
+  }
+}
@@ -0,0 +1,104 @@
+package com.symphony.bdk.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import com.symphony.bdk.core.config.model.BdkActivityExecutorConfig;
+import com.symphony.bdk.core.config.model.BdkConfig;
+import com.symphony.bdk.http.api.ApiClientBuilder;
+import com.symphony.bdk.http.api.ApiClientBuilderProvider;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+class BdkRuntimeTest {
+
+  private ApiClientBuilderProvider sharedProvider;
+  private ApiClientBuilderProvider scopedProvider;
+  private BdkRuntime runtime;
+
+  @BeforeEach
+  void setUp() {
+    final ApiClientBuilderProvider provider = mock(ApiClientBuilderProvider.class);
+    this.sharedProvider = mock(ApiClientBuilderProvider.class, withSettings().extraInterfaces(AutoCloseable.class));
+    this.scopedProvider = mock(ApiClientBuilderProvider.class, withSettings().extraInterfaces(AutoCloseable.class));
+    when(provider.withSharedConnectionPools()).thenReturn(this.sharedProvider);
+    when(this.sharedProvider.scoped()).thenReturn(this.scopedProvider);
+    this.runtime = new BdkRuntime(provider, new BdkActivityExecutorConfig());
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    this.runtime.close();
+  }
+
+  @Test
+  void attachedInstancesAreNamedAfterTheirBotTest() {
+    this.runtime.attach(config("mario"));
+    this.runtime.attach(config("luigi"));
+    this.runtime.attach(config("mario"));
+
+    assertThat(this.runtime.usage()).containsOnlyKeys("mario", "luigi", "mario-2");
+  }
+
+  @Test
+  void apiClientsAreBuiltWithSharedProviderTest() {
+    final ApiClientBuilder builder = mock(ApiClientBuilder.class);
+    when(this.scopedProvider.newInstance()).thenReturn(builder);
+
+    final BdkRuntime.Attachment mario = this.runtime.attach(config("mario"));
+    this.runtime.attach(config("luigi"));
+
+    assertThat(mario.getApiClientBuilderProvider().newInstance()).isSameAs(builder);
+    assertThat(mario.getApiClientBuilderProvider().newInstance()).isSameAs(builder);
+    assertThat(this.runtime.usage().get("mario").getApiClients()).isEqualTo(2);
+    assertThat(this.runtime.usage().get("luigi").getApiClients()).isZero();
+  }
+
+  @Test
+  void activitiesAreExecutedOnSharedThreadsTest() throws InterruptedException {
+    final BdkRuntime.Attachment mario = this.runtime.attach(config("mario"));
+    final BdkRuntime.Attachment luigi = this.runtime.attach(config("luigi"));
+    final CountDownLatch executed = new CountDownLatch(2);
+
+    mario.getActivityExecutor().execute(executed::countDown);
+    luigi.getActivityExecutor().execute(executed::countDown);
+
+    assertThat(executed.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(mario.getActivityExecutor()).isNotSameAs(luigi.getActivityExecutor());
+  }
+
+  @Test
+  void detachedInstanceReleasesItsShareOfConnectionPoolsTest() throws Exception {
+    final BdkRuntime.Attachment mario = this.runtime.attach(config("mario"));
+    this.runtime.attach(config("luigi"));
+
+    mario.detach();
+    mario.detach();
+
+    assertThat(this.runtime.usage()).containsOnlyKeys("luigi");
+    verify((AutoCloseable) this.scopedProvider).close();
+    assertThat(this.runtime.attach(config("mario"))).isNotSameAs(mario);
+    assertThat(this.runtime.usage()).containsOnlyKeys("luigi", "mario");
+  }
+
+  @Test
+  void sharedProviderIsClosedWithRuntimeTest() throws Exception {
+    this.runtime.close();
+
+    verify((AutoCloseable) this.sharedProvider).close();
+  }
+
+  private static BdkConfig config(String username) {
+    final BdkConfig config = new BdkConfig();
+    config.getBot().setUsername(username);
+    return config;
+  }
+}
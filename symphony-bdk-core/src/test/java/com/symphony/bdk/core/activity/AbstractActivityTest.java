@@ -1,7 +1,13 @@
 package com.symphony.bdk.core.activity;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import com.symphony.bdk.core.activity.form.FormReplyContext;
 import com.symphony.bdk.core.activity.form.TestFormReplyActivity;
 import com.symphony.bdk.core.service.datafeed.EventException;
 import com.symphony.bdk.core.service.datafeed.EventPayload;
@@ -13,6 +19,8 @@ import lombok.experimental.Delegate;
 import org.junit.jupiter.api.Test;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Test class for the {@link AbstractActivity}.
@@ -91,6 +99,27 @@ class AbstractActivityTest {
         () -> act.processEvent(new V4Initiator(), new V4SymphonyElementsActionEvent(new V4SymphonyElementsAction())));
   }
 
+  @Test
+  void shouldCreateContextForEventAndPayloadProxy() {
+
+    final List<FormReplyContext> contexts = new ArrayList<>();
+    final TestFormReplyActivity act = new TestFormReplyActivity();
+    act.setOnActivity(contexts::add);
+
+    final V4SymphonyElementsAction action = new V4SymphonyElementsAction();
+    final V4SymphonyElementsActionEvent payload = new V4SymphonyElementsActionEvent(action);
+    act.processEvent(new V4Initiator(), action);
+    act.processEvent(new V4Initiator(), payload);
+    act.processEvent(new V4Initiator(), action);
+
+    assertEquals(3, contexts.size());
+    assertSame(action, contexts.get(0).getSourceEvent());
+    assertNull(contexts.get(0).getEventTimestamp());
+    assertSame(payload, contexts.get(1).getSourceEvent());
+    assertNotNull(contexts.get(1).getEventTimestamp());
+    assertNotSame(contexts.get(0), contexts.get(2));
+  }
+
   static class V4SymphonyElementsActionEvent extends V4SymphonyElementsAction implements EventPayload {
     @Delegate
     V4SymphonyElementsAction elementsAction;
@@ -0,0 +1,148 @@
+package com.symphony.bdk.core.activity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.symphony.bdk.core.config.model.BdkActivityExecutorConfig;
+import com.symphony.bdk.core.service.datafeed.EventException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Test class for the {@link ActivityExecutor}.
+ */
+class ActivityExecutorTest {
+
+  private final CountDownLatch release = new CountDownLatch(1);
+  private ActivityExecutor executor;
+
+  @AfterEach
+  void tearDown() {
+    this.release.countDown();
+    this.executor.shutdown();
+  }
+
+  @Test
+  void shouldQueueActivitiesAboveMaxConcurrency() throws InterruptedException {
+    this.executor = new ActivityExecutor(config(1, 2, BdkActivityExecutorConfig.RejectionPolicy.ABORT));
+    final CountDownLatch started = new CountDownLatch(1);
+
+    this.executor.execute(() -> {
+      started.countDown();
+      this.awaitRelease();
+    });
+    this.executor.execute(this::awaitRelease);
+    this.executor.execute(this::awaitRelease);
+
+    assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(this.executor.getActiveCount()).isEqualTo(1);
+    assertThat(this.executor.getQueueDepth()).isEqualTo(2);
+    assertThat(this.executor.getRejectedCount()).isZero();
+  }
+
+  @Test
+  void shouldAbortWhenSaturated() {
+    this.executor = new ActivityExecutor(config(1, 1, BdkActivityExecutorConfig.RejectionPolicy.ABORT));
+    this.executor.execute(this::awaitRelease);
+    this.executor.execute(this::awaitRelease);
+
+    assertThatThrownBy(() -> this.executor.execute(this::awaitRelease)).isInstanceOf(EventException.class);
+    assertThat(this.executor.getRejectedCount()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldRunOnCallerThreadWhenSaturated() {
+    this.executor = new ActivityExecutor(config(1, 1, BdkActivityExecutorConfig.RejectionPolicy.CALLER_RUNS));
+    this.executor.execute(this::awaitRelease);
+    this.executor.execute(this::awaitRelease);
+
+    final AtomicReference<Thread> thread = new AtomicReference<>();
+    this.executor.execute(() -> thread.set(Thread.currentThread()));
+
+    assertThat(thread.get()).isSameAs(Thread.currentThread());
+    assertThat(this.executor.getRejectedCount()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldDiscardWhenSaturated() {
+    this.executor = new ActivityExecutor(config(1, 1, BdkActivityExecutorConfig.RejectionPolicy.DISCARD));
+    this.executor.execute(this::awaitRelease);
+    this.executor.execute(this::awaitRelease);
+
+    final AtomicReference<Thread> thread = new AtomicReference<>();
+    this.executor.execute(() -> thread.set(Thread.currentThread()));
+
+    assertThat(thread.get()).isNull();
+    assertThat(this.executor.getRejectedCount()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldRunWithVirtualThreadTypeWhateverTheRuntime() throws InterruptedException {
+    final BdkActivityExecutorConfig config = config(1, 1, BdkActivityExecutorConfig.RejectionPolicy.ABORT);
+    config.setThreadType(BdkActivityExecutorConfig.ThreadType.VIRTUAL);
+    this.executor = new ActivityExecutor(config);
+
+    final CountDownLatch executed = new CountDownLatch(1);
+    this.executor.execute(executed::countDown);
+
+    assertThat(executed.await(5, TimeUnit.SECONDS)).isTrue();
+  }
+
+  @Test
+  void shouldShareThreadsWithOwnMetrics() throws InterruptedException {
+    this.executor = new ActivityExecutor(config(1, 2, BdkActivityExecutorConfig.RejectionPolicy.ABORT));
+    final ActivityExecutor shared = this.executor.share(BdkActivityExecutorConfig.RejectionPolicy.DISCARD);
+    final CountDownLatch started = new CountDownLatch(1);
+
+    shared.execute(() -> {
+      started.countDown();
+      this.awaitRelease();
+    });
+    this.executor.execute(this::awaitRelease);
+    this.executor.execute(this::awaitRelease);
+    // the shared queue is full, the policy of the shared executor applies
+    shared.execute(this::awaitRelease);
+
+    assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(shared.getActiveCount()).isEqualTo(1);
+    assertThat(shared.getQueueDepth()).isZero();
+    assertThat(shared.getRejectedCount()).isEqualTo(1);
+    assertThat(this.executor.getActiveCount()).isZero();
+    assertThat(this.executor.getQueueDepth()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldNotShutDownSharedThreads() throws InterruptedException {
+    this.executor = new ActivityExecutor(config(1, 1, BdkActivityExecutorConfig.RejectionPolicy.ABORT));
+    final ActivityExecutor shared = this.executor.share(BdkActivityExecutorConfig.RejectionPolicy.ABORT);
+
+    shared.shutdown();
+
+    assertThatThrownBy(() -> shared.execute(() -> {})).isInstanceOf(EventException.class);
+    final CountDownLatch executed = new CountDownLatch(1);
+    this.executor.execute(executed::countDown);
+    assertThat(executed.await(5, TimeUnit.SECONDS)).isTrue();
+  }
+
+  private void awaitRelease() {
+    try {
+      this.release.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static BdkActivityExecutorConfig config(int maxConcurrency, int queueCapacity,
+      BdkActivityExecutorConfig.RejectionPolicy rejectionPolicy) {
+    final BdkActivityExecutorConfig config = new BdkActivityExecutorConfig();
+    config.setMaxConcurrency(maxConcurrency);
+    config.setQueueCapacity(queueCapacity);
+    config.setRejectionPolicy(rejectionPolicy);
+    return config;
+  }
+}
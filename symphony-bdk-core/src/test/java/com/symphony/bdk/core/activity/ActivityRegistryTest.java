@@ -1,8 +1,10 @@
 package com.symphony.bdk.core.activity;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -16,13 +18,22 @@ import com.symphony.bdk.core.service.datafeed.DatafeedLoop;
 import com.symphony.bdk.core.service.datafeed.RealTimeEventListener;
 import com.symphony.bdk.core.service.message.MessageService;
 import com.symphony.bdk.gen.api.model.UserV2;
+import com.symphony.bdk.gen.api.model.V4Initiator;
+import com.symphony.bdk.gen.api.model.V4Message;
+import com.symphony.bdk.gen.api.model.V4MessageSent;
+import com.symphony.bdk.gen.api.model.V4Stream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
@@ -67,6 +78,29 @@ class ActivityRegistryTest {
     verify(this.datafeedService, times(1)).unsubscribe(any(RealTimeEventListener.class));
   }
 
+  @Test
+  void shouldShareExecutorAcrossActivities() {
+    final AbstractActivity<?, ?> act1 = new TestCommandActivity("test1");
+    final AbstractActivity<?, ?> act2 = SlashCommand.slash("/test2", true, c -> {});
+
+    this.registry.register(act1);
+    this.registry.register(act2);
+
+    assertSame(this.registry.getExecutor(), act1.getExecutor());
+    assertSame(this.registry.getExecutor(), act2.getExecutor());
+  }
+
+  @Test
+  void shouldShutDownExecutor() {
+    final ActivityExecutor executor = mock(ActivityExecutor.class);
+    final ActivityRegistry registry = new ActivityRegistry(this.botSession, this.datafeedService, executor);
+    registry.register(new TestCommandActivity("test"));
+
+    registry.shutdown();
+
+    verify(executor).shutdown();
+  }
+
   @Test
   void shouldReplaceHelpActivity() {
     final HelpCommand helpCommand = new HelpCommand(this.registry, this.messageService);
@@ -130,6 +164,32 @@ class ActivityRegistryTest {
     assertEquals(2, this.registry.getActivityList().size(), "Both activities must have been registered");
   }
 
+  @Test
+  void shouldRouteSlashCommandsThroughTheirOwnListener() {
+    final List<String> calls = new ArrayList<>();
+    this.registry.register(SlashCommand.slash("/hello", false, c -> calls.add("hello")));
+    this.registry.register(SlashCommand.slash("/bye", false, c -> calls.add("bye")));
+    this.registry.register(new TestCommandActivity("test"));
+
+    final ArgumentCaptor<RealTimeEventListener> listeners = ArgumentCaptor.forClass(RealTimeEventListener.class);
+    verify(this.datafeedService, times(3)).subscribe(listeners.capture());
+
+    final V4MessageSent event = new V4MessageSent().message(new V4Message()
+        .message("<div><p>/bye</p></div>")
+        .stream(new V4Stream().streamId("streamId")));
+    listeners.getAllValues().get(0).onMessageSent(new V4Initiator(), event);
+    assertEquals(Collections.emptyList(), calls);
+    listeners.getAllValues().get(1).onMessageSent(new V4Initiator(), event);
+    assertEquals(Collections.singletonList("bye"), calls);
+
+    // replacing a command at runtime
+    this.registry.register(SlashCommand.slash("/bye", false, c -> calls.add("bye again")));
+    verify(this.datafeedService).unsubscribe(listeners.getAllValues().get(1));
+    verify(this.datafeedService, times(4)).subscribe(listeners.capture());
+    listeners.getAllValues().get(listeners.getAllValues().size() - 1).onMessageSent(new V4Initiator(), event);
+    assertEquals(Arrays.asList("bye", "bye again"), calls);
+  }
+
   @Test
   void shouldNotRegister_sameValue_sameMention(){
     final AtomicBoolean handlerCalled = new AtomicBoolean(false);
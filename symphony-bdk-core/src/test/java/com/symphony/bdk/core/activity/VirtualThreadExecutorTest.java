@@ -0,0 +1,81 @@
+package com.symphony.bdk.core.activity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test class for the {@link VirtualThreadExecutor}, run with platform threads whatever the Java runtime.
+ */
+class VirtualThreadExecutorTest {
+
+  private final CountDownLatch release = new CountDownLatch(1);
+  private final AtomicInteger startedThreads = new AtomicInteger();
+  private final VirtualThreadExecutor executor = new VirtualThreadExecutor(1, 1, runnable -> {
+    this.startedThreads.incrementAndGet();
+    return new Thread(runnable);
+  });
+
+  @AfterEach
+  void tearDown() {
+    this.release.countDown();
+    this.executor.shutdown();
+  }
+
+  @Test
+  void shouldStartOneThreadPerTaskAndBoundConcurrency() throws InterruptedException {
+    final AtomicInteger running = new AtomicInteger();
+    final CountDownLatch started = new CountDownLatch(1);
+
+    this.executor.execute(() -> {
+      running.incrementAndGet();
+      started.countDown();
+      this.awaitRelease();
+    });
+    this.executor.execute(running::incrementAndGet);
+
+    assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(this.startedThreads.get()).isEqualTo(2);
+    // the second task waits for the first one to complete
+    Thread.sleep(50);
+    assertThat(running.get()).isEqualTo(1);
+
+    this.release.countDown();
+    this.executor.shutdown();
+    assertThat(this.executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(running.get()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldRejectAboveQueueCapacity() {
+    this.executor.execute(this::awaitRelease);
+    this.executor.execute(this::awaitRelease);
+
+    assertThatThrownBy(() -> this.executor.execute(this::awaitRelease))
+        .isInstanceOf(RejectedExecutionException.class);
+    assertThat(this.startedThreads.get()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldRejectOnceShutDown() throws InterruptedException {
+    this.executor.shutdown();
+
+    assertThatThrownBy(() -> this.executor.execute(() -> {})).isInstanceOf(RejectedExecutionException.class);
+    assertThat(this.executor.awaitTermination(1, TimeUnit.SECONDS)).isTrue();
+  }
+
+  private void awaitRelease() {
+    try {
+      this.release.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,240 @@
+package com.symphony.bdk.core.activity.command;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.symphony.bdk.core.activity.ActivityMatcher;
+import com.symphony.bdk.core.activity.parsing.Mention;
+import com.symphony.bdk.core.activity.parsing.ParsedMessage;
+import com.symphony.bdk.core.service.datafeed.EventException;
+import com.symphony.bdk.core.service.datafeed.RealTimeEventListener;
+import com.symphony.bdk.gen.api.model.V4Initiator;
+import com.symphony.bdk.gen.api.model.V4Message;
+import com.symphony.bdk.gen.api.model.V4MessageSent;
+import com.symphony.bdk.gen.api.model.V4Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+class SlashCommandRouterTest {
+
+  private static final long BOT_USER_ID = 12345678L;
+
+  private SlashCommandRouter router;
+  private List<String> calls;
+  private List<RealTimeEventListener> listeners;
+
+  @BeforeEach
+  void setUp() {
+    this.router = new SlashCommandRouter();
+    this.calls = new ArrayList<>();
+    this.listeners = new ArrayList<>();
+  }
+
+  @Test
+  void shouldRouteToMatchingCommandOnly() {
+    this.add("/hello", true);
+    this.add("/hello world", true);
+    this.add("/hello {name}", false);
+    this.add("/bye {@user}", false);
+
+    this.dispatch(createMessageSentEvent(true, "/hello world"));
+    assertThat(this.calls).containsExactly("/hello world");
+
+    this.calls.clear();
+    this.dispatch(createMessageSentEvent(false, "/hello world"));
+    assertThat(this.calls).containsExactly("/hello {name}");
+
+    this.calls.clear();
+    this.dispatch(createMessageSentEvent(false, "/bye"));
+    assertThat(this.calls).isEmpty();
+  }
+
+  @Test
+  void shouldRouteToAllMatchingCommands() {
+    this.add("/hello {name}", false);
+    this.add("{command} {argument}", false);
+    this.add("/hello you", false);
+
+    this.dispatch(createMessageSentEvent(false, "/hello you"));
+
+    assertThat(this.calls).containsExactly("/hello {name}", "{command} {argument}", "/hello you");
+  }
+
+  @Test
+  void shouldRouteMentionArguments() {
+    final List<Object> arguments = new ArrayList<>();
+    final SlashCommand command =
+        SlashCommand.slash("/ping {@user}", false, c -> arguments.add(c.getArguments().get("user")));
+    this.add(command);
+
+    this.dispatch(createMessageSentEvent(false, "/ping " + mention()));
+
+    assertThat(arguments).containsExactly(new Mention("@bot", BOT_USER_ID));
+  }
+
+  @Test
+  void shouldShareParsedMessageWithMatchingCommands() {
+    final List<ParsedMessage> parsedMessages = new ArrayList<>();
+    this.add(SlashCommand.slash("/hello", false, c -> parsedMessages.add(c.getParsedMessage())));
+    this.add(SlashCommand.slash("/hello", false, c -> parsedMessages.add(c.getParsedMessage())));
+
+    this.dispatch(createMessageSentEvent(false, "/hello"));
+
+    assertThat(parsedMessages).hasSize(2);
+    assertThat(parsedMessages.get(0)).isSameAs(parsedMessages.get(1));
+  }
+
+  @Test
+  void shouldParseOnceMessagesInterleavedAcrossWorkers() throws Exception {
+    final Map<String, List<ParsedMessage>> parsedMessages = new ConcurrentHashMap<>();
+    for (int i = 0; i < 2; i++) {
+      this.add(SlashCommand.slash("/hello {name}", false, c -> parsedMessages
+          .computeIfAbsent(c.getArguments().getAsString("name"), n -> new CopyOnWriteArrayList<>())
+          .add(c.getParsedMessage())));
+    }
+    final V4MessageSent first = createMessageSentEvent(false, "/hello first");
+    final V4MessageSent second = createMessageSentEvent(false, "/hello second");
+
+    final ExecutorService firstWorker = Executors.newSingleThreadExecutor();
+    final ExecutorService secondWorker = Executors.newSingleThreadExecutor();
+    try {
+      // each message is received by the listener of the first command before the other message
+      firstWorker.submit(() -> this.listeners.get(0).onMessageSent(new V4Initiator(), first)).get();
+      secondWorker.submit(() -> this.listeners.get(0).onMessageSent(new V4Initiator(), second)).get();
+      firstWorker.submit(() -> this.listeners.get(1).onMessageSent(new V4Initiator(), first)).get();
+      secondWorker.submit(() -> this.listeners.get(1).onMessageSent(new V4Initiator(), second)).get();
+    } finally {
+      firstWorker.shutdown();
+      secondWorker.shutdown();
+    }
+
+    assertThat(parsedMessages.get("first")).hasSize(2);
+    assertThat(parsedMessages.get("first").get(0)).isSameAs(parsedMessages.get("first").get(1));
+    assertThat(parsedMessages.get("second")).hasSize(2);
+    assertThat(parsedMessages.get("second").get(0)).isSameAs(parsedMessages.get("second").get(1));
+  }
+
+  @Test
+  void shouldMatchStaticTokensAsRegex() {
+    this.add("/gif[s]?", false);
+
+    this.dispatch(createMessageSentEvent(false, "/gifs"));
+
+    assertThat(this.calls).containsExactly("/gif[s]?");
+  }
+
+  @Test
+  void removedCommandMatchesMessagesByItself() {
+    final SlashCommand hello = this.add("/hello", false);
+    this.add("/bye", false);
+
+    assertTrue(this.router.remove(hello));
+    assertFalse(this.router.remove(SlashCommand.slash("/hello", false, c -> {})),
+        "Only the routed instance is removed");
+    this.dispatch(createMessageSentEvent(false, "/hello"));
+    this.dispatch(createMessageSentEvent(false, "/bye"));
+
+    // the listener of the removed command is still subscribed in this test
+    assertThat(this.calls).containsExactly("/hello", "/bye");
+  }
+
+  @Test
+  void shouldThrowEventExceptionFromListenerOfFailingCommandOnly() {
+    final SlashCommand failing = SlashCommand.slash("/fail", false, c -> {
+      throw new EventException("failure");
+    });
+    this.add(failing);
+    this.add("/fail", false);
+    final V4MessageSent event = createMessageSentEvent(false, "/fail");
+
+    assertThrows(EventException.class, () -> this.listeners.get(0).onMessageSent(new V4Initiator(), event));
+    this.listeners.get(1).onMessageSent(new V4Initiator(), event);
+
+    assertThat(this.calls).containsExactly("/fail");
+  }
+
+  @Test
+  void shouldRouteWithRebuiltTrie() {
+    this.add("/hello", false);
+    final V4MessageSent event = createMessageSentEvent(false, "/hello");
+    this.dispatch(event);
+
+    // same message received by a command added in the meantime
+    this.add("/hello", false);
+    this.listeners.get(1).onMessageSent(new V4Initiator(), event);
+
+    assertThat(this.calls).containsExactly("/hello", "/hello");
+  }
+
+  @Test
+  void shouldNotThrowFromListenersOnMalformedMessage() {
+    this.add("/hello", false);
+    this.add("/bye", false);
+    final V4MessageSent event = createMessageSentEvent(false, "/hello");
+    event.getMessage().setMessage("<div><p>/hello</div>");
+
+    this.dispatch(event);
+
+    assertThat(this.calls).isEmpty();
+  }
+
+  @Test
+  void commandWithOwnMatcherIsNotRoutable() {
+    final SlashCommand command = new SlashCommand("/test", false, false, c -> {}, "") {
+      @Override
+      public ActivityMatcher<CommandContext> matcher() {
+        return c -> true;
+      }
+    };
+
+    assertFalse(SlashCommandRouter.isRoutable(command));
+    assertTrue(SlashCommandRouter.isRoutable(SlashCommand.slash("/test", c -> {})));
+  }
+
+  private SlashCommand add(String pattern, boolean requiresBotMention) {
+    return this.add(SlashCommand.slash(pattern, requiresBotMention, c -> this.calls.add(pattern)));
+  }
+
+  private SlashCommand add(SlashCommand command) {
+    command.setBotUserId(BOT_USER_ID);
+    this.router.add(command);
+    command.bindToRealTimeEventsSource(this.listeners::add);
+    return command;
+  }
+
+  /**
+   * Dispatch an event to the listeners of the commands, as the datafeed does.
+   */
+  private void dispatch(V4MessageSent event) {
+    for (RealTimeEventListener listener : this.listeners) {
+      listener.onMessageSent(new V4Initiator(), event);
+    }
+  }
+
+  private static String mention() {
+    return "<span class=\"entity\" data-entity-id=\"0\">@bot</span>";
+  }
+
+  private static V4MessageSent createMessageSentEvent(boolean botMention, String content) {
+    final String message = "<div><p>" + (botMention ? mention() + " " : "") + content + "</p></div>";
+    final V4MessageSent event = new V4MessageSent().message(new V4Message().stream(new V4Stream()));
+    event.getMessage().getStream().setStreamId(UUID.randomUUID().toString());
+    event.getMessage().setMessageId(UUID.randomUUID().toString());
+    event.getMessage().setMessage(message);
+    event.getMessage().setData("{\"0\":{\"id\":[{\"type\":\"com.symphony.user.userId\",\"value\":\"" + BOT_USER_ID
+        + "\"}],\"type\":\"com.symphony.user.mention\"}}");
+    return event;
+  }
+}
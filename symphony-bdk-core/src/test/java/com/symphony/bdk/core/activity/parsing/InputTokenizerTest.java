@@ -1,14 +1,22 @@
 package com.symphony.bdk.core.activity.parsing;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.symphony.bdk.gen.api.model.V4Message;
 
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.Test;
+import org.xml.sax.SAXException;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 class InputTokenizerTest {
 
@@ -156,6 +164,100 @@ class InputTokenizerTest {
     assertEquals("myhashtag", cashtag.getValue());
   }
 
+  @Test
+  void entityWithNestedElements() {
+    final List<Object> tokens = getTokens("go <span class=\"entity\" data-entity-id=\"0\"><b>@jane</b>-doe</span>!",
+        "{\"0\":{\"id\":[{\"type\":\"com.symphony.user.userId\",\"value\":\"12345678\"}],\"type\":\"com.symphony.user.mention\"}}");
+
+    assertEquals(3, tokens.size());
+    assertIsStringToken("go", tokens.get(0));
+    assertIsMentionToken("@jane-doe", "jane-doe", 12345678L, tokens.get(1));
+    assertIsStringToken("!", tokens.get(2));
+  }
+
+  @Test
+  void unsupportedEntityIsText() {
+    final List<Object> tokens = getTokens("<span class=\"entity\" data-entity-id=\"0\">:smile:</span>done",
+        "{\"0\":{\"id\":[],\"type\":\"com.symphony.emoji\"}}");
+
+    assertEquals(1, tokens.size());
+    assertIsStringToken(":smile:done", tokens.get(0));
+  }
+
+  @Test
+  void escapedCharactersAndCdata() {
+    final List<Object> tokens = getTokens("a&amp;b <![CDATA[<c>]]>\td&#160;e");
+
+    assertEquals(3, tokens.size());
+    assertIsStringToken("a&b", tokens.get(0));
+    assertIsStringToken("<c>", tokens.get(1));
+    assertIsStringToken("d\u00A0e", tokens.get(2));
+  }
+
+  @Test
+  void dataIsNotParsedWithoutEntity() {
+    final List<Object> tokens = getTokens("/hello world", "not json");
+
+    assertEquals(2, tokens.size());
+  }
+
+  @Test
+  void doctypeIsRejected() {
+    final V4Message message = new V4Message()
+        .message("<!DOCTYPE div [<!ENTITY xxe SYSTEM \"file:///etc/passwd\">]><div><p>&xxe;</p></div>");
+
+    assertThrows(Exception.class, () -> new InputTokenizer(message));
+  }
+
+  @Test
+  void malformedMessageIsRejected() {
+    assertThrows(SAXException.class, () -> getTokens("<b>bold</i>"));
+    assertThrows(SAXException.class, () -> getTokens("a < b"));
+    assertThrows(SAXException.class, () -> getTokens("&nbsp;"));
+    assertThrows(SAXException.class, () -> getTokens("<b class=\"a\" class=\"b\">bold</b>"));
+    assertThrows(SAXException.class, () -> getTokens("<b title=\"a<b\">bold</b>"));
+    assertThrows(SAXException.class, () -> new InputTokenizer(new V4Message().message("text")));
+  }
+
+  @Test
+  void messageNotValidatedByScannerIsParsedIntoDocument() {
+    final List<Object> tokens = getTokens("<span class=\"&#101;ntity\" data-entity-id=\"0\">@jane-doe</span> <?pi data?>x",
+        "{\"0\":{\"id\":[{\"type\":\"com.symphony.user.userId\",\"value\":\"12345678\"}],\"type\":\"com.symphony.user.mention\"}}");
+
+    assertEquals(2, tokens.size());
+    assertIsMentionToken("@jane-doe", "jane-doe", 12345678L, tokens.get(0));
+    assertIsStringToken("datax", tokens.get(1));
+
+    final V4Message declared = new V4Message().message("<?xml version=\"1.0\"?><div><p>hello world</p></div>");
+    assertEquals(Arrays.asList("hello", "world"), new InputTokenizer(declared).getTokens());
+  }
+
+  @Test
+  void lazyTokenizerRejectsMalformedMessageOnceRead() {
+    final InputTokenizer tokenizer = InputTokenizer.lazy(new V4Message().message("<div><p>/hello world</p><p></div>"));
+
+    assertEquals("/hello", tokenizer.getToken(0));
+    assertThrows(SAXException.class, () -> tokenizer.getToken(2));
+    assertThrows(SAXException.class, () -> tokenizer.getToken(0));
+  }
+
+  @Test
+  void concurrentTokenization() throws Exception {
+    final ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      final List<Future<List<Object>>> results = new ArrayList<>();
+      for (int i = 0; i < 200; i++) {
+        final String word = "word" + i;
+        results.add(executor.submit(() -> getTokens("/cmd <b>" + word + "</b>")));
+      }
+      for (int i = 0; i < results.size(); i++) {
+        assertEquals(Arrays.asList("/cmd", "word" + i), results.get(i).get(10, TimeUnit.SECONDS));
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
   private List<Object> getTokens(String textContent) {
     return new InputTokenizer(buildMessage(textContent)).getTokens();
   }
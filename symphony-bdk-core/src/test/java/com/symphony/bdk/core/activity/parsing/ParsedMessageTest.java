@@ -0,0 +1,62 @@
+package com.symphony.bdk.core.activity.parsing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.symphony.bdk.core.service.message.exception.PresentationMLParserException;
+import com.symphony.bdk.gen.api.model.V4Message;
+
+import org.junit.jupiter.api.Test;
+
+class ParsedMessageTest {
+
+  private static final String MENTION_DATA = "{\"0\":{\"id\":[{\"type\":\"com.symphony.user.userId\",\"value\":\"12345\"}],"
+      + "\"type\":\"com.symphony.user.mention\"}}";
+
+  @Test
+  void messageIsParsedOnce() throws PresentationMLParserException {
+    final V4Message message = spy(buildMessage("<span class=\"entity\" data-entity-id=\"0\">@bot</span> /hello")
+        .data(MENTION_DATA));
+    final ParsedMessage parsedMessage = new ParsedMessage(message);
+
+    for (int i = 0; i < 3; i++) {
+      assertThat(parsedMessage.getTextContent()).isEqualTo("@bot /hello");
+      assertThat(parsedMessage.getTokens()).containsExactly(new Mention("@bot", 12345L), "/hello");
+      assertThat(parsedMessage.getEntities().has("0")).isTrue();
+    }
+    // once for the text content, once for the tokens
+    verify(message, times(2)).getMessage();
+    verify(message, times(1)).getData();
+  }
+
+  @Test
+  void blankDataHasNoEntity() {
+    final ParsedMessage parsedMessage = new ParsedMessage(buildMessage("/hello"));
+
+    assertThat(parsedMessage.getEntities().isEmpty()).isTrue();
+    assertThat(parsedMessage.getTokens()).containsExactly("/hello");
+  }
+
+  @Test
+  void tokensAreReadOnDemand() {
+    final V4Message message = spy(buildMessage("/hello <span class=\"entity\" data-entity-id=\"0\">@bot</span>")
+        .data(MENTION_DATA));
+    final ParsedMessage parsedMessage = new ParsedMessage(message);
+
+    assertThat(parsedMessage.getToken(0)).isEqualTo("/hello");
+    verify(message, times(0)).getData();
+
+    assertThat(parsedMessage.getToken(1)).isEqualTo(new Mention("@bot", 12345L));
+    assertThat(parsedMessage.getToken(2)).isNull();
+    assertThat(parsedMessage.getTokens()).containsExactly("/hello", new Mention("@bot", 12345L));
+    verify(message, times(1)).getMessage();
+  }
+
+  private static V4Message buildMessage(String textContent) {
+    return new V4Message()
+        .message("<div data-format=\"PresentationML\" data-version=\"2.0\" class=\"wysiwyg\"><p>" + textContent
+            + "</p></div>");
+  }
+}
@@ -10,6 +10,7 @@ import com.symphony.bdk.core.activity.exception.SlashCommandSyntaxException;
 import com.symphony.bdk.gen.api.model.V4Message;
 
 import org.junit.jupiter.api.Test;
+import org.xml.sax.SAXException;
 
 import java.util.Collections;
 import java.util.HashMap;
@@ -362,6 +363,30 @@ class SlashCommandPatternTest {
     assertThrows(SlashCommandSyntaxException.class, () -> new SlashCommandPattern("{arg1}{arg2}"));
   }
 
+  @Test
+  void messageIsOnlyReadUntilFirstMismatch() {
+    SlashCommandPattern pattern = new SlashCommandPattern("/command {argument}");
+
+    // the message data is invalid and the end of the message malformed, but they are not read
+    final V4Message message = new V4Message().data("invalid")
+        .message("<div><p>/other <span class=\"entity\" data-entity-id=\"0\">@bot</span></p><p></div>");
+    assertFalse(pattern.getMatchResult(message).isMatching());
+    assertFalse(pattern.getMatchResult(new ParsedMessage(message)).isMatching());
+
+    // the whole message is read when the pattern matches it so far
+    final V4Message matching = new V4Message().message("<div><p>/command argument</p><p></div>");
+    assertThrows(SAXException.class, () -> pattern.getMatchResult(matching));
+  }
+
+  @Test
+  void extraTokenIsNotMatching() {
+    SlashCommandPattern pattern = new SlashCommandPattern("/command {argument}");
+
+    final MatchResult matchResult = getMatchResult(pattern, "/command argument extra");
+    assertFalse(matchResult.isMatching());
+    assertTrue(matchResult.getArguments().getArgumentNames().isEmpty());
+  }
+
   private MatchResult getMatchResult(SlashCommandPattern pattern, String textContent) {
     return pattern.getMatchResult(buildMessage(textContent));
   }
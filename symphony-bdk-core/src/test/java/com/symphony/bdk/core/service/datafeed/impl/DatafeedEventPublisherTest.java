@@ -0,0 +1,125 @@
+package com.symphony.bdk.core.service.datafeed.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.symphony.bdk.gen.api.model.V4Event;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+class DatafeedEventPublisherTest {
+
+  private final AtomicBoolean running = new AtomicBoolean(true);
+  private final DatafeedEventPublisher publisher = new DatafeedEventPublisher(this.running::get);
+
+  @Test
+  void publishWithoutSubscriberTest() {
+    this.publisher.publish(new V4Event().id("1"));
+  }
+
+  @Test
+  void publishWaitsForDemandTest() throws Exception {
+    final RecordingSubscriber subscriber = new RecordingSubscriber();
+    this.publisher.subscribe(subscriber);
+
+    final CompletableFuture<Void> published =
+        CompletableFuture.runAsync(() -> this.publisher.publish(new V4Event().id("1")));
+    Thread.sleep(50);
+    assertThat(published).isNotDone();
+    assertThat(subscriber.events).isEmpty();
+
+    subscriber.subscription.request(1);
+    published.get(5, TimeUnit.SECONDS);
+    assertThat(subscriber.events).extracting(V4Event::getId).containsExactly("1");
+  }
+
+  @Test
+  void publishWithinDemandDoesNotWaitTest() {
+    final RecordingSubscriber subscriber = new RecordingSubscriber();
+    this.publisher.subscribe(subscriber);
+    subscriber.subscription.request(2);
+
+    this.publisher.publish(new V4Event().id("1"));
+    this.publisher.publish(new V4Event().id("2"));
+
+    assertThat(subscriber.events).extracting(V4Event::getId).containsExactly("1", "2");
+  }
+
+  @Test
+  void stoppedLoopDoesNotWaitForDemandTest() {
+    this.publisher.subscribe(new RecordingSubscriber());
+    this.running.set(false);
+
+    assertThatThrownBy(() -> this.publisher.publish(new V4Event().id("1")))
+        .isInstanceOf(RequeueEventException.class);
+  }
+
+  @Test
+  void cancelledSubscriptionIsSkippedTest() {
+    final RecordingSubscriber subscriber = new RecordingSubscriber();
+    this.publisher.subscribe(subscriber);
+    subscriber.subscription.cancel();
+
+    this.publisher.publish(new V4Event().id("1"));
+
+    assertThat(subscriber.events).isEmpty();
+  }
+
+  @Test
+  void invalidRequestSignalsErrorTest() {
+    final RecordingSubscriber subscriber = new RecordingSubscriber();
+    this.publisher.subscribe(subscriber);
+
+    subscriber.subscription.request(0);
+    this.publisher.publish(new V4Event().id("1"));
+
+    assertThat(subscriber.error).isInstanceOf(IllegalArgumentException.class);
+    assertThat(subscriber.events).isEmpty();
+  }
+
+  @Test
+  void completeSignalsSubscribersOnceTest() {
+    final RecordingSubscriber subscriber = new RecordingSubscriber();
+    this.publisher.subscribe(subscriber);
+
+    this.publisher.complete();
+    this.publisher.complete();
+
+    assertThat(subscriber.completions).isEqualTo(1);
+  }
+
+  private static class RecordingSubscriber implements Flow.Subscriber<V4Event> {
+
+    private final List<V4Event> events = new CopyOnWriteArrayList<>();
+    private volatile Flow.Subscription subscription;
+    private volatile Throwable error;
+    private volatile int completions;
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+      this.subscription = subscription;
+    }
+
+    @Override
+    public void onNext(V4Event item) {
+      this.events.add(item);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+      this.error = throwable;
+    }
+
+    @Override
+    public void onComplete() {
+      this.completions++;
+    }
+  }
+}
@@ -8,6 +8,7 @@ import com.symphony.bdk.core.config.BdkConfigLoader;
 import com.symphony.bdk.core.config.exception.BdkConfigException;
 import com.symphony.bdk.core.config.model.BdkConfig;
 import com.symphony.bdk.core.config.model.BdkDatafeedConfig;
+import com.symphony.bdk.core.service.datafeed.BatchRealTimeEventListener;
 import com.symphony.bdk.core.service.datafeed.DatafeedIdRepository;
 import com.symphony.bdk.core.service.datafeed.RealTimeEventListener;
 import com.symphony.bdk.core.service.datafeed.exception.NestedRetryException;
@@ -38,6 +39,7 @@ import com.symphony.bdk.gen.api.model.V4UserLeftRoom;
 import com.symphony.bdk.gen.api.model.V4UserRequestedToJoinRoom;
 import com.symphony.bdk.http.api.ApiClient;
 import com.symphony.bdk.http.api.ApiException;
+import com.symphony.bdk.http.api.CancellableCall;
 import com.symphony.bdk.http.api.tracing.DistributedTracingContext;
 import jakarta.ws.rs.ProcessingException;
 import org.apache.commons.io.FileUtils;
@@ -72,6 +74,7 @@ import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -90,7 +93,7 @@ class DatafeedLoopV1Test {
   private RealTimeEventListener listener;
 
   @BeforeEach
-  void init() throws BdkConfigException {
+  void init() throws BdkConfigException, ApiException {
     initializeAuthSession();
     initializeBdkConfig();
     initializeBotInfo();
@@ -120,8 +123,10 @@ class DatafeedLoopV1Test {
     when(botInfo.getId()).thenReturn(1234L);
   }
 
-  private void initializeDatafeedApiClient() {
+  private void initializeDatafeedApiClient() throws ApiException {
     this.datafeedApiClient = mock(ApiClient.class);
+    when(this.datafeedApiClient.invokeCancellable(any()))
+        .thenAnswer(invocation -> invocation.<CancellableCall<?>>getArgument(0).call());
     doNothing().when(this.datafeedApiClient).rotate();
     when(this.datafeedApiClient.getBasePath()).thenReturn(DEFAULT_AGENT_BASE_PATH + "/agent");
   }
@@ -173,6 +178,25 @@ class DatafeedLoopV1Test {
     assertEquals(DEFAULT_AGENT_BASE_PATH, datafeedIdRepository.readAgentBasePath().get());
   }
 
+  @Test
+  void startTestWithBatchListener() throws ApiException, AuthUnauthorizedException {
+    when(datafeedApi.v4DatafeedCreatePost("1234", "1234")).thenReturn(new Datafeed().id("test-id"));
+    when(datafeedApi.v4DatafeedIdReadGet("test-id", null,"1234",  "1234"))
+        .thenReturn(getMessageSentEvent());
+
+    this.datafeedService.unsubscribe(this.listener);
+    final List<List<V4Event>> batches = new ArrayList<>();
+    this.datafeedService.subscribe((BatchRealTimeEventListener) (events, botInfo) -> {
+      batches.add(events);
+      datafeedService.stop();
+    });
+    this.datafeedService.start();
+
+    verify(datafeedApi, times(1)).v4DatafeedIdReadGet("test-id", null,"1234",  "1234");
+    assertEquals(1, batches.size());
+    assertEquals(getMessageSentEvent(), batches.get(0));
+  }
+
   @Test
   void testDatafeedIdIsReused() throws ApiException, AuthUnauthorizedException {
     datafeedIdRepository.write("persisted-id");
@@ -190,6 +214,8 @@ class DatafeedLoopV1Test {
   @Test
   void startTestWithLoadBalancing() throws ApiException, AuthUnauthorizedException {
     LoadBalancedApiClient loadBalancedApiClient = mock(LoadBalancedApiClient.class);
+    when(loadBalancedApiClient.invokeCancellable(any()))
+        .thenAnswer(invocation -> invocation.<CancellableCall<?>>getArgument(0).call());
     doNothing().when(loadBalancedApiClient).rotate();
     doNothing().when(loadBalancedApiClient).setBasePath(any());
     when(loadBalancedApiClient.getBasePath()).thenReturn("https://agent-lb:7443/path/agent");
@@ -218,6 +244,8 @@ class DatafeedLoopV1Test {
     datafeedIdRepository.write("persisted-id", "persisted-agent-path");
 
     LoadBalancedApiClient loadBalancedApiClient = mock(LoadBalancedApiClient.class);
+    when(loadBalancedApiClient.invokeCancellable(any()))
+        .thenAnswer(invocation -> invocation.<CancellableCall<?>>getArgument(0).call());
     doNothing().when(loadBalancedApiClient).rotate();
     doNothing().when(loadBalancedApiClient).setBasePath(any());
     when(loadBalancedApiClient.getBasePath()).thenReturn("https://agent-lb:7443/path/agent");
@@ -500,24 +528,33 @@ class DatafeedLoopV1Test {
 
     final RealTimeEventListener spiedListener = Mockito.spy(listener);
     this.datafeedService.subscribe(spiedListener);
+    // does not override any callback, thus receives all the event types
+    final RealTimeEventListener mockedListener = mock(RealTimeEventListener.class);
+    when(mockedListener.isAcceptingEvent(any(), any())).thenCallRealMethod();
+    this.datafeedService.subscribe(mockedListener);
     this.datafeedService.handleV4EventList(events);
 
+    // only overrides onMessageSent
     verify(spiedListener).onMessageSent(eq(initiator), any(V4MessageSent.class));
-    verify(spiedListener).onMessageSuppressed(eq(initiator), any(V4MessageSuppressed.class));
-    verify(spiedListener).onSymphonyElementsAction(eq(initiator), any(V4SymphonyElementsAction.class));
-    verify(spiedListener).onSharedPost(eq(initiator), any(V4SharedPost.class));
-    verify(spiedListener).onInstantMessageCreated(eq(initiator), any(V4InstantMessageCreated.class));
-    verify(spiedListener).onRoomCreated(eq(initiator), any(V4RoomCreated.class));
-    verify(spiedListener).onRoomUpdated(eq(initiator), any(V4RoomUpdated.class));
-    verify(spiedListener).onRoomDeactivated(eq(initiator), any(V4RoomDeactivated.class));
-    verify(spiedListener).onRoomReactivated(eq(initiator), any(V4RoomReactivated.class));
-    verify(spiedListener).onConnectionRequested(eq(initiator), any(V4ConnectionRequested.class));
-    verify(spiedListener).onConnectionAccepted(eq(initiator), any(V4ConnectionAccepted.class));
-    verify(spiedListener).onRoomMemberDemotedFromOwner(eq(initiator), any(V4RoomMemberDemotedFromOwner.class));
-    verify(spiedListener).onRoomMemberPromotedToOwner(eq(initiator), any(V4RoomMemberPromotedToOwner.class));
-    verify(spiedListener).onUserLeftRoom(eq(initiator), any(V4UserLeftRoom.class));
-    verify(spiedListener).onUserJoinedRoom(eq(initiator), any(V4UserJoinedRoom.class));
-    verify(spiedListener).onUserRequestedToJoinRoom(eq(initiator), any(V4UserRequestedToJoinRoom.class));
-    verify(spiedListener).onGenericSystemEvent(eq(initiator), any(V4GenericSystemEvent.class));
+    verify(spiedListener, never()).onMessageSuppressed(any(), any());
+    verify(spiedListener, never()).onRoomCreated(any(), any());
+
+    verify(mockedListener).onMessageSent(eq(initiator), any(V4MessageSent.class));
+    verify(mockedListener).onMessageSuppressed(eq(initiator), any(V4MessageSuppressed.class));
+    verify(mockedListener).onSymphonyElementsAction(eq(initiator), any(V4SymphonyElementsAction.class));
+    verify(mockedListener).onSharedPost(eq(initiator), any(V4SharedPost.class));
+    verify(mockedListener).onInstantMessageCreated(eq(initiator), any(V4InstantMessageCreated.class));
+    verify(mockedListener).onRoomCreated(eq(initiator), any(V4RoomCreated.class));
+    verify(mockedListener).onRoomUpdated(eq(initiator), any(V4RoomUpdated.class));
+    verify(mockedListener).onRoomDeactivated(eq(initiator), any(V4RoomDeactivated.class));
+    verify(mockedListener).onRoomReactivated(eq(initiator), any(V4RoomReactivated.class));
+    verify(mockedListener).onConnectionRequested(eq(initiator), any(V4ConnectionRequested.class));
+    verify(mockedListener).onConnectionAccepted(eq(initiator), any(V4ConnectionAccepted.class));
+    verify(mockedListener).onRoomMemberDemotedFromOwner(eq(initiator), any(V4RoomMemberDemotedFromOwner.class));
+    verify(mockedListener).onRoomMemberPromotedToOwner(eq(initiator), any(V4RoomMemberPromotedToOwner.class));
+    verify(mockedListener).onUserLeftRoom(eq(initiator), any(V4UserLeftRoom.class));
+    verify(mockedListener).onUserJoinedRoom(eq(initiator), any(V4UserJoinedRoom.class));
+    verify(mockedListener).onUserRequestedToJoinRoom(eq(initiator), any(V4UserRequestedToJoinRoom.class));
+    verify(mockedListener).onGenericSystemEvent(eq(initiator), any(V4GenericSystemEvent.class));
   }
 }
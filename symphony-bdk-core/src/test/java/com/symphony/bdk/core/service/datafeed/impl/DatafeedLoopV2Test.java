@@ -1,5 +1,6 @@
 package com.symphony.bdk.core.service.datafeed.impl;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.symphony.bdk.core.auth.AuthSession;
 import com.symphony.bdk.core.auth.exception.AuthUnauthorizedException;
 import com.symphony.bdk.core.auth.impl.AuthSessionImpl;
@@ -7,48 +8,73 @@ import com.symphony.bdk.core.config.BdkConfigLoader;
 import com.symphony.bdk.core.config.exception.BdkConfigException;
 import com.symphony.bdk.core.config.model.BdkConfig;
 import com.symphony.bdk.core.config.model.BdkDatafeedConfig;
+import com.symphony.bdk.core.service.datafeed.AckIdCheckpoint;
+import com.symphony.bdk.core.service.datafeed.AckIdCheckpointStore;
+import com.symphony.bdk.core.service.datafeed.BatchRealTimeEventListener;
 import com.symphony.bdk.core.service.datafeed.EventException;
 import com.symphony.bdk.core.service.datafeed.RealTimeEventListener;
 import com.symphony.bdk.core.service.datafeed.exception.NestedRetryException;
+import com.symphony.bdk.core.service.datafeed.metrics.InMemoryDatafeedMetrics;
 import com.symphony.bdk.gen.api.DatafeedApi;
 import com.symphony.bdk.gen.api.model.AckId;
 import com.symphony.bdk.gen.api.model.UserV2;
 import com.symphony.bdk.gen.api.model.V4Event;
 import com.symphony.bdk.gen.api.model.V4Initiator;
+import com.symphony.bdk.gen.api.model.V4Message;
 import com.symphony.bdk.gen.api.model.V4MessageSent;
 import com.symphony.bdk.gen.api.model.V4Payload;
+import com.symphony.bdk.gen.api.model.V4Stream;
 import com.symphony.bdk.gen.api.model.V5Datafeed;
 import com.symphony.bdk.gen.api.model.V5DatafeedCreateBody;
 import com.symphony.bdk.gen.api.model.V5EventList;
 import com.symphony.bdk.http.api.ApiClient;
 import com.symphony.bdk.http.api.ApiException;
+import com.symphony.bdk.http.api.CancellableCall;
+import com.symphony.bdk.http.api.ApiResponse;
+import com.symphony.bdk.http.api.ResponseBodyReader;
 import jakarta.ws.rs.ProcessingException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.ArgumentMatcher;
 import org.mockito.Mockito;
 
+import java.io.ByteArrayInputStream;
 import java.net.SocketTimeoutException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.charset.StandardCharsets;
 import java.net.UnknownHostException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 import static com.symphony.bdk.core.test.BdkRetryConfigTestHelper.ofMinimalInterval;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -67,7 +93,7 @@ class DatafeedLoopV2Test {
   private RealTimeEventListener listener;
 
   @BeforeEach
-  void setUp() throws BdkConfigException {
+  void setUp() throws BdkConfigException, ApiException {
     BdkConfig bdkConfig = BdkConfigLoader.loadFromClasspath("/config/config.yaml");
     BdkDatafeedConfig datafeedConfig = bdkConfig.getDatafeed();
     datafeedConfig.setVersion("v2");
@@ -78,6 +104,8 @@ class DatafeedLoopV2Test {
     UserV2 botInfo = Mockito.mock(UserV2.class);
     this.authSession = Mockito.mock(AuthSessionImpl.class);
     ApiClient datafeedApiClient = mock(ApiClient.class);
+    when(datafeedApiClient.invokeCancellable(any()))
+        .thenAnswer(invocation -> invocation.<CancellableCall<?>>getArgument(0).call());
 
     when(this.authSession.getSessionToken()).thenReturn(TOKEN);
     when(this.authSession.getKeyManagerToken()).thenReturn(TOKEN);
@@ -330,10 +358,1046 @@ class DatafeedLoopV2Test {
     assertEquals("ack-id", datafeedService.getAckId());
   }
 
+  @Test
+  void testStartReportsMetrics() throws ApiException, AuthUnauthorizedException {
+    when(datafeedApi.listDatafeed(TOKEN, TOKEN, null)).thenReturn(
+        Collections.singletonList(new V5Datafeed().id(DATAFEED_ID)));
+    when(datafeedApi.readDatafeed(eq(DATAFEED_ID), eq(TOKEN), eq(TOKEN), argThat(eqAckId(""))))
+        .thenReturn(new V5EventList().addEventsItem(
+            new V4Event().type(RealTimeEventType.MESSAGESENT.name()).timestamp(System.currentTimeMillis() - 1000)
+                .payload(new V4Payload().messageSent(new V4MessageSent()))).ackId("ack-id"));
+
+    InMemoryDatafeedMetrics metrics = new InMemoryDatafeedMetrics();
+    this.datafeedService.setMetrics(metrics);
+    this.datafeedService.unsubscribe(listener);
+    AtomicBoolean firstCall = new AtomicBoolean(true);
+    this.datafeedService.subscribe(new RealTimeEventListener() {
+      @Override
+      public boolean isAcceptingEvent(V4Event event, UserV2 botInfo) {
+        return true;
+      }
+
+      @Override
+      public void onMessageSent(V4Initiator initiator, V4MessageSent event) {
+        if (firstCall.getAndSet(false)) {
+          throw new EventException("failure");
+        }
+        datafeedService.stop();
+      }
+    });
+    this.datafeedService.start();
+
+    assertEquals(2, metrics.getReadRoundTrips().get("DatafeedLoopV2").getCount());
+    assertEquals(1, metrics.getBatchSizes().get("DatafeedLoopV2").getMax());
+    assertEquals(2, metrics.getDispatchTimesByEventType().get(RealTimeEventType.MESSAGESENT.name()).getCount());
+    assertEquals(1, metrics.getDispatchTimesByListener().size());
+    assertTrue(metrics.getLags().get(RealTimeEventType.MESSAGESENT.name()).getMin() >= 1000);
+    assertEquals(1L, metrics.getRequeueCounts().get("DatafeedLoopV2"));
+    assertTrue(metrics.getRetryCounts().isEmpty());
+  }
+
+  @Test
+  void testStartReportsRetryMetrics() throws ApiException, AuthUnauthorizedException {
+    when(datafeedApi.listDatafeed(TOKEN, TOKEN, null)).thenReturn(
+        Collections.singletonList(new V5Datafeed().id(DATAFEED_ID)));
+    when(datafeedApi.readDatafeed(eq(DATAFEED_ID), eq(TOKEN), eq(TOKEN), any())).thenThrow(
+        new ProcessingException(new SocketTimeoutException()));
+
+    InMemoryDatafeedMetrics metrics = new InMemoryDatafeedMetrics();
+    this.datafeedService.setMetrics(metrics);
+    this.datafeedService.start();
+
+    // max attempts is 2
+    assertEquals(1L, metrics.getRetryCounts().get("DatafeedLoopV2"));
+    assertTrue(metrics.getReadRoundTrips().isEmpty());
+  }
+
+  @Test
+  void testStartParallelDispatch_requeueEvent() throws ApiException, AuthUnauthorizedException, BdkConfigException {
+    BdkConfig bdkConfig = BdkConfigLoader.loadFromClasspath("/config/config.yaml");
+    bdkConfig.getDatafeed().setRetry(ofMinimalInterval(2));
+    bdkConfig.getDatafeed().getDispatch().setParallelism(4);
+    this.datafeedService = new DatafeedLoopV2(this.datafeedApi, this.authSession, bdkConfig, mock(UserV2.class));
+
+    when(datafeedApi.listDatafeed(TOKEN, TOKEN, null))
+        .thenReturn(Collections.singletonList(new V5Datafeed().id(DATAFEED_ID)));
+    when(datafeedApi.readDatafeed(eq(DATAFEED_ID), eq(TOKEN), eq(TOKEN), argThat(eqAckId(""))))
+        .thenReturn(new V5EventList()
+            .addEventsItem(messageSentEvent("stream-1"))
+            .addEventsItem(messageSentEvent("stream-2"))
+            .addEventsItem(messageSentEvent("stream-3"))
+            .ackId("ack-id"));
+
+    AtomicBoolean firstCall = new AtomicBoolean(true);
+    this.datafeedService.subscribe(new RealTimeEventListener() {
+      @Override
+      public boolean isAcceptingEvent(V4Event event, UserV2 botInfo) {
+        return true;
+      }
+
+      @Override
+      public void onMessageSent(V4Initiator initiator, V4MessageSent event) {
+        if (!"stream-1".equals(event.getMessage().getStream().getStreamId())) {
+          return;
+        }
+        if (firstCall.getAndSet(false)) {
+          // will not update ack id
+          throw new EventException("failure");
+        }
+        datafeedService.stop();
+      }
+    });
+    this.datafeedService.start();
+
+    // the ack id is only updated once a batch is fully processed without failure
+    verify(datafeedApi, times(2)).readDatafeed(eq(DATAFEED_ID), eq(TOKEN), eq(TOKEN), argThat(eqAckId("")));
+    assertEquals("ack-id", datafeedService.getAckId());
+  }
+
+  @Test
+  void testStartPipelined_nextReadInFlightWhileHandling() throws Exception {
+    this.datafeedService = this.pipelinedDatafeedService();
+
+    final CountDownLatch secondReadSent = new CountDownLatch(1);
+    final AtomicInteger initialReads = new AtomicInteger();
+    when(datafeedApi.listDatafeed(TOKEN, TOKEN, null))
+        .thenReturn(Collections.singletonList(new V5Datafeed().id(DATAFEED_ID)));
+    when(datafeedApi.readDatafeed(eq(DATAFEED_ID), eq(TOKEN), eq(TOKEN), argThat(eqAckId(""))))
+        .thenAnswer(invocation -> {
+          if (initialReads.incrementAndGet() == 1) {
+            return new V5EventList().addEventsItem(messageSentEvent("stream-1")).ackId("ack-1");
+          }
+          secondReadSent.countDown();
+          Thread.sleep(100);
+          return new V5EventList().addEventsItem(messageSentEvent("stream-2")).ackId("ack-2");
+        });
+    when(datafeedApi.readDatafeed(eq(DATAFEED_ID), eq(TOKEN), eq(TOKEN), argThat(eqAckId("ack-1"))))
+        .thenAnswer(invocation -> {
+          Thread.sleep(100);
+          return new V5EventList().ackId("ack-1");
+        });
+
+    final AtomicBoolean readInFlightWhileHandling = new AtomicBoolean();
+    this.datafeedService.subscribe(new RealTimeEventListener() {
+      @Override
+      public boolean isAcceptingEvent(V4Event event, UserV2 botInfo) {
+        return true;
+      }
+
+      @Override
+      public void onMessageSent(V4Initiator initiator, V4MessageSent event) {
+        if ("stream-1".equals(event.getMessage().getStream().getStreamId())) {
+          try {
+            readInFlightWhileHandling.set(secondReadSent.await(5, TimeUnit.SECONDS));
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+        } else {
+          datafeedService.stop();
+        }
+      }
+    });
+    this.datafeedService.start();
+
+    assertTrue(readInFlightWhileHandling.get());
+    // first batch is acknowledged by the next read of its chain
+    verify(datafeedApi, Mockito.atLeastOnce())
+        .readDatafeed(eq(DATAFEED_ID), eq(TOKEN), eq(TOKEN), argThat(eqAckId("ack-1")));
+    assertEquals("ack-2", datafeedService.getAckId());
+  }
+
+  @Test
+  void testStartPipelined_requeueEvent() throws Exception {
+    this.datafeedService = this.pipelinedDatafeedService();
+
+    final AtomicInteger initialReads = new AtomicInteger();
+    when(datafeedApi.listDatafeed(TOKEN, TOKEN, null))
+        .thenReturn(Collections.singletonList(new V5Datafeed().id(DATAFEED_ID)));
+    when(datafeedApi.readDatafeed(eq(DATAFEED_ID), eq(TOKEN), eq(TOKEN), argThat(eqAckId(""))))
+        .thenAnswer(invocation -> {
+          final int read = initialReads.incrementAndGet();
+          if (read == 1) {
+            return new V5EventList().addEventsItem(messageSentEvent("failure")).ackId("ack-1");
+          } else if (read == 2) {
+            Thread.sleep(100);
+            return new V5EventList().ackId("");
+          }
+          return new V5EventList().addEventsItem(messageSentEvent("stop")).ackId("ack-3");
+        });
+
+    this.datafeedService.subscribe(new RealTimeEventListener() {
+      @Override
+      public boolean isAcceptingEvent(V4Event event, UserV2 botInfo) {
+        return true;
+      }
+
+      @Override
+      public void onMessageSent(V4Initiator initiator, V4MessageSent event) throws EventException {
+        if ("failure".equals(event.getMessage().getStream().getStreamId())) {
+          throw new EventException("failure");
+        }
+        datafeedService.stop();
+      }
+    });
+    this.datafeedService.start();
+
+    // the failed batch is never acknowledged, its chain reads again with the previous ack id
+    verify(datafeedApi, never()).readDatafeed(eq(DATAFEED_ID), eq(TOKEN), eq(TOKEN), argThat(eqAckId("ack-1")));
+    verify(datafeedApi, Mockito.atLeast(3)).readDatafeed(eq(DATAFEED_ID), eq(TOKEN), eq(TOKEN), argThat(eqAckId("")));
+    assertEquals("ack-3", datafeedService.getAckId());
+  }
+
+  @Test
+  void testStartPipelined_failedReadKeepsTheOtherChainsBatches() throws Exception {
+    this.datafeedService = this.pipelinedDatafeedService();
+
+    final AtomicInteger initialReads = new AtomicInteger();
+    when(datafeedApi.listDatafeed(TOKEN, TOKEN, null))
+        .thenReturn(Collections.singletonList(new V5Datafeed().id(DATAFEED_ID)));
+    when(datafeedApi.readDatafeed(eq(DATAFEED_ID), eq(TOKEN), eq(TOKEN), argThat(eqAckId(""))))
+        .thenAnswer(invocation -> {
+          final int read = initialReads.incrementAndGet();
+          if (read == 1) {
+            throw new ApiException(502, "server-error");
+          } else if (read == 2) {
+            Thread.sleep(100);
+            return new V5EventList().addEventsItem(messageSentEvent("kept")).ackId("ack-2");
+          }
+          Thread.sleep(300);
+          return new V5EventList().addEventsItem(messageSentEvent("retried")).ackId("ack-3");
+        });
+
+    final List<String> dispatchedStreams = new CopyOnWriteArrayList<>();
+    this.datafeedService.subscribe(new RealTimeEventListener() {
+      @Override
+      public boolean isAcceptingEvent(V4Event event, UserV2 botInfo) {
+        return true;
+      }
+
+      @Override
+      public void onMessageSent(V4Initiator initiator, V4MessageSent event) {
+        dispatchedStreams.add(event.getMessage().getStream().getStreamId());
+        datafeedService.stop();
+      }
+    });
+    this.datafeedService.start();
+
+    // only the failed read is sent again, the batch of the other chain is not dropped
+    assertEquals(Collections.singletonList("kept"), dispatchedStreams);
+    verify(datafeedApi, times(3)).readDatafeed(eq(DATAFEED_ID), eq(TOKEN), eq(TOKEN), argThat(eqAckId("")));
+    assertEquals("ack-2", datafeedService.getAckId());
+  }
+
+  @Test
+  void testStartPipelined_readerThreadsNamedAfterTheirIndex() throws Exception {
+    this.datafeedService = this.pipelinedDatafeedService();
+
+    final Set<String> readerThreads = ConcurrentHashMap.newKeySet();
+    when(datafeedApi.listDatafeed(TOKEN, TOKEN, null))
+        .thenReturn(Collections.singletonList(new V5Datafeed().id(DATAFEED_ID)));
+    when(datafeedApi.readDatafeed(eq(DATAFEED_ID), eq(TOKEN), eq(TOKEN), any()))
+        .thenAnswer(invocation -> {
+          readerThreads.add(Thread.currentThread().getName());
+          return new V5EventList().addEventsItem(messageSentEvent("stop")).ackId("ack-id");
+        });
+
+    this.datafeedService.subscribe(new RealTimeEventListener() {
+      @Override
+      public boolean isAcceptingEvent(V4Event event, UserV2 botInfo) {
+        return true;
+      }
+
+      @Override
+      public void onMessageSent(V4Initiator initiator, V4MessageSent event) {
+        datafeedService.stop();
+      }
+    });
+    this.datafeedService.start();
+
+    assertTrue(readerThreads.stream().allMatch(name -> name.matches("DatafeedLoopV2-Read-[01]")),
+        readerThreads::toString);
+  }
+
+  @Test
+  void testStartDeduplication_requeueEvent() throws Exception {
+    BdkConfig bdkConfig = BdkConfigLoader.loadFromClasspath("/config/config.yaml");
+    bdkConfig.getDatafeed().setRetry(ofMinimalInterval(2));
+    bdkConfig.getDatafeed().getDispatch().getDeduplication().setEnabled(true);
+    this.datafeedService = new DatafeedLoopV2(this.datafeedApi, this.authSession, bdkConfig, mock(UserV2.class));
+
+    when(datafeedApi.listDatafeed(TOKEN, TOKEN, null))
+        .thenReturn(Collections.singletonList(new V5Datafeed().id(DATAFEED_ID)));
+    when(datafeedApi.readDatafeed(eq(DATAFEED_ID), eq(TOKEN), eq(TOKEN), argThat(eqAckId(""))))
+        .thenReturn(new V5EventList().addEventsItem(messageSentEvent("stream-1").id("event-id")).ackId("ack-id"));
+
+    final AtomicInteger succeedingCalls = new AtomicInteger();
+    this.datafeedService.subscribe(new RealTimeEventListener() {
+      @Override
+      public boolean isAcceptingEvent(V4Event event, UserV2 botInfo) {
+        return true;
+      }
+
+      @Override
+      public void onMessageSent(V4Initiator initiator, V4MessageSent event) {
+        succeedingCalls.incrementAndGet();
+      }
+    });
+    final AtomicInteger failingCalls = new AtomicInteger();
+    this.datafeedService.subscribe(new RealTimeEventListener() {
+      @Override
+      public boolean isAcceptingEvent(V4Event event, UserV2 botInfo) {
+        return true;
+      }
+
+      @Override
+      public void onMessageSent(V4Initiator initiator, V4MessageSent event) {
+        if (failingCalls.incrementAndGet() == 1) {
+          throw new EventException("failure");
+        }
+        datafeedService.stop();
+      }
+    });
+    this.datafeedService.start();
+
+    // the re-delivered event is only dispatched again to the listener that failed
+    verify(datafeedApi, times(2)).readDatafeed(eq(DATAFEED_ID), eq(TOKEN), eq(TOKEN), argThat(eqAckId("")));
+    assertEquals(1, succeedingCalls.get());
+    assertEquals(2, failingCalls.get());
+    assertEquals("ack-id", datafeedService.getAckId());
+  }
+
+  @Test
+  void testStartStreaming() throws Exception {
+    when(datafeedApi.listDatafeed(TOKEN, TOKEN, null)).thenReturn(
+        Collections.singletonList(new V5Datafeed().id(DATAFEED_ID)));
+    final ApiClient apiClient = this.streamEventList(
+        "{\"events\":[{\"type\":\"MESSAGESENT\",\"payload\":{\"messageSent\":{}}}],\"ackId\":\"ack-id\"}");
+
+    final InMemoryDatafeedMetrics metrics = new InMemoryDatafeedMetrics();
+    final DatafeedLoopV2 streamingService = this.streamingDatafeedService();
+    streamingService.setMetrics(metrics);
+    streamingService.subscribe(new RealTimeEventListener() {
+      @Override
+      public boolean isAcceptingEvent(V4Event event, UserV2 botInfo) {
+        return true;
+      }
+
+      @Override
+      public void onMessageSent(V4Initiator initiator, V4MessageSent event) {
+        streamingService.stop();
+      }
+    });
+    streamingService.start();
+
+    verify(apiClient, times(1)).invokeStreamingAPI(eq("/v5/datafeeds/" + DATAFEED_ID + "/read"), eq("POST"), any(),
+        argThat(eqAckId("")), any(), any(), any(), any(), any(), any(), any());
+    verify(datafeedApi, never()).readDatafeed(any(), any(), any(), any());
+    assertEquals("ack-id", streamingService.getAckId());
+    assertEquals(1, metrics.getBatchSizes().get("DatafeedLoopV2").getMax());
+  }
+
+  @Test
+  void testStartStreamingReadsWholeEventListsWithoutJsonMapper() throws Exception {
+    when(datafeedApi.listDatafeed(TOKEN, TOKEN, null)).thenReturn(
+        Collections.singletonList(new V5Datafeed().id(DATAFEED_ID)));
+    when(datafeedApi.readDatafeed(eq(DATAFEED_ID), eq(TOKEN), eq(TOKEN), any()))
+        .thenReturn(new V5EventList().addEventsItem(messageSentEvent("stream-id")).ackId("ack-id"));
+
+    final DatafeedLoopV2 streamingService = this.streamingDatafeedService();
+    streamingService.subscribe(new RealTimeEventListener() {
+      @Override
+      public boolean isAcceptingEvent(V4Event event, UserV2 botInfo) {
+        return true;
+      }
+
+      @Override
+      public void onMessageSent(V4Initiator initiator, V4MessageSent event) {
+        streamingService.stop();
+      }
+    });
+    streamingService.start();
+
+    verify(datafeedApi.getApiClient(), never()).invokeStreamingAPI(any(), any(), any(), any(), any(), any(), any(),
+        any(), any(), any(), any());
+    assertEquals("ack-id", streamingService.getAckId());
+  }
+
+  @Test
+  void testStartStreamingRequeueDiscardsRemainingEvents() throws Exception {
+    when(datafeedApi.listDatafeed(TOKEN, TOKEN, null)).thenReturn(
+        Collections.singletonList(new V5Datafeed().id(DATAFEED_ID)));
+    this.streamEventList("{\"events\":[{\"type\":\"MESSAGESENT\",\"payload\":{\"messageSent\":{}}},"
+        + "{\"type\":\"MESSAGESENT\",\"payload\":{\"messageSent\":{}}}],\"ackId\":\"ack-id\"}");
+
+    final InMemoryDatafeedMetrics metrics = new InMemoryDatafeedMetrics();
+    final DatafeedLoopV2 streamingService = this.streamingDatafeedService();
+    streamingService.setMetrics(metrics);
+    final AtomicInteger dispatched = new AtomicInteger();
+    streamingService.subscribe(new RealTimeEventListener() {
+      @Override
+      public boolean isAcceptingEvent(V4Event event, UserV2 botInfo) {
+        return true;
+      }
+
+      @Override
+      public void onMessageSent(V4Initiator initiator, V4MessageSent event) {
+        dispatched.incrementAndGet();
+        streamingService.stop();
+        throw new EventException("failure");
+      }
+    });
+    streamingService.start();
+
+    assertEquals(1, dispatched.get());
+    assertEquals("", streamingService.getAckId());
+    assertEquals(1L, metrics.getRequeueCounts().get("DatafeedLoopV2"));
+  }
+
+  @Test
+  void testStartResumesFromCheckpoint(@TempDir Path checkpointDirectory) throws Exception {
+    when(datafeedApi.listDatafeed(TOKEN, TOKEN, null)).thenReturn(
+        Collections.singletonList(new V5Datafeed().id(DATAFEED_ID)));
+    when(datafeedApi.readDatafeed(eq(DATAFEED_ID), eq(TOKEN), eq(TOKEN), argThat(eqAckId("checkpointed-ack-id"))))
+        .thenReturn(new V5EventList().addEventsItem(messageSentEvent("stream-id")).ackId("ack-id"));
+    new OnDiskAckIdCheckpointStore(checkpointDirectory.resolve("DatafeedLoopV2.checkpoint"))
+        .write(new AckIdCheckpoint(DATAFEED_ID, "checkpointed-ack-id"));
+
+    BdkConfig bdkConfig = BdkConfigLoader.loadFromClasspath("/config/config.yaml");
+    bdkConfig.getDatafeed().setRetry(ofMinimalInterval(2));
+    bdkConfig.getDatafeed().getDispatch().getCheckpoint().setEnabled(true);
+    bdkConfig.getDatafeed().getDispatch().getCheckpoint().setDirectory(checkpointDirectory.toString());
+    final DatafeedLoopV2 checkpointedService =
+        new DatafeedLoopV2(this.datafeedApi, this.authSession, bdkConfig, mock(UserV2.class));
+    checkpointedService.subscribe(new RealTimeEventListener() {
+      @Override
+      public boolean isAcceptingEvent(V4Event event, UserV2 botInfo) {
+        return true;
+      }
+
+      @Override
+      public void onMessageSent(V4Initiator initiator, V4MessageSent event) {
+        checkpointedService.stop();
+      }
+    });
+    checkpointedService.start();
+
+    verify(datafeedApi, never()).readDatafeed(eq(DATAFEED_ID), eq(TOKEN), eq(TOKEN), argThat(eqAckId("")));
+    assertEquals("ack-id", checkpointedService.getAckId());
+    // the last ack id is checkpointed when the loop stops
+    assertEquals(Optional.of(new AckIdCheckpoint(DATAFEED_ID, "ack-id")),
+        new OnDiskAckIdCheckpointStore(checkpointDirectory.resolve("DatafeedLoopV2.checkpoint")).read());
+  }
+
+  @Test
+  void testStartIgnoresCheckpointOfOtherFeed() throws Exception {
+    when(datafeedApi.listDatafeed(TOKEN, TOKEN, null)).thenReturn(
+        Collections.singletonList(new V5Datafeed().id(DATAFEED_ID)));
+    when(datafeedApi.readDatafeed(eq(DATAFEED_ID), eq(TOKEN), eq(TOKEN), argThat(eqAckId(""))))
+        .thenReturn(new V5EventList().addEventsItem(messageSentEvent("stream-id")).ackId("ack-id"));
+
+    final AckIdCheckpointStore checkpointStore = mock(AckIdCheckpointStore.class);
+    when(checkpointStore.read()).thenReturn(Optional.of(new AckIdCheckpoint("other-feed-id", "other-ack-id")));
+    this.datafeedService.unsubscribe(listener);
+    this.datafeedService.setCheckpointStore(checkpointStore);
+    this.datafeedService.subscribe(new RealTimeEventListener() {
+      @Override
+      public boolean isAcceptingEvent(V4Event event, UserV2 botInfo) {
+        return true;
+      }
+
+      @Override
+      public void onMessageSent(V4Initiator initiator, V4MessageSent event) {
+        datafeedService.stop();
+      }
+    });
+    this.datafeedService.start();
+
+    verify(datafeedApi, times(1)).readDatafeed(eq(DATAFEED_ID), eq(TOKEN), eq(TOKEN), argThat(eqAckId("")));
+    verify(checkpointStore).write(new AckIdCheckpoint(DATAFEED_ID, "ack-id"));
+  }
+
+  @Test
+  void testStartJournaled(@TempDir Path journalDirectory) throws Exception {
+    when(datafeedApi.listDatafeed(TOKEN, TOKEN, null)).thenReturn(
+        Collections.singletonList(new V5Datafeed().id(DATAFEED_ID)));
+    when(datafeedApi.readDatafeed(eq(DATAFEED_ID), eq(TOKEN), eq(TOKEN), any()))
+        .thenReturn(new V5EventList().addEventsItem(messageSentEvent("stream-id")).ackId("ack-id"))
+        .thenReturn(new V5EventList().ackId("ack-id"));
+
+    BdkConfig bdkConfig = BdkConfigLoader.loadFromClasspath("/config/config.yaml");
+    bdkConfig.getDatafeed().setRetry(ofMinimalInterval(2));
+    bdkConfig.getDatafeed().getDispatch().getJournal().setEnabled(true);
+    bdkConfig.getDatafeed().getDispatch().getJournal().setDirectory(journalDirectory.toString());
+    when(this.datafeedApi.getApiClient().getJsonMapper(ObjectMapper.class))
+        .thenReturn(Optional.of(V5EventListStreamReaderTest.MAPPER));
+    final DatafeedLoopV2 journaledService =
+        new DatafeedLoopV2(this.datafeedApi, this.authSession, bdkConfig, mock(UserV2.class));
+    final List<String> dispatchThreads = Collections.synchronizedList(new ArrayList<>());
+    journaledService.subscribe(new RealTimeEventListener() {
+      @Override
+      public boolean isAcceptingEvent(V4Event event, UserV2 botInfo) {
+        return true;
+      }
+
+      @Override
+      public void onMessageSent(V4Initiator initiator, V4MessageSent event) {
+        dispatchThreads.add(Thread.currentThread().getName());
+        journaledService.stop();
+      }
+    });
+    journaledService.start();
+
+    assertEquals(Collections.singletonList("DatafeedLoopV2-Journal"), dispatchThreads);
+    assertEquals("ack-id", journaledService.getAckId());
+    assertTrue(Files.exists(journalDirectory.resolve("DatafeedLoopV2").resolve("checkpoint")));
+  }
+
+  @Test
+  void testStartJournaledSkipsBatchAfterMaxRedeliveries(@TempDir Path journalDirectory) throws Exception {
+    when(datafeedApi.listDatafeed(TOKEN, TOKEN, null)).thenReturn(
+        Collections.singletonList(new V5Datafeed().id(DATAFEED_ID)));
+    when(datafeedApi.readDatafeed(eq(DATAFEED_ID), eq(TOKEN), eq(TOKEN), any()))
+        .thenReturn(new V5EventList().addEventsItem(messageSentEvent("failing-stream-id")).ackId("ack-id"))
+        .thenReturn(new V5EventList().addEventsItem(messageSentEvent("stream-id")).ackId("ack-id"))
+        .thenReturn(new V5EventList().ackId("ack-id"));
+
+    BdkConfig bdkConfig = BdkConfigLoader.loadFromClasspath("/config/config.yaml");
+    bdkConfig.getDatafeed().setRetry(ofMinimalInterval(2));
+    bdkConfig.getDatafeed().getDispatch().getJournal().setEnabled(true);
+    bdkConfig.getDatafeed().getDispatch().getJournal().setDirectory(journalDirectory.toString());
+    bdkConfig.getDatafeed().getDispatch().getJournal().setBatchSize(1);
+    bdkConfig.getDatafeed().getDispatch().getJournal().setRedeliveryDelayMillis(1L);
+    bdkConfig.getDatafeed().getDispatch().getJournal().setMaxRedeliveries(2);
+    when(this.datafeedApi.getApiClient().getJsonMapper(ObjectMapper.class))
+        .thenReturn(Optional.of(V5EventListStreamReaderTest.MAPPER));
+    final DatafeedLoopV2 journaledService =
+        new DatafeedLoopV2(this.datafeedApi, this.authSession, bdkConfig, mock(UserV2.class));
+    final AtomicInteger attempts = new AtomicInteger();
+    journaledService.subscribe(new RealTimeEventListener() {
+      @Override
+      public boolean isAcceptingEvent(V4Event event, UserV2 botInfo) {
+        return true;
+      }
+
+      @Override
+      public void onMessageSent(V4Initiator initiator, V4MessageSent event) throws EventException {
+        if ("failing-stream-id".equals(event.getMessage().getStream().getStreamId())) {
+          attempts.incrementAndGet();
+          throw new EventException("failure");
+        }
+        journaledService.stop();
+      }
+    });
+    journaledService.start();
+
+    assertEquals(3, attempts.get());
+  }
+
+  @Test
+  void testStartJournaledDeadLettersEventAfterMaxRedeliveries(@TempDir Path journalDirectory) throws Exception {
+    when(datafeedApi.listDatafeed(TOKEN, TOKEN, null)).thenReturn(
+        Collections.singletonList(new V5Datafeed().id(DATAFEED_ID)));
+    when(datafeedApi.readDatafeed(eq(DATAFEED_ID), eq(TOKEN), eq(TOKEN), any()))
+        .thenReturn(new V5EventList().addEventsItem(messageSentEvent("stream-id")).ackId("ack-id"))
+        .thenReturn(new V5EventList().ackId("ack-id"));
+
+    BdkConfig bdkConfig = BdkConfigLoader.loadFromClasspath("/config/config.yaml");
+    bdkConfig.getDatafeed().setRetry(ofMinimalInterval(2));
+    bdkConfig.getDatafeed().getDispatch().getJournal().setEnabled(true);
+    bdkConfig.getDatafeed().getDispatch().getJournal().setDirectory(journalDirectory.toString());
+    when(this.datafeedApi.getApiClient().getJsonMapper(ObjectMapper.class))
+        .thenReturn(Optional.of(V5EventListStreamReaderTest.MAPPER));
+    bdkConfig.getDatafeed().getDispatch().getJournal().setRedeliveryDelayMillis(1L);
+    bdkConfig.getDatafeed().getDispatch().getJournal().setMaxRedeliveries(2);
+    final DatafeedLoopV2 journaledService =
+        new DatafeedLoopV2(this.datafeedApi, this.authSession, bdkConfig, mock(UserV2.class));
+    final AtomicInteger attempts = new AtomicInteger();
+    final RealTimeEventListener listener = new RealTimeEventListener() {
+      @Override
+      public boolean isAcceptingEvent(V4Event event, UserV2 botInfo) {
+        return true;
+      }
+
+      @Override
+      public void onMessageSent(V4Initiator initiator, V4MessageSent event) throws EventException {
+        attempts.incrementAndGet();
+        throw new EventException("failure");
+      }
+    };
+    journaledService.subscribe(listener);
+    final List<RealTimeEventListener> deadLetters = Collections.synchronizedList(new ArrayList<>());
+    journaledService.setDeadLetterHandler((event, failedListener, cause) -> {
+      deadLetters.add(failedListener);
+      journaledService.stop();
+    });
+    journaledService.start();
+
+    assertEquals(3, attempts.get());
+    assertEquals(Collections.singletonList(listener), deadLetters);
+  }
+
+  @Test
+  void testStartRetriesFailedEventLocally() throws Exception {
+    when(datafeedApi.listDatafeed(TOKEN, TOKEN, null)).thenReturn(
+        Collections.singletonList(new V5Datafeed().id(DATAFEED_ID)));
+    when(datafeedApi.readDatafeed(eq(DATAFEED_ID), eq(TOKEN), eq(TOKEN), any()))
+        .thenReturn(new V5EventList().addEventsItem(messageSentEvent("stream-id")).ackId("ack-id"))
+        .thenReturn(new V5EventList().ackId("ack-id"));
+
+    BdkConfig bdkConfig = BdkConfigLoader.loadFromClasspath("/config/config.yaml");
+    bdkConfig.getDatafeed().setRetry(ofMinimalInterval(2));
+    bdkConfig.getDatafeed().getDispatch().getEventRetry().setEnabled(true);
+    bdkConfig.getDatafeed().getDispatch().getEventRetry().getRetry().setInitialIntervalMillis(1L);
+    final DatafeedLoopV2 retryingService =
+        new DatafeedLoopV2(this.datafeedApi, this.authSession, bdkConfig, mock(UserV2.class));
+    final List<String> dispatchThreads = Collections.synchronizedList(new ArrayList<>());
+    retryingService.subscribe(new RealTimeEventListener() {
+      @Override
+      public boolean isAcceptingEvent(V4Event event, UserV2 botInfo) {
+        return true;
+      }
+
+      @Override
+      public void onMessageSent(V4Initiator initiator, V4MessageSent event) {
+        dispatchThreads.add(Thread.currentThread().getName());
+        if (dispatchThreads.size() == 1) {
+          throw new EventException("failure");
+        }
+        retryingService.stop();
+      }
+    });
+    retryingService.start();
+
+    assertEquals(2, dispatchThreads.size());
+    // retried by the loop thread, between two batches, i.e. once the failed batch is acknowledged
+    assertEquals(dispatchThreads.get(0), dispatchThreads.get(1));
+    verify(datafeedApi, Mockito.atLeastOnce()).readDatafeed(eq(DATAFEED_ID), eq(TOKEN), eq(TOKEN),
+        argThat(eqAckId("ack-id")));
+  }
+
+  @Test
+  void testStartRetriesFailedEventConcurrently() throws Exception {
+    final CountDownLatch acknowledged = new CountDownLatch(1);
+    when(datafeedApi.listDatafeed(TOKEN, TOKEN, null)).thenReturn(
+        Collections.singletonList(new V5Datafeed().id(DATAFEED_ID)));
+    when(datafeedApi.readDatafeed(eq(DATAFEED_ID), eq(TOKEN), eq(TOKEN), argThat(eqAckId(""))))
+        .thenReturn(new V5EventList().addEventsItem(messageSentEvent("stream-id")).ackId("ack-id"));
+    when(datafeedApi.readDatafeed(eq(DATAFEED_ID), eq(TOKEN), eq(TOKEN), argThat(eqAckId("ack-id"))))
+        .thenAnswer(invocation -> {
+          acknowledged.countDown();
+          return new V5EventList().ackId("ack-id");
+        });
+
+    BdkConfig bdkConfig = BdkConfigLoader.loadFromClasspath("/config/config.yaml");
+    bdkConfig.getDatafeed().setRetry(ofMinimalInterval(2));
+    bdkConfig.getDatafeed().getDispatch().getEventRetry().setEnabled(true);
+    bdkConfig.getDatafeed().getDispatch().getEventRetry().setConcurrent(true);
+    bdkConfig.getDatafeed().getDispatch().getEventRetry().getRetry().setInitialIntervalMillis(1L);
+    final DatafeedLoopV2 retryingService =
+        new DatafeedLoopV2(this.datafeedApi, this.authSession, bdkConfig, mock(UserV2.class));
+    final List<String> dispatchThreads = Collections.synchronizedList(new ArrayList<>());
+    final AtomicBoolean acknowledgedBeforeRetry = new AtomicBoolean();
+    retryingService.subscribe(new RealTimeEventListener() {
+      @Override
+      public boolean isAcceptingEvent(V4Event event, UserV2 botInfo) {
+        return true;
+      }
+
+      @Override
+      public void onMessageSent(V4Initiator initiator, V4MessageSent event) {
+        dispatchThreads.add(Thread.currentThread().getName());
+        if (dispatchThreads.size() == 1) {
+          throw new EventException("failure");
+        }
+        // the retry does not wait for the loop, the batch being acknowledged by its next read meanwhile
+        try {
+          acknowledgedBeforeRetry.set(acknowledged.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        retryingService.stop();
+      }
+    });
+    retryingService.start();
+
+    assertEquals(2, dispatchThreads.size());
+    assertEquals("DatafeedLoopV2-Retry", dispatchThreads.get(1));
+    assertTrue(acknowledgedBeforeRetry.get());
+  }
+
+  @Test
+  void testStartQuarantinesListenerOverBudget() throws Exception {
+    when(datafeedApi.listDatafeed(TOKEN, TOKEN, null)).thenReturn(
+        Collections.singletonList(new V5Datafeed().id(DATAFEED_ID)));
+    when(datafeedApi.readDatafeed(eq(DATAFEED_ID), eq(TOKEN), eq(TOKEN), any()))
+        .thenReturn(new V5EventList().addEventsItem(messageSentEvent("stream-id")).ackId("ack-id"))
+        .thenReturn(new V5EventList().addEventsItem(messageSentEvent("stream-id")).ackId("ack-id-2"))
+        .thenReturn(new V5EventList().ackId("ack-id-2"));
+
+    BdkConfig bdkConfig = BdkConfigLoader.loadFromClasspath("/config/config.yaml");
+    bdkConfig.getDatafeed().getDispatch().getListenerBudget().setEnabled(true);
+    bdkConfig.getDatafeed().getDispatch().getListenerBudget().setBudgetMillis(0L);
+    bdkConfig.getDatafeed().getDispatch().getListenerBudget().setMaxOverruns(1);
+    final DatafeedLoopV2 budgetedService =
+        new DatafeedLoopV2(this.datafeedApi, this.authSession, bdkConfig, mock(UserV2.class));
+    final List<String> dispatchThreads = Collections.synchronizedList(new ArrayList<>());
+    final List<String> quarantined = Collections.synchronizedList(new ArrayList<>());
+    budgetedService.subscribe(new RealTimeEventListener() {
+      @Override
+      public boolean isAcceptingEvent(V4Event event, UserV2 botInfo) {
+        return true;
+      }
+
+      @Override
+      public void onMessageSent(V4Initiator initiator, V4MessageSent event) {
+        dispatchThreads.add(Thread.currentThread().getName());
+        if (dispatchThreads.size() == 2) {
+          quarantined.addAll(budgetedService.quarantinedListeners().keySet());
+          budgetedService.stop();
+        }
+      }
+    });
+    budgetedService.start();
+
+    assertEquals(2, dispatchThreads.size());
+    assertEquals("DatafeedLoopV2-Quarantine-0", dispatchThreads.get(1));
+    assertEquals(1, quarantined.size());
+    // the executor of the quarantined listener is released with the loop
+    assertTrue(budgetedService.quarantinedListeners().isEmpty());
+  }
+
+  @Test
+  void testStopCancelsPendingRead() throws Exception {
+    when(datafeedApi.listDatafeed(TOKEN, TOKEN, null)).thenReturn(
+        Collections.singletonList(new V5Datafeed().id(DATAFEED_ID)));
+    final CompletableFuture<V5EventList> pendingRead = new CompletableFuture<>();
+    final CountDownLatch readSent = new CountDownLatch(1);
+    when(datafeedApi.readDatafeed(eq(DATAFEED_ID), eq(TOKEN), eq(TOKEN), any())).thenAnswer(invocation -> {
+      readSent.countDown();
+      // blocks like a long-polling read, until cancelled
+      return pendingRead.join();
+    });
+    final ApiClient datafeedApiClient = datafeedApi.getApiClient();
+    doAnswer(invocation -> pendingRead.cancel(true)).when(datafeedApiClient).cancelPendingRequests();
+
+    final ExecutorService loopThread = Executors.newSingleThreadExecutor();
+    try {
+      final Future<?> loop = loopThread.submit(() -> {
+        this.datafeedService.start();
+        return null;
+      });
+      assertTrue(readSent.await(5, TimeUnit.SECONDS));
+
+      this.datafeedService.stop();
+
+      assertTrue(pendingRead.isCancelled());
+      // the loop exited without any error
+      loop.get(1, TimeUnit.SECONDS);
+      verify(datafeedApi, times(1)).readDatafeed(eq(DATAFEED_ID), eq(TOKEN), eq(TOKEN), any());
+    } finally {
+      loopThread.shutdownNow();
+    }
+  }
+
+  @Test
+  void testStopWaitsForEventsBeingDispatched() throws Exception {
+    when(datafeedApi.listDatafeed(TOKEN, TOKEN, null)).thenReturn(
+        Collections.singletonList(new V5Datafeed().id(DATAFEED_ID)));
+    when(datafeedApi.readDatafeed(eq(DATAFEED_ID), eq(TOKEN), eq(TOKEN), any()))
+        .thenReturn(new V5EventList().addEventsItem(messageSentEvent("stream-id")).ackId("ack-id"))
+        .thenReturn(new V5EventList().ackId("ack-id"));
+
+    final CountDownLatch dispatching = new CountDownLatch(1);
+    final AtomicBoolean handled = new AtomicBoolean();
+    this.datafeedService.unsubscribe(this.listener);
+    this.datafeedService.subscribe(new RealTimeEventListener() {
+      @Override
+      public boolean isAcceptingEvent(V4Event event, UserV2 botInfo) {
+        return true;
+      }
+
+      @Override
+      public void onMessageSent(V4Initiator initiator, V4MessageSent event) throws EventException {
+        dispatching.countDown();
+        try {
+          Thread.sleep(200);
+        } catch (InterruptedException e) {
+          throw new EventException(e.getMessage(), e);
+        }
+        handled.set(true);
+      }
+    });
+
+    final ExecutorService loopThread = Executors.newSingleThreadExecutor();
+    try {
+      final Future<?> loop = loopThread.submit(() -> {
+        this.datafeedService.start();
+        return null;
+      });
+      assertTrue(dispatching.await(5, TimeUnit.SECONDS));
+
+      this.datafeedService.stop();
+
+      assertTrue(handled.get());
+      loop.get(1, TimeUnit.SECONDS);
+    } finally {
+      loopThread.shutdownNow();
+    }
+  }
+
+  @Test
+  void testEventsPublisherPacesReads() throws Exception {
+    when(datafeedApi.listDatafeed(TOKEN, TOKEN, null)).thenReturn(
+        Collections.singletonList(new V5Datafeed().id(DATAFEED_ID)));
+    when(datafeedApi.readDatafeed(eq(DATAFEED_ID), eq(TOKEN), eq(TOKEN), any()))
+        .thenReturn(new V5EventList().addEventsItem(messageSentEvent("stream-id")).ackId("ack-id"))
+        .thenReturn(new V5EventList().addEventsItem(messageSentEvent("stream-id")).ackId("ack-id-2"));
+
+    this.datafeedService.unsubscribe(this.listener);
+    final List<V4Event> received = new CopyOnWriteArrayList<>();
+    final CountDownLatch completed = new CountDownLatch(1);
+    this.datafeedService.events().subscribe(new Flow.Subscriber<V4Event>() {
+      @Override
+      public void onSubscribe(Flow.Subscription subscription) {
+        subscription.request(1);
+      }
+
+      @Override
+      public void onNext(V4Event item) {
+        received.add(item);
+        // no further demand: the second batch cannot be delivered, thus acknowledged
+        datafeedService.stop();
+      }
+
+      @Override
+      public void onError(Throwable throwable) {
+      }
+
+      @Override
+      public void onComplete() {
+        completed.countDown();
+      }
+    });
+    this.datafeedService.start();
+
+    assertEquals(1, received.size());
+    assertEquals("ack-id", this.datafeedService.getAckId());
+    assertTrue(completed.await(1, TimeUnit.SECONDS));
+  }
+
+  @Test
+  void testEventsPublishedOnceTheirBatchIsDispatched() throws Exception {
+    when(datafeedApi.listDatafeed(TOKEN, TOKEN, null)).thenReturn(
+        Collections.singletonList(new V5Datafeed().id(DATAFEED_ID)));
+    when(datafeedApi.readDatafeed(eq(DATAFEED_ID), eq(TOKEN), eq(TOKEN), any()))
+        .thenReturn(new V5EventList()
+            .addEventsItem(messageSentEvent("stream-1").id("event-1"))
+            .addEventsItem(messageSentEvent("stream-2").id("event-2"))
+            .ackId("ack-id"));
+
+    this.datafeedService.unsubscribe(this.listener);
+    final AtomicInteger failingCalls = new AtomicInteger();
+    this.datafeedService.subscribe(new RealTimeEventListener() {
+      @Override
+      public boolean isAcceptingEvent(V4Event event, UserV2 botInfo) {
+        return "event-2".equals(event.getId());
+      }
+
+      @Override
+      public void onMessageSent(V4Initiator initiator, V4MessageSent event) {
+        if (failingCalls.incrementAndGet() == 1) {
+          throw new EventException("failure");
+        }
+        datafeedService.stop();
+      }
+    });
+    final List<String> published = new CopyOnWriteArrayList<>();
+    this.datafeedService.events().subscribe(unboundedSubscriber(published));
+    this.datafeedService.start();
+
+    // nothing is published from the re-queued batch, its events are published once, in order, when re-delivered
+    assertEquals(2, failingCalls.get());
+    assertEquals(Arrays.asList("event-1", "event-2"), published);
+  }
+
+  @Test
+  void testEventsPublishedOnceWithDeduplication() throws Exception {
+    BdkConfig bdkConfig = BdkConfigLoader.loadFromClasspath("/config/config.yaml");
+    bdkConfig.getDatafeed().getDispatch().getDeduplication().setEnabled(true);
+    this.datafeedService = new DatafeedLoopV2(this.datafeedApi, this.authSession, bdkConfig, mock(UserV2.class));
+    this.datafeedService.startDispatch();
+
+    final List<String> published = new CopyOnWriteArrayList<>();
+    this.datafeedService.events().subscribe(unboundedSubscriber(published));
+    final V4Event event = messageSentEvent("stream-id").id("event-id");
+    this.datafeedService.publishEvent(event);
+    // as if its batch was re-delivered
+    this.datafeedService.publishEvent(event);
+
+    assertEquals(Collections.singletonList("event-id"), published);
+  }
+
+  private static Flow.Subscriber<V4Event> unboundedSubscriber(List<String> received) {
+    return new Flow.Subscriber<V4Event>() {
+      @Override
+      public void onSubscribe(Flow.Subscription subscription) {
+        subscription.request(Long.MAX_VALUE);
+      }
+
+      @Override
+      public void onNext(V4Event item) {
+        received.add(item.getId());
+      }
+
+      @Override
+      public void onError(Throwable throwable) {
+      }
+
+      @Override
+      public void onComplete() {
+      }
+    };
+  }
+
+  private ApiClient streamEventList(String json) throws ApiException {
+    final ApiClient apiClient = this.datafeedApi.getApiClient();
+    when(apiClient.escapeString(any())).thenAnswer(invocation -> invocation.getArgument(0));
+    when(apiClient.getJsonMapper(ObjectMapper.class)).thenReturn(Optional.of(V5EventListStreamReaderTest.MAPPER));
+    when(apiClient.invokeStreamingAPI(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any()))
+        .thenAnswer(invocation -> {
+          final ResponseBodyReader<?> bodyReader = invocation.getArgument(10);
+          return new ApiResponse<>(200, Collections.emptyMap(),
+              bodyReader.read(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8))));
+        });
+    return apiClient;
+  }
+
+  private DatafeedLoopV2 streamingDatafeedService() throws BdkConfigException {
+    BdkConfig bdkConfig = BdkConfigLoader.loadFromClasspath("/config/config.yaml");
+    bdkConfig.getDatafeed().setRetry(ofMinimalInterval(2));
+    bdkConfig.getDatafeed().getDispatch().setStreaming(true);
+    return new DatafeedLoopV2(this.datafeedApi, this.authSession, bdkConfig, mock(UserV2.class));
+  }
+
+  private DatafeedLoopV2 pipelinedDatafeedService() throws BdkConfigException {
+    BdkConfig bdkConfig = BdkConfigLoader.loadFromClasspath("/config/config.yaml");
+    bdkConfig.getDatafeed().setRetry(ofMinimalInterval(2));
+    bdkConfig.getDatafeed().getDispatch().setPipelined(true);
+    return new DatafeedLoopV2(this.datafeedApi, this.authSession, bdkConfig, mock(UserV2.class));
+  }
+
+  private static V4Event messageSentEvent(String streamId) {
+    return new V4Event().type(RealTimeEventType.MESSAGESENT.name())
+        .payload(new V4Payload().messageSent(
+            new V4MessageSent().message(new V4Message().stream(new V4Stream().streamId(streamId)))));
+  }
+
   private ArgumentMatcher<AckId> eqAckId(String ackId) {
     return argument -> argument.getAckId() != null && argument.getAckId().equals(ackId);
   }
 
+  @Test
+  void testStartBatchListener() throws ApiException, AuthUnauthorizedException {
+    when(datafeedApi.listDatafeed(TOKEN, TOKEN, null)).thenReturn(
+        Collections.singletonList(new V5Datafeed().id(DATAFEED_ID)));
+    when(datafeedApi.readDatafeed(eq(DATAFEED_ID), eq(TOKEN), eq(TOKEN), argThat(eqAckId(""))))
+        .thenReturn(new V5EventList()
+            .addEventsItem(new V4Event().id("1").type(RealTimeEventType.MESSAGESENT.name())
+                .payload(new V4Payload().messageSent(new V4MessageSent())))
+            .addEventsItem(new V4Event().id("2").type(RealTimeEventType.SHAREDPOST.name())
+                .payload(new V4Payload()))
+            .addEventsItem(new V4Event().id("3").type(RealTimeEventType.MESSAGESENT.name())
+                .payload(new V4Payload().messageSent(new V4MessageSent())))
+            .ackId("ack-id"));
+
+    this.datafeedService.unsubscribe(listener);
+    final List<List<V4Event>> batches = new ArrayList<>();
+    this.datafeedService.subscribe(new BatchRealTimeEventListener() {
+      @Override
+      public Set<String> getEventTypes() {
+        return Collections.singleton(RealTimeEventType.MESSAGESENT.name());
+      }
+
+      @Override
+      public boolean isAcceptingEvent(V4Event event, UserV2 botInfo) {
+        return true;
+      }
+
+      @Override
+      public void onEvents(List<V4Event> events, UserV2 botInfo) {
+        batches.add(events);
+        datafeedService.stop();
+      }
+    });
+    this.datafeedService.start();
+
+    assertEquals(1, batches.size());
+    assertEquals(Arrays.asList("1", "3"), batches.get(0).stream().map(V4Event::getId).collect(Collectors.toList()));
+    assertEquals("ack-id", datafeedService.getAckId());
+  }
+
+  @Test
+  void testStartBatchListenerFails_requeueEvent() throws ApiException, AuthUnauthorizedException {
+    when(datafeedApi.listDatafeed(TOKEN, TOKEN, null)).thenReturn(
+        Collections.singletonList(new V5Datafeed().id(DATAFEED_ID)));
+    when(datafeedApi.readDatafeed(eq(DATAFEED_ID), eq(TOKEN), eq(TOKEN), argThat(eqAckId(""))))
+        .thenReturn(new V5EventList().addEventsItem(
+            new V4Event().type(RealTimeEventType.MESSAGESENT.name())
+                .payload(new V4Payload().messageSent(new V4MessageSent()))).ackId("ack-id"));
+
+    this.datafeedService.unsubscribe(listener);
+    final AtomicInteger calls = new AtomicInteger();
+    this.datafeedService.subscribe(new BatchRealTimeEventListener() {
+      @Override
+      public boolean isAcceptingEvent(V4Event event, UserV2 botInfo) {
+        return true;
+      }
+
+      @Override
+      public void onEvents(List<V4Event> events, UserV2 botInfo) throws EventException {
+        if (calls.incrementAndGet() == 1) {
+          // will not update ack id
+          throw new EventException("failure");
+        }
+        datafeedService.stop();
+      }
+    });
+    this.datafeedService.start();
+
+    // the ack id should stay the same since the first batch was not processed
+    verify(datafeedApi, times(2)).readDatafeed(eq(DATAFEED_ID), eq(TOKEN), eq(TOKEN), argThat(eqAckId("")));
+    assertEquals(2, calls.get());
+    assertEquals("ack-id", datafeedService.getAckId());
+  }
+
+  @Test
+  void testStartStreamingBatchListener() throws Exception {
+    when(datafeedApi.listDatafeed(TOKEN, TOKEN, null)).thenReturn(
+        Collections.singletonList(new V5Datafeed().id(DATAFEED_ID)));
+    this.streamEventList("{\"events\":[{\"id\":\"1\",\"type\":\"MESSAGESENT\",\"payload\":{\"messageSent\":{}}},"
+        + "{\"id\":\"2\",\"type\":\"MESSAGESENT\",\"payload\":{\"messageSent\":{}}}],\"ackId\":\"ack-id\"}");
+
+    final DatafeedLoopV2 streamingService = this.streamingDatafeedService();
+    final List<List<V4Event>> batches = new ArrayList<>();
+    streamingService.subscribe(new BatchRealTimeEventListener() {
+      @Override
+      public boolean isAcceptingEvent(V4Event event, UserV2 botInfo) {
+        return true;
+      }
+
+      @Override
+      public void onEvents(List<V4Event> events, UserV2 botInfo) {
+        batches.add(events);
+        streamingService.stop();
+      }
+    });
+    streamingService.start();
+
+    assertEquals(1, batches.size());
+    assertEquals(2, batches.get(0).size());
+    assertEquals("ack-id", streamingService.getAckId());
+  }
+
   @Test
   void testStartEmptyListDatafeed() throws ApiException, AuthUnauthorizedException {
     when(datafeedApi.listDatafeed(TOKEN, TOKEN, null)).thenReturn(Collections.emptyList());
@@ -532,6 +1596,8 @@ class DatafeedLoopV2Test {
         new ProcessingException(new SocketTimeoutException()));
 
     ApiClient client = mock(ApiClient.class);
+    when(client.invokeCancellable(any()))
+        .thenAnswer(invocation -> invocation.<CancellableCall<?>>getArgument(0).call());
     when(datafeedApi.getApiClient()).thenReturn(client);
     when(client.getBasePath()).thenReturn("path/to/the/agent");
 
@@ -549,6 +1615,8 @@ class DatafeedLoopV2Test {
         new ProcessingException(new UnknownHostException()));
 
     ApiClient client = mock(ApiClient.class);
+    when(client.invokeCancellable(any()))
+        .thenAnswer(invocation -> invocation.<CancellableCall<?>>getArgument(0).call());
     when(datafeedApi.getApiClient()).thenReturn(client);
     when(client.getBasePath()).thenReturn("path/to/the/agent");
 
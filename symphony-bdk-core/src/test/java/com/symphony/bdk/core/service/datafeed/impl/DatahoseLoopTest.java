@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -32,6 +33,7 @@ import com.symphony.bdk.gen.api.model.V5EventList;
 import com.symphony.bdk.gen.api.model.V5EventsReadBody;
 import com.symphony.bdk.http.api.ApiClient;
 import com.symphony.bdk.http.api.ApiException;
+import com.symphony.bdk.http.api.CancellableCall;
 
 import org.apache.commons.lang3.StringUtils;
 import org.junit.jupiter.api.BeforeEach;
@@ -45,9 +47,14 @@ import java.net.ConnectException;
 import java.net.SocketException;
 import java.net.SocketTimeoutException;
 import java.net.UnknownHostException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 class DatahoseLoopTest {
 
@@ -63,7 +70,7 @@ class DatahoseLoopTest {
   private List<String> eventTypes;
 
   @BeforeEach
-  void setUp() throws BdkConfigException {
+  void setUp() throws BdkConfigException, ApiException {
 
     this.eventTypes = Arrays.asList("TYPE_A", "TYPE_B");
     this.tag = "mytag";
@@ -74,6 +81,8 @@ class DatahoseLoopTest {
     when(this.authSession.getKeyManagerToken()).thenReturn("1234");
 
     this.apiClient = mock(ApiClient.class);
+    when(this.apiClient.invokeCancellable(any()))
+        .thenAnswer(invocation -> invocation.<CancellableCall<?>>getArgument(0).call());
     when(this.apiClient.getBasePath()).thenReturn("/agent/");
 
     this.datafeedApi = mock(DatafeedApi.class);
@@ -211,6 +220,50 @@ class DatahoseLoopTest {
     assertEventsReadBody(bodyCaptor.getAllValues().get(1), tag, ackId);
   }
 
+  @Test
+  void testMultipleReaders() throws ApiException, AuthUnauthorizedException {
+    bdkConfig.getDatahose().setReaders(3);
+    datahoseLoop = new DatahoseLoopImpl(datafeedApi, authSession, bdkConfig, botInfo, datahoseApi);
+
+    final AtomicInteger ackIds = new AtomicInteger();
+    when(datahoseApi.readEvents(any(), any(), any())).thenAnswer(invocation -> {
+      final V5EventsReadBody body = invocation.getArgument(2);
+      if (body.getAckId().isEmpty()) {
+        // first read of each reader
+        return buildV5Events(RealTimeEventType.MESSAGESENT, "ack-id-" + ackIds.incrementAndGet());
+      }
+      Thread.sleep(10);
+      return new V5EventList().ackId(body.getAckId());
+    });
+
+    final AtomicInteger handledEvents = new AtomicInteger();
+    final AtomicReference<Map<String, Long>> readers = new AtomicReference<>();
+    datahoseLoop.subscribe(new RealTimeEventListener() {
+      @Override
+      public boolean isAcceptingEvent(V4Event event, UserV2 botInfo) {
+        return true;
+      }
+
+      @Override
+      public void onMessageSent(V4Initiator initiator, V4MessageSent event) {
+        readers.set(datahoseLoop.lastPullTimestamps());
+        if (handledEvents.incrementAndGet() == 3) {
+          datahoseLoop.stop();
+        }
+      }
+    });
+    datahoseLoop.start();
+
+    // each reader acknowledges its own batch
+    ArgumentCaptor<V5EventsReadBody> bodyCaptor = ArgumentCaptor.forClass(V5EventsReadBody.class);
+    verify(datahoseApi, atLeast(3)).readEvents(any(), any(), bodyCaptor.capture());
+    assertEquals(3, bodyCaptor.getAllValues().stream().filter(body -> body.getAckId().isEmpty()).count());
+    assertEquals(3, handledEvents.get());
+    assertEquals(Arrays.asList("reader-0", "reader-1", "reader-2"), new ArrayList<>(readers.get().keySet()));
+    // the loop is stopped, readers are released
+    assertEquals(Collections.singleton("reader-0"), datahoseLoop.lastPullTimestamps().keySet());
+  }
+
   @Test
   void testExceptionInListenerIsIgnored() throws ApiException, AuthUnauthorizedException {
     datahoseLoop.unsubscribe(listener);
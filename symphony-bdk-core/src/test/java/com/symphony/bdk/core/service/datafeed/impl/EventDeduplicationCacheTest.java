@@ -0,0 +1,90 @@
+package com.symphony.bdk.core.service.datafeed.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.symphony.bdk.core.config.model.BdkDeduplicationConfig;
+import com.symphony.bdk.core.service.datafeed.RealTimeEventListener;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+class EventDeduplicationCacheTest {
+
+  private final RealTimeEventListener listener1 = new RealTimeEventListener() {};
+  private final RealTimeEventListener listener2 = new RealTimeEventListener() {};
+
+  @Test
+  void dispatchIsTrackedPerListenerTest() {
+    final EventDeduplicationCache cache = new EventDeduplicationCache(new BdkDeduplicationConfig());
+
+    cache.markDispatched("event-id", this.listener1);
+
+    assertThat(cache.isDispatched("event-id", this.listener1)).isTrue();
+    assertThat(cache.isDispatched("event-id", this.listener2)).isFalse();
+    assertThat(cache.isDispatched("other-id", this.listener1)).isFalse();
+  }
+
+  @Test
+  void eventsAreForgottenAfterWindowTest() {
+    final MutableClock clock = new MutableClock();
+    final BdkDeduplicationConfig config = new BdkDeduplicationConfig();
+    config.setWindowMillis(1000L);
+    final EventDeduplicationCache cache = new EventDeduplicationCache(config, clock);
+
+    cache.markDispatched("event-id", this.listener1);
+    clock.advance(Duration.ofMillis(999L));
+    assertThat(cache.isDispatched("event-id", this.listener1)).isTrue();
+
+    clock.advance(Duration.ofMillis(1L));
+    assertThat(cache.isDispatched("event-id", this.listener1)).isFalse();
+
+    cache.markDispatched("other-id", this.listener1);
+    assertThat(cache.size()).isEqualTo(1);
+  }
+
+  @Test
+  void oldestEventsAreForgottenFirstTest() {
+    final BdkDeduplicationConfig config = new BdkDeduplicationConfig();
+    config.setMaxEvents(2);
+    final EventDeduplicationCache cache = new EventDeduplicationCache(config);
+
+    cache.markDispatched("event-1", this.listener1);
+    cache.markDispatched("event-2", this.listener1);
+    cache.markDispatched("event-1", this.listener2);
+    cache.markDispatched("event-3", this.listener1);
+
+    assertThat(cache.size()).isEqualTo(2);
+    assertThat(cache.isDispatched("event-1", this.listener1)).isFalse();
+    assertThat(cache.isDispatched("event-2", this.listener1)).isTrue();
+    assertThat(cache.isDispatched("event-3", this.listener1)).isTrue();
+  }
+
+  private static class MutableClock extends Clock {
+
+    private Instant instant = Instant.now();
+
+    void advance(Duration duration) {
+      this.instant = this.instant.plus(duration);
+    }
+
+    @Override
+    public ZoneOffset getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return this.instant;
+    }
+  }
+}
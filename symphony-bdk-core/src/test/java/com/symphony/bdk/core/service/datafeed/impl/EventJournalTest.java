@@ -0,0 +1,162 @@
+package com.symphony.bdk.core.service.datafeed.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.symphony.bdk.gen.api.model.V4Event;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+class EventJournalTest {
+
+  private static final int SEGMENT_SIZE = 256;
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void appendedEventsArePolledInOrderTest() throws Exception {
+    final EventJournal journal = new EventJournal(this.directory, SEGMENT_SIZE, V5EventListStreamReaderTest.MAPPER);
+
+    journal.append(events("1", "2"));
+    journal.append(events("3"));
+
+    final EventJournal.Batch batch = journal.poll(10, 0);
+    assertThat(ids(batch)).containsExactly("1", "2", "3");
+    assertThat(journal.poll(10, 1).isEmpty()).isTrue();
+  }
+
+  @Test
+  void pollIsLimitedToMaxEventsTest() throws Exception {
+    final EventJournal journal = new EventJournal(this.directory, SEGMENT_SIZE, V5EventListStreamReaderTest.MAPPER);
+    journal.append(events("1", "2", "3"));
+
+    assertThat(ids(journal.poll(2, 0))).containsExactly("1", "2");
+    assertThat(ids(journal.poll(2, 0))).containsExactly("3");
+  }
+
+  @Test
+  void rewindPollsUncommittedEventsAgainTest() throws Exception {
+    final EventJournal journal = new EventJournal(this.directory, SEGMENT_SIZE, V5EventListStreamReaderTest.MAPPER);
+    journal.append(events("1"));
+    journal.commit(journal.poll(10, 0).getNextOffset());
+    journal.append(events("2", "3"));
+
+    journal.poll(10, 0);
+    journal.rewind();
+
+    assertThat(ids(journal.poll(10, 0))).containsExactly("2", "3");
+  }
+
+  @Test
+  void uncommittedEventsArePolledAfterReopeningTest() throws Exception {
+    final EventJournal journal = new EventJournal(this.directory, SEGMENT_SIZE, V5EventListStreamReaderTest.MAPPER);
+    journal.append(events("1", "2", "3"));
+    journal.commit(journal.poll(1, 0).getNextOffset());
+    journal.poll(10, 0);
+    journal.close();
+
+    final EventJournal reopened = new EventJournal(this.directory, SEGMENT_SIZE, V5EventListStreamReaderTest.MAPPER);
+    assertThat(reopened.pendingBytes()).isPositive();
+    assertThat(ids(reopened.poll(10, 0))).containsExactly("2", "3");
+
+    reopened.append(events("4"));
+    assertThat(ids(reopened.poll(10, 0))).containsExactly("4");
+  }
+
+  @Test
+  void pollReturnsOnceWokenUpTest() throws Exception {
+    final EventJournal journal = new EventJournal(this.directory, SEGMENT_SIZE, V5EventListStreamReaderTest.MAPPER);
+    final CompletableFuture<EventJournal.Batch> poll = CompletableFuture.supplyAsync(() -> {
+      try {
+        return journal.poll(10, TimeUnit.MINUTES.toMillis(1));
+      } catch (InterruptedException e) {
+        throw new IllegalStateException(e);
+      }
+    });
+
+    journal.wakeUp();
+
+    assertThat(ids(poll.get(5, TimeUnit.SECONDS))).isEmpty();
+    journal.close();
+  }
+
+  @Test
+  void segmentsRollOverAndAreDeletedOnceDispatchedTest() throws Exception {
+    final EventJournal journal = new EventJournal(this.directory, SEGMENT_SIZE, V5EventListStreamReaderTest.MAPPER);
+    final String[] ids = IntStream.range(0, 30).mapToObj(String::valueOf).toArray(String[]::new);
+
+    journal.append(events(ids));
+    assertThat(segments()).hasSizeGreaterThan(2);
+
+    final EventJournal.Batch batch = journal.poll(100, 0);
+    assertThat(ids(batch)).containsExactly(ids);
+
+    journal.commit(batch.getNextOffset());
+    assertThat(segments()).hasSize(1);
+    assertThat(journal.pendingBytes()).isZero();
+
+    journal.append(events("30"));
+    assertThat(ids(journal.poll(10, 0))).containsExactly("30");
+  }
+
+  @Test
+  void eventLargerThanSegmentIsJournaledTest() throws Exception {
+    final EventJournal journal = new EventJournal(this.directory, SEGMENT_SIZE, V5EventListStreamReaderTest.MAPPER);
+    final char[] largeId = new char[SEGMENT_SIZE * 2];
+    Arrays.fill(largeId, 'x');
+
+    journal.append(events("1", new String(largeId), "3"));
+
+    assertThat(ids(journal.poll(10, 0))).containsExactly("1", new String(largeId), "3");
+  }
+
+  @Test
+  void tornRecordIsDiscardedOnReopeningTest() throws Exception {
+    final EventJournal journal = new EventJournal(this.directory, SEGMENT_SIZE, V5EventListStreamReaderTest.MAPPER);
+    journal.append(events("1", "2"));
+    journal.close();
+
+    // corrupt the last record, as if the bot stopped while writing it
+    final Path segment = segments().get(0);
+    try (RandomAccessFile file = new RandomAccessFile(segment.toFile(), "rw")) {
+      final byte[] content = new byte[SEGMENT_SIZE];
+      file.readFully(content);
+      final int lastRecord = new String(content, "ISO-8859-1").lastIndexOf("\"2\"");
+      file.seek(lastRecord);
+      file.write('9');
+    }
+
+    final EventJournal reopened = new EventJournal(this.directory, SEGMENT_SIZE, V5EventListStreamReaderTest.MAPPER);
+    assertThat(ids(reopened.poll(10, 0))).containsExactly("1");
+
+    reopened.append(events("3"));
+    assertThat(ids(reopened.poll(10, 0))).containsExactly("3");
+  }
+
+  private List<Path> segments() throws IOException {
+    try (Stream<Path> files = Files.list(this.directory)) {
+      return files.filter(f -> f.toString().endsWith(".log")).sorted().collect(Collectors.toList());
+    }
+  }
+
+  private static List<V4Event> events(String... ids) {
+    return Arrays.stream(ids).map(id -> new V4Event().id(id).type("MESSAGESENT")).collect(Collectors.toList());
+  }
+
+  private static List<String> ids(EventJournal.Batch batch) {
+    return batch.getEvents().stream().map(V4Event::getId).collect(Collectors.toList());
+  }
+}
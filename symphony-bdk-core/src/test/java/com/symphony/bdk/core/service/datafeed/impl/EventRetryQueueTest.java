@@ -0,0 +1,168 @@
+package com.symphony.bdk.core.service.datafeed.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.symphony.bdk.core.config.model.BdkEventRetryConfig;
+import com.symphony.bdk.core.service.datafeed.DeadLetterHandler;
+import com.symphony.bdk.core.service.datafeed.EventException;
+import com.symphony.bdk.core.service.datafeed.RealTimeEventListener;
+import com.symphony.bdk.gen.api.model.V4Event;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class EventRetryQueueTest {
+
+  private final RealTimeEventListener listener = new RealTimeEventListener() {};
+  private final V4Event event = new V4Event().id("event-id").type("MESSAGESENT");
+  private final List<V4Event> deadLetters = new CopyOnWriteArrayList<>();
+  private final CountDownLatch deadLettered = new CountDownLatch(1);
+  private final DeadLetterHandler deadLetterHandler = (event, listener, cause) -> {
+    this.deadLetters.add(event);
+    this.deadLettered.countDown();
+  };
+
+  private EventRetryQueue queue;
+
+  @AfterEach
+  void tearDown() {
+    if (this.queue != null) {
+      this.queue.shutdown();
+    }
+  }
+
+  @Test
+  void failedEventIsRetriedUntilHandledTest() throws InterruptedException {
+    final AtomicInteger attempts = new AtomicInteger();
+    final CountDownLatch handled = new CountDownLatch(1);
+    final List<String> threads = new CopyOnWriteArrayList<>();
+    this.queue = new EventRetryQueue("retry", config(5, 100), (event, listener) -> {
+      threads.add(Thread.currentThread().getName());
+      if (attempts.incrementAndGet() < 3) {
+        throw new EventException("failure");
+      }
+      handled.countDown();
+    }, () -> this.deadLetterHandler);
+
+    this.queue.schedule(this.event, this.listener, new EventException("failure"));
+
+    assertThat(this.retryDueUntil(handled)).isTrue();
+    assertThat(attempts.get()).isEqualTo(3);
+    // the retries are run by the caller of retryDue only, i.e. the loop
+    assertThat(threads).containsOnly(Thread.currentThread().getName());
+    assertThat(this.queue.size()).isZero();
+    assertThat(this.deadLetters).isEmpty();
+  }
+
+  @Test
+  void dueRetryIsHandedOverTest() throws InterruptedException {
+    final CountDownLatch handled = new CountDownLatch(1);
+    final List<RealTimeEventListener> handedOver = new CopyOnWriteArrayList<>();
+    this.queue = new EventRetryQueue("retry", config(5, 100), (event, listener) -> handled.countDown(),
+        () -> this.deadLetterHandler);
+    this.queue.schedule(this.event, this.listener, new EventException("failure"));
+
+    final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (handedOver.isEmpty() && System.nanoTime() < deadline) {
+      Thread.sleep(10);
+      this.queue.retryDue((listener, retry) -> {
+        handedOver.add(listener);
+        new Thread(retry).start();
+        return true;
+      });
+    }
+
+    assertThat(handedOver).containsExactly(this.listener);
+    assertThat(handled.await(5, TimeUnit.SECONDS)).isTrue();
+  }
+
+  @Test
+  void concurrentRetriesRunOnDedicatedThreadTest() throws InterruptedException {
+    final BdkEventRetryConfig config = config(5, 100);
+    config.setConcurrent(true);
+    final CountDownLatch handled = new CountDownLatch(1);
+    final List<String> threads = new CopyOnWriteArrayList<>();
+    this.queue = new EventRetryQueue("retry", config, (event, listener) -> {
+      threads.add(Thread.currentThread().getName());
+      handled.countDown();
+    }, () -> this.deadLetterHandler);
+
+    this.queue.schedule(this.event, this.listener, new EventException("failure"));
+
+    assertThat(handled.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(threads).containsExactly("retry");
+  }
+
+  @Test
+  void eventIsDeadLetteredOnceAttemptsAreExhaustedTest() throws InterruptedException {
+    final AtomicInteger attempts = new AtomicInteger();
+    this.queue = new EventRetryQueue("retry", config(3, 100), (event, listener) -> {
+      attempts.incrementAndGet();
+      throw new EventException("failure");
+    }, () -> this.deadLetterHandler);
+
+    this.queue.schedule(this.event, this.listener, new EventException("failure"));
+
+    assertThat(this.retryDueUntil(this.deadLettered)).isTrue();
+    // the initial dispatch counts as the first attempt
+    assertThat(attempts.get()).isEqualTo(2);
+    assertThat(this.deadLetters).containsExactly(this.event);
+  }
+
+  @Test
+  void eventIsDeadLetteredWhenQueueIsFullTest() {
+    final BdkEventRetryConfig config = config(3, 1);
+    config.getRetry().setInitialIntervalMillis(60_000L);
+    this.queue = new EventRetryQueue("retry", config, (event, listener) -> {}, () -> this.deadLetterHandler);
+
+    final V4Event otherEvent = new V4Event().id("other-id");
+    this.queue.schedule(this.event, this.listener, new EventException("failure"));
+    this.queue.schedule(otherEvent, this.listener, new EventException("failure"));
+
+    assertThat(this.queue.size()).isEqualTo(1);
+    assertThat(this.deadLetters).containsExactly(otherEvent);
+  }
+
+  @Test
+  void pendingRetriesAreDeadLetteredOnShutdownTest() {
+    final BdkEventRetryConfig config = config(3, 100);
+    config.getRetry().setInitialIntervalMillis(60_000L);
+    this.queue = new EventRetryQueue("retry", config, (event, listener) -> {}, () -> this.deadLetterHandler);
+
+    this.queue.schedule(this.event, this.listener, new EventException("failure"));
+    this.queue.shutdown();
+
+    assertThat(this.queue.size()).isZero();
+    assertThat(this.deadLetters).containsExactly(this.event);
+  }
+
+  /**
+   * Run the due retries, as the loop does between two batches, until the latch is released.
+   */
+  private boolean retryDueUntil(CountDownLatch latch) throws InterruptedException {
+    final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (!latch.await(10, TimeUnit.MILLISECONDS)) {
+      if (System.nanoTime() > deadline) {
+        return false;
+      }
+      this.queue.retryDue((listener, retry) -> false);
+    }
+    return true;
+  }
+
+  private static BdkEventRetryConfig config(int maxAttempts, int maxQueueSize) {
+    final BdkEventRetryConfig config = new BdkEventRetryConfig();
+    config.setEnabled(true);
+    config.setMaxQueueSize(maxQueueSize);
+    config.getRetry().setMaxAttempts(maxAttempts);
+    config.getRetry().setInitialIntervalMillis(1L);
+    config.getRetry().setMultiplier(1.0);
+    return config;
+  }
+}
@@ -0,0 +1,67 @@
+package com.symphony.bdk.core.service.datafeed.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.symphony.bdk.core.service.datafeed.RealTimeEventListener;
+
+import org.junit.jupiter.api.Test;
+
+class ListenerLabelsTest {
+
+  private static final String LABEL = TestListener.class.getName();
+
+  @Test
+  void instancesOfSameClassLabelledByRankTest() {
+    final ListenerLabels labels = new ListenerLabels();
+    final RealTimeEventListener first = new TestListener();
+    final RealTimeEventListener second = new TestListener();
+
+    labels.add(first);
+    labels.add(second);
+    labels.add(first);
+
+    assertThat(labels.of(first)).isEqualTo(LABEL);
+    assertThat(labels.of(second)).isEqualTo(LABEL + "#2");
+  }
+
+  @Test
+  void equalListenersToldApartTest() {
+    final ListenerLabels labels = new ListenerLabels();
+    final RealTimeEventListener first = new EqualListener();
+    final RealTimeEventListener second = new EqualListener();
+
+    labels.add(first);
+    labels.add(second);
+
+    assertThat(labels.of(first)).isNotEqualTo(labels.of(second));
+  }
+
+  @Test
+  void unsubscribedListenerLabelledByClassNameTest() {
+    final ListenerLabels labels = new ListenerLabels();
+    final RealTimeEventListener first = new TestListener();
+    final RealTimeEventListener second = new TestListener();
+    labels.add(first);
+    labels.add(second);
+
+    labels.remove(second);
+
+    assertThat(labels.of(second)).isEqualTo(LABEL);
+    assertThat(labels.of(new TestListener())).isEqualTo(LABEL);
+  }
+
+  private static class TestListener implements RealTimeEventListener {}
+
+  private static class EqualListener implements RealTimeEventListener {
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof EqualListener;
+    }
+
+    @Override
+    public int hashCode() {
+      return 1;
+    }
+  }
+}
@@ -0,0 +1,176 @@
+package com.symphony.bdk.core.service.datafeed.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.symphony.bdk.core.config.model.BdkListenerBudgetConfig;
+import com.symphony.bdk.core.service.datafeed.RealTimeEventListener;
+import com.symphony.bdk.gen.api.model.V4Event;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+class ListenerQuarantineTest {
+
+  private final RealTimeEventListener listener = new TestListener();
+  private final ListenerLabels labels = new ListenerLabels();
+  private final V4Event event = new V4Event().id("event-id").type("MESSAGESENT");
+  private final List<V4Event> dispatched = new CopyOnWriteArrayList<>();
+  private final CountDownLatch dispatchedLatch = new CountDownLatch(1);
+
+  private ListenerQuarantine quarantine;
+
+  @BeforeEach
+  void setUp() {
+    this.labels.add(this.listener);
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (this.quarantine != null) {
+      this.quarantine.shutdown(1000L);
+    }
+  }
+
+  @Test
+  void listenerWithinBudgetIsNotQuarantinedTest() {
+    this.quarantine =
+        new ListenerQuarantine("quarantine", config(100, 2, 60_000L, 10), this::dispatch, this.labels::of);
+
+    this.quarantine.record(this.listener, Duration.ofMillis(200));
+    this.quarantine.record(this.listener, Duration.ofMillis(50));
+    this.quarantine.record(this.listener, Duration.ofMillis(200));
+
+    assertThat(this.quarantine.offer(this.event, this.listener)).isFalse();
+    assertThat(this.quarantine.quarantinedListeners()).isEmpty();
+  }
+
+  @Test
+  void listenerOverBudgetIsDispatchedOnItsOwnExecutorTest() throws InterruptedException {
+    this.quarantine =
+        new ListenerQuarantine("quarantine", config(100, 2, 60_000L, 10), this::dispatch, this.labels::of);
+
+    this.quarantine.record(this.listener, Duration.ofMillis(200));
+    this.quarantine.record(this.listener, Duration.ofMillis(200));
+
+    assertThat(this.quarantine.quarantinedListeners()).containsOnlyKeys(TestListener.class.getName());
+    assertThat(this.quarantine.offer(this.event, this.listener)).isTrue();
+    assertThat(this.dispatchedLatch.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(this.dispatched).containsExactly(this.event);
+  }
+
+  @Test
+  void instancesOfSameClassAreQuarantinedSeparatelyTest() {
+    this.quarantine =
+        new ListenerQuarantine("quarantine", config(100, 1, 60_000L, 10), this::dispatch, this.labels::of);
+    final RealTimeEventListener other = new TestListener();
+    this.labels.add(other);
+
+    this.quarantine.record(other, Duration.ofMillis(200));
+
+    assertThat(this.quarantine.quarantinedListeners()).containsOnlyKeys(TestListener.class.getName() + "#2");
+    assertThat(this.quarantine.offer(this.event, this.listener)).isFalse();
+  }
+
+  @Test
+  void listenerIsReleasedOnceQuarantineIsOverTest() throws InterruptedException {
+    this.quarantine =
+        new ListenerQuarantine("quarantine", config(100, 1, 0L, 10), this::dispatch, this.labels::of);
+
+    this.quarantine.record(this.listener, Duration.ofMillis(200));
+    assertThat(this.quarantine.quarantinedListeners()).isNotEmpty();
+    Thread.sleep(10);
+
+    assertThat(this.quarantine.offer(this.event, this.listener)).isFalse();
+    assertThat(this.quarantine.quarantinedListeners()).isEmpty();
+  }
+
+  @Test
+  void eventIsRejectedWhenQueueIsFullTest() throws InterruptedException {
+    final CountDownLatch blocked = new CountDownLatch(1);
+    final CountDownLatch started = new CountDownLatch(1);
+    this.quarantine = new ListenerQuarantine("quarantine", config(100, 1, 60_000L, 1), (event, listener) -> {
+      started.countDown();
+      try {
+        blocked.await(5, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }, this.labels::of);
+    this.quarantine.record(this.listener, Duration.ofMillis(200));
+
+    // first event is being handled, second one is queued
+    assertThat(this.quarantine.offer(this.event, this.listener)).isTrue();
+    assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(this.quarantine.offer(this.event, this.listener)).isTrue();
+
+    assertThrows(RejectedExecutionException.class, () -> this.quarantine.offer(this.event, this.listener));
+    blocked.countDown();
+  }
+
+  @Test
+  void shutdownWaitsForPendingEventsTest() {
+    final List<String> threads = new CopyOnWriteArrayList<>();
+    final ListenerQuarantine quarantine =
+        new ListenerQuarantine("quarantine", config(100, 1, 60_000L, 10), (event, listener) -> {
+          try {
+            Thread.sleep(100);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          threads.add(Thread.currentThread().getName());
+        }, this.labels::of);
+    quarantine.record(this.listener, Duration.ofMillis(200));
+    assertThat(quarantine.offer(this.event, this.listener)).isTrue();
+
+    quarantine.shutdown(5_000L);
+
+    assertThat(threads).containsExactly("quarantine-0");
+  }
+
+  @Test
+  void shutdownIsBoundedTest() {
+    final CountDownLatch blocked = new CountDownLatch(1);
+    this.quarantine = new ListenerQuarantine("quarantine", config(100, 1, 60_000L, 10), (event, listener) -> {
+      try {
+        blocked.await(5, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }, this.labels::of);
+    this.quarantine.record(this.listener, Duration.ofMillis(200));
+    assertThat(this.quarantine.offer(this.event, this.listener)).isTrue();
+
+    final long start = System.nanoTime();
+    this.quarantine.shutdown(50L);
+
+    assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(2_000L);
+    blocked.countDown();
+  }
+
+  private void dispatch(V4Event event, RealTimeEventListener listener) {
+    this.dispatched.add(event);
+    this.dispatchedLatch.countDown();
+  }
+
+  private static BdkListenerBudgetConfig config(long budgetMillis, int maxOverruns, long quarantineMillis,
+      int queueCapacity) {
+    final BdkListenerBudgetConfig config = new BdkListenerBudgetConfig();
+    config.setEnabled(true);
+    config.setBudgetMillis(budgetMillis);
+    config.setMaxOverruns(maxOverruns);
+    config.setQuarantineMillis(quarantineMillis);
+    config.setQueueCapacity(queueCapacity);
+    return config;
+  }
+
+  private static class TestListener implements RealTimeEventListener {}
+}
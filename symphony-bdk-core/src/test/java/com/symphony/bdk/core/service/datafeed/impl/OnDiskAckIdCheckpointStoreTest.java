@@ -0,0 +1,55 @@
+package com.symphony.bdk.core.service.datafeed.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import com.symphony.bdk.core.service.datafeed.AckIdCheckpoint;
+import com.symphony.bdk.core.service.datafeed.AckIdCheckpointStore;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * Test class for the {@link OnDiskAckIdCheckpointStore}.
+ */
+class OnDiskAckIdCheckpointStoreTest {
+
+  private Path checkpointFile;
+  private AckIdCheckpointStore checkpointStore;
+
+  @BeforeEach
+  void setUp(@TempDir Path tempDir) {
+    this.checkpointFile = tempDir.resolve("checkpoint").resolve("DatafeedLoopV2.checkpoint");
+    this.checkpointStore = new OnDiskAckIdCheckpointStore(this.checkpointFile);
+  }
+
+  @Test
+  void writeAndReadCheckpointTest() throws IOException {
+    this.checkpointStore.write(new AckIdCheckpoint("feed-id", "ack-id"));
+    this.checkpointStore.write(new AckIdCheckpoint("feed-id", "ack-id2"));
+
+    assertEquals(Optional.of(new AckIdCheckpoint("feed-id", "ack-id2")), this.checkpointStore.read());
+    // the temporary file has been renamed
+    assertEquals(1, Files.list(this.checkpointFile.getParent()).count());
+  }
+
+  @Test
+  void readMissingCheckpointTest() {
+    assertFalse(this.checkpointStore.read().isPresent());
+  }
+
+  @Test
+  void readInvalidCheckpointTest() throws IOException {
+    Files.createDirectories(this.checkpointFile.getParent());
+    Files.write(this.checkpointFile, "feed-id".getBytes(StandardCharsets.UTF_8));
+
+    assertFalse(this.checkpointStore.read().isPresent());
+  }
+}
@@ -0,0 +1,123 @@
+package com.symphony.bdk.core.service.datafeed.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.symphony.bdk.gen.api.model.V4ConnectionAccepted;
+import com.symphony.bdk.gen.api.model.V4Event;
+import com.symphony.bdk.gen.api.model.V4Message;
+import com.symphony.bdk.gen.api.model.V4MessageSent;
+import com.symphony.bdk.gen.api.model.V4Payload;
+import com.symphony.bdk.gen.api.model.V4RoomCreated;
+import com.symphony.bdk.gen.api.model.V4Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class PartitionedEventDispatcherTest {
+
+  private PartitionedEventDispatcher dispatcher;
+
+  @BeforeEach
+  void setUp() {
+    this.dispatcher = new PartitionedEventDispatcher("test-dispatch", 4);
+  }
+
+  @AfterEach
+  void tearDown() {
+    this.dispatcher.shutdown();
+  }
+
+  @Test
+  void eventsOfSameStreamAreDispatchedInOrder() {
+    final List<V4Event> events = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      events.add(messageSent("stream-" + (i % 3)).id(String.valueOf(i)));
+    }
+    final Map<String, List<Integer>> received = new ConcurrentHashMap<>();
+
+    this.dispatcher.dispatch(events, PartitionedEventDispatcher::streamId,
+        e -> received.computeIfAbsent(PartitionedEventDispatcher.streamId(e),
+            k -> Collections.synchronizedList(new ArrayList<>())).add(Integer.parseInt(e.getId())));
+
+    assertThat(received).hasSize(3);
+    received.values().forEach(ids -> assertThat(ids).isSorted());
+    assertThat(received.values().stream().mapToInt(List::size).sum()).isEqualTo(100);
+  }
+
+  @Test
+  void eventsOfDifferentKeysAreDispatchedInParallel() {
+    final CountDownLatch bothStarted = new CountDownLatch(2);
+    final List<V4Event> events = Arrays.asList(messageSent("a").id("1"), messageSent("b").id("2"));
+
+    // each handler waits for the other one to be started, would time out if dispatched sequentially
+    this.dispatcher.dispatch(events, e -> e.getId().equals("1") ? "0" : "1", e -> {
+      bothStarted.countDown();
+      try {
+        assertThat(bothStarted.await(5, TimeUnit.SECONDS)).isTrue();
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+      }
+    });
+
+    assertThat(bothStarted.getCount()).isZero();
+  }
+
+  @Test
+  void failureIsRethrownOnceBatchIsDone() {
+    final AtomicInteger handled = new AtomicInteger();
+    final List<V4Event> events = Arrays.asList(messageSent("a").id("1"), messageSent("b").id("2"));
+
+    final IllegalStateException exception = assertThrows(IllegalStateException.class,
+        () -> this.dispatcher.dispatch(events, PartitionedEventDispatcher::streamId, e -> {
+          handled.incrementAndGet();
+          if (e.getId().equals("1")) {
+            throw new IllegalStateException("failure");
+          }
+        }));
+
+    assertThat(exception).hasMessage("failure");
+    assertThat(handled.get()).isPositive();
+  }
+
+  @Test
+  void eventsWithoutKeyAreDispatched() {
+    final AtomicInteger handled = new AtomicInteger();
+    final V4Event connectionEvent = new V4Event().id("1").type(RealTimeEventType.CONNECTIONACCEPTED.name())
+        .payload(new V4Payload().connectionAccepted(new V4ConnectionAccepted()));
+
+    this.dispatcher.dispatch(Arrays.asList(connectionEvent, new V4Event(), null), e -> null,
+        e -> handled.incrementAndGet());
+
+    assertThat(handled.get()).isEqualTo(3);
+  }
+
+  @Test
+  void streamIdTest() {
+    assertThat(PartitionedEventDispatcher.streamId(messageSent("stream-id"))).isEqualTo("stream-id");
+    assertThat(PartitionedEventDispatcher.streamId(new V4Event().type(RealTimeEventType.ROOMCREATED.name())
+        .payload(new V4Payload().roomCreated(new V4RoomCreated().stream(new V4Stream().streamId("room-id"))))))
+        .isEqualTo("room-id");
+    assertThat(PartitionedEventDispatcher.streamId(new V4Event().type(RealTimeEventType.CONNECTIONACCEPTED.name())
+        .payload(new V4Payload().connectionAccepted(new V4ConnectionAccepted())))).isNull();
+    assertThat(PartitionedEventDispatcher.streamId(new V4Event().type(RealTimeEventType.MESSAGESENT.name()))).isNull();
+    assertThat(PartitionedEventDispatcher.streamId(new V4Event().type("unknown"))).isNull();
+  }
+
+  private static V4Event messageSent(String streamId) {
+    return new V4Event().type(RealTimeEventType.MESSAGESENT.name())
+        .payload(new V4Payload().messageSent(
+            new V4MessageSent().message(new V4Message().stream(new V4Stream().streamId(streamId)))));
+  }
+}
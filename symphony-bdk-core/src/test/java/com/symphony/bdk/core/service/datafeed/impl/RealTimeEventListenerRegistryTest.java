@@ -0,0 +1,95 @@
+package com.symphony.bdk.core.service.datafeed.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.symphony.bdk.core.service.datafeed.RealTimeEventListener;
+import com.symphony.bdk.gen.api.model.UserV2;
+import com.symphony.bdk.gen.api.model.V4Event;
+import com.symphony.bdk.gen.api.model.V4Initiator;
+import com.symphony.bdk.gen.api.model.V4MessageSent;
+import com.symphony.bdk.gen.api.model.V4RoomCreated;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+
+class RealTimeEventListenerRegistryTest {
+
+  @Test
+  void listenerOnlyReceivesOverriddenEventTypesTest() {
+    final RealTimeEventListenerRegistry registry = new RealTimeEventListenerRegistry();
+    final RealTimeEventListener messageListener = new MessageListener();
+    final RealTimeEventListener roomListener = new RealTimeEventListener() {
+      @Override
+      public void onRoomCreated(V4Initiator initiator, V4RoomCreated event) {
+        // nothing to do here
+      }
+
+      @Override
+      public void onMessageSent(V4Initiator initiator, V4MessageSent event) {
+        // nothing to do here
+      }
+    };
+
+    registry.add(messageListener);
+    registry.add(roomListener);
+
+    assertThat(registry.listenersOf(RealTimeEventType.MESSAGESENT)).containsExactly(messageListener, roomListener);
+    assertThat(registry.listenersOf(RealTimeEventType.ROOMCREATED)).containsExactly(roomListener);
+    assertThat(registry.listenersOf(RealTimeEventType.USERJOINEDROOM)).isEmpty();
+  }
+
+  @Test
+  void interestsAreInheritedTest() {
+    final RealTimeEventListener listener = new MessageListener() {
+      @Override
+      public boolean isAcceptingEvent(V4Event event, UserV2 botInfo) {
+        return true;
+      }
+    };
+
+    assertThat(RealTimeEventListenerRegistry.interestsOf(listener.getClass()))
+        .containsExactly(RealTimeEventType.MESSAGESENT);
+  }
+
+  @Test
+  void listenerWithoutCallbackReceivesAllEventsTest() {
+    final RealTimeEventListener listener = new RealTimeEventListener() {
+      @Override
+      public boolean isAcceptingEvent(V4Event event, UserV2 botInfo) {
+        return true;
+      }
+    };
+
+    assertThat(RealTimeEventListenerRegistry.interestsOf(listener.getClass()))
+        .isEqualTo(EnumSet.allOf(RealTimeEventType.class));
+    assertThat(RealTimeEventListenerRegistry.interestsOf(mock(RealTimeEventListener.class).getClass()))
+        .isEqualTo(EnumSet.allOf(RealTimeEventType.class));
+  }
+
+  @Test
+  void removeListenerTest() {
+    final RealTimeEventListenerRegistry registry = new RealTimeEventListenerRegistry();
+    final RealTimeEventListener listener = new MessageListener();
+    registry.add(listener);
+    registry.add(listener);
+
+    registry.remove(listener);
+    assertThat(registry.listenersOf(RealTimeEventType.MESSAGESENT)).containsExactly(listener);
+
+    registry.remove(listener);
+    assertThat(registry.listenersOf(RealTimeEventType.MESSAGESENT)).isEmpty();
+
+    registry.remove(listener);
+    assertThat(registry.listenersOf(RealTimeEventType.MESSAGESENT)).isEmpty();
+  }
+
+  private static class MessageListener implements RealTimeEventListener {
+
+    @Override
+    public void onMessageSent(V4Initiator initiator, V4MessageSent event) {
+      // nothing to do here
+    }
+  }
+}
@@ -0,0 +1,72 @@
+package com.symphony.bdk.core.service.datafeed.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.symphony.bdk.core.service.datafeed.EventPayload;
+import com.symphony.bdk.core.service.datafeed.RealTimeEventListener;
+import com.symphony.bdk.gen.api.model.V4Event;
+import com.symphony.bdk.gen.api.model.V4Initiator;
+import com.symphony.bdk.gen.api.model.V4Message;
+import com.symphony.bdk.gen.api.model.V4MessageSent;
+import com.symphony.bdk.gen.api.model.V4Payload;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+class RealTimeEventTypeTest {
+
+  @Test
+  void proxyPayloadDelegatesToEventTest() {
+    final V4MessageSent messageSent = new V4MessageSent().message(new V4Message().messageId("msg-id"));
+
+    final Object payload = RealTimeEventType.MESSAGESENT.proxyPayload(messageSentEvent(messageSent, 1234L));
+
+    assertThat(payload).isInstanceOf(V4MessageSent.class).isInstanceOf(EventPayload.class);
+    assertThat(((V4MessageSent) payload).getMessage().getMessageId()).isEqualTo("msg-id");
+    assertThat(((EventPayload) payload).getEventTimestamp()).isEqualTo(1234L);
+  }
+
+  @Test
+  void proxyClassIsReusedAcrossEventsTest() {
+    final Object first = RealTimeEventType.MESSAGESENT.proxyPayload(
+        messageSentEvent(new V4MessageSent().message(new V4Message().messageId("first")), 1L));
+    final Object second = RealTimeEventType.MESSAGESENT.proxyPayload(
+        messageSentEvent(new V4MessageSent().message(new V4Message().messageId("second")), 2L));
+
+    assertThat(first).isNotSameAs(second);
+    assertThat(first.getClass()).isSameAs(second.getClass());
+    assertThat(((V4MessageSent) first).getMessage().getMessageId()).isEqualTo("first");
+    assertThat(((V4MessageSent) second).getMessage().getMessageId()).isEqualTo("second");
+    assertThat(((EventPayload) first).getEventTimestamp()).isEqualTo(1L);
+    assertThat(((EventPayload) second).getEventTimestamp()).isEqualTo(2L);
+  }
+
+  @Test
+  void samePayloadIsDispatchedToAllListenersTest() {
+    final V4Event event = messageSentEvent(new V4MessageSent().message(new V4Message()), 1L);
+    final List<V4MessageSent> received = new ArrayList<>();
+    final RealTimeEventListener listener = new RealTimeEventListener() {
+      @Override
+      public void onMessageSent(V4Initiator initiator, V4MessageSent event) {
+        received.add(event);
+      }
+    };
+
+    final Object payload = RealTimeEventType.MESSAGESENT.proxyPayload(event);
+    RealTimeEventType.MESSAGESENT.dispatch(listener, event, payload);
+    RealTimeEventType.MESSAGESENT.dispatch(listener, event, payload);
+
+    assertThat(received).hasSize(2);
+    assertThat(received.get(0)).isSameAs(payload).isSameAs(received.get(1));
+  }
+
+  private static V4Event messageSentEvent(V4MessageSent messageSent, Long timestamp) {
+    return new V4Event()
+        .type(RealTimeEventType.MESSAGESENT.name())
+        .timestamp(timestamp)
+        .initiator(new V4Initiator())
+        .payload(new V4Payload().messageSent(messageSent));
+  }
+}
@@ -0,0 +1,87 @@
+package com.symphony.bdk.core.service.datafeed.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.symphony.bdk.core.service.datafeed.EventException;
+import com.symphony.bdk.gen.api.model.V4Event;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Test class for the {@link V5EventListStreamReader}.
+ */
+class V5EventListStreamReaderTest {
+
+  // ignores the unknown properties, as the mapper of the Jersey API client does
+  static final ObjectMapper MAPPER =
+      JsonMapper.builder().disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES).build();
+
+  @Test
+  void shouldHandleEventsInOrderAndReturnAckId() throws IOException {
+    final List<V4Event> events = new ArrayList<>();
+
+    final V5EventListStreamReader.Result result = new V5EventListStreamReader(MAPPER, events::add).read(body(
+        "{\"events\":[{\"id\":\"1\",\"type\":\"MESSAGESENT\",\"unknown\":{\"a\":[1,2]}},{\"id\":\"2\"}],"
+            + "\"other\":[{}],\"ackId\":\"ack-id\"}"));
+
+    assertThat(events).extracting(V4Event::getId).containsExactly("1", "2");
+    assertThat(events.get(0).getType()).isEqualTo("MESSAGESENT");
+    assertThat(result.getAckId()).isEqualTo("ack-id");
+    assertThat(result.getEventCount()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldReadAckIdSentBeforeEvents() throws IOException {
+    final List<V4Event> events = new ArrayList<>();
+
+    final V5EventListStreamReader.Result result = new V5EventListStreamReader(MAPPER, events::add)
+        .read(body("{\"ackId\":\"ack-id\",\"events\":[{\"id\":\"1\"}]}"));
+
+    assertThat(events).hasSize(1);
+    assertThat(result.getAckId()).isEqualTo("ack-id");
+  }
+
+  @Test
+  void shouldReadEmptyOrMissingEvents() throws IOException {
+    final List<V4Event> events = new ArrayList<>();
+
+    final V5EventListStreamReader reader = new V5EventListStreamReader(MAPPER, events::add);
+    assertThat(reader.read(body("{\"events\":null,\"ackId\":null}")).getAckId()).isNull();
+    assertThat(reader.read(body("{\"ackId\":\"ack-id\"}")).getEventCount()).isZero();
+    assertThat(events).isEmpty();
+  }
+
+  @Test
+  void shouldStopReadingWhenHandlerFails() {
+    final List<V4Event> events = new ArrayList<>();
+    final V5EventListStreamReader reader = new V5EventListStreamReader(MAPPER, event -> {
+      events.add(event);
+      throw new RequeueEventException(event, null, new EventException("failure"));
+    });
+
+    assertThatThrownBy(() -> reader.read(body("{\"events\":[{\"id\":\"1\"},{\"id\":\"2\"}],\"ackId\":\"ack-id\"}")))
+        .isInstanceOf(RequeueEventException.class);
+    assertThat(events).hasSize(1);
+  }
+
+  @Test
+  void shouldRejectInvalidBody() {
+    assertThatThrownBy(() -> new V5EventListStreamReader(MAPPER, event -> {}).read(body("[]")))
+        .isInstanceOf(IOException.class);
+  }
+
+  private static InputStream body(String json) {
+    return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -0,0 +1,69 @@
+package com.symphony.bdk.core.service.datafeed.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the {@link Histogram}.
+ */
+class HistogramTest {
+
+  @Test
+  void shouldReportEmptySnapshot() {
+    final Histogram.Snapshot snapshot = new Histogram().snapshot();
+
+    assertThat(snapshot.getCount()).isZero();
+    assertThat(snapshot.getMin()).isZero();
+    assertThat(snapshot.getMax()).isZero();
+    assertThat(snapshot.getMean()).isZero();
+    assertThat(snapshot.getPercentile(99)).isZero();
+  }
+
+  @Test
+  void shouldReportExactStatistics() {
+    final Histogram histogram = new Histogram();
+    for (long i = 1; i <= 100; i++) {
+      histogram.record(i);
+    }
+    histogram.record(-5);
+
+    final Histogram.Snapshot snapshot = histogram.snapshot();
+    assertThat(snapshot.getCount()).isEqualTo(101);
+    assertThat(snapshot.getSum()).isEqualTo(5050);
+    assertThat(snapshot.getMin()).isZero();
+    assertThat(snapshot.getMax()).isEqualTo(100);
+  }
+
+  @Test
+  void shouldReportPercentilesWithBoundedError() {
+    final Histogram histogram = new Histogram();
+    for (long i = 1; i <= 10_000; i++) {
+      histogram.record(i);
+    }
+
+    final Histogram.Snapshot snapshot = histogram.snapshot();
+    assertThat(snapshot.getPercentile(50)).isBetween(5000L, 5625L);
+    assertThat(snapshot.getPercentile(99)).isBetween(9900L, 10_000L);
+    assertThat(snapshot.getPercentile(100)).isEqualTo(10_000L);
+    assertThat(snapshot.getPercentile(0)).isEqualTo(1L);
+  }
+
+  @Test
+  void shouldMapValuesToContiguousBuckets() {
+    for (long value : new long[] {0, 7, 8, 15, 16, 17, 1000, Long.MAX_VALUE}) {
+      final int bucket = Histogram.bucketOf(value);
+      assertThat(Histogram.upperBoundOf(bucket)).isGreaterThanOrEqualTo(value);
+      if (bucket > 0) {
+        assertThat(Histogram.upperBoundOf(bucket - 1)).isLessThan(value);
+      }
+    }
+  }
+
+  @Test
+  void shouldRejectInvalidPercentile() {
+    assertThatThrownBy(() -> new Histogram().snapshot().getPercentile(101))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
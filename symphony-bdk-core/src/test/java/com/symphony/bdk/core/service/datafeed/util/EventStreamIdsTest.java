@@ -0,0 +1,43 @@
+package com.symphony.bdk.core.service.datafeed.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.symphony.bdk.gen.api.model.V4ConnectionAccepted;
+import com.symphony.bdk.gen.api.model.V4Message;
+import com.symphony.bdk.gen.api.model.V4MessageSent;
+import com.symphony.bdk.gen.api.model.V4RoomCreated;
+import com.symphony.bdk.gen.api.model.V4SharedPost;
+import com.symphony.bdk.gen.api.model.V4Stream;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the {@link EventStreamIds}.
+ */
+class EventStreamIdsTest {
+
+  @Test
+  void streamIdOfMessageTest() {
+    assertThat(EventStreamIds.of(new V4MessageSent().message(new V4Message().stream(stream("stream-id")))))
+        .isEqualTo("stream-id");
+    assertThat(EventStreamIds.of(new V4SharedPost().sharedMessage(new V4Message().stream(stream("shared-id")))))
+        .isEqualTo("shared-id");
+    assertThat(EventStreamIds.of(new V4MessageSent())).isNull();
+  }
+
+  @Test
+  void streamIdOfRoomEventTest() {
+    assertThat(EventStreamIds.of(new V4RoomCreated().stream(stream("room-id")))).isEqualTo("room-id");
+    assertThat(EventStreamIds.of(new V4RoomCreated())).isNull();
+  }
+
+  @Test
+  void noStreamIdOfConnectionEventTest() {
+    assertThat(EventStreamIds.of(new V4ConnectionAccepted())).isNull();
+    assertThat(EventStreamIds.of(null)).isNull();
+  }
+
+  private static V4Stream stream(String streamId) {
+    return new V4Stream().streamId(streamId);
+  }
+}
@@ -9,6 +9,7 @@ import static org.mockito.Mockito.when;
 
 import com.symphony.bdk.core.auth.AuthSession;
 import com.symphony.bdk.core.service.datafeed.DatafeedLoop;
+import com.symphony.bdk.core.service.datafeed.DatahoseLoop;
 import com.symphony.bdk.core.test.MockApiClient;
 import com.symphony.bdk.gen.api.SignalsApi;
 import com.symphony.bdk.gen.api.SystemApi;
@@ -22,6 +23,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 public class HealthServiceTest {
 
@@ -159,4 +162,55 @@ public class HealthServiceTest {
     when(df.lastPullTimestamp()).thenReturn(Instant.now().minusSeconds(10).toEpochMilli());
     assertThat(this.service.datafeedHealthCheck()).isEqualTo(V3HealthStatus.UP);
   }
+
+  @Test
+  void datahoseLoop_notSet_down() {
+    assertThat(this.service.datahoseHealthCheck()).isEqualTo(V3HealthStatus.DOWN);
+    assertThat(this.service.datahoseReadersHealthCheck()).isEmpty();
+  }
+
+  @Test
+  void datahoseLoop_oneReaderNotUpdatedInTime_down() {
+    DatahoseLoop dh = mock(DatahoseLoop.class);
+    this.service.setDatahoseLoop(dh);
+    Map<String, Long> timestamps = new LinkedHashMap<>();
+    timestamps.put("reader-0", Instant.now().minusSeconds(10).toEpochMilli());
+    timestamps.put("reader-1", Instant.now().minusSeconds(23).toEpochMilli());
+    when(dh.lastPullTimestamps()).thenReturn(timestamps);
+
+    assertThat(this.service.datahoseReadersHealthCheck())
+        .containsEntry("reader-0", V3HealthStatus.UP)
+        .containsEntry("reader-1", V3HealthStatus.DOWN);
+    assertThat(this.service.datahoseHealthCheck()).isEqualTo(V3HealthStatus.DOWN);
+  }
+
+  @Test
+  void datahoseLoop_allReadersUpdatedInTime_up() {
+    DatahoseLoop dh = mock(DatahoseLoop.class);
+    this.service.setDatahoseLoop(dh);
+    Map<String, Long> timestamps = new LinkedHashMap<>();
+    timestamps.put("reader-0", Instant.now().minusSeconds(10).toEpochMilli());
+    timestamps.put("reader-1", Instant.now().minusSeconds(5).toEpochMilli());
+    when(dh.lastPullTimestamps()).thenReturn(timestamps);
+
+    assertThat(this.service.datahoseHealthCheck()).isEqualTo(V3HealthStatus.UP);
+  }
+
+  @Test
+  void quarantinedListeners_mergedFromBothLoops() {
+    DatafeedLoop df = mock(DatafeedLoop.class);
+    DatahoseLoop dh = mock(DatahoseLoop.class);
+    this.service.setDatafeedLoop(df);
+    this.service.setDatahoseLoop(dh);
+    Instant quarantinedAt = Instant.now();
+    when(df.quarantinedListeners()).thenReturn(Map.of("com.acme.SlowListener", quarantinedAt));
+    when(dh.quarantinedListeners()).thenReturn(Map.of());
+
+    assertThat(this.service.quarantinedListeners()).containsOnly(Map.entry("com.acme.SlowListener", quarantinedAt));
+  }
+
+  @Test
+  void quarantinedListeners_noLoop_empty() {
+    assertThat(this.service.quarantinedListeners()).isEmpty();
+  }
 }
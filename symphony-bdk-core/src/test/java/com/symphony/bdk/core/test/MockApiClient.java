@@ -6,6 +6,7 @@ import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.symphony.bdk.http.api.ApiClient;
 import com.symphony.bdk.http.api.Pair;
 import com.symphony.bdk.http.jersey2.ApiClientJersey2;
+import jakarta.ws.rs.client.AsyncInvoker;
 import jakarta.ws.rs.client.Client;
 import jakarta.ws.rs.client.Entity;
 import jakarta.ws.rs.client.Invocation;
@@ -20,6 +21,7 @@ import java.lang.reflect.ParameterizedType;
 import java.net.URLEncoder;
 import java.util.HashMap;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import static org.mockito.AdditionalAnswers.answer;
 import static org.mockito.ArgumentMatchers.any;
@@ -120,21 +122,30 @@ public class MockApiClient {
     })).when(response).readEntity(ArgumentMatchers.<GenericType<?>>any());
     when(response.hasEntity()).thenReturn(true);
 
+    // the cancellable calls, e.g. the datafeed reads, are sent through the async invoker
+    final AsyncInvoker asyncInvoker = invocationBuilder.async();
+    final CompletableFuture<Response> pendingResponse = CompletableFuture.completedFuture(response);
     if ("GET".equals(method)) {
       doReturn(response).when(invocationBuilder).get();
+      doReturn(pendingResponse).when(asyncInvoker).get();
     } else if ("POST".equals(method)) {
       doReturn(response).when(invocationBuilder).post(any(Entity.class));
+      doReturn(pendingResponse).when(asyncInvoker).post(any(Entity.class));
     } else if ("PUT".equals(method)) {
       doReturn(response).when(invocationBuilder).put(any(Entity.class));
+      doReturn(pendingResponse).when(asyncInvoker).put(any(Entity.class));
     } else if ("DELETE".equals(method)) {
       doReturn(response).when(invocationBuilder).method(eq("DELETE"), any(Entity.class));
+      doReturn(pendingResponse).when(asyncInvoker).method(eq("DELETE"), any(Entity.class));
     } else if ("PATCH".equals(method)) {
       doReturn(response).when(invocationBuilder).method(eq("PATCH"), any(Entity.class));
+      doReturn(pendingResponse).when(asyncInvoker).method(eq("PATCH"), any(Entity.class));
     }
   }
 
   private Invocation.Builder initInvocationBuilder() {
     Invocation.Builder invocationBuilder = mock(Invocation.Builder.class);
+    AsyncInvoker asyncInvoker = mock(AsyncInvoker.class);
 
     when(invocationBuilder.accept(anyString())).thenReturn(invocationBuilder);
     when(invocationBuilder.header(anyString(), any())).thenReturn(invocationBuilder);
@@ -142,6 +153,10 @@ public class MockApiClient {
     when(invocationBuilder.get()).thenThrow(new MockApiClientException("Calling the mocked ApiClient with wrong method"));
     when(invocationBuilder.post(any(Entity.class))).thenThrow(new MockApiClientException("Calling the mocked ApiClient with wrong method"));
     when(invocationBuilder.method(eq("DELETE"), any(Entity.class))).thenThrow(new MockApiClientException("Calling the mocked ApiClient with wrong method"));
+    when(invocationBuilder.async()).thenReturn(asyncInvoker);
+    when(asyncInvoker.get()).thenThrow(new MockApiClientException("Calling the mocked ApiClient with wrong method"));
+    when(asyncInvoker.post(any(Entity.class))).thenThrow(new MockApiClientException("Calling the mocked ApiClient with wrong method"));
+    when(asyncInvoker.method(eq("DELETE"), any(Entity.class))).thenThrow(new MockApiClientException("Calling the mocked ApiClient with wrong method"));
     return invocationBuilder;
   }
 
@@ -25,7 +25,15 @@ class PresentationMLParserTest {
             "This is a link to Symphony's Website"),
         arguments("<div data-format=\"PresentationML\" data-version=\"2.0\"> <p>/test &lt;/messageML&gt;</p> </div>",
             "/test </messageML>"),
-        arguments("<div data-format=\"PresentationML\" data-version=\"2.0\">Hello&#xA0;World</div>", "Hello World"));
+        arguments("<div data-format=\"PresentationML\" data-version=\"2.0\">Hello&#xA0;World</div>", "Hello World"),
+        arguments("<div><p>a<!-- comment --><b>b</b><![CDATA[<c>]]></p><br/></div>", "ab<c>"),
+        arguments("<div>&amp;lt;tag&amp;gt; &#128512; \uD83D\uDE00 &quot;&apos;</div>",
+            "<tag> \uD83D\uDE00 \uD83D\uDE00 \"'"),
+        arguments("<div>line\r\nbreak\rhere</div>", "line\nbreak\nhere"),
+        // not handled by the single pass extraction
+        arguments("<?xml version=\"1.0\" encoding=\"UTF-8\"?><div>declared</div>", "declared"),
+        arguments("<div><p title=\"a&amp;b\">attribute reference</p></div>", "attribute reference"),
+        arguments("<!-- first --><div>ignored</div>", "first"));
   }
 
 
@@ -43,6 +51,13 @@ class PresentationMLParserTest {
             "<div data-format=\"PresentationML\" data-version=\"2.0\">Hello&nbsp;World&nbsp;Again</div>"));
   }
 
+  @Test
+  void doctypeParsingTest() {
+    assertThrows(PresentationMLParserException.class,
+        () -> PresentationMLParser.getTextContent(
+            "<!DOCTYPE div [<!ENTITY xxe SYSTEM \"file:///etc/passwd\">]><div>&xxe;</div>"));
+  }
+
   @Test
   void getMessageFromPresentationMLNotTrimTest() throws PresentationMLParserException {
     String presentationML = "<div data-format=\"PresentationML\" data-version=\"2.0\"> \n"
@@ -0,0 +1,97 @@
+package com.symphony.bdk.core.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+class PresentationMLScannerTest {
+
+  private final List<String> events = new ArrayList<>();
+
+  @Test
+  void contentIsReportedInDocumentOrder() {
+    this.scan("<div class=\"a\"><!-- c\r\n --><span class='entity' data-entity-id=\"0\">@bot</span>"
+        + " a&amp;b<![CDATA[<c>]]><br/></div>");
+
+    assertThat(this.events).containsExactly(
+        "start div 1 class=a",
+        "comment  c\n ",
+        "start span 2 class=entity",
+        "text @bot",
+        "end span 2",
+        "text  a&b",
+        "text <c>",
+        "start br 2 class=null",
+        "end br 2",
+        "end div 1");
+  }
+
+  @Test
+  void attributeWhitespacesAreNormalized() {
+    this.scan("<div class=\"a\tb\r\nc\"/>");
+
+    assertThat(this.events).containsExactly("start div 1 class=a b c", "end div 1");
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+      "<?xml version=\"1.0\"?><div/>",
+      "<!DOCTYPE div><div/>",
+      "<div title=\"a&amp;b\"/>",
+      "<div>&nbsp;</div>",
+      "<div><p></div>",
+      "<div/><div/>",
+      "<div a=\"1\" a=\"2\"/>",
+      "text<div/>",
+      "<div>"})
+  void documentsNotValidatedAreLeftToTheDomParser(String document) {
+    assertThatThrownBy(() -> this.scan(document)).isInstanceOf(PresentationMLScanner.NotValidatedException.class);
+  }
+
+  @Test
+  void documentIsScannedOnDemand() {
+    final PresentationMLScanner scanner = new PresentationMLScanner("<div>a</div>", new RecordingHandler());
+
+    assertThat(scanner.scanNext()).isTrue();
+    assertThat(this.events).containsExactly("start div 1 class=null");
+    assertThat(scanner.scanNext()).isTrue();
+    assertThat(scanner.scanNext()).isTrue();
+    assertThat(scanner.isRootElementRead()).isTrue();
+    assertThat(scanner.scanNext()).isFalse();
+  }
+
+  private void scan(String document) {
+    new PresentationMLScanner(document, new RecordingHandler()).scan();
+  }
+
+  private class RecordingHandler implements PresentationMLScanner.Handler {
+
+    @Override
+    public void onText(CharSequence text) {
+      events.add("text " + text);
+    }
+
+    @Override
+    public void onComment(CharSequence text) {
+      events.add("comment " + text);
+    }
+
+    @Override
+    public void onStartElement(PresentationMLScanner scanner) {
+      final String name = scanner.isElement("span") ? "span" : scanner.isElement("br") ? "br" : "div";
+      events.add("start " + name + " " + scanner.getDepth() + " class=" + scanner.getAttribute("class"));
+    }
+
+    @Override
+    public void onEndElement(PresentationMLScanner scanner) {
+      final String name = scanner.isElement("span") ? "span" : scanner.isElement("br") ? "br" : "div";
+      events.add("end " + name + " " + scanner.getDepth());
+    }
+  }
+}
@@ -2,6 +2,7 @@ package com.symphony.bdk.examples;
 
 import static com.symphony.bdk.core.config.BdkConfigLoader.loadFromSymphonyDir;
 
+import com.symphony.bdk.core.BdkRuntime;
 import com.symphony.bdk.core.SymphonyBdk;
 import com.symphony.bdk.core.auth.exception.AuthInitializationException;
 import com.symphony.bdk.core.auth.exception.AuthUnauthorizedException;
@@ -27,8 +28,16 @@ public class MultipleBotsExampleMain {
   public static void main(String[] args)
       throws BdkConfigException, AuthInitializationException, AuthUnauthorizedException {
 
-    final SymphonyBdk mario = new SymphonyBdk(loadFromSymphonyDir("config-mario.yaml"));
-    final SymphonyBdk luigi = new SymphonyBdk(loadFromSymphonyDir("config-luigi.yaml"));
+    // mario and luigi share their connection pools and activity threads
+    final BdkRuntime runtime = new BdkRuntime();
+    final SymphonyBdk mario = SymphonyBdk.builder()
+        .config(loadFromSymphonyDir("config-mario.yaml"))
+        .runtime(runtime)
+        .build();
+    final SymphonyBdk luigi = SymphonyBdk.builder()
+        .config(loadFromSymphonyDir("config-luigi.yaml"))
+        .runtime(runtime)
+        .build();
 
     mario.datafeed().subscribe(new RealTimeEventListener() {
 
@@ -60,6 +69,8 @@ public class MultipleBotsExampleMain {
 
     // mario sends an message in in IM with luigi
     mario.messages().send(stream.getId(), "<messageML>Very well thank you! And you Luigi?</messageML>");
+
+    log.info("Resources used by the bots: {}", runtime.usage());
   }
 
   private static void startDatafeedAsync(DatafeedLoop datafeedService) {
@@ -5,8 +5,12 @@ import com.symphony.bdk.http.api.util.TypeReference;
 
 import org.apiguardian.api.API;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * Interface used to perform HTTP requests performed by the generated Swagger code.
@@ -46,6 +50,70 @@ public interface ApiClient {
       TypeReference<T> returnType
   ) throws ApiException;
 
+  /**
+   * Invoke API by sending HTTP request with the given options, the body of a successful response being read by
+   * {@code bodyReader} as it is received, e.g. to process large responses incrementally.
+   * <p>
+   * The default implementation buffers the response body before reading it, implementations should override it to
+   * actually stream the response body.
+   *
+   * @param <T> Type
+   * @param path The sub-path of the HTTP URL
+   * @param method The request method, one of "GET", "POST", "PUT", "HEAD" and "DELETE"
+   * @param queryParams The query parameters
+   * @param body The request body object
+   * @param headerParams The header parameters
+   * @param cookieParams The cookie parameters
+   * @param formParams The form parameters
+   * @param accept The request's Accept header
+   * @param contentType The request's Content-Type header
+   * @param authNames The authentications to apply
+   * @param bodyReader The reader of the response body
+   * @return The value returned by the body reader, null if the response has no content
+   * @throws ApiException API exception, if the response status is not successful
+   * @throws UncheckedIOException if the body reader failed
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  default <T> ApiResponse<T> invokeStreamingAPI(
+      String path,
+      String method,
+      List<Pair> queryParams,
+      Object body,
+      Map<String, String> headerParams,
+      Map<String, String> cookieParams,
+      Map<String, Object> formParams,
+      String accept,
+      String contentType,
+      String[] authNames,
+      ResponseBodyReader<T> bodyReader
+  ) throws ApiException {
+    final ApiResponse<byte[]> response = this.invokeAPI(path, method, queryParams, body, headerParams, cookieParams,
+        formParams, accept, contentType, authNames, new TypeReference<byte[]>() {});
+    if (response.getData() == null) {
+      return new ApiResponse<>(response.getStatusCode(), response.getHeaders());
+    }
+    try {
+      return new ApiResponse<>(response.getStatusCode(), response.getHeaders(),
+          bodyReader.read(new ByteArrayInputStream(response.getData())));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Returns the object this client (de)serializes the JSON bodies with, e.g. a Jackson {@code ObjectMapper}, so that
+   * the bodies read by a {@link ResponseBodyReader} are decoded the same way as the other responses.
+   * Default implementation returns an empty optional.
+   *
+   * @param <M> Type
+   * @param mapperType The expected type of the mapper
+   * @return The mapper, if this client exposes one of the expected type
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  default <M> Optional<M> getJsonMapper(Class<M> mapperType) {
+    return Optional.empty();
+  }
+
   /**
    * Returns the API base path
    *
@@ -118,4 +186,31 @@ public interface ApiClient {
   default void rotate() {
 
   }
+
+  /**
+   * Run a call of a generated API whose requests, sent through this client, can be aborted by
+   * {@link #cancelPendingRequests()}, e.g. a long-polling read. The requests sent outside of such a call are never
+   * aborted, the ones of other callers sharing the client included.
+   * Default implementation runs the call.
+   *
+   * @param <T> Type
+   * @param call the call of the generated API
+   * @return the value returned by the call
+   * @throws ApiException API exception, if a request failed
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  default <T> T invokeCancellable(CancellableCall<T> call) throws ApiException {
+    return call.call();
+  }
+
+  /**
+   * Abort the requests sent by {@link #invokeCancellable} currently in flight, their callers failing with a
+   * {@link java.util.concurrent.CancellationException} or, if the response is being read, an
+   * {@link UncheckedIOException}. The requests sent afterwards are not affected.
+   * Default implementation does nothing.
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  default void cancelPendingRequests() {
+
+  }
 }
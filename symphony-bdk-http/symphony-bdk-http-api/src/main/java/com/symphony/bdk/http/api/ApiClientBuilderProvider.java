@@ -1,5 +1,7 @@
 package com.symphony.bdk.http.api;
 
+import org.apiguardian.api.API;
+
 /**
  * New {@link ApiClientBuilder} instances provider.
  */
@@ -12,4 +14,33 @@ public interface ApiClientBuilderProvider {
    * @return a new {@link ApiClientBuilder} instance.
    */
   ApiClientBuilder newInstance();
+
+  /**
+   * Returns a provider whose builders share their connection pools: the {@link ApiClient}s targeting the same host,
+   * with the same trust store and proxy, reuse the same connections, e.g. to host many bots in a single JVM. The
+   * clients configured with a key store keep their own connection pool.
+   * <p>
+   * The returned provider should be closed, if {@link AutoCloseable}, once its clients are no longer used. The default
+   * implementation returns this provider, which is suitable when the connections are already pooled globally.
+   *
+   * @return a provider sharing the connection pools of its clients.
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  default ApiClientBuilderProvider withSharedConnectionPools() {
+    return this;
+  }
+
+  /**
+   * Returns a provider whose builders share the connection pools of this provider, the share of the pools taken by
+   * its clients being released once it is closed, if {@link AutoCloseable}, e.g. when one of the bots sharing the
+   * connection pools is stopped while the other ones keep running.
+   * <p>
+   * The default implementation returns this provider, which is suitable when the connection pools are not shared.
+   *
+   * @return a provider releasing the share of the connection pools taken by its clients when closed.
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  default ApiClientBuilderProvider scoped() {
+    return this;
+  }
 }
@@ -0,0 +1,22 @@
+package com.symphony.bdk.http.api;
+
+import org.apiguardian.api.API;
+
+/**
+ * Call of a generated API whose requests can be aborted by {@link ApiClient#cancelPendingRequests()}, e.g. a
+ * long-polling read, see {@link ApiClient#invokeCancellable}.
+ *
+ * @param <T> the type of the value returned by the call
+ */
+@FunctionalInterface
+@API(status = API.Status.EXPERIMENTAL)
+public interface CancellableCall<T> {
+
+  /**
+   * Send the requests of the call, through the client it is invoked with.
+   *
+   * @return the value returned by the generated API
+   * @throws ApiException if a request failed
+   */
+  T call() throws ApiException;
+}
@@ -0,0 +1,26 @@
+package com.symphony.bdk.http.api;
+
+import org.apiguardian.api.API;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Reads the body of a successful HTTP response while it is being received, instead of deserializing it as a whole,
+ * see {@link ApiClient#invokeStreamingAPI}.
+ *
+ * @param <T> the type of the value returned once the body is read
+ */
+@FunctionalInterface
+@API(status = API.Status.EXPERIMENTAL)
+public interface ResponseBodyReader<T> {
+
+  /**
+   * Read the response body. The stream is closed once this method returns.
+   *
+   * @param body the response body
+   * @return the value extracted from the body
+   * @throws IOException if the body cannot be read or parsed
+   */
+  T read(InputStream body) throws IOException;
+}
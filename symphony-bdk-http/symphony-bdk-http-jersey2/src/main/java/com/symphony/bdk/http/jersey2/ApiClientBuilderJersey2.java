@@ -237,6 +237,13 @@ public class ApiClientBuilderJersey2 implements ApiClientBuilder {
     // turn off compliance validation to be able to send payloads with DELETE calls
     clientConfig.property(ClientProperties.SUPPRESS_HTTP_COMPLIANCE_VALIDATION, true);
 
+    clientConfig.property(ApacheClientProperties.CONNECTION_MANAGER, this.createConnectionManager(sslContext));
+    clientConfig.connectorProvider(new ApacheConnectorProvider());
+    return clientConfig;
+  }
+
+  @API(status = API.Status.EXPERIMENTAL)
+  protected PoolingHttpClientConnectionManager createConnectionManager(SSLContext sslContext) {
     SSLConnectionSocketFactory sslConnectionSocketFactory = new SSLConnectionSocketFactory(sslContext);
     Registry<ConnectionSocketFactory> registry = RegistryBuilder.<ConnectionSocketFactory>create()
         .register("https", sslConnectionSocketFactory)
@@ -248,9 +255,7 @@ public class ApiClientBuilderJersey2 implements ApiClientBuilder {
     final PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager(registry);
     connectionManager.setMaxTotal(this.connectionPoolMax);
     connectionManager.setDefaultMaxPerRoute(this.connectionPoolPerRoute);
-    clientConfig.property(ApacheClientProperties.CONNECTION_MANAGER, connectionManager);
-    clientConfig.connectorProvider(new ApacheConnectorProvider());
-    return clientConfig;
+    return connectionManager;
   }
 
   @API(status = API.Status.EXPERIMENTAL)
@@ -21,4 +21,12 @@ public class ApiClientBuilderProviderJersey2 implements ApiClientBuilderProvider
   public ApiClientBuilder newInstance() {
     return new ApiClientBuilderJersey2();
   }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public ApiClientBuilderProvider withSharedConnectionPools() {
+    return new SharedPoolApiClientBuilderProviderJersey2();
+  }
 }
@@ -4,15 +4,19 @@ import com.symphony.bdk.http.api.ApiClient;
 import com.symphony.bdk.http.api.ApiClientBodyPart;
 import com.symphony.bdk.http.api.ApiException;
 import com.symphony.bdk.http.api.ApiResponse;
+import com.symphony.bdk.http.api.CancellableCall;
 import com.symphony.bdk.http.api.Pair;
+import com.symphony.bdk.http.api.ResponseBodyReader;
 import com.symphony.bdk.http.api.auth.Authentication;
 import com.symphony.bdk.http.api.tracing.DistributedTracingContext;
 import com.symphony.bdk.http.api.util.TypeReference;
 import jakarta.ws.rs.HttpMethod;
 import jakarta.ws.rs.ProcessingException;
+import jakarta.ws.rs.client.AsyncInvoker;
 import jakarta.ws.rs.client.Client;
 import jakarta.ws.rs.client.Entity;
 import jakarta.ws.rs.client.Invocation;
+import jakarta.ws.rs.client.InvocationCallback;
 import jakarta.ws.rs.client.WebTarget;
 import jakarta.ws.rs.core.Form;
 import jakarta.ws.rs.core.GenericType;
@@ -30,6 +34,7 @@ import org.glassfish.jersey.media.multipart.file.StreamDataBodyPart;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.io.UnsupportedEncodingException;
 import java.net.SocketException;
 import java.net.SocketTimeoutException;
@@ -43,6 +48,11 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
@@ -63,6 +73,12 @@ public class ApiClientJersey2 implements ApiClient {
   protected Map<String, Authentication> authentications;
   protected List<String> enforcedAuthenticationSchemes;
 
+  // requests of the cancellable calls waiting for their response, and responses being read, aborted by
+  // cancelPendingRequests()
+  private final Set<PendingRequest> pendingRequests = ConcurrentHashMap.newKeySet();
+  private final Set<Response> pendingResponses = ConcurrentHashMap.newKeySet();
+  private final ThreadLocal<Boolean> cancellableCall = ThreadLocal.withInitial(() -> false);
+
   public ApiClientJersey2(final Client httpClient, String basePath, Map<String, String> defaultHeaders,
       String temporaryFolderPath) {
     this.httpClient = httpClient;
@@ -90,6 +106,56 @@ public class ApiClientJersey2 implements ApiClient {
       final String[] authNames,
       final TypeReference<T> returnType
   ) throws ApiException {
+    EntityReader<T> entityReader = null;
+    if (returnType != null) {
+      final GenericType<T> genericReturnType = new GenericType<>(returnType.getType());
+      entityReader = response -> deserialize(response, genericReturnType);
+    }
+    return this.doInvokeAPI(path, method, queryParams, body, headerParams, cookieParams, formParams, accept,
+        contentType, authNames, entityReader);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <T> ApiResponse<T> invokeStreamingAPI(
+      final String path,
+      final String method,
+      final List<Pair> queryParams,
+      final Object body,
+      final Map<String, String> headerParams,
+      final Map<String, String> cookieParams,
+      final Map<String, Object> formParams,
+      final String accept,
+      final String contentType,
+      final String[] authNames,
+      final ResponseBodyReader<T> bodyReader
+  ) throws ApiException {
+    return this.doInvokeAPI(path, method, queryParams, body, headerParams, cookieParams, formParams, accept,
+        contentType, authNames, response -> {
+          // the entity stream is read while being received, the response is closed by the caller
+          try (InputStream entityStream = response.readEntity(InputStream.class)) {
+            return bodyReader.read(entityStream);
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        });
+  }
+
+  private <T> ApiResponse<T> doInvokeAPI(
+      final String path,
+      final String method,
+      final List<Pair> queryParams,
+      final Object body,
+      final Map<String, String> headerParams,
+      final Map<String, String> cookieParams,
+      final Map<String, Object> formParams,
+      final String accept,
+      final String contentType,
+      final String[] authNames,
+      final EntityReader<T> entityReader
+  ) throws ApiException {
 
     // Not using `.target(this.basePath).path(path)` below,
     // to support (constant) query string in `path`, e.g. "/posts?draft=1"
@@ -155,40 +221,18 @@ public class ApiClientJersey2 implements ApiClient {
     Entity<?> entity =
         (body == null && formParams == null) ? Entity.json("") : this.serialize(body, formParams, contentType);
 
-    try (Response response = getResponse(invocationBuilder, method, entity)) {
-
-      int statusCode = response.getStatusInfo().getStatusCode();
-      Map<String, List<String>> responseHeaders = buildResponseHeaders(response);
-
-      GenericType<T> genericReturnType = null;
-      if (returnType != null) {
-        genericReturnType = new GenericType<>(returnType.getType());
+    final boolean cancellable = this.cancellableCall.get();
+    try (Response response = cancellable
+        ? getCancellableResponse(invocationBuilder, method, entity)
+        : sendRequest(invocationBuilder, method, entity)) {
+      if (!cancellable) {
+        return this.readResponse(response, entityReader);
       }
-
-      if (response.getStatus() == Response.Status.NO_CONTENT.getStatusCode()) {
-        return new ApiResponse<>(statusCode, responseHeaders);
-      } else if (response.getStatusInfo().getFamily() == Response.Status.Family.SUCCESSFUL) {
-        if (genericReturnType == null) {
-          return new ApiResponse<>(statusCode, responseHeaders);
-        } else {
-          return new ApiResponse<>(statusCode, responseHeaders, deserialize(response, genericReturnType));
-        }
-      } else {
-        String message = "error";
-        String respBody = null;
-        if (response.hasEntity()) {
-          try {
-            respBody = String.valueOf(response.readEntity(String.class));
-            message = respBody;
-          } catch (RuntimeException e) {
-            // ignored if we cannot read the response body
-          }
-        }
-        throw new ApiException(
-            response.getStatus(),
-            message,
-            buildResponseHeaders(response),
-            respBody);
+      this.pendingResponses.add(response);
+      try {
+        return this.readResponse(response, entityReader);
+      } finally {
+        this.pendingResponses.remove(response);
       }
     } finally {
       if (clearTraceId) {
@@ -197,7 +241,38 @@ public class ApiClientJersey2 implements ApiClient {
     }
   }
 
-  private Response getResponse(Invocation.Builder invocationBuilder, String method, Entity<?> entity)
+  private <T> ApiResponse<T> readResponse(Response response, EntityReader<T> entityReader) throws ApiException {
+    int statusCode = response.getStatusInfo().getStatusCode();
+    Map<String, List<String>> responseHeaders = buildResponseHeaders(response);
+
+    if (response.getStatus() == Response.Status.NO_CONTENT.getStatusCode()) {
+      return new ApiResponse<>(statusCode, responseHeaders);
+    } else if (response.getStatusInfo().getFamily() == Response.Status.Family.SUCCESSFUL) {
+      if (entityReader == null) {
+        return new ApiResponse<>(statusCode, responseHeaders);
+      } else {
+        return new ApiResponse<>(statusCode, responseHeaders, entityReader.read(response));
+      }
+    } else {
+      String message = "error";
+      String respBody = null;
+      if (response.hasEntity()) {
+        try {
+          respBody = String.valueOf(response.readEntity(String.class));
+          message = respBody;
+        } catch (RuntimeException e) {
+          // ignored if we cannot read the response body
+        }
+      }
+      throw new ApiException(
+          response.getStatus(),
+          message,
+          buildResponseHeaders(response),
+          respBody);
+    }
+  }
+
+  private Response sendRequest(Invocation.Builder invocationBuilder, String method, Entity<?> entity)
       throws ApiException {
     try {
       switch (method) {
@@ -221,19 +296,141 @@ public class ApiClientJersey2 implements ApiClient {
           throw new ApiException(500, "unknown method type " + method);
       }
     } catch (ProcessingException e) {
-      if (e.getCause() instanceof ConnectTimeoutException) {
-        throw new ProcessingException(new SocketTimeoutException(e.getCause().getMessage()));
+      throw processingException(e);
+    }
+  }
+
+  private Response getCancellableResponse(Invocation.Builder invocationBuilder, String method, Entity<?> entity)
+      throws ApiException {
+    // sent asynchronously so that the caller, blocked until the response is received, can be released on cancellation
+    final PendingRequest pendingRequest = new PendingRequest();
+    this.sendAsyncRequest(invocationBuilder.async(), method, entity, pendingRequest);
+    this.pendingRequests.add(pendingRequest);
+    try {
+      return pendingRequest.response.get();
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof ProcessingException) {
+        throw processingException((ProcessingException) e.getCause());
+      } else if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      } else {
+        throw new ProcessingException(e.getCause());
       }
-      else if (e.getCause() instanceof NoHttpResponseException) {
-        // ensures that it will be caught later in the retry strategy
-        throw new ProcessingException(new SocketException(e.getCause().getMessage()));
+    } catch (InterruptedException e) {
+      pendingRequest.cancel();
+      // the response received before the cancellation is not read
+      pendingRequest.response.thenAccept(Response::close);
+      Thread.currentThread().interrupt();
+      throw new ProcessingException(e);
+    } finally {
+      this.pendingRequests.remove(pendingRequest);
+    }
+  }
+
+  private void sendAsyncRequest(AsyncInvoker asyncInvoker, String method, Entity<?> entity,
+      InvocationCallback<Response> callback) throws ApiException {
+    try {
+      switch (method) {
+        case HttpMethod.GET:
+          asyncInvoker.get(callback);
+          break;
+        case HttpMethod.POST:
+          asyncInvoker.post(entity, callback);
+          break;
+        case HttpMethod.PUT:
+          asyncInvoker.put(entity, callback);
+          break;
+        case HttpMethod.DELETE:
+          asyncInvoker.method(HttpMethod.DELETE, entity, callback);
+          break;
+        case HttpMethod.PATCH:
+          asyncInvoker.method(HttpMethod.PATCH, entity, callback);
+          break;
+        case HttpMethod.HEAD:
+          asyncInvoker.head(callback);
+          break;
+        case HttpMethod.OPTIONS:
+          asyncInvoker.options(callback);
+          break;
+        case "TRACE":
+          asyncInvoker.trace(callback);
+          break;
+        default:
+          throw new ApiException(500, "unknown method type " + method);
       }
-      else {
-        throw e;
+    } catch (ProcessingException e) {
+      throw processingException(e);
+    }
+  }
+
+  private static ProcessingException processingException(ProcessingException e) {
+    if (e.getCause() instanceof ConnectTimeoutException) {
+      return new ProcessingException(new SocketTimeoutException(e.getCause().getMessage()));
+    }
+    else if (e.getCause() instanceof NoHttpResponseException) {
+      // ensures that it will be caught later in the retry strategy
+      return new ProcessingException(new SocketException(e.getCause().getMessage()));
+    }
+    else {
+      return e;
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The requests of the call are sent asynchronously, the calling thread waiting for their response in a cancellable
+   * way. The other requests are sent synchronously.
+   */
+  @Override
+  public <T> T invokeCancellable(CancellableCall<T> call) throws ApiException {
+    final boolean nested = this.cancellableCall.get();
+    this.cancellableCall.set(true);
+    try {
+      return call.call();
+    } finally {
+      if (!nested) {
+        this.cancellableCall.remove();
       }
     }
   }
 
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The requests of the cancellable calls waiting for their response are cancelled, their response being closed as
+   * soon as it is received to release its connection. The responses being read are closed, thus aborting their
+   * connection.
+   */
+  @Override
+  public void cancelPendingRequests() {
+    for (PendingRequest pendingRequest : this.pendingRequests) {
+      pendingRequest.cancel();
+    }
+    for (Response pendingResponse : this.pendingResponses) {
+      try {
+        pendingResponse.close();
+      } catch (RuntimeException e) {
+        // the response might already be closed
+      }
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns the mapper of the {@link JSON} context resolver registered by the {@link ApiClientBuilderJersey2}.
+   */
+  @Override
+  public <M> Optional<M> getJsonMapper(Class<M> mapperType) {
+    return this.httpClient.getConfiguration().getInstances().stream()
+        .filter(JSON.class::isInstance)
+        .map(json -> ((JSON) json).getContext(mapperType))
+        .filter(mapperType::isInstance)
+        .map(mapperType::cast)
+        .findFirst();
+  }
+
   @Override
   public String getBasePath() {
     return basePath;
@@ -597,4 +794,38 @@ public class ApiClientJersey2 implements ApiClient {
 
     return Stream.concat(this.enforcedAuthenticationSchemes.stream(), Arrays.stream(authNames)).toArray(String[]::new);
   }
+
+  /**
+   * Reads the entity of a successful response.
+   */
+  @FunctionalInterface
+  private interface EntityReader<T> {
+
+    T read(Response response) throws ApiException;
+  }
+
+  /**
+   * Request of a cancellable call sent asynchronously. Cancelling the future of a request would not abort it: the
+   * response received after the cancellation is closed instead, so that its connection is released to the pool.
+   */
+  private static class PendingRequest implements InvocationCallback<Response> {
+
+    private final CompletableFuture<Response> response = new CompletableFuture<>();
+
+    @Override
+    public void completed(Response receivedResponse) {
+      if (!this.response.complete(receivedResponse)) {
+        receivedResponse.close();
+      }
+    }
+
+    @Override
+    public void failed(Throwable throwable) {
+      this.response.completeExceptionally(throwable);
+    }
+
+    private void cancel() {
+      this.response.cancel(false);
+    }
+  }
 }
@@ -0,0 +1,237 @@
+package com.symphony.bdk.http.jersey2;
+
+import static org.apache.commons.lang3.ObjectUtils.isNotEmpty;
+
+import com.symphony.bdk.http.api.ApiClientBuilder;
+import com.symphony.bdk.http.api.ApiClientBuilderProvider;
+
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apiguardian.api.API;
+import org.glassfish.jersey.apache.connector.ApacheClientProperties;
+import org.glassfish.jersey.client.ClientConfig;
+
+import java.io.Closeable;
+import java.net.URI;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.net.ssl.SSLContext;
+
+/**
+ * Provides {@link ApiClientBuilderJersey2} instances sharing the connection pools of the clients targeting the same
+ * host, with the same trust store and proxy, as well as the threads their asynchronous requests are sent on.
+ * <p>
+ * Each client sharing a connection pool extends its limits by its own configured ones, so that the clients do not
+ * compete for connections more than with dedicated pools, the connections being only opened when needed.
+ */
+@API(status = API.Status.INTERNAL)
+public class SharedPoolApiClientBuilderProviderJersey2 implements ApiClientBuilderProvider, Closeable {
+
+  private final Map<String, PoolingHttpClientConnectionManager> connectionManagers = new ConcurrentHashMap<>();
+  private final ExecutorService asyncExecutor;
+
+  public SharedPoolApiClientBuilderProviderJersey2() {
+    final AtomicLong count = new AtomicLong();
+    this.asyncExecutor = Executors.newCachedThreadPool(runnable -> {
+      final Thread thread = new Thread(runnable, "ApiClient-Async-" + count.getAndIncrement());
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public ApiClientBuilder newInstance() {
+    return new SharedPoolApiClientBuilder(null);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public ApiClientBuilderProvider withSharedConnectionPools() {
+    return this;
+  }
+
+  /**
+   * Returns a provider whose builders share the connection pools of this provider, the limits added to the pools by
+   * its clients being subtracted once it is closed.
+   */
+  @Override
+  public Scope scoped() {
+    return new Scope();
+  }
+
+  /**
+   * @return the number of connection pools shared by the built clients
+   */
+  public int getConnectionPoolCount() {
+    return this.connectionManagers.size();
+  }
+
+  /**
+   * @return the total maximum number of connections of the shared pools
+   */
+  int getConnectionPoolMax() {
+    return this.connectionManagers.values().stream().mapToInt(PoolingHttpClientConnectionManager::getMaxTotal).sum();
+  }
+
+  /**
+   * Close the shared connection pools and threads, the clients built so far can no longer be used.
+   */
+  @Override
+  public void close() {
+    this.connectionManagers.values().forEach(PoolingHttpClientConnectionManager::shutdown);
+    this.connectionManagers.clear();
+    this.asyncExecutor.shutdownNow();
+  }
+
+  /**
+   * Provider of the clients of a same bot, whose share of the connection pools is released when closed. The clients
+   * built so far must no longer be used once the scope is closed.
+   */
+  public class Scope implements ApiClientBuilderProvider, Closeable {
+
+    // guarded by 'this', limits added to the shared pools by the clients of this scope
+    private final List<PoolShare> poolShares = new ArrayList<>();
+
+    private Scope() {
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ApiClientBuilder newInstance() {
+      return new SharedPoolApiClientBuilder(this);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ApiClientBuilderProvider withSharedConnectionPools() {
+      return this;
+    }
+
+    /**
+     * Subtract the limits added to the shared connection pools by the clients of this scope, has no effect if it is
+     * already closed.
+     */
+    @Override
+    public void close() {
+      final List<PoolShare> released;
+      synchronized (this) {
+        released = new ArrayList<>(this.poolShares);
+        this.poolShares.clear();
+      }
+      released.forEach(PoolShare::release);
+    }
+
+    private synchronized void add(PoolShare poolShare) {
+      this.poolShares.add(poolShare);
+    }
+  }
+
+  /**
+   * Limits added to a shared connection pool by a client.
+   */
+  private static class PoolShare {
+
+    private final PoolingHttpClientConnectionManager connectionManager;
+    private final int max;
+    private final int perRoute;
+
+    private PoolShare(PoolingHttpClientConnectionManager connectionManager, int max, int perRoute) {
+      this.connectionManager = connectionManager;
+      this.max = max;
+      this.perRoute = perRoute;
+    }
+
+    private void acquire() {
+      synchronized (this.connectionManager) {
+        this.connectionManager.setMaxTotal(this.connectionManager.getMaxTotal() + this.max);
+        this.connectionManager.setDefaultMaxPerRoute(this.connectionManager.getDefaultMaxPerRoute() + this.perRoute);
+      }
+    }
+
+    private void release() {
+      // the emptied pools are kept, a client of another scope may be about to extend them
+      synchronized (this.connectionManager) {
+        this.connectionManager.setMaxTotal(this.connectionManager.getMaxTotal() - this.max);
+        this.connectionManager.setDefaultMaxPerRoute(this.connectionManager.getDefaultMaxPerRoute() - this.perRoute);
+      }
+    }
+  }
+
+  private class SharedPoolApiClientBuilder extends ApiClientBuilderJersey2 {
+
+    private final Scope scope;
+
+    private SharedPoolApiClientBuilder(Scope scope) {
+      this.scope = scope;
+    }
+
+    @Override
+    protected ClientConfig createClientConfig(SSLContext sslContext) {
+      final ClientConfig clientConfig = super.createClientConfig(sslContext);
+      if (this.isSharingConnectionPool()) {
+        // the client must not shut the shared pool down when closed
+        clientConfig.property(ApacheClientProperties.CONNECTION_MANAGER_SHARED, true);
+      }
+      return clientConfig.executorService(asyncExecutor);
+    }
+
+    @Override
+    protected PoolingHttpClientConnectionManager createConnectionManager(SSLContext sslContext) {
+      if (!this.isSharingConnectionPool()) {
+        return super.createConnectionManager(sslContext);
+      }
+      final PoolingHttpClientConnectionManager connectionManager = connectionManagers.computeIfAbsent(
+          this.connectionPoolKey(), key -> {
+            final PoolingHttpClientConnectionManager created = super.createConnectionManager(sslContext);
+            created.setMaxTotal(0);
+            created.setDefaultMaxPerRoute(0);
+            return created;
+          });
+      final PoolShare poolShare = new PoolShare(connectionManager, this.connectionPoolMax, this.connectionPoolPerRoute);
+      poolShare.acquire();
+      if (this.scope != null) {
+        this.scope.add(poolShare);
+      }
+      return connectionManager;
+    }
+
+    /**
+     * The connections of a client authenticated by a certificate are specific to this client.
+     */
+    private boolean isSharingConnectionPool() {
+      return !isNotEmpty(this.keyStoreBytes);
+    }
+
+    private String connectionPoolKey() {
+      final URI uri = URI.create(this.basePath);
+      return uri.getScheme() + "://" + uri.getAuthority()
+          + "|" + this.proxyUrl + "|" + this.proxyUser
+          + "|" + (isNotEmpty(this.trustStoreBytes) ? digest(this.trustStoreBytes) : null);
+    }
+  }
+
+  private static String digest(byte[] bytes) {
+    try {
+      return Base64.getEncoder().encodeToString(MessageDigest.getInstance("SHA-256").digest(bytes));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
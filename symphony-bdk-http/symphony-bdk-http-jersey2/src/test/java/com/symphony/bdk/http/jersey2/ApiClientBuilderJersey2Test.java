@@ -1,11 +1,16 @@
 package com.symphony.bdk.http.jersey2;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.symphony.bdk.http.api.ApiClient;
 import com.symphony.bdk.http.api.ApiException;
 import com.symphony.bdk.http.api.ApiResponse;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -23,6 +28,12 @@ import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
 import java.security.cert.CertificateException;
 import java.util.Collections;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import javax.net.ssl.SSLContext;
 
 class ApiClientBuilderJersey2Test {
 
@@ -63,6 +74,52 @@ class ApiClientBuilderJersey2Test {
     assertEquals(200, response.getStatusCode());
   }
 
+  @Test
+  void cancelledRequestReleasesItsConnection() throws Exception {
+    final PoolingHttpClientConnectionManager[] connectionManager = new PoolingHttpClientConnectionManager[1];
+    final ApiClient client = new ApiClientBuilderJersey2() {
+      @Override
+      protected PoolingHttpClientConnectionManager createConnectionManager(SSLContext sslContext) {
+        connectionManager[0] = super.createConnectionManager(sslContext);
+        return connectionManager[0];
+      }
+    }.withBasePath("http://localhost:" + mockServer.getPort()).build();
+
+    mockServer.when(HttpRequest.request().withMethod("GET").withPath("/read"))
+        .respond(HttpResponse.response().withStatusCode(200).withDelay(TimeUnit.MILLISECONDS, 500));
+
+    final ExecutorService caller = Executors.newSingleThreadExecutor();
+    try {
+      final Future<?> pendingCall = caller.submit(() -> client.invokeCancellable(() ->
+          client.invokeAPI("/read", "GET", Collections.emptyList(), null, Collections.emptyMap(),
+              Collections.emptyMap(), null, "application/json", "", null, null)));
+      while (connectionManager[0].getTotalStats().getLeased() == 0 && !pendingCall.isDone()) {
+        Thread.sleep(10);
+      }
+
+      // as when a datafeed loop is stopped
+      client.cancelPendingRequests();
+      assertThrows(Exception.class, () -> pendingCall.get(5, TimeUnit.SECONDS));
+    } finally {
+      caller.shutdownNow();
+    }
+
+    // the connection is released once the response of the cancelled request is received
+    final long timeout = System.currentTimeMillis() + 5000;
+    while (connectionManager[0].getTotalStats().getLeased() > 0 && System.currentTimeMillis() < timeout) {
+      Thread.sleep(10);
+    }
+    assertEquals(0, connectionManager[0].getTotalStats().getLeased());
+  }
+
+  @Test
+  void jsonMapperIsExposed() {
+    ApiClient client = new ApiClientBuilderJersey2().build();
+
+    assertTrue(client.getJsonMapper(ObjectMapper.class).isPresent());
+    assertFalse(client.getJsonMapper(String.class).isPresent());
+  }
+
   private ByteArrayOutputStream getMockServerKeyStore()
       throws KeyStoreException, IOException, NoSuchAlgorithmException, CertificateException {
     KeyStore mockServerKeyStore = new KeyStoreFactory(new MockServerLogger()).loadOrCreateKeyStore();
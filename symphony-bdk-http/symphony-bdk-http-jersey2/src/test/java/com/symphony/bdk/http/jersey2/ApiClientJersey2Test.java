@@ -4,9 +4,11 @@ import com.symphony.bdk.http.api.ApiException;
 import com.symphony.bdk.http.api.tracing.DistributedTracingContext;
 import com.symphony.bdk.http.api.util.TypeReference;
 import jakarta.ws.rs.HttpMethod;
+import jakarta.ws.rs.client.AsyncInvoker;
 import jakarta.ws.rs.client.Client;
 import jakarta.ws.rs.client.Entity;
 import jakarta.ws.rs.client.Invocation;
+import jakarta.ws.rs.client.InvocationCallback;
 import jakarta.ws.rs.client.WebTarget;
 import jakarta.ws.rs.core.MultivaluedHashMap;
 import jakarta.ws.rs.core.Response;
@@ -19,23 +21,37 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class ApiClientJersey2Test {
 
   private ApiClientJersey2 apiClient;
+  private Invocation.Builder builder;
+  private AsyncInvoker asyncInvoker;
+  private Response response;
 
   @BeforeEach
   void init(
       @Mock Client client,
       @Mock WebTarget target,
       @Mock Invocation.Builder builder,
+      @Mock AsyncInvoker asyncInvoker,
       @Mock Response response,
       @Mock Response.StatusType statusInfo
   ) {
@@ -43,11 +59,19 @@ class ApiClientJersey2Test {
     when(target.request()).thenReturn(builder);
     when(builder.accept(anyString())).thenReturn(builder);
     when(builder.header(anyString(), any())).thenReturn(builder);
-    when(builder.post(any(Entity.class))).thenReturn(response);
+    lenient().when(builder.post(any(Entity.class))).thenReturn(response);
+    lenient().when(builder.async()).thenReturn(asyncInvoker);
+    lenient().when(asyncInvoker.post(any(Entity.class), any(InvocationCallback.class))).thenAnswer(invocation -> {
+      invocation.<InvocationCallback<Response>>getArgument(1).completed(response);
+      return CompletableFuture.completedFuture(response);
+    });
     when(response.getStatusInfo()).thenReturn(statusInfo);
     when(statusInfo.getStatusCode()).thenReturn(200);
     when(statusInfo.getFamily()).thenReturn(Response.Status.Family.SUCCESSFUL);
     when(response.getHeaders()).thenReturn(new MultivaluedHashMap<>());
+    this.builder = builder;
+    this.asyncInvoker = asyncInvoker;
+    this.response = response;
     this.apiClient = new ApiClientJersey2(client, "", Collections.emptyMap(), "");
     this.apiClient.getAuthentications().put("testAuth", headerParams -> headerParams.put("Authorization", "test"));
   }
@@ -67,6 +91,58 @@ class ApiClientJersey2Test {
     assertEquals(traceId, DistributedTracingContext.getTraceId());
   }
 
+  @Test
+  void shouldCancelPendingRequest(@Mock Response lateResponse) throws Exception {
+    final CompletableFuture<InvocationCallback<Response>> pendingCallback = new CompletableFuture<>();
+    when(this.asyncInvoker.post(any(Entity.class), any(InvocationCallback.class)))
+        .thenAnswer(invocation -> {
+          pendingCallback.complete(invocation.getArgument(1));
+          return new CompletableFuture<>();
+        })
+        .thenAnswer(invocation -> {
+          invocation.<InvocationCallback<Response>>getArgument(1).completed(this.response);
+          return CompletableFuture.completedFuture(this.response);
+        });
+
+    final ExecutorService caller = Executors.newSingleThreadExecutor();
+    try {
+      final Future<?> pendingCall = caller.submit(() -> this.apiClient.invokeCancellable(() -> {
+        this.doInvokeAPI();
+        return null;
+      }));
+      // the request is cancelled once sent
+      pendingCallback.get(5, TimeUnit.SECONDS);
+      while (!pendingCall.isDone()) {
+        this.apiClient.cancelPendingRequests();
+        Thread.sleep(10);
+      }
+
+      final Exception exception = assertThrows(Exception.class, () -> pendingCall.get(5, TimeUnit.SECONDS));
+      assertTrue(exception.getCause() instanceof CancellationException);
+    } finally {
+      caller.shutdownNow();
+    }
+
+    // the response received after the cancellation releases its connection
+    pendingCallback.get().completed(lateResponse);
+    verify(lateResponse).close();
+
+    // the next requests are not affected
+    this.apiClient.invokeCancellable(() -> {
+      this.doInvokeAPI();
+      return null;
+    });
+  }
+
+  @Test
+  void shouldSendRequestsOutsideOfCancellableCallsSynchronously() throws ApiException {
+    this.doInvokeAPI();
+    this.apiClient.cancelPendingRequests();
+
+    verify(this.builder).post(any(Entity.class));
+    verify(this.builder, never()).async();
+  }
+
   private void doInvokeAPI() throws ApiException {
     this.apiClient.invokeAPI(
         "/hello",
@@ -0,0 +1,88 @@
+package com.symphony.bdk.http.jersey2;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.symphony.bdk.http.api.ApiClient;
+import com.symphony.bdk.http.api.ApiException;
+import com.symphony.bdk.http.api.ApiResponse;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockserver.integration.ClientAndServer;
+import org.mockserver.model.HttpRequest;
+import org.mockserver.model.HttpResponse;
+
+import java.util.Collections;
+
+class SharedPoolApiClientBuilderProviderJersey2Test {
+
+  private ClientAndServer mockServer;
+  private SharedPoolApiClientBuilderProviderJersey2 provider;
+
+  @BeforeEach
+  void setUp() {
+    this.mockServer = ClientAndServer.startClientAndServer();
+    this.provider = new SharedPoolApiClientBuilderProviderJersey2();
+  }
+
+  @AfterEach
+  void tearDown() {
+    this.provider.close();
+    this.mockServer.stop();
+  }
+
+  @Test
+  void shouldBeProvidedBySharedConnectionPools() {
+    final SharedPoolApiClientBuilderProviderJersey2 shared =
+        (SharedPoolApiClientBuilderProviderJersey2) new ApiClientBuilderProviderJersey2().withSharedConnectionPools();
+    shared.close();
+
+    assertSame(this.provider, this.provider.withSharedConnectionPools());
+  }
+
+  @Test
+  void shouldSharePoolPerHost() throws ApiException {
+    this.mockServer.when(HttpRequest.request().withMethod("GET").withPath("/pod/test"))
+        .respond(HttpResponse.response().withStatusCode(200));
+    this.mockServer.when(HttpRequest.request().withMethod("GET").withPath("/agent/test"))
+        .respond(HttpResponse.response().withStatusCode(200));
+
+    final ApiClient podClient = this.provider.newInstance()
+        .withBasePath("http://localhost:" + this.mockServer.getPort() + "/pod")
+        .build();
+    final ApiClient agentClient = this.provider.newInstance()
+        .withBasePath("http://localhost:" + this.mockServer.getPort() + "/agent")
+        .build();
+    this.provider.newInstance().withBasePath("http://127.0.0.1:" + this.mockServer.getPort()).build();
+
+    assertEquals(2, this.provider.getConnectionPoolCount());
+    assertEquals(200, get(podClient).getStatusCode());
+    assertEquals(200, get(agentClient).getStatusCode());
+  }
+
+  @Test
+  void shouldReleasePoolShareWhenScopeIsClosed() throws ApiException {
+    this.mockServer.when(HttpRequest.request().withMethod("GET").withPath("/pod/test"))
+        .respond(HttpResponse.response().withStatusCode(200));
+    final String basePath = "http://localhost:" + this.mockServer.getPort() + "/pod";
+    final SharedPoolApiClientBuilderProviderJersey2.Scope stopped = this.provider.scoped();
+    final SharedPoolApiClientBuilderProviderJersey2.Scope running = this.provider.scoped();
+
+    stopped.newInstance().withBasePath(basePath).withConnectionPoolMax(10).build();
+    final ApiClient client = running.newInstance().withBasePath(basePath).withConnectionPoolMax(5).build();
+    assertEquals(15, this.provider.getConnectionPoolMax());
+
+    stopped.close();
+    stopped.close();
+
+    assertEquals(5, this.provider.getConnectionPoolMax());
+    assertEquals(200, get(client).getStatusCode());
+  }
+
+  private static ApiResponse<Object> get(ApiClient client) throws ApiException {
+    return client.invokeAPI("/test", "GET", Collections.emptyList(), null, Collections.emptyMap(),
+        Collections.emptyMap(), null, "application/json", "", null, null);
+  }
+}
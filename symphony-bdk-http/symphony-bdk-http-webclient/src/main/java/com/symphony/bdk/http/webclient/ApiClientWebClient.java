@@ -4,6 +4,7 @@ import com.symphony.bdk.http.api.ApiClient;
 import com.symphony.bdk.http.api.ApiClientBodyPart;
 import com.symphony.bdk.http.api.ApiException;
 import com.symphony.bdk.http.api.ApiResponse;
+import com.symphony.bdk.http.api.CancellableCall;
 import com.symphony.bdk.http.api.Pair;
 import com.symphony.bdk.http.api.auth.Authentication;
 import com.symphony.bdk.http.api.tracing.DistributedTracingContext;
@@ -25,6 +26,7 @@ import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientRequestException;
 import reactor.core.Exceptions;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
 
 import java.io.File;
 import java.net.SocketTimeoutException;
@@ -34,6 +36,8 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -52,6 +56,11 @@ public class ApiClientWebClient implements ApiClient {
   protected Map<String, Authentication> authentications;
   protected List<String> enforcedAuthenticationSchemes;
 
+  // completed to abort the requests of the cancellable calls in flight, then replaced so that the next requests are
+  // not affected
+  private final AtomicReference<Sinks.Empty<Void>> cancellation = new AtomicReference<>(Sinks.empty());
+  private final ThreadLocal<Boolean> cancellableCall = ThreadLocal.withInitial(() -> false);
+
   public ApiClientWebClient(final WebClient webClient, String basePath, Map<String, String> defaultHeaders) {
     this.webClient = webClient;
     this.basePath = basePath;
@@ -159,8 +168,15 @@ public class ApiClientWebClient implements ApiClient {
     }
 
     try {
-      return requestBodySpec.exchangeToMono(response -> toApiResponse(returnType, response))
-          .block();
+      final Mono<ApiResponse<T>> exchange =
+          requestBodySpec.exchangeToMono(response -> toApiResponse(returnType, response));
+      if (!this.cancellableCall.get()) {
+        return exchange.block();
+      }
+      final Mono<ApiResponse<T>> cancelled = this.cancellation.get().asMono()
+          .then(Mono.error(() -> new CancellationException("Request cancelled")));
+      // the exchange is disposed, thus its connection closed, if cancelled first
+      return Mono.firstWithSignal(exchange, cancelled).block();
     } catch (Exception e) {
       Throwable unwrap = Exceptions.unwrap(e);
       if (unwrap instanceof ApiException) {
@@ -180,6 +196,30 @@ public class ApiClientWebClient implements ApiClient {
     }
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <T> T invokeCancellable(CancellableCall<T> call) throws ApiException {
+    final boolean nested = this.cancellableCall.get();
+    this.cancellableCall.set(true);
+    try {
+      return call.call();
+    } finally {
+      if (!nested) {
+        this.cancellableCall.remove();
+      }
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void cancelPendingRequests() {
+    this.cancellation.getAndSet(Sinks.empty()).tryEmitEmpty();
+  }
+
   @SuppressWarnings("unchecked")
   private <T> Mono<ApiResponse<T>> toApiResponse(TypeReference<T> returnType, ClientResponse response) {
     Map<String, List<String>> headers = response
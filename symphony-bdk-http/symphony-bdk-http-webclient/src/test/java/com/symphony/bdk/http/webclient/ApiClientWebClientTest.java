@@ -38,6 +38,12 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 @ExtendWith(BdkMockServerExtension.class)
 class ApiClientWebClientTest {
@@ -409,6 +415,36 @@ class ApiClientWebClientTest {
     assertEquals("http://localhost/search?q=hello+world", this.apiClient.escapeString(url));
   }
 
+  @Test
+  void testCancelPendingRequests(final BdkMockServer mockServer) throws Exception {
+    mockServer.onRequestModifierWithResponse(200,
+        httpRequest -> httpRequest
+            .withMethod("GET")
+            .withPath("/test-api"),
+        httpResponse -> httpResponse
+            .withBody("{\"code\": 200, \"message\": \"success\"}")
+            .withDelay(TimeUnit.SECONDS, 30));
+
+    final ExecutorService caller = Executors.newSingleThreadExecutor();
+    try {
+      final Future<?> pendingCall = caller.submit(() -> this.apiClient.invokeCancellable(() ->
+          this.apiClient.invokeAPI("/test-api", "GET", null, null, new HashMap<>(), null, null, null,
+              "application/json", new String[] {}, new TypeReference<Response>() {})));
+      // the request might not be sent yet on the first attempts
+      final long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+      while (!pendingCall.isDone() && System.currentTimeMillis() < deadline) {
+        this.apiClient.cancelPendingRequests();
+        Thread.sleep(50);
+      }
+
+      final ExecutionException exception =
+          assertThrows(ExecutionException.class, () -> pendingCall.get(1, TimeUnit.SECONDS));
+      assertTrue(exception.getCause() instanceof CancellationException);
+    } finally {
+      caller.shutdownNow();
+    }
+  }
+
   private static class RequestBody {
     private String id;
     private String content;
@@ -14,6 +14,7 @@ import org.springframework.boot.actuate.health.AbstractHealthIndicator;
 import org.springframework.boot.actuate.health.Health;
 import org.springframework.boot.actuate.health.Status;
 
+import java.time.Instant;
 import java.util.Map;
 
 /**
@@ -37,6 +38,7 @@ public class SymphonyBdkHealthIndicator extends AbstractHealthIndicator {
   private static final String AGT = "agentservice";
   private static final String CE = "ceservice";
   private static final String DFL = "datafeedloop";
+  private static final String QL = "quarantinedlisteners";
   private static final ObjectMapper MAPPER = new ObjectMapper();
 
   public SymphonyBdkHealthIndicator(HealthService healthService) {
@@ -68,13 +70,15 @@ public class SymphonyBdkHealthIndicator extends AbstractHealthIndicator {
     V3HealthStatus kmStatus = services.get(KM).getStatus();
     V3HealthStatus agtStatus = users.get(AGT).getStatus();
     V3HealthStatus datafeedLoop = healthService.datafeedHealthCheck();
+    Map<String, Instant> quarantinedListeners = healthService.quarantinedListeners();
 
     if (datafeedLoop != V3HealthStatus.UP) {
       builder.status(Status.OUT_OF_SERVICE);
     } else {
       boolean global = podStatus == V3HealthStatus.UP && dfStatus == V3HealthStatus.UP && kmStatus == V3HealthStatus.UP
           && agtStatus == V3HealthStatus.UP;
-      builder.status(global ? Status.UP.getCode() : WARNING);
+      // the loop is up, but quarantined listeners are lagging behind
+      builder.status(global && quarantinedListeners.isEmpty() ? Status.UP.getCode() : WARNING);
     }
     builder
         .withDetail(POD, services.get(POD))
@@ -83,6 +87,9 @@ public class SymphonyBdkHealthIndicator extends AbstractHealthIndicator {
         .withDetail(AGT, users.get(AGT))
         .withDetail(CE, users.get(CE))
         .withDetail(DFL, datafeedLoop);
+    if (!quarantinedListeners.isEmpty()) {
+      builder.withDetail(QL, quarantinedListeners);
+    }
   }
 
   private void buildHealthDownDetail(Health.Builder builder) {
@@ -18,6 +18,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.boot.actuate.health.Health;
 import org.springframework.boot.actuate.health.Status;
 
+import java.time.Instant;
 import java.util.Collections;
 import java.util.Map;
 import java.util.stream.Stream;
@@ -72,6 +73,24 @@ class SymphonyBdkHealthIndicatorTest {
     assertThat(build.getStatus().getCode()).isEqualTo("UP");
   }
 
+  @Test
+  void doHealthCheck_withQuarantinedListener_warning() throws Exception {
+    V3Health health = new V3Health();
+    health.putServicesItem("pod", new V3HealthComponent().status(V3HealthStatus.UP));
+    health.putServicesItem("datafeed", new V3HealthComponent().status(V3HealthStatus.UP));
+    health.putServicesItem("key_manager", new V3HealthComponent().status(V3HealthStatus.UP));
+    health.putUsersItem("agentservice", new V3HealthComponent().status(V3HealthStatus.UP));
+    health.putUsersItem("ceservice", new V3HealthComponent().status(V3HealthStatus.UP));
+    when(healthService.healthCheckExtended()).thenReturn(health);
+    when(healthService.datafeedHealthCheck()).thenReturn(V3HealthStatus.UP);
+    when(healthService.quarantinedListeners()).thenReturn(Map.of("com.acme.SlowListener", Instant.now()));
+    Health.Builder builder = new Health.Builder();
+    healthIndicator.doHealthCheck(builder);
+    Health build = builder.build();
+    assertThat(build.getStatus().getCode()).isEqualTo("WARNING");
+    assertThat(build.getDetails()).containsKey("quarantinedlisteners");
+  }
+
   @Test
   void doHealthCheck_exception() throws Exception {
     final String body =
@@ -161,24 +161,17 @@ public class SlashAnnotationProcessor implements SmartInitializingSingleton, Bea
   // visible for testing
   protected static Consumer<CommandContext> createSlashCommandCallback(Object bean, Method method,
       Map<String, Integer> methodParameterIndexes) {
+    // the invoker is generated once, at startup
+    final SlashMethodInvoker invoker = SlashMethodInvoker.create(bean, method, methodParameterIndexes);
     return c -> {
       try {
-        final Object[] slashMethodParameters = buildSlashMethodParameters(methodParameterIndexes, c);
-
-        method.invoke(bean, slashMethodParameters);
+        invoker.accept(c);
       } catch (Throwable e) {
         log.error("Unable to invoke @Slash method {} from bean {}", method.getName(), bean.getClass(), e);
       }
     };
   }
 
-  private static Object[] buildSlashMethodParameters(Map<String, Integer> methodParameterIndexes, CommandContext c) {
-    Object[] methodArguments = new Object[methodParameterIndexes.size() + 1];
-    methodArguments[0] = c; // first method argument is always the CommandContext
-    methodParameterIndexes.forEach((k, v) -> methodArguments[v] = c.getArguments().get(k));
-    return methodArguments;
-  }
-
   private static boolean isMethodPrototypeValid(Method m, String slashCommandDefinition) {
     try {
       final Map<String, ? extends Class<?>> slashArgumentDefinitions =
@@ -0,0 +1,204 @@
+package com.symphony.bdk.spring.annotation;
+
+import com.symphony.bdk.core.activity.command.CommandContext;
+
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.apiguardian.api.API;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Calls a {@link Slash} method with the arguments of a {@link CommandContext}.
+ * <p>
+ * The method is called through a direct invoker generated with {@link LambdaMetafactory} at startup, one of the
+ * {@code Invoker<N>} interfaces being implemented depending on the number of slash command arguments. The arguments
+ * are read from the context by extractors computed once per method, so that no reflection is involved per command.
+ * Methods not accessible to the public, or with more than five slash command arguments, are called through
+ * reflection.
+ */
+@Slf4j
+@API(status = API.Status.INTERNAL)
+public final class SlashMethodInvoker implements Consumer<CommandContext> {
+
+  private static final int MAX_GENERATED_ARGUMENTS = 5;
+
+  private static final Class<?>[] INVOKER_TYPES =
+      {Invoker0.class, Invoker1.class, Invoker2.class, Invoker3.class, Invoker4.class, Invoker5.class};
+
+  private final Invoker invoker;
+  private final Function<CommandContext, Object>[] extractors;
+
+  private SlashMethodInvoker(Invoker invoker, Function<CommandContext, Object>[] extractors) {
+    this.invoker = invoker;
+    this.extractors = extractors;
+  }
+
+  /**
+   * @param bean             the bean the method is called on
+   * @param method           the {@link Slash} method, whose first parameter is the {@link CommandContext}
+   * @param parameterIndexes the index of the method parameter of each slash command argument
+   * @return the invoker of the method
+   */
+  public static SlashMethodInvoker create(Object bean, Method method, Map<String, Integer> parameterIndexes) {
+    @SuppressWarnings("unchecked")
+    final Function<CommandContext, Object>[] extractors = new Function[parameterIndexes.size()];
+    parameterIndexes.forEach((name, index) -> extractors[index - 1] = c -> c.getArguments().get(name));
+
+    Invoker invoker;
+    try {
+      invoker = generateInvoker(bean, method, extractors.length);
+    } catch (Throwable e) {
+      log.debug("Unable to generate the invoker of @Slash method {}, it is called through reflection", method, e);
+      invoker = (context, argumentExtractors) -> invokeMethod(bean, method, context, argumentExtractors);
+    }
+    return new SlashMethodInvoker(invoker, extractors);
+  }
+
+  /**
+   * Call the method.
+   *
+   * @param context the context of the matching slash command
+   */
+  @Override
+  public void accept(CommandContext context) {
+    this.invoker.invoke(context, this.extractors);
+  }
+
+  private static Invoker generateInvoker(Object bean, Method method, int argumentCount) throws Throwable {
+    if (argumentCount > MAX_GENERATED_ARGUMENTS) {
+      throw new IllegalArgumentException("Too many arguments: " + argumentCount);
+    }
+    // the method and its class must be public, as when called through reflection
+    final MethodHandle target = MethodHandles.publicLookup().unreflect(method);
+    // the invoker is defined along with the bean class, which may not be visible from the BDK class loader
+    final MethodHandles.Lookup lookup =
+        MethodHandles.privateLookupIn(method.getDeclaringClass(), MethodHandles.lookup());
+
+    final Class<?>[] parameterTypes = new Class<?>[argumentCount + 1];
+    Arrays.fill(parameterTypes, Object.class);
+    parameterTypes[0] = CommandContext.class;
+
+    final CallSite callSite = LambdaMetafactory.metafactory(lookup, "call",
+        MethodType.methodType(INVOKER_TYPES[argumentCount], method.getDeclaringClass()),
+        MethodType.methodType(void.class, parameterTypes),
+        target,
+        MethodType.methodType(void.class, method.getParameterTypes()));
+    return (Invoker) callSite.getTarget().invoke(bean);
+  }
+
+  @SneakyThrows
+  private static void invokeMethod(Object bean, Method method, CommandContext context,
+      Function<CommandContext, Object>[] extractors) {
+    final Object[] arguments = new Object[extractors.length + 1];
+    arguments[0] = context; // first method argument is always the CommandContext
+    for (int i = 0; i < extractors.length; i++) {
+      arguments[i + 1] = extractors[i].apply(context);
+    }
+    method.invoke(bean, arguments);
+  }
+
+  /**
+   * Calls a method with the context and the extracted arguments.
+   */
+  @FunctionalInterface
+  public interface Invoker {
+
+    void invoke(CommandContext context, Function<CommandContext, Object>[] extractors);
+  }
+
+  /**
+   * Generated invoker of the methods without slash command argument.
+   */
+  @FunctionalInterface
+  public interface Invoker0 extends Invoker {
+
+    void call(CommandContext context);
+
+    @Override
+    default void invoke(CommandContext context, Function<CommandContext, Object>[] extractors) {
+      call(context);
+    }
+  }
+
+  /**
+   * Generated invoker of the methods with one slash command argument.
+   */
+  @FunctionalInterface
+  public interface Invoker1 extends Invoker {
+
+    void call(CommandContext context, Object a1);
+
+    @Override
+    default void invoke(CommandContext context, Function<CommandContext, Object>[] extractors) {
+      call(context, extractors[0].apply(context));
+    }
+  }
+
+  /**
+   * Generated invoker of the methods with two slash command arguments.
+   */
+  @FunctionalInterface
+  public interface Invoker2 extends Invoker {
+
+    void call(CommandContext context, Object a1, Object a2);
+
+    @Override
+    default void invoke(CommandContext context, Function<CommandContext, Object>[] extractors) {
+      call(context, extractors[0].apply(context), extractors[1].apply(context));
+    }
+  }
+
+  /**
+   * Generated invoker of the methods with three slash command arguments.
+   */
+  @FunctionalInterface
+  public interface Invoker3 extends Invoker {
+
+    void call(CommandContext context, Object a1, Object a2, Object a3);
+
+    @Override
+    default void invoke(CommandContext context, Function<CommandContext, Object>[] extractors) {
+      call(context, extractors[0].apply(context), extractors[1].apply(context), extractors[2].apply(context));
+    }
+  }
+
+  /**
+   * Generated invoker of the methods with four slash command arguments.
+   */
+  @FunctionalInterface
+  public interface Invoker4 extends Invoker {
+
+    void call(CommandContext context, Object a1, Object a2, Object a3, Object a4);
+
+    @Override
+    default void invoke(CommandContext context, Function<CommandContext, Object>[] extractors) {
+      call(context, extractors[0].apply(context), extractors[1].apply(context), extractors[2].apply(context),
+          extractors[3].apply(context));
+    }
+  }
+
+  /**
+   * Generated invoker of the methods with five slash command arguments.
+   */
+  @FunctionalInterface
+  public interface Invoker5 extends Invoker {
+
+    void call(CommandContext context, Object a1, Object a2, Object a3, Object a4, Object a5);
+
+    @Override
+    default void invoke(CommandContext context, Function<CommandContext, Object>[] extractors) {
+      call(context, extractors[0].apply(context), extractors[1].apply(context), extractors[2].apply(context),
+          extractors[3].apply(context), extractors[4].apply(context));
+    }
+  }
+}
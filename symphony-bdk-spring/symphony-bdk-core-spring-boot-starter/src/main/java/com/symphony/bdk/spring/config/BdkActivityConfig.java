@@ -3,8 +3,10 @@ package com.symphony.bdk.spring.config;
 import com.symphony.bdk.core.activity.AbstractActivity;
 import com.symphony.bdk.core.activity.ActivityRegistry;
 import com.symphony.bdk.core.service.datafeed.DatafeedLoop;
+import com.symphony.bdk.core.service.datafeed.DatafeedMetrics;
 import com.symphony.bdk.core.service.session.SessionService;
 import com.symphony.bdk.gen.api.model.UserV2;
+import com.symphony.bdk.spring.SymphonyBdkCoreProperties;
 import com.symphony.bdk.spring.annotation.Slash;
 import com.symphony.bdk.spring.annotation.SlashAnnotationProcessor;
 import com.symphony.bdk.spring.service.BotInfoService;
@@ -14,6 +16,7 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.context.annotation.Bean;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Configuration for Activity API:
@@ -27,15 +30,19 @@ import java.util.List;
 @ConditionalOnBean(BdkDatafeedConfig.class)
 public class BdkActivityConfig {
 
-  @Bean
+  @Bean(destroyMethod = "shutdown")
   public ActivityRegistry activityRegistry(
       final BotInfoService botInfoService,
       final DatafeedLoop datafeedLoop,
-      final List<AbstractActivity<?, ?>> activities
+      final List<AbstractActivity<?, ?>> activities,
+      final SymphonyBdkCoreProperties properties,
+      final Optional<DatafeedMetrics> metrics
   ) {
     log.debug("Retrieving bot session info");
     final UserV2 botSessionInfo = botInfoService.getBotInfo();
-    final ActivityRegistry activityRegistry = new ActivityRegistry(botSessionInfo, datafeedLoop);
+    final ActivityRegistry activityRegistry = new ActivityRegistry(botSessionInfo, datafeedLoop,
+        properties.getActivityExecutor());
+    metrics.ifPresent(activityRegistry::setMetrics);
     log.debug("{} activities found from context", activities.size());
     activities.forEach(activityRegistry::register);
     return activityRegistry;
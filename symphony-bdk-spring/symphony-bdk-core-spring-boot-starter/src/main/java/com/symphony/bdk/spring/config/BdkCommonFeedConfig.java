@@ -1,16 +1,18 @@
 package com.symphony.bdk.spring.config;
 
-import com.symphony.bdk.http.api.tracing.MDCUtils;
+import com.symphony.bdk.core.service.datafeed.DatafeedMetrics;
 import com.symphony.bdk.spring.events.RealTimeEvent;
+import com.symphony.bdk.spring.events.RealTimeEventMulticaster;
 import com.symphony.bdk.spring.events.RealTimeEventsDispatcher;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.event.ApplicationEventMulticaster;
-import org.springframework.context.event.SimpleApplicationEventMulticaster;
-import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+import java.util.Optional;
 
 @ConditionalOnBean(name = "botSession")
 public class BdkCommonFeedConfig {
@@ -22,15 +24,15 @@ public class BdkCommonFeedConfig {
   }
 
   /**
-   * Allows publishing application {@link RealTimeEvent} asynchronously from {@link RealTimeEventsDispatcher}.
+   * Allows publishing application {@link RealTimeEvent} asynchronously from {@link RealTimeEventsDispatcher}, on a
+   * bounded pool of workers preserving the order of the events of each stream.
    */
   @Bean(name = "applicationEventMulticaster")
   @ConditionalOnExpression("'${bdk.datafeed.event.async:true}' == 'true' or ('${bdk.datahose.enabled:false}' == 'true' and '${bdk.datahose.event.async:true}' == 'true')")
-  public ApplicationEventMulticaster simpleApplicationEventMulticaster() {
-    final SimpleApplicationEventMulticaster eventMulticaster = new SimpleApplicationEventMulticaster();
-    SimpleAsyncTaskExecutor simpleAsyncTaskExecutor = new SimpleAsyncTaskExecutor();
-    simpleAsyncTaskExecutor.setTaskDecorator(MDCUtils::wrap);
-    eventMulticaster.setTaskExecutor(simpleAsyncTaskExecutor);
-    return eventMulticaster;
+  public ApplicationEventMulticaster realTimeEventMulticaster(
+      @Value("${bdk.datafeed.event.pool-size:${bdk.datahose.event.pool-size:4}}") int poolSize,
+      @Value("${bdk.datafeed.event.queue-capacity:${bdk.datahose.event.queue-capacity:1000}}") int queueCapacity,
+      Optional<DatafeedMetrics> metrics) {
+    return new RealTimeEventMulticaster(poolSize, queueCapacity, metrics.orElse(DatafeedMetrics.NO_OP));
   }
 }
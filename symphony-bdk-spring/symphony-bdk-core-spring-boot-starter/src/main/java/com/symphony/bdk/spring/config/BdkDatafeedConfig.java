@@ -1,7 +1,11 @@
 package com.symphony.bdk.spring.config;
 
 import com.symphony.bdk.core.auth.AuthSession;
+import com.symphony.bdk.core.service.datafeed.AckIdCheckpointStore;
+import com.symphony.bdk.core.service.datafeed.BatchRealTimeEventListener;
 import com.symphony.bdk.core.service.datafeed.DatafeedLoop;
+import com.symphony.bdk.core.service.datafeed.DatafeedMetrics;
+import com.symphony.bdk.core.service.datafeed.DeadLetterHandler;
 import com.symphony.bdk.core.service.datafeed.DatafeedVersion;
 import com.symphony.bdk.core.service.datafeed.RealTimeEventListener;
 import com.symphony.bdk.core.service.datafeed.impl.DatafeedLoopV1;
@@ -12,6 +16,7 @@ import com.symphony.bdk.spring.SymphonyBdkCoreProperties;
 import com.symphony.bdk.spring.service.BotInfoService;
 import com.symphony.bdk.spring.service.DatafeedAsyncLauncherService;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -19,6 +24,8 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * Injection of the {@link DatafeedLoop} instance into the Spring application context.
@@ -40,19 +47,28 @@ public class BdkDatafeedConfig {
       @Qualifier("datafeedApi") DatafeedApi datafeedApi,
       AuthSession botSession,
       DatafeedVersion datafeedVersion,
-      BotInfoService botInfoService
+      BotInfoService botInfoService,
+      Optional<DatafeedMetrics> metrics,
+      Optional<DeadLetterHandler> deadLetterHandler,
+      Optional<AckIdCheckpointStore> checkpointStore
   ) {
 
+    final DatafeedLoop datafeedLoop = datafeedVersion == DatafeedVersion.V2
+        ? new DatafeedLoopV2(datafeedApi, botSession, properties, botInfoService.getBotInfo())
+        : new DatafeedLoopV1(datafeedApi, botSession, properties, botInfoService.getBotInfo());
+    metrics.ifPresent(datafeedLoop::setMetrics);
+    deadLetterHandler.ifPresent(datafeedLoop::setDeadLetterHandler);
     if (datafeedVersion == DatafeedVersion.V2) {
-      return new DatafeedLoopV2(datafeedApi, botSession, properties, botInfoService.getBotInfo());
+      checkpointStore.ifPresent(datafeedLoop::setCheckpointStore);
     }
-
-    return new DatafeedLoopV1(datafeedApi, botSession, properties, botInfoService.getBotInfo());
+    return datafeedLoop;
   }
 
   @Bean(initMethod = "start", destroyMethod = "stop")
   @ConditionalOnMissingBean
-  public DatafeedAsyncLauncherService datafeedAsyncLauncherService(@Qualifier("datafeedLoop") DatafeedLoop datafeedLoop, List<RealTimeEventListener> realTimeEventListeners) {
-    return new DatafeedAsyncLauncherService(datafeedLoop, realTimeEventListeners);
+  public DatafeedAsyncLauncherService datafeedAsyncLauncherService(@Qualifier("datafeedLoop") DatafeedLoop datafeedLoop, List<RealTimeEventListener> realTimeEventListeners,
+      ObjectProvider<BatchRealTimeEventListener> batchRealTimeEventListeners) {
+    return new DatafeedAsyncLauncherService(datafeedLoop, realTimeEventListeners,
+        batchRealTimeEventListeners.orderedStream().collect(Collectors.toList()));
   }
 }
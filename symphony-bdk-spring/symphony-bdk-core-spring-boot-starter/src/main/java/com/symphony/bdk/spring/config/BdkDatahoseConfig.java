@@ -1,6 +1,10 @@
 package com.symphony.bdk.spring.config;
 
 import com.symphony.bdk.core.auth.AuthSession;
+import com.symphony.bdk.core.service.datafeed.AckIdCheckpointStore;
+import com.symphony.bdk.core.service.datafeed.BatchRealTimeEventListener;
+import com.symphony.bdk.core.service.datafeed.DatafeedMetrics;
+import com.symphony.bdk.core.service.datafeed.DeadLetterHandler;
 import com.symphony.bdk.core.service.datafeed.DatahoseLoop;
 import com.symphony.bdk.core.service.datafeed.RealTimeEventListener;
 import com.symphony.bdk.core.service.datafeed.impl.DatahoseLoopImpl;
@@ -9,6 +13,7 @@ import com.symphony.bdk.spring.SymphonyBdkCoreProperties;
 import com.symphony.bdk.spring.service.BotInfoService;
 import com.symphony.bdk.spring.service.DatahoseAsyncLauncherService;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -16,6 +21,8 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 @ConditionalOnProperty(value = "bdk.datahose.enabled", havingValue = "true")
 @ConditionalOnBean(name = "botSession")
@@ -26,13 +33,23 @@ public class BdkDatahoseConfig {
   public DatahoseLoop datahoseLoop(SymphonyBdkCoreProperties properties,
                                        @Qualifier("datahoseApi") DatafeedApi datafeedApi,
                                        AuthSession botSession,
-                                       BotInfoService botInfoService) {
-    return new DatahoseLoopImpl(datafeedApi, botSession, properties, botInfoService.getBotInfo(), null);
+                                       BotInfoService botInfoService,
+                                       Optional<DatafeedMetrics> metrics,
+                                       Optional<DeadLetterHandler> deadLetterHandler,
+                                       Optional<AckIdCheckpointStore> checkpointStore) {
+    final DatahoseLoop datahoseLoop =
+        new DatahoseLoopImpl(datafeedApi, botSession, properties, botInfoService.getBotInfo(), null);
+    metrics.ifPresent(datahoseLoop::setMetrics);
+    deadLetterHandler.ifPresent(datahoseLoop::setDeadLetterHandler);
+    checkpointStore.ifPresent(datahoseLoop::setCheckpointStore);
+    return datahoseLoop;
   }
 
   @Bean(initMethod = "start", destroyMethod = "stop")
   public DatahoseAsyncLauncherService datahoseAsyncLauncherService(@Qualifier("datahoseLoop") DatahoseLoop datahoseService,
-      List<RealTimeEventListener> realTimeEventListeners) {
-    return new DatahoseAsyncLauncherService(datahoseService, realTimeEventListeners);
+      List<RealTimeEventListener> realTimeEventListeners,
+      ObjectProvider<BatchRealTimeEventListener> batchRealTimeEventListeners) {
+    return new DatahoseAsyncLauncherService(datahoseService, realTimeEventListeners,
+        batchRealTimeEventListeners.orderedStream().collect(Collectors.toList()));
   }
 }
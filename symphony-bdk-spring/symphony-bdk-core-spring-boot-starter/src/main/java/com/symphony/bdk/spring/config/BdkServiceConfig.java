@@ -6,6 +6,7 @@ import com.symphony.bdk.core.retry.RetryWithRecoveryBuilder;
 import com.symphony.bdk.core.service.application.ApplicationService;
 import com.symphony.bdk.core.service.connection.ConnectionService;
 import com.symphony.bdk.core.service.datafeed.DatafeedLoop;
+import com.symphony.bdk.core.service.datafeed.DatahoseLoop;
 import com.symphony.bdk.core.service.disclaimer.DisclaimerService;
 import com.symphony.bdk.core.service.health.HealthService;
 import com.symphony.bdk.core.service.message.MessageService;
@@ -43,6 +44,8 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 
+import java.util.Optional;
+
 /**
  * Injection of Core services within the Spring application context.
  */
@@ -107,8 +110,10 @@ public class BdkServiceConfig {
   @ConditionalOnProperty(value = "bdk.datafeed.enabled", havingValue = "true", matchIfMissing = true)
   @ConditionalOnMissingBean
   public HealthService healthService(SystemApi systemApi, SignalsApi signalsApi, AuthSession botSession,
-      DatafeedLoop datafeedLoop) {
-    return new HealthService(systemApi, signalsApi, botSession, datafeedLoop);
+      DatafeedLoop datafeedLoop, Optional<DatahoseLoop> datahoseLoop) {
+    final HealthService healthService = new HealthService(systemApi, signalsApi, botSession, datafeedLoop);
+    datahoseLoop.ifPresent(healthService::setDatahoseLoop);
+    return healthService;
   }
 
   @Bean
@@ -0,0 +1,155 @@
+package com.symphony.bdk.spring.events;
+
+import com.symphony.bdk.core.service.datafeed.DatafeedMetrics;
+import com.symphony.bdk.core.service.datafeed.EventPayload;
+import com.symphony.bdk.core.service.datafeed.util.EventStreamIds;
+import com.symphony.bdk.http.api.tracing.MDCUtils;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apiguardian.api.API;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.SimpleApplicationEventMulticaster;
+import org.springframework.core.ResolvableType;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.Nullable;
+
+/**
+ * {@link org.springframework.context.event.ApplicationEventMulticaster} dispatching the {@link RealTimeEvent} to the
+ * Spring listeners asynchronously, so that a slow {@link org.springframework.context.event.EventListener} does not hold
+ * back the datafeed or datahose loop. The other application events are multicast synchronously, as by default.
+ * <p>
+ * Events are dispatched on a bounded pool of workers, each one with its own bounded queue. Events of the same stream
+ * are always dispatched by the same worker, thus in the order they were received, while events without stream are
+ * spread across the workers. When the queue of a worker is full, the loop thread waits for space to be available.
+ * <p>
+ * The time spent by each Spring listener handling an event is reported to the {@link DatafeedMetrics}.
+ */
+@Slf4j
+@API(status = API.Status.EXPERIMENTAL)
+public class RealTimeEventMulticaster extends SimpleApplicationEventMulticaster implements DisposableBean {
+
+  private final List<ThreadPoolExecutor> workers;
+  private final DatafeedMetrics metrics;
+  private final AtomicInteger nextWorker = new AtomicInteger();
+
+  /**
+   * @param poolSize      the number of workers
+   * @param queueCapacity the maximum number of events waiting to be dispatched, per worker
+   * @param metrics       the metrics the listeners dispatch time is reported to
+   */
+  public RealTimeEventMulticaster(int poolSize, int queueCapacity, DatafeedMetrics metrics) {
+    if (poolSize < 1 || queueCapacity < 1) {
+      throw new IllegalArgumentException("Pool size and queue capacity must be positive");
+    }
+    this.metrics = metrics;
+    this.workers = new ArrayList<>(poolSize);
+    for (int i = 0; i < poolSize; i++) {
+      final String threadName = "SymphonyBdk_RealTimeEvent-" + i;
+      final ThreadPoolExecutor worker = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+          new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+        final Thread thread = new Thread(runnable, threadName);
+        thread.setDaemon(true);
+        return thread;
+      }, RealTimeEventMulticaster::waitForSpace);
+      this.workers.add(worker);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void multicastEvent(ApplicationEvent event, @Nullable ResolvableType eventType) {
+    if (!(event instanceof RealTimeEvent)) {
+      super.multicastEvent(event, eventType);
+      return;
+    }
+
+    final Collection<ApplicationListener<?>> listeners =
+        this.getApplicationListeners(event, eventType != null ? eventType : ResolvableType.forInstance(event));
+    if (listeners.isEmpty()) {
+      return;
+    }
+
+    final Object payload = ((RealTimeEvent<?>) event).getSource();
+    this.workerOf(EventStreamIds.of(payload)).execute(MDCUtils.wrap(() -> this.dispatch(event, payload, listeners)));
+  }
+
+  /**
+   * @return the number of events waiting to be dispatched, across all the workers
+   */
+  public int getPendingEvents() {
+    return this.workers.stream().mapToInt(worker -> worker.getQueue().size()).sum();
+  }
+
+  /**
+   * Stop the workers, the events waiting to be dispatched are discarded.
+   */
+  @Override
+  public void destroy() {
+    for (ThreadPoolExecutor worker : this.workers) {
+      final int discarded = worker.shutdownNow().size();
+      if (discarded > 0) {
+        log.warn("{} real-time events discarded on shutdown", discarded);
+      }
+    }
+  }
+
+  private void dispatch(ApplicationEvent event, Object payload, Collection<ApplicationListener<?>> listeners) {
+    final String eventType = eventTypeOf(payload);
+    for (ApplicationListener<?> listener : listeners) {
+      final long dispatchStart = System.nanoTime();
+      try {
+        this.invokeListener(listener, event);
+      } catch (Exception e) {
+        // like for the RealTimeEventListener, one failing listener must not prevent the others to be called
+        log.error("An uncaught exception has occurred while dispatching {} to listener {}", eventType, listener, e);
+      } finally {
+        this.metrics.recordDispatch(eventType, listener.getClass().getName(),
+            Duration.ofNanos(System.nanoTime() - dispatchStart));
+      }
+    }
+  }
+
+  private ThreadPoolExecutor workerOf(@Nullable String streamId) {
+    final int index = streamId == null
+        ? Math.floorMod(this.nextWorker.getAndIncrement(), this.workers.size())
+        : Math.floorMod(streamId.hashCode(), this.workers.size());
+    return this.workers.get(index);
+  }
+
+  private static void waitForSpace(Runnable task, ThreadPoolExecutor worker) {
+    if (worker.isShutdown()) {
+      throw new RejectedExecutionException("Real-time event multicaster is shut down");
+    }
+    final BlockingQueue<Runnable> queue = worker.getQueue();
+    log.debug("Real-time event queue is full, waiting for listeners to catch up");
+    try {
+      queue.put(task);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RejectedExecutionException("Interrupted while waiting for the real-time event queue", e);
+    }
+  }
+
+  private static String eventTypeOf(Object payload) {
+    // payloads are subclassed to implement EventPayload
+    final Class<?> payloadClass = payload instanceof EventPayload && payload.getClass().getSuperclass() != Object.class
+        ? payload.getClass().getSuperclass()
+        : payload.getClass();
+    return payloadClass.getSimpleName();
+  }
+}
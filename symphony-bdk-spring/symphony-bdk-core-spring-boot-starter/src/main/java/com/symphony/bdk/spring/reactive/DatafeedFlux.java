@@ -0,0 +1,34 @@
+package com.symphony.bdk.spring.reactive;
+
+import com.symphony.bdk.core.service.datafeed.DatafeedEventSource;
+import com.symphony.bdk.core.service.datafeed.DatafeedLoop;
+import com.symphony.bdk.gen.api.model.V4Event;
+
+import org.apiguardian.api.API;
+import reactor.adapter.JdkFlowAdapter;
+import reactor.core.publisher.Flux;
+
+/**
+ * Adapter of the events of a {@link DatafeedLoop} (or {@link com.symphony.bdk.core.service.datafeed.DatahoseLoop}) to a
+ * Reactor {@link Flux}, the downstream demand pacing the reads of the loop (see {@link DatafeedEventSource#events()}).
+ * <p>
+ * Reactor is an optional dependency of the starter, it must be added to the application to use this class.
+ */
+@API(status = API.Status.EXPERIMENTAL)
+public final class DatafeedFlux {
+
+  private DatafeedFlux() {
+  }
+
+  /**
+   * @param loop the datafeed or datahose loop
+   * @return the received events, completed when the loop is stopped
+   * @throws IllegalArgumentException if the loop is not a {@link DatafeedEventSource}
+   */
+  public static Flux<V4Event> of(DatafeedLoop loop) {
+    if (!(loop instanceof DatafeedEventSource)) {
+      throw new IllegalArgumentException("The loop " + loop.getClass().getName() + " does not publish its events");
+    }
+    return JdkFlowAdapter.flowPublisherToFlux(((DatafeedEventSource) loop).events());
+  }
+}
@@ -1,5 +1,6 @@
 package com.symphony.bdk.spring.service;
 
+import com.symphony.bdk.core.service.datafeed.BatchRealTimeEventListener;
 import com.symphony.bdk.core.service.datafeed.DatafeedLoop;
 import com.symphony.bdk.core.service.datafeed.RealTimeEventListener;
 
@@ -22,6 +23,14 @@ public class DatafeedAsyncLauncherService extends LoopAsyncLauncherService {
     super(datafeedLoop, realTimeEventListeners);
   }
 
+  public DatafeedAsyncLauncherService(
+      final DatafeedLoop datafeedLoop,
+      final List<RealTimeEventListener> realTimeEventListeners,
+      final List<BatchRealTimeEventListener> batchRealTimeEventListeners
+  ) {
+    super(datafeedLoop, realTimeEventListeners, batchRealTimeEventListeners);
+  }
+
   @Override
   protected String getLoopType() {
     return "Datafeed";
@@ -1,5 +1,6 @@
 package com.symphony.bdk.spring.service;
 
+import com.symphony.bdk.core.service.datafeed.BatchRealTimeEventListener;
 import com.symphony.bdk.core.service.datafeed.DatahoseLoop;
 import com.symphony.bdk.core.service.datafeed.RealTimeEventListener;
 
@@ -15,6 +16,12 @@ public class DatahoseAsyncLauncherService extends LoopAsyncLauncherService {
     super(datahoseLoop, realTimeEventListeners);
   }
 
+  public DatahoseAsyncLauncherService(DatahoseLoop datahoseLoop,
+      List<RealTimeEventListener> realTimeEventListeners,
+      List<BatchRealTimeEventListener> batchRealTimeEventListeners) {
+    super(datahoseLoop, realTimeEventListeners, batchRealTimeEventListeners);
+  }
+
   @Override
   protected String getLoopType() {
     return "Datahose";
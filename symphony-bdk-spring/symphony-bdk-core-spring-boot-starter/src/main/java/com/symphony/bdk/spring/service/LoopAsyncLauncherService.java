@@ -1,6 +1,7 @@
 package com.symphony.bdk.spring.service;
 
 import com.symphony.bdk.core.auth.exception.AuthUnauthorizedException;
+import com.symphony.bdk.core.service.datafeed.BatchRealTimeEventListener;
 import com.symphony.bdk.core.service.datafeed.DatafeedLoop;
 import com.symphony.bdk.core.service.datafeed.RealTimeEventListener;
 import com.symphony.bdk.http.api.ApiException;
@@ -12,6 +13,7 @@ import org.apiguardian.api.API;
 
 import java.net.ConnectException;
 import java.net.SocketTimeoutException;
+import java.util.Collections;
 import java.util.List;
 
 @Slf4j
@@ -19,19 +21,29 @@ import java.util.List;
 public abstract class LoopAsyncLauncherService implements Thread.UncaughtExceptionHandler {
   private DatafeedLoop loop;
   private List<RealTimeEventListener> realTimeEventListeners;
+  private List<BatchRealTimeEventListener> batchRealTimeEventListeners;
 
   public LoopAsyncLauncherService(DatafeedLoop loop,
       List<RealTimeEventListener> realTimeEventListeners) {
+    this(loop, realTimeEventListeners, Collections.emptyList());
+  }
+
+  public LoopAsyncLauncherService(DatafeedLoop loop,
+      List<RealTimeEventListener> realTimeEventListeners,
+      List<BatchRealTimeEventListener> batchRealTimeEventListeners) {
     this.loop = loop;
     this.realTimeEventListeners = realTimeEventListeners;
+    this.batchRealTimeEventListeners = batchRealTimeEventListeners;
   }
 
   /**
-   * Registers all available {@link RealTimeEventListener} retrieved from the Spring application context.
+   * Registers all available {@link RealTimeEventListener} and {@link BatchRealTimeEventListener} retrieved from the
+   * Spring application context.
    */
   @PostConstruct
   public void registerListeners() {
     this.realTimeEventListeners.forEach(this.loop::subscribe);
+    this.batchRealTimeEventListeners.forEach(this.loop::subscribe);
   }
 
   /**
@@ -0,0 +1,143 @@
+package com.symphony.bdk.spring.annotation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.symphony.bdk.core.activity.command.CommandContext;
+import com.symphony.bdk.core.activity.parsing.Arguments;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Test class for the {@link SlashMethodInvoker}.
+ */
+public class SlashMethodInvokerTest {
+
+  private TestBean bean;
+  private CommandContext context;
+
+  @BeforeEach
+  void setUp() {
+    this.bean = new TestBean();
+    this.context = mock(CommandContext.class);
+
+    final Map<String, Object> arguments = new HashMap<>();
+    for (int i = 1; i <= 6; i++) {
+      arguments.put("a" + i, "v" + i);
+    }
+    when(this.context.getArguments()).thenReturn(new Arguments(arguments));
+  }
+
+  @Test
+  void shouldCallMethodWithArguments() throws Exception {
+    for (int argumentCount = 0; argumentCount <= 6; argumentCount++) {
+      this.bean.calls.clear();
+
+      invoke("call" + argumentCount, argumentCount);
+
+      final List<Object> expected = new ArrayList<>();
+      expected.add(this.context);
+      for (int i = 1; i <= argumentCount; i++) {
+        expected.add("v" + i);
+      }
+      assertThat(this.bean.calls).as("Method with %d arguments", argumentCount).isEqualTo(expected);
+    }
+  }
+
+  @Test
+  void shouldBindArgumentsByName() throws Exception {
+    final Method method = TestBean.class.getMethod("call2", CommandContext.class, String.class, String.class);
+    final Map<String, Integer> parameterIndexes = new HashMap<>();
+    parameterIndexes.put("a2", 1);
+    parameterIndexes.put("a1", 2);
+
+    SlashMethodInvoker.create(this.bean, method, parameterIndexes).accept(this.context);
+
+    assertThat(this.bean.calls).containsExactly(this.context, "v2", "v1");
+  }
+
+  @Test
+  void shouldCallNonPublicMethodThroughReflection() throws Exception {
+    final Method method = TestBean.class.getDeclaredMethod("packagePrivate", CommandContext.class);
+
+    SlashMethodInvoker.create(this.bean, method, new HashMap<>()).accept(this.context);
+
+    assertThat(this.bean.calls).containsExactly(this.context);
+  }
+
+  @Test
+  void shouldPropagateMethodException() throws Exception {
+    final Method method = TestBean.class.getMethod("error", CommandContext.class);
+    final SlashMethodInvoker invoker = SlashMethodInvoker.create(this.bean, method, new HashMap<>());
+
+    assertThrows(IllegalStateException.class, () -> invoker.accept(this.context));
+  }
+
+  private void invoke(String methodName, int argumentCount) throws Exception {
+    final Class<?>[] parameterTypes = new Class<?>[argumentCount + 1];
+    Arrays.fill(parameterTypes, String.class);
+    parameterTypes[0] = CommandContext.class;
+    final Method method = TestBean.class.getMethod(methodName, parameterTypes);
+
+    final Map<String, Integer> parameterIndexes = new HashMap<>();
+    for (int i = 1; i <= argumentCount; i++) {
+      parameterIndexes.put("a" + i, i);
+    }
+    SlashMethodInvoker.create(this.bean, method, parameterIndexes).accept(this.context);
+  }
+
+  /**
+   * Bean whose methods record their arguments.
+   */
+  public static class TestBean {
+
+    private final List<Object> calls = new ArrayList<>();
+
+    public void call0(CommandContext context) {
+      this.calls.add(context);
+    }
+
+    public void call1(CommandContext context, String a1) {
+      this.calls.addAll(Arrays.asList(context, a1));
+    }
+
+    public void call2(CommandContext context, String a1, String a2) {
+      this.calls.addAll(Arrays.asList(context, a1, a2));
+    }
+
+    public void call3(CommandContext context, String a1, String a2, String a3) {
+      this.calls.addAll(Arrays.asList(context, a1, a2, a3));
+    }
+
+    public void call4(CommandContext context, String a1, String a2, String a3, String a4) {
+      this.calls.addAll(Arrays.asList(context, a1, a2, a3, a4));
+    }
+
+    public String call5(CommandContext context, String a1, String a2, String a3, String a4, String a5) {
+      this.calls.addAll(Arrays.asList(context, a1, a2, a3, a4, a5));
+      return "ignored";
+    }
+
+    public void call6(CommandContext context, String a1, String a2, String a3, String a4, String a5, String a6) {
+      this.calls.addAll(Arrays.asList(context, a1, a2, a3, a4, a5, a6));
+    }
+
+    public void error(CommandContext context) {
+      throw new IllegalStateException("error");
+    }
+
+    void packagePrivate(CommandContext context) {
+      this.calls.add(context);
+    }
+  }
+}
@@ -0,0 +1,131 @@
+package com.symphony.bdk.spring.events;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.symphony.bdk.core.service.datafeed.DatafeedMetrics;
+import com.symphony.bdk.gen.api.model.V4Initiator;
+import com.symphony.bdk.gen.api.model.V4Message;
+import com.symphony.bdk.gen.api.model.V4MessageSent;
+import com.symphony.bdk.gen.api.model.V4RoomCreated;
+import com.symphony.bdk.gen.api.model.V4Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.support.GenericApplicationContext;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+class RealTimeEventMulticasterTest {
+
+  private final List<String> dispatchedTypes = new CopyOnWriteArrayList<>();
+  private final DatafeedMetrics metrics = new DatafeedMetrics() {
+    @Override
+    public void recordDispatch(String eventType, String listener, Duration duration) {
+      dispatchedTypes.add(eventType);
+    }
+  };
+
+  private RealTimeEventMulticaster multicaster;
+
+  @AfterEach
+  void tearDown() {
+    this.multicaster.destroy();
+  }
+
+  @Test
+  void testEventsOfSameStreamAreDispatchedInOrderOnWorker() throws InterruptedException {
+    this.multicaster = new RealTimeEventMulticaster(4, 10, this.metrics);
+    final List<String> messageIds = new CopyOnWriteArrayList<>();
+    final List<String> threads = new CopyOnWriteArrayList<>();
+    final CountDownLatch dispatched = new CountDownLatch(20);
+    this.multicaster.addApplicationListener((ApplicationListener<ApplicationEvent>) event -> {
+      if (event instanceof RealTimeEvent) {
+        messageIds.add(((V4MessageSent) ((RealTimeEvent<?>) event).getSource()).getMessage().getMessageId());
+        threads.add(Thread.currentThread().getName());
+        dispatched.countDown();
+      }
+    });
+
+    for (int i = 0; i < 20; i++) {
+      this.multicaster.multicastEvent(new RealTimeEvent<>(new V4Initiator(), messageSent("stream-id", "msg-" + i)));
+    }
+
+    assertThat(dispatched.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(messageIds).containsExactly("msg-0", "msg-1", "msg-2", "msg-3", "msg-4", "msg-5", "msg-6", "msg-7",
+        "msg-8", "msg-9", "msg-10", "msg-11", "msg-12", "msg-13", "msg-14", "msg-15", "msg-16", "msg-17", "msg-18",
+        "msg-19");
+    assertThat(threads).allMatch(thread -> thread.startsWith("SymphonyBdk_RealTimeEvent-"));
+    assertThat(threads).containsOnly(threads.get(0));
+    assertThat(this.dispatchedTypes).containsOnly("V4MessageSent");
+  }
+
+  @Test
+  void testSlowListenerDoesNotBlockPublisher() throws InterruptedException {
+    this.multicaster = new RealTimeEventMulticaster(1, 10, this.metrics);
+    final CountDownLatch release = new CountDownLatch(1);
+    final CountDownLatch dispatched = new CountDownLatch(2);
+    this.multicaster.addApplicationListener((ApplicationListener<ApplicationEvent>) event -> {
+      try {
+        release.await(5, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      dispatched.countDown();
+    });
+
+    this.multicaster.multicastEvent(new RealTimeEvent<>(new V4Initiator(), new V4RoomCreated()));
+    this.multicaster.multicastEvent(new RealTimeEvent<>(new V4Initiator(), new V4RoomCreated()));
+
+    // the listener is still blocked, the second event is queued
+    assertThat(dispatched.getCount()).isEqualTo(2);
+    assertThat(this.multicaster.getPendingEvents()).isLessThanOrEqualTo(2);
+    release.countDown();
+    assertThat(dispatched.await(5, TimeUnit.SECONDS)).isTrue();
+  }
+
+  @Test
+  void testFailingListenerDoesNotPreventOthers() throws InterruptedException {
+    this.multicaster = new RealTimeEventMulticaster(1, 10, this.metrics);
+    final CountDownLatch dispatched = new CountDownLatch(1);
+    this.multicaster.addApplicationListener((ApplicationListener<ApplicationEvent>) event -> {
+      throw new IllegalStateException("failure");
+    });
+    this.multicaster.addApplicationListener((ApplicationListener<ApplicationEvent>) event -> dispatched.countDown());
+
+    this.multicaster.multicastEvent(new RealTimeEvent<>(new V4Initiator(), new V4RoomCreated()));
+
+    assertThat(dispatched.await(5, TimeUnit.SECONDS)).isTrue();
+  }
+
+  @Test
+  void testOtherEventsAreMulticastSynchronously() {
+    this.multicaster = new RealTimeEventMulticaster(1, 10, this.metrics);
+    final List<String> threads = new CopyOnWriteArrayList<>();
+    this.multicaster.addApplicationListener(
+        (ApplicationListener<ApplicationEvent>) event -> threads.add(Thread.currentThread().getName()));
+
+    this.multicaster.multicastEvent(new ContextRefreshedEvent(new GenericApplicationContext()));
+
+    assertThat(threads).containsExactly(Thread.currentThread().getName());
+  }
+
+  @Test
+  void testInvalidPoolSize() {
+    this.multicaster = new RealTimeEventMulticaster(1, 1, this.metrics);
+    assertThatThrownBy(() -> new RealTimeEventMulticaster(0, 10, this.metrics))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private static V4MessageSent messageSent(String streamId, String messageId) {
+    return new V4MessageSent().message(
+        new V4Message().messageId(messageId).stream(new V4Stream().streamId(streamId)));
+  }
+}
@@ -0,0 +1,45 @@
+package com.symphony.bdk.spring.reactive;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import com.symphony.bdk.core.service.datafeed.DatafeedEventSource;
+import com.symphony.bdk.core.service.datafeed.DatafeedLoop;
+import com.symphony.bdk.gen.api.model.V4Event;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.SubmissionPublisher;
+
+class DatafeedFluxTest {
+
+  @Test
+  void testFluxOfLoopEvents() {
+    final DatafeedLoop loop = mock(DatafeedLoop.class, withSettings().extraInterfaces(DatafeedEventSource.class));
+    final SubmissionPublisher<V4Event> publisher = new SubmissionPublisher<>();
+    when(((DatafeedEventSource) loop).events()).thenReturn(publisher);
+
+    final Thread producer = new Thread(() -> {
+      while (publisher.getNumberOfSubscribers() == 0) {
+        Thread.onSpinWait();
+      }
+      publisher.submit(new V4Event().id("1"));
+      publisher.submit(new V4Event().id("2"));
+      publisher.close();
+    });
+    producer.start();
+
+    final List<V4Event> events = DatafeedFlux.of(loop).collectList().block();
+
+    assertThat(events).extracting(V4Event::getId).containsExactly("1", "2");
+  }
+
+  @Test
+  void testLoopNotPublishingEvents() {
+    assertThrows(IllegalArgumentException.class, () -> DatafeedFlux.of(mock(DatafeedLoop.class)));
+  }
+}